@@ -5,22 +5,19 @@
 -- Data: 2026
 -- ============================================================================
 
-DROP TABLE IF EXISTS livro;
-
--- 2. Criação da Tabela
--- Observação: A estrutura reflete a entidade JPA 'Livro.java'
-CREATE TABLE livro (
-    id BIGSERIAL PRIMARY KEY,
-    isbn VARCHAR(20) NOT NULL UNIQUE,
-    titulo VARCHAR(255) NOT NULL,
-    autores VARCHAR(255) NOT NULL,
-    editora VARCHAR(255),
-    data_publicacao VARCHAR(50),
-    livros_semelhantes TEXT,
-    capa_imagem BYTEA
-);
-
--- 3. Carga Inicial de Dados
+-- 1. Estrutura
+-- A estrutura do banco (tabelas, índices e gatilhos) é criada pelas migrações do Flyway
+-- em src/main/resources/db/migration, aplicadas automaticamente na inicialização da aplicação.
+-- Este script contém apenas a carga inicial de dados: execute-o após a primeira inicialização.
+--
+-- Para recriar o banco do zero (apaga todos os dados), execute e depois inicie a aplicação:
+--
+-- DROP TABLE IF EXISTS livro_exclusao, livro, capa, flyway_schema_history;
+-- DROP FUNCTION IF EXISTS notificar_alteracao_livro();
+-- DROP FUNCTION IF EXISTS registrar_instante_alteracao_livro(), registrar_instante_exclusao_livro();
+-- DROP TEXT SEARCH CONFIGURATION IF EXISTS portugues_sem_acento;
+
+-- 2. Carga Inicial de Dados
 
 INSERT INTO livro (titulo, isbn, autores, editora, data_publicacao, livros_semelhantes)
 VALUES ('Clean Code: A Handbook of Agile Software Craftsmanship', '9780132350884', 'Robert C. Martin', 'Prentice Hall', '2008', 'The Clean Coder, Refactoring');
@@ -37,3 +34,12 @@ VALUES ('O Senhor dos Anéis: A Sociedade do Anel', '9788595084742', 'J.R.R. Tol
 INSERT INTO livro (titulo, isbn, autores, editora, data_publicacao, livros_semelhantes)
 VALUES ('Effective Java', '9780134685991', 'Joshua Bloch', 'Addison-Wesley', '2017', 'Java Concurrency in Practice');
 
+
+
+-- ============================================================================
+-- MIGRAÇÃO DE BASES ANTIGAS (capa_imagem BYTEA na tabela livro)
+-- A aplicação migra e deduplica as capas automaticamente na inicialização
+-- (CapaMigracaoService). Após a migração, a coluna antiga pode ser removida:
+--
+-- ALTER TABLE livro DROP COLUMN capa_imagem;
+-- ============================================================================
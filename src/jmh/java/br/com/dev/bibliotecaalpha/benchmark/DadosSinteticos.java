@@ -0,0 +1,103 @@
+package br.com.dev.bibliotecaalpha.benchmark;
+
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.gerador.GeradorAcervo;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import br.com.dev.bibliotecaalpha.service.GeracaoAcervoService;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Acervo sintético e determinístico (mesma semente, mesmos dados) para os benchmarks, obtido do
+ * {@link GeradorAcervo} (sem capas).
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class DadosSinteticos {
+
+    private static final GeradorAcervo GERADOR = new GeradorAcervo(GeradorAcervo.SEMENTE_PADRAO,
+            GeradorAcervo.EDITORAS_PADRAO, GeradorAcervo.AUTORES_PADRAO, 0, 1);
+
+    private DadosSinteticos() {
+    }
+
+    /**
+     * @param quantidade Quantidade de livros.
+     * @return Livros com ID, ISBN únicos e versão.
+     */
+    public static List<Livro> livros(int quantidade) {
+        List<Livro> livros = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Livro livro = GERADOR.gerar(i);
+            livro.setId((long) i + 1);
+            livro.setVersao(1L);
+            livros.add(livro);
+        }
+        return livros;
+    }
+
+    /**
+     * @param quantidade Quantidade de livros.
+     * @return Os mesmos livros de {@link #livros(int)}, no formato exibido pela listagem.
+     */
+    public static List<LivroResumo> resumos(int quantidade) {
+        List<LivroResumo> resumos = new ArrayList<>(quantidade);
+        for (Livro livro : livros(quantidade)) {
+            resumos.add(LivroResumo.de(livro));
+        }
+        return resumos;
+    }
+
+    /**
+     * Grava um CSV no layout da importação (ISBN, Titulo, Autores, Editora, Data) em um arquivo temporário.
+     *
+     * @param linhas Quantidade de livros.
+     * @return O arquivo (quem chama deve apagá-lo).
+     */
+    public static Path csv(int linhas) throws IOException {
+        Path arquivo = Files.createTempFile("acervo-" + linhas + "-", ".csv");
+        try {
+            new GeracaoAcervoService().gravarArquivo(GERADOR, 0, linhas, arquivo, GeracaoAcervoService.Formato.CSV);
+        } catch (ServiceException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return arquivo;
+    }
+
+    /**
+     * Repositório sem banco: {@code findByIsbn} não encontra nada, {@code save} devolve o livro
+     * e {@code findAll} devolve a lista informada. Os demais métodos não são suportados.
+     *
+     * @param livros Livros devolvidos por {@code findAll}.
+     */
+    public static LivroRepository repositorio(List<Livro> livros) {
+        return (LivroRepository) Proxy.newProxyInstance(LivroRepository.class.getClassLoader(),
+                new Class<?>[]{LivroRepository.class}, (proxy, metodo, argumentos) -> {
+                    switch (metodo.getName()) {
+                        case "findByIsbn":
+                            return Optional.empty();
+                        case "save":
+                            return argumentos[0];
+                        case "findAll":
+                            return livros;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == argumentos[0];
+                        case "toString":
+                            return "LivroRepository sintético";
+                        default:
+                            throw new UnsupportedOperationException(metodo.getName());
+                    }
+                });
+    }
+}
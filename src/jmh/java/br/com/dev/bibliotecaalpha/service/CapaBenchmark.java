@@ -0,0 +1,95 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capas: normalização no salvamento ({@link CapaNormalizacaoService}: decodificação, redução e
+ * recodificação em JPEG) e decodificação da capa armazenada em miniatura para a grade
+ * ({@link CapaCacheService}, sempre com falha no cache).
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CapaBenchmark {
+
+    /** Resolução da imagem enviada pelo usuário (largura x altura). */
+    @Param({"1200x1800", "2000x3000"})
+    public String resolucao;
+
+    private CapaNormalizacaoService normalizacao;
+    private CapaCacheService cache;
+    private byte[] original;
+    private byte[] armazenada;
+    private String hashArmazenada;
+    private long livroId;
+
+    @Setup
+    public void preparar() throws IOException {
+        String[] dimensoes = resolucao.split("x");
+        original = jpeg(Integer.parseInt(dimensoes[0]), Integer.parseInt(dimensoes[1]));
+        normalizacao = new CapaNormalizacaoService(600, 900, 0.85f);
+        armazenada = normalizacao.normalizar(original);
+        hashArmazenada = CapaService.calcularHash(armazenada);
+        cache = new CapaCacheService(1);
+    }
+
+    @Benchmark
+    public byte[] normalizar() {
+        return normalizacao.normalizar(original);
+    }
+
+    @Benchmark
+    public BufferedImage decodificarMiniatura() {
+        return cache.obter(++livroId, hashArmazenada, armazenada, 150, 225);
+    }
+
+    /**
+     * Imagem com degradê, ruído e texto, para que a compressão JPEG tenha trabalho semelhante ao de uma capa real.
+     */
+    private static byte[] jpeg(int largura, int altura) throws IOException {
+        BufferedImage imagem = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = imagem.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(30, 60, 120), largura, altura, new Color(220, 180, 90)));
+        g.fillRect(0, 0, largura, altura);
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            g.setColor(new Color(random.nextInt(0xFFFFFF)));
+            g.fillOval(random.nextInt(largura), random.nextInt(altura), 4 + random.nextInt(40), 4 + random.nextInt(40));
+        }
+        g.setColor(Color.WHITE);
+        g.setFont(new Font(Font.SERIF, Font.BOLD, largura / 10));
+        g.drawString("Código Limpo", largura / 10, altura / 3);
+        g.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(imagem, "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.benchmark.DadosSinteticos;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Vazão do executor de I/O do {@link ExecucaoService} nos modos {@code plataforma} e {@code virtual}
+ * (lotes concluídos por segundo).
+ * <p>
+ * {@code enriquecer} consulta {@code isbns} livros na Open Library em paralelo, com a latência da
+ * rede simulada ({@code latenciaMs} na consulta e no download da capa) e a resposta real gravada;
+ * {@code exportar} grava {@code arquivos} exportações de CSV em paralelo. Em runtimes sem threads
+ * virtuais (anteriores ao Java 21), o modo {@code virtual} recai em threads de plataforma e os dois
+ * resultados coincidem. Para comparar os modos:
+ * </p>
+ * <pre>
+ * mvn -P benchmark verify -DskipTests -Djmh.incluir=ExecucaoIo -Djmh.argumentos="-p limite=32,1024"
+ * </pre>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExecucaoIoBenchmark {
+
+    private static final String ISBN = "9780132350884";
+
+    @Param({"plataforma", "virtual"})
+    public String modo;
+
+    @Param({"32", "256"})
+    public int limite;
+
+    @Param({"1000"})
+    public int isbns;
+
+    @Param({"20"})
+    public int latenciaMs;
+
+    @Param({"64"})
+    public int arquivos;
+
+    private ExecucaoService execucao;
+    private OpenLibraryService openLibrary;
+    private ExportacaoService exportacao;
+    private Path diretorio;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        execucao = new ExecucaoService();
+        ReflectionTestUtils.setField(execucao, "registro", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(execucao, "threads", 1);
+        ReflectionTestUtils.setField(execucao, "fila", 1);
+        ReflectionTestUtils.setField(execucao, "modoIoConfigurado", modo);
+        ReflectionTestUtils.setField(execucao, "limiteIo", limite);
+        execucao.iniciar();
+
+        openLibrary = new OpenLibraryLento(lerResposta(), latenciaMs);
+
+        exportacao = new ExportacaoService();
+        ReflectionTestUtils.setField(exportacao, "repository", DadosSinteticos.repositorio(DadosSinteticos.livros(1000)));
+        diretorio = Files.createTempDirectory("exportacao-io-");
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws IOException {
+        execucao.encerrar();
+        try (Stream<Path> arquivosGravados = Files.walk(diretorio)) {
+            arquivosGravados.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int enriquecer() {
+        List<CompletableFuture<?>> futuros = new ArrayList<>(isbns);
+        for (int i = 0; i < isbns; i++) {
+            futuros.add(execucao.executarIo(() -> openLibrary.buscarLivroCompleto(ISBN)));
+        }
+        CompletableFuture.allOf(futuros.toArray(new CompletableFuture[0])).join();
+        return futuros.size();
+    }
+
+    @Benchmark
+    public int exportar() {
+        List<CompletableFuture<?>> futuros = new ArrayList<>(arquivos);
+        for (int i = 0; i < arquivos; i++) {
+            String arquivo = diretorio.resolve("relatorio-" + i + ".csv").toString();
+            futuros.add(execucao.executarIo(() -> {
+                exportacao.exportarArquivoCSV(arquivo);
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(futuros.toArray(new CompletableFuture[0])).join();
+        return futuros.size();
+    }
+
+    private static String lerResposta() throws IOException {
+        try (InputStream in = ExecucaoIoBenchmark.class.getResourceAsStream("/openlibrary-resposta.json");
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Serviço que espera a latência da rede e responde com a resposta gravada.
+     */
+    private static final class OpenLibraryLento extends OpenLibraryService {
+        private final String resposta;
+        private final long latenciaMs;
+
+        OpenLibraryLento(String resposta, long latenciaMs) {
+            this.resposta = resposta;
+            this.latenciaMs = latenciaMs;
+        }
+
+        @Override
+        protected String fazerRequisicaoHttp(String urlString) throws InterruptedException {
+            Thread.sleep(latenciaMs);
+            return resposta;
+        }
+
+        @Override
+        protected InputStream abrirStreamUrl(String urlString) throws InterruptedException {
+            Thread.sleep(latenciaMs);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.benchmark.DadosSinteticos;
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da exportação de CSV do {@link ExportacaoService} (exportações completas por segundo),
+ * com o acervo já em memória.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExportacaoServiceBenchmark {
+
+    @Param({"10000", "100000"})
+    public int livros;
+
+    private Path arquivo;
+    private ExportacaoService service;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        arquivo = Files.createTempFile("exportacao-", ".csv");
+        service = new ExportacaoService();
+        ReflectionTestUtils.setField(service, "repository", DadosSinteticos.repositorio(DadosSinteticos.livros(livros)));
+    }
+
+    @TearDown(Level.Trial)
+    public void apagar() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public void exportar() throws ServiceException {
+        service.exportarArquivoCSV(arquivo.toString());
+    }
+}
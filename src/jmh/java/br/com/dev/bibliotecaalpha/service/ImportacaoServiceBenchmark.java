@@ -0,0 +1,65 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.benchmark.DadosSinteticos;
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importação de CSVs sintéticos de 10 mil, 100 mil e 1 milhão de linhas pelo {@link ImportacaoService}.
+ * O repositório não acessa banco: mede a leitura do CSV e o processamento de cada linha.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ImportacaoServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int linhas;
+
+    private Path arquivo;
+    private ImportacaoService service;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        arquivo = DadosSinteticos.csv(linhas);
+        service = new ImportacaoService();
+        ReflectionTestUtils.setField(service, "repository", DadosSinteticos.repositorio(Collections.emptyList()));
+        ReflectionTestUtils.setField(service, "registro", new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void apagar() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public void importar() throws ServiceException {
+        service.importarArquivoCSV(arquivo.toString());
+    }
+}
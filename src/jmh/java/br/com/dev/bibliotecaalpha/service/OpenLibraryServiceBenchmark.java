@@ -0,0 +1,81 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interpretação da resposta JSON da Open Library pelo {@link OpenLibraryService}, sem rede:
+ * a requisição devolve uma resposta real gravada e o download da capa não encontra imagem.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenLibraryServiceBenchmark {
+
+    private static final String ISBN = "9780132350884";
+
+    private OpenLibraryService service;
+
+    @Setup
+    public void preparar() throws IOException {
+        String resposta;
+        try (InputStream in = OpenLibraryServiceBenchmark.class.getResourceAsStream("/openlibrary-resposta.json");
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = in.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            resposta = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+        service = new OpenLibraryLocal(resposta);
+    }
+
+    @Benchmark
+    public Livro interpretar() throws ServiceException {
+        return service.buscarLivroCompleto(ISBN);
+    }
+
+    /**
+     * Serviço que responde com a resposta gravada, sem acessar a rede.
+     */
+    private static final class OpenLibraryLocal extends OpenLibraryService {
+        private final String resposta;
+
+        OpenLibraryLocal(String resposta) {
+            this.resposta = resposta;
+        }
+
+        @Override
+        protected String fazerRequisicaoHttp(String urlString) {
+            return resposta;
+        }
+
+        @Override
+        protected InputStream abrirStreamUrl(String urlString) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import br.com.dev.bibliotecaalpha.benchmark.DadosSinteticos;
+import br.com.dev.bibliotecaalpha.busca.IndiceTrigramas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.RowFilter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho de busca, filtro e ordenação da {@link TelaListagem}: o mesmo modelo, índice de trigramas
+ * e {@link OrdenadorColacao} da tela, com a ordenação executada na própria thread do benchmark.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ListagemBenchmark {
+
+    private static final int COLUNA_TITULO = 2;
+    private static final String[] TERMOS = {"cronicas", "Código limpo", "sao paulo", "ética", "vidas secas"};
+
+    @Param({"10000", "100000"})
+    public int livros;
+
+    private LivroTableModel modelo;
+    private IndiceTrigramas indice;
+    private OrdenadorColacao<LivroTableModel> ordenadorComChaves;
+    private int termo;
+
+    @Setup
+    public void preparar() {
+        modelo = new LivroTableModel();
+        modelo.definirLivros(DadosSinteticos.resumos(livros));
+        indice = TelaListagem.indexar(DadosSinteticos.resumos(livros));
+        ordenadorComChaves = new OrdenadorColacao<>(modelo, Integer.MAX_VALUE);
+        ordenadorComChaves.toggleSortOrder(COLUNA_TITULO);
+    }
+
+    /**
+     * Primeiro clique no cabeçalho: calcula as chaves de colação da coluna e ordena.
+     */
+    @Benchmark
+    public int ordenarCalculandoChaves() {
+        OrdenadorColacao<LivroTableModel> ordenador = new OrdenadorColacao<>(modelo, Integer.MAX_VALUE);
+        ordenador.toggleSortOrder(COLUNA_TITULO);
+        return ordenador.convertRowIndexToModel(0);
+    }
+
+    /**
+     * Cliques seguintes: inverte a ordem reaproveitando as chaves já calculadas.
+     */
+    @Benchmark
+    public int inverterOrdem() {
+        ordenadorComChaves.toggleSortOrder(COLUNA_TITULO);
+        return ordenadorComChaves.convertRowIndexToModel(0);
+    }
+
+    /**
+     * Busca instantânea: consulta o índice e aplica o resultado como filtro sobre a tabela ordenada.
+     */
+    @Benchmark
+    public int buscarEFiltrar() {
+        IndiceTrigramas.Resultado resultado = indice.pesquisar(TERMOS[termo++ % TERMOS.length]);
+        ordenadorComChaves.setRowFilter(new RowFilter<LivroTableModel, Integer>() {
+            @Override
+            public boolean include(Entry<? extends LivroTableModel, ? extends Integer> entrada) {
+                return resultado.contem(entrada.getModel().getId(entrada.getIdentifier()));
+            }
+        });
+        return ordenadorComChaves.getViewRowCount();
+    }
+}
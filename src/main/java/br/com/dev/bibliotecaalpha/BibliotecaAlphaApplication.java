@@ -1,25 +1,36 @@
 package br.com.dev.bibliotecaalpha;
 
+import br.com.dev.bibliotecaalpha.facade.DiagnosticoFacade;
 import br.com.dev.bibliotecaalpha.facade.ExportacaoFacade;
 import br.com.dev.bibliotecaalpha.facade.ImportacaoFacade;
 import br.com.dev.bibliotecaalpha.facade.LivroFacade;
+import br.com.dev.bibliotecaalpha.gerador.GeradorAcervoCli;
+import br.com.dev.bibliotecaalpha.metrica.EventoAcaoInterface;
+import br.com.dev.bibliotecaalpha.metrica.VigiaEdt;
+import br.com.dev.bibliotecaalpha.view.TelaCarregamento;
 import br.com.dev.bibliotecaalpha.view.TelaListagem;
 import com.formdev.flatlaf.FlatDarkLaf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Ponto de entrada (Entry Point) da aplicação Biblioteca Alpha.
  * <p>
- * Esta classe é responsável por inicializar o contexto do Spring Boot e,
- * em seguida, lançar a interface gráfica (Swing) na Thread de Eventos (EDT).
+ * Esta classe exibe imediatamente uma janela de carregamento, inicializa o contexto do
+ * Spring Boot em paralelo e, em seguida, lança a interface gráfica (Swing) na Thread de Eventos (EDT).
  * </p>
  *
  * @author Luccas Cabrini
@@ -36,15 +47,25 @@ public class BibliotecaAlphaApplication {
      * O fluxo de inicialização segue os seguintes passos:
      * <ol>
      * <li>Configura o tema visual (FlatLaf Dark).</li>
-     * <li>Inicia o Spring Boot no modo Desktop (sem servidor Web embutido e com suporte a telas).</li>
-     * <li>Obtém o Facade do contexto de injeção de dependências.</li>
-     * <li>Abre a janela principal {@link TelaListagem}.</li>
+     * <li>Exibe a {@link TelaCarregamento} (esboço da tela principal), sem depender do backend.</li>
+     * <li>Inicia o Spring Boot em uma thread separada, no modo Desktop (sem servidor Web embutido e com suporte a telas).</li>
+     * <li>Com o contexto pronto, abre a janela principal {@link TelaListagem} no lugar da janela de carregamento.</li>
+     * <li>Carrega o acervo e os indicadores em segundo plano e registra os tempos de cada fase no log.</li>
      * </ol>
      * </p>
+     * <p>
+     * Com o primeiro argumento {@value GeradorAcervoCli#COMANDO}, executa apenas o gerador de
+     * acervo sintético ({@link GeradorAcervoCli}), sem interface gráfica.
+     * </p>
      *
      * @param args Argumentos de linha de comando (opcionais).
      */
     public static void main(String[] args) {
+        if (args.length > 0 && GeradorAcervoCli.COMANDO.equals(args[0])) {
+            GeradorAcervoCli.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        TemposInicializacao.marcar("Início do main");
 
         Thread.setDefaultUncaughtExceptionHandler((t, e) -> {
             log.error("Erro fatal não tratado na Thread {}: {}", t.getName(), e.getMessage(), e);
@@ -57,27 +78,90 @@ public class BibliotecaAlphaApplication {
         } catch (Exception e) {
             log.error("Falha ao iniciar tema visual: {}", e.getMessage());
         }
+        TemposInicializacao.marcar("Tema visual configurado");
+
+        // A janela é criada na EDT; como os eventos da EDT são executados em ordem, todo acesso
+        // posterior a ela (também via invokeLater) ocorre após a criação.
+        AtomicReference<TelaCarregamento> telaCarregamento = new AtomicReference<>();
+        EventQueue.invokeLater(() -> {
+            TelaCarregamento tela = new TelaCarregamento();
+            tela.setAoPrimeiroDesenho(() -> TemposInicializacao.marcar("Janela de carregamento exibida"));
+            tela.setVisible(true);
+            telaCarregamento.set(tela);
+        });
 
+        Thread inicializacao = new Thread(() -> iniciarContexto(args, telaCarregamento), "inicializacao-spring");
+        inicializacao.start();
+    }
+
+    /**
+     * Inicializa o contexto do Spring Boot (executado fora da EDT) e, ao concluir,
+     * substitui a janela de carregamento pela janela principal.
+     *
+     * @param args             Argumentos de linha de comando.
+     * @param telaCarregamento Janela de carregamento em exibição.
+     */
+    private static void iniciarContexto(String[] args, AtomicReference<TelaCarregamento> telaCarregamento) {
         try {
             ConfigurableApplicationContext context = new SpringApplicationBuilder(BibliotecaAlphaApplication.class)
                     .headless(false)
                     .web(WebApplicationType.NONE)
+                    .listeners(etapasInicializacao(telaCarregamento))
                     .run(args);
 
+            TemposInicializacao.marcar("Contexto Spring pronto");
             log.info("Contexto Spring Boot inicializado.");
+            EventoAcaoInterface.preparar();
 
             EventQueue.invokeLater(() -> {
                 LivroFacade livroFacade = context.getBean(LivroFacade.class);
                 ImportacaoFacade importacaoFacade = context.getBean(ImportacaoFacade.class);
                 ExportacaoFacade exportacaoFacade = context.getBean(ExportacaoFacade.class);
+                DiagnosticoFacade diagnosticoFacade = context.getBean(DiagnosticoFacade.class);
 
-                TelaListagem tela = new TelaListagem(livroFacade, importacaoFacade, exportacaoFacade);
+                TelaListagem tela = new TelaListagem(livroFacade, importacaoFacade, exportacaoFacade, diagnosticoFacade);
+                tela.setBounds(telaCarregamento.get().getBounds());
                 tela.setVisible(true);
+                telaCarregamento.get().dispose();
+                TemposInicializacao.marcar("Janela principal exibida");
                 log.info("Interface gráfica iniciada.");
+
+                context.getBean(VigiaEdt.class).iniciar();
+
+                tela.carregarDadosIniciais(() -> {
+                    TemposInicializacao.marcar("Dados iniciais carregados");
+                    TemposInicializacao.registrarResumo();
+                });
             });
 
         } catch (Exception e) {
             log.error("Erro fatal ao iniciar aplicação", e);
+            EventQueue.invokeLater(() -> {
+                telaCarregamento.get().exibirFalha("Falha ao iniciar a aplicação.");
+                JOptionPane.showMessageDialog(telaCarregamento.get(), "Não foi possível iniciar a aplicação: " + e.getMessage(), "Erro", JOptionPane.ERROR_MESSAGE);
+                System.exit(1);
+            });
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Ouvinte dos eventos de inicialização do Spring, que informa a etapa atual na janela
+     * de carregamento e registra os tempos intermediários.
+     *
+     * @param telaCarregamento Referência à janela de carregamento (acessada apenas na EDT).
+     * @return O ouvinte.
+     */
+    private static ApplicationListener<?> etapasInicializacao(AtomicReference<TelaCarregamento> telaCarregamento) {
+        return evento -> {
+            if (evento instanceof ApplicationEnvironmentPreparedEvent) {
+                TemposInicializacao.marcar("Configuração carregada");
+                EventQueue.invokeLater(() -> telaCarregamento.get().setEtapa("Conectando ao banco de dados..."));
+            } else if (evento instanceof ApplicationPreparedEvent) {
+                TemposInicializacao.marcar("Contexto Spring preparado");
+            } else if (evento instanceof ApplicationStartedEvent) {
+                TemposInicializacao.marcar("Beans e banco de dados prontos");
+                EventQueue.invokeLater(() -> telaCarregamento.get().setEtapa("Verificando dados do acervo..."));
+            }
+        };
+    }
+}
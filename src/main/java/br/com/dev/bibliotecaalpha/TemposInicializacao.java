@@ -0,0 +1,58 @@
+package br.com.dev.bibliotecaalpha;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registro dos tempos das fases de inicialização da aplicação.
+ * <p>
+ * Cada fase é medida a partir do início do método {@code main}; ao final, um resumo
+ * é gravado no log, incluindo o tempo desde o início da JVM.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+final class TemposInicializacao {
+
+    private static final Logger log = LoggerFactory.getLogger(TemposInicializacao.class);
+
+    private static final long INICIO = System.nanoTime();
+
+    private static final List<String> fases = new ArrayList<>();
+    private static final List<Long> tempos = new ArrayList<>();
+
+    private TemposInicializacao() {
+    }
+
+    /**
+     * Registra a conclusão de uma fase da inicialização.
+     *
+     * @param fase Descrição da fase.
+     */
+    static synchronized void marcar(String fase) {
+        long decorrido = (System.nanoTime() - INICIO) / 1_000_000;
+        fases.add(fase);
+        tempos.add(decorrido);
+        log.debug("Inicialização - {}: {} ms", fase, decorrido);
+    }
+
+    /**
+     * Grava no log o resumo das fases registradas (tempo acumulado e duração de cada fase).
+     */
+    static synchronized void registrarResumo() {
+        StringBuilder resumo = new StringBuilder("Tempos de inicialização:");
+        long anterior = 0;
+        for (int i = 0; i < fases.size(); i++) {
+            long tempo = tempos.get(i);
+            resumo.append(String.format("%n  %-40s %6d ms (+%d ms)", fases.get(i), tempo, tempo - anterior));
+            anterior = tempo;
+        }
+        resumo.append(String.format("%n  %-40s %6d ms", "Desde o início da JVM", ManagementFactory.getRuntimeMXBean().getUptime()));
+        log.info(resumo.toString());
+    }
+}
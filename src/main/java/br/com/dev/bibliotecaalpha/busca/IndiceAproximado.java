@@ -0,0 +1,407 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória para a busca aproximada (tolerante a erros de digitação) por palavras
+ * de título e autores.
+ * <p>
+ * As palavras distintas do catálogo (normalizadas, sem acentos e minúsculas) ficam em um
+ * {@link VocabularioLevenshtein}, que encontra as palavras a até {@link #DISTANCIA_MAXIMA} edições
+ * de cada termo da consulta sem percorrer todo o vocabulário. Cada palavra aponta para os documentos (livros)
+ * que a contêm. A pontuação de um documento é a média, entre os termos da consulta, da
+ * semelhança da palavra mais próxima de cada termo ({@code 1 - distância / tamanho}).
+ * </p>
+ * <p>
+ * Alterações são incrementais. Palavras que deixam de ocorrer permanecem no vocabulário (que não
+ * remove palavras) e são ignoradas; quando passam a ser maioria, o vocabulário é reconstruído.
+ * Não é thread-safe.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class IndiceAproximado {
+
+    /**
+     * Distância de edição máxima aceita entre um termo da consulta e uma palavra do catálogo.
+     */
+    public static final int DISTANCIA_MAXIMA = 2;
+
+    /**
+     * Palavras com menos letras não são indexadas nem pesquisadas.
+     */
+    static final int TAMANHO_MINIMO = 3;
+
+    private static final int MINIMO_MORTAS_PARA_RECONSTRUIR = 1024;
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int[] SEM_PALAVRAS = new int[0];
+
+    private VocabularioLevenshtein vocabulario;
+
+    /** Palavras e, para cada uma, os documentos que a contêm (ids em {@code long[]} sem ordem). */
+    private Map<String, Integer> palavraPorTexto;
+    private String[] palavras;
+    private long[][] documentos;
+    private int[] quantidadeDocumentos;
+    private int quantidadePalavras;
+    /** Palavras sem nenhum documento, ainda presentes no vocabulário. */
+    private int palavrasMortas;
+
+    /** Palavras de cada documento indexado, para a reindexação e a remoção. */
+    private final MapaLongInt slotPorId = new MapaLongInt();
+    private int[][] palavrasPorSlot;
+    private int[] slotsLivres;
+    private int quantidadeSlotsLivres;
+    private int slots;
+
+    public IndiceAproximado() {
+        limpar(16);
+    }
+
+    /**
+     * Remove todos os documentos, dimensionando o índice para a quantidade esperada.
+     *
+     * @param capacidadeEsperada Quantidade de documentos prevista.
+     */
+    public void limpar(int capacidadeEsperada) {
+        int capacidade = Math.max(16, capacidadeEsperada);
+        vocabulario = new VocabularioLevenshtein();
+        palavraPorTexto = new HashMap<>();
+        palavras = new String[1024];
+        documentos = new long[1024][];
+        quantidadeDocumentos = new int[1024];
+        quantidadePalavras = 0;
+        palavrasMortas = 0;
+
+        slotPorId.limpar(capacidade);
+        palavrasPorSlot = new int[capacidade][];
+        slotsLivres = new int[16];
+        quantidadeSlotsLivres = 0;
+        slots = 0;
+    }
+
+    /**
+     * Indexa (ou reindexa) um documento.
+     *
+     * @param id    Identificador do documento.
+     * @param texto Texto pesquisável (título e autores).
+     */
+    public void indexar(long id, String texto) {
+        Set<String> termos = termos(texto);
+        int slot = slotPorId.obter(id);
+        if (slot >= 0) {
+            desvincular(id, palavrasPorSlot[slot]);
+        } else {
+            slot = novoSlot();
+            slotPorId.colocar(id, slot);
+        }
+
+        int[] palavrasDoDocumento = termos.isEmpty() ? SEM_PALAVRAS : new int[termos.size()];
+        int n = 0;
+        for (String termo : termos) {
+            int palavra = palavra(termo);
+            vincular(palavra, id);
+            palavrasDoDocumento[n++] = palavra;
+        }
+        palavrasPorSlot[slot] = palavrasDoDocumento;
+        reconstruirSeNecessario();
+    }
+
+    /**
+     * Remove um documento do índice.
+     *
+     * @param id Identificador do documento.
+     * @return true se o documento estava indexado.
+     */
+    public boolean remover(long id) {
+        int slot = slotPorId.remover(id);
+        if (slot < 0) {
+            return false;
+        }
+        desvincular(id, palavrasPorSlot[slot]);
+        palavrasPorSlot[slot] = null;
+        if (quantidadeSlotsLivres == slotsLivres.length) {
+            slotsLivres = Arrays.copyOf(slotsLivres, quantidadeSlotsLivres * 2);
+        }
+        slotsLivres[quantidadeSlotsLivres++] = slot;
+        reconstruirSeNecessario();
+        return true;
+    }
+
+    /**
+     * Prepara o índice para as pesquisas após uma carga em lote
+     * (incorpora as palavras novas ao vocabulário ordenado).
+     */
+    public void consolidar() {
+        vocabulario.consolidar();
+    }
+
+    /**
+     * @return Quantidade de documentos indexados.
+     */
+    public int tamanho() {
+        return slotPorId.tamanho();
+    }
+
+    /**
+     * Pesquisa os documentos com palavras próximas dos termos da consulta.
+     *
+     * @param consulta Texto digitado.
+     * @param limite   Quantidade máxima de documentos retornados.
+     * @return Os documentos mais semelhantes, da maior para a menor pontuação
+     * (vazio se a consulta não tiver termos pesquisáveis).
+     */
+    public List<Ocorrencia> pesquisar(String consulta, int limite) {
+        Set<String> termos = termos(consulta);
+        if (termos.isEmpty() || limite <= 0) {
+            return Collections.emptyList();
+        }
+
+        Acumulador acumulador = new Acumulador();
+        int indiceTermo = 0;
+        for (String termo : termos) {
+            final int atual = indiceTermo++;
+            vocabulario.pesquisar(termo, distanciaMaxima(termo), (encontrada, distancia) -> {
+                int palavra = palavraPorTexto.get(encontrada);
+                int quantidade = quantidadeDocumentos[palavra];
+                if (quantidade == 0) {
+                    return; // palavra morta
+                }
+                double semelhanca = 1.0 - (double) distancia / Math.max(termo.length(), encontrada.length());
+                long[] ids = documentos[palavra];
+                for (int i = 0; i < quantidade; i++) {
+                    acumulador.registrar(ids[i], atual, semelhanca);
+                }
+            });
+        }
+        return acumulador.melhores(limite, termos.size());
+    }
+
+    /**
+     * Distância aceita conforme o tamanho do termo: palavras curtas toleram menos erros,
+     * para não coincidirem com palavras sem relação.
+     */
+    static int distanciaMaxima(String termo) {
+        return termo.length() < 6 ? 1 : DISTANCIA_MAXIMA;
+    }
+
+    /**
+     * @return As palavras distintas do texto normalizado, com pelo menos {@link #TAMANHO_MINIMO} letras.
+     */
+    static Set<String> termos(String texto) {
+        Set<String> termos = new LinkedHashSet<>();
+        for (String termo : SEPARADORES.split(NormalizadorTexto.dobrar(texto))) {
+            if (termo.length() >= TAMANHO_MINIMO) {
+                termos.add(termo);
+            }
+        }
+        return termos;
+    }
+
+    private int palavra(String termo) {
+        Integer existente = palavraPorTexto.get(termo);
+        if (existente != null) {
+            return existente;
+        }
+        if (quantidadePalavras == palavras.length) {
+            int capacidade = quantidadePalavras * 2;
+            palavras = Arrays.copyOf(palavras, capacidade);
+            documentos = Arrays.copyOf(documentos, capacidade);
+            quantidadeDocumentos = Arrays.copyOf(quantidadeDocumentos, capacidade);
+        }
+        int palavra = quantidadePalavras++;
+        palavras[palavra] = termo;
+        documentos[palavra] = new long[2];
+        palavraPorTexto.put(termo, palavra);
+        vocabulario.adicionar(termo);
+        palavrasMortas++; // passa a viva ao receber o primeiro documento
+        return palavra;
+    }
+
+    private void vincular(int palavra, long id) {
+        int n = quantidadeDocumentos[palavra];
+        if (n == 0) {
+            palavrasMortas--;
+        }
+        long[] ids = documentos[palavra];
+        if (n == ids.length) {
+            ids = Arrays.copyOf(ids, n + (n >> 1) + 1);
+            documentos[palavra] = ids;
+        }
+        ids[n] = id;
+        quantidadeDocumentos[palavra] = n + 1;
+    }
+
+    private void desvincular(long id, int[] palavrasDoDocumento) {
+        for (int palavra : palavrasDoDocumento) {
+            long[] ids = documentos[palavra];
+            int n = quantidadeDocumentos[palavra];
+            for (int i = 0; i < n; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[n - 1];
+                    quantidadeDocumentos[palavra] = --n;
+                    break;
+                }
+            }
+            if (n == 0) {
+                palavrasMortas++;
+            }
+        }
+    }
+
+    private int novoSlot() {
+        if (quantidadeSlotsLivres > 0) {
+            return slotsLivres[--quantidadeSlotsLivres];
+        }
+        if (slots == palavrasPorSlot.length) {
+            palavrasPorSlot = Arrays.copyOf(palavrasPorSlot, slots + (slots >> 1));
+        }
+        return slots++;
+    }
+
+    /**
+     * Reconstrói o vocabulário apenas com as palavras vivas quando as mortas
+     * passam a ser maioria. Os ids de palavra mudam, então as palavras dos documentos são remapeadas.
+     */
+    private void reconstruirSeNecessario() {
+        int vivas = quantidadePalavras - palavrasMortas;
+        if (palavrasMortas < MINIMO_MORTAS_PARA_RECONSTRUIR || palavrasMortas <= vivas) {
+            return;
+        }
+        int[] novoId = new int[quantidadePalavras];
+        int capacidade = Math.max(1024, vivas * 2);
+        String[] novasPalavras = new String[capacidade];
+        long[][] novosDocumentos = new long[capacidade][];
+        int[] novasQuantidades = new int[capacidade];
+        Map<String, Integer> novoPorTexto = new HashMap<>(vivas * 2);
+        VocabularioLevenshtein novoVocabulario = new VocabularioLevenshtein();
+        int n = 0;
+        for (int palavra = 0; palavra < quantidadePalavras; palavra++) {
+            if (quantidadeDocumentos[palavra] == 0) {
+                novoId[palavra] = -1;
+                continue;
+            }
+            novoId[palavra] = n;
+            novasPalavras[n] = palavras[palavra];
+            novosDocumentos[n] = documentos[palavra];
+            novasQuantidades[n] = quantidadeDocumentos[palavra];
+            novoPorTexto.put(palavras[palavra], n);
+            novoVocabulario.adicionar(palavras[palavra]);
+            n++;
+        }
+        for (int slot = 0; slot < slots; slot++) {
+            int[] palavrasDoDocumento = palavrasPorSlot[slot];
+            if (palavrasDoDocumento != null) {
+                for (int i = 0; i < palavrasDoDocumento.length; i++) {
+                    palavrasDoDocumento[i] = novoId[palavrasDoDocumento[i]];
+                }
+            }
+        }
+        novoVocabulario.consolidar();
+        vocabulario = novoVocabulario;
+        palavraPorTexto = novoPorTexto;
+        palavras = novasPalavras;
+        documentos = novosDocumentos;
+        quantidadeDocumentos = novasQuantidades;
+        quantidadePalavras = n;
+        palavrasMortas = 0;
+    }
+
+    /**
+     * Soma, por documento, a melhor semelhança de cada termo da consulta.
+     */
+    private static final class Acumulador {
+        private final MapaLongInt posicaoPorId = new MapaLongInt();
+        private long[] ids = new long[64];
+        private double[] soma = new double[64];
+        private double[] melhorDoTermo = new double[64];
+        private int[] termo = new int[64];
+        private int quantidade;
+
+        void registrar(long id, int indiceTermo, double semelhanca) {
+            int i = posicaoPorId.obter(id);
+            if (i < 0) {
+                if (quantidade == ids.length) {
+                    int capacidade = quantidade * 2;
+                    ids = Arrays.copyOf(ids, capacidade);
+                    soma = Arrays.copyOf(soma, capacidade);
+                    melhorDoTermo = Arrays.copyOf(melhorDoTermo, capacidade);
+                    termo = Arrays.copyOf(termo, capacidade);
+                }
+                i = quantidade++;
+                posicaoPorId.colocar(id, i);
+                ids[i] = id;
+                termo[i] = indiceTermo;
+            } else if (termo[i] != indiceTermo) {
+                soma[i] += melhorDoTermo[i];
+                melhorDoTermo[i] = 0;
+                termo[i] = indiceTermo;
+            }
+            if (semelhanca > melhorDoTermo[i]) {
+                melhorDoTermo[i] = semelhanca;
+            }
+        }
+
+        List<Ocorrencia> melhores(int limite, int quantidadeTermos) {
+            PriorityQueue<Ocorrencia> fila = new PriorityQueue<>(Math.min(limite, Math.max(1, quantidade)) + 1,
+                    IndiceAproximado::comparar);
+            for (int i = 0; i < quantidade; i++) {
+                Ocorrencia ocorrencia = new Ocorrencia(ids[i], (soma[i] + melhorDoTermo[i]) / quantidadeTermos);
+                if (fila.size() < limite) {
+                    fila.add(ocorrencia);
+                } else if (comparar(ocorrencia, fila.peek()) > 0) {
+                    fila.poll();
+                    fila.add(ocorrencia);
+                }
+            }
+            List<Ocorrencia> resultado = new ArrayList<>(fila);
+            resultado.sort((a, b) -> comparar(b, a));
+            return resultado;
+        }
+    }
+
+    /**
+     * Ordem crescente de relevância pela pontuação; no empate, o menor id é o mais relevante.
+     */
+    private static int comparar(Ocorrencia a, Ocorrencia b) {
+        int porPontuacao = Double.compare(a.pontuacao, b.pontuacao);
+        return porPontuacao != 0 ? porPontuacao : Long.compare(b.id, a.id);
+    }
+
+    /**
+     * Documento encontrado na busca aproximada.
+     */
+    public static final class Ocorrencia {
+        private final long id;
+        private final double pontuacao;
+
+        public Ocorrencia(long id, double pontuacao) {
+            this.id = id;
+            this.pontuacao = pontuacao;
+        }
+
+        /**
+         * @return Identificador do documento.
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * @return Semelhança com a consulta, de 0 (nenhuma) a 1 (todos os termos exatos).
+         */
+        public double getPontuacao() {
+            return pontuacao;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Índice invertido de trigramas em memória, para a busca instantânea (a cada tecla) na listagem.
+ * <p>
+ * Cada documento (livro) recebe um número sequencial (slot). Para cada trigrama do texto
+ * normalizado (sem acentos, minúsculo) o índice guarda a lista ordenada dos slots que o contêm,
+ * em {@code int[]} primitivos. Uma consulta intersecta as listas dos trigramas de seus termos,
+ * da menor para a maior (com busca exponencial), e confirma os candidatos no texto normalizado.
+ * </p>
+ * <p>
+ * Alterações são incrementais: o documento alterado recebe um novo slot (sempre maior que os
+ * existentes, o que mantém as listas ordenadas com inserção no final) e o slot antigo é apenas
+ * marcado como livre. Quando os slots livres superam os ocupados, o índice é reconstruído.
+ * Não é thread-safe: deve ser usado por uma única thread (a EDT, na listagem) após construído.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class IndiceTrigramas {
+
+    private static final int MINIMO_LIVRES_PARA_COMPACTAR = 1024;
+
+    private final MapaLongInt slotPorId = new MapaLongInt();
+    private long[] idPorSlot;
+    /**
+     * Texto normalizado de cada slot; null para slots livres (documento removido ou substituído).
+     */
+    private String[] textoPorSlot;
+    private int slots;
+    private int ocupados;
+
+    private final MapaLongInt listaPorTrigrama = new MapaLongInt();
+    private int[][] listas;
+    private int[] tamanhos;
+    private int quantidadeListas;
+
+    public IndiceTrigramas() {
+        limpar(16);
+    }
+
+    /**
+     * Remove todos os documentos, dimensionando o índice para a quantidade esperada.
+     *
+     * @param capacidadeEsperada Quantidade de documentos prevista.
+     */
+    public void limpar(int capacidadeEsperada) {
+        int capacidade = Math.max(16, capacidadeEsperada);
+        slotPorId.limpar(capacidade);
+        idPorSlot = new long[capacidade];
+        textoPorSlot = new String[capacidade];
+        slots = 0;
+        ocupados = 0;
+
+        listaPorTrigrama.limpar(1024);
+        listas = new int[1024][];
+        tamanhos = new int[1024];
+        quantidadeListas = 0;
+    }
+
+    /**
+     * Indexa (ou reindexa) um documento.
+     *
+     * @param id    Identificador do documento.
+     * @param texto Texto pesquisável (campos separados por quebra de linha).
+     */
+    public void indexar(long id, String texto) {
+        String normalizado = NormalizadorTexto.dobrar(texto);
+        int anterior = slotPorId.obter(id);
+        if (anterior >= 0) {
+            if (normalizado.equals(textoPorSlot[anterior])) {
+                return;
+            }
+            liberar(anterior);
+        }
+        adicionar(id, normalizado);
+        compactarSeNecessario();
+    }
+
+    /**
+     * Remove um documento do índice.
+     *
+     * @param id Identificador do documento.
+     * @return true se o documento estava indexado.
+     */
+    public boolean remover(long id) {
+        int slot = slotPorId.remover(id);
+        if (slot < 0) {
+            return false;
+        }
+        liberar(slot);
+        compactarSeNecessario();
+        return true;
+    }
+
+    /**
+     * @return Quantidade de documentos indexados.
+     */
+    public int tamanho() {
+        return ocupados;
+    }
+
+    /**
+     * Pesquisa os documentos que contêm todos os termos da consulta (em qualquer posição,
+     * ignorando acentos e maiúsculas).
+     *
+     * @param consulta Texto digitado.
+     * @return O resultado, ou null se a consulta estiver em branco.
+     */
+    public Resultado pesquisar(String consulta) {
+        String normalizada = NormalizadorTexto.dobrar(consulta).trim();
+        if (normalizada.isEmpty()) {
+            return null;
+        }
+        String[] termos = normalizada.split("\\s+");
+
+        // Listas de trigramas distintas de todos os termos
+        int[] selecionadas = new int[16];
+        int quantidade = 0;
+        for (String termo : termos) {
+            for (int i = 0; i + 2 < termo.length(); i++) {
+                int lista = listaPorTrigrama.obter(chave(termo.charAt(i), termo.charAt(i + 1), termo.charAt(i + 2)));
+                if (lista < 0) {
+                    return new Resultado(new BitSet(), 0);
+                }
+                if (!contem(selecionadas, quantidade, lista)) {
+                    if (quantidade == selecionadas.length) {
+                        selecionadas = Arrays.copyOf(selecionadas, quantidade * 2);
+                    }
+                    selecionadas[quantidade++] = lista;
+                }
+            }
+        }
+
+        BitSet encontrados = new BitSet(slots);
+        int total = 0;
+
+        if (quantidade == 0) {
+            // Apenas termos com menos de 3 letras: sem trigramas, verifica todos os documentos
+            for (int slot = 0; slot < slots; slot++) {
+                if (confere(slot, termos)) {
+                    encontrados.set(slot);
+                    total++;
+                }
+            }
+            return new Resultado(encontrados, total);
+        }
+
+        ordenarPorTamanho(selecionadas, quantidade);
+        int menor = selecionadas[0];
+        int[] candidatos = Arrays.copyOf(listas[menor], tamanhos[menor]);
+        int restantes = candidatos.length;
+        for (int k = 1; k < quantidade && restantes > 0; k++) {
+            restantes = intersectar(candidatos, restantes, listas[selecionadas[k]], tamanhos[selecionadas[k]]);
+        }
+
+        // Termos de exatamente 3 letras coincidem com o próprio trigrama: dispensam a confirmação
+        boolean exato = true;
+        for (String termo : termos) {
+            exato &= termo.length() == 3;
+        }
+        for (int i = 0; i < restantes; i++) {
+            int slot = candidatos[i];
+            if (exato ? textoPorSlot[slot] != null : confere(slot, termos)) {
+                encontrados.set(slot);
+                total++;
+            }
+        }
+        return new Resultado(encontrados, total);
+    }
+
+    private void adicionar(long id, String normalizado) {
+        if (slots == idPorSlot.length) {
+            int capacidade = slots + (slots >> 1);
+            idPorSlot = Arrays.copyOf(idPorSlot, capacidade);
+            textoPorSlot = Arrays.copyOf(textoPorSlot, capacidade);
+        }
+        int slot = slots++;
+        idPorSlot[slot] = id;
+        textoPorSlot[slot] = normalizado;
+        slotPorId.colocar(id, slot);
+        ocupados++;
+
+        for (int i = 0; i + 2 < normalizado.length(); i++) {
+            char a = normalizado.charAt(i);
+            char b = normalizado.charAt(i + 1);
+            char c = normalizado.charAt(i + 2);
+            // Termos da consulta não contêm espaços: trigramas que os atravessam nunca são pesquisados
+            if (Character.isWhitespace(a) || Character.isWhitespace(b) || Character.isWhitespace(c)) {
+                continue;
+            }
+            long chave = chave(a, b, c);
+            int lista = listaPorTrigrama.obter(chave);
+            if (lista < 0) {
+                lista = novaLista();
+                listaPorTrigrama.colocar(chave, lista);
+            }
+            int n = tamanhos[lista];
+            int[] slotsDaLista = listas[lista];
+            if (n > 0 && slotsDaLista[n - 1] == slot) {
+                continue; // trigrama repetido no mesmo documento
+            }
+            if (n == slotsDaLista.length) {
+                slotsDaLista = Arrays.copyOf(slotsDaLista, n + (n >> 1) + 1);
+                listas[lista] = slotsDaLista;
+            }
+            slotsDaLista[n] = slot;
+            tamanhos[lista] = n + 1;
+        }
+    }
+
+    private int novaLista() {
+        if (quantidadeListas == listas.length) {
+            listas = Arrays.copyOf(listas, quantidadeListas * 2);
+            tamanhos = Arrays.copyOf(tamanhos, quantidadeListas * 2);
+        }
+        listas[quantidadeListas] = new int[4];
+        return quantidadeListas++;
+    }
+
+    private void liberar(int slot) {
+        textoPorSlot[slot] = null;
+        ocupados--;
+    }
+
+    /**
+     * Reconstrói o índice apenas com os documentos atuais quando os slots livres
+     * (que continuam nas listas) passam a ser maioria.
+     */
+    private void compactarSeNecessario() {
+        int livres = slots - ocupados;
+        if (livres < MINIMO_LIVRES_PARA_COMPACTAR || livres <= ocupados) {
+            return;
+        }
+        long[] ids = new long[ocupados];
+        String[] textos = new String[ocupados];
+        int n = 0;
+        for (int slot = 0; slot < slots; slot++) {
+            if (textoPorSlot[slot] != null) {
+                ids[n] = idPorSlot[slot];
+                textos[n++] = textoPorSlot[slot];
+            }
+        }
+        limpar(n);
+        for (int i = 0; i < n; i++) {
+            adicionar(ids[i], textos[i]);
+        }
+    }
+
+    private boolean confere(int slot, String[] termos) {
+        String texto = textoPorSlot[slot];
+        if (texto == null) {
+            return false;
+        }
+        for (String termo : termos) {
+            if (!texto.contains(termo)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mantém em {@code a} apenas os valores também presentes em {@code b} (ambos ordenados).
+     * Para cada valor de {@code a}, avança em {@code b} com busca exponencial, o que torna a
+     * interseção proporcional à lista menor quando as listas têm tamanhos muito diferentes.
+     *
+     * @return Quantidade de valores restantes em {@code a}.
+     */
+    static int intersectar(int[] a, int tamanhoA, int[] b, int tamanhoB) {
+        int k = 0;
+        int j = 0;
+        for (int i = 0; i < tamanhoA && j < tamanhoB; i++) {
+            int valor = a[i];
+            j = galopar(b, j, tamanhoB, valor);
+            if (j < tamanhoB && b[j] == valor) {
+                a[k++] = valor;
+            }
+        }
+        return k;
+    }
+
+    /**
+     * @return O primeiro índice em [inicio, fim) cujo valor é maior ou igual a {@code valor} (ou {@code fim}).
+     */
+    private static int galopar(int[] b, int inicio, int fim, int valor) {
+        int baixo = inicio;
+        int alto = inicio;
+        int passo = 1;
+        while (alto < fim && b[alto] < valor) {
+            baixo = alto + 1;
+            alto += passo;
+            passo <<= 1;
+        }
+        if (alto > fim) {
+            alto = fim;
+        }
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (b[meio] < valor) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    private void ordenarPorTamanho(int[] selecionadas, int quantidade) {
+        for (int i = 1; i < quantidade; i++) {
+            int lista = selecionadas[i];
+            int j = i - 1;
+            while (j >= 0 && tamanhos[selecionadas[j]] > tamanhos[lista]) {
+                selecionadas[j + 1] = selecionadas[j];
+                j--;
+            }
+            selecionadas[j + 1] = lista;
+        }
+    }
+
+    private static boolean contem(int[] valores, int quantidade, int valor) {
+        for (int i = 0; i < quantidade; i++) {
+            if (valores[i] == valor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long chave(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    /**
+     * Resultado de uma pesquisa. Reflete o índice no momento da pesquisa: após alterações
+     * no índice, a pesquisa deve ser refeita.
+     */
+    public final class Resultado {
+        private final BitSet slotsEncontrados;
+        private final int total;
+
+        private Resultado(BitSet slotsEncontrados, int total) {
+            this.slotsEncontrados = slotsEncontrados;
+            this.total = total;
+        }
+
+        /**
+         * @param id Identificador do documento.
+         * @return true se o documento atende à pesquisa.
+         */
+        public boolean contem(long id) {
+            int slot = slotPorId.obter(id);
+            return slot >= 0 && slotsEncontrados.get(slot);
+        }
+
+        /**
+         * @return Quantidade de documentos encontrados.
+         */
+        public int getTotal() {
+            return total;
+        }
+    }
+}
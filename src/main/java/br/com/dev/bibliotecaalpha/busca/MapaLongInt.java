@@ -0,0 +1,142 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import java.util.Arrays;
+
+/**
+ * Tabela hash de {@code long} para {@code int} com endereçamento aberto (sondagem linear)
+ * sobre arrays primitivos, sem objetos por entrada.
+ * <p>
+ * A remoção reposiciona as entradas seguintes do mesmo grupo, dispensando marcadores de remoção.
+ * A chave {@link Long#MIN_VALUE} é reservada.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class MapaLongInt {
+
+    private static final long VAZIO = Long.MIN_VALUE;
+
+    private long[] chaves;
+    private int[] valores;
+    private int tamanho;
+    private int mascara;
+
+    public MapaLongInt() {
+        limpar(16);
+    }
+
+    /**
+     * Remove todas as entradas, dimensionando a tabela para a quantidade esperada.
+     *
+     * @param capacidadeEsperada Quantidade de entradas prevista.
+     */
+    public void limpar(int capacidadeEsperada) {
+        int capacidade = Integer.highestOneBit(Math.max(16, capacidadeEsperada * 2 - 1)) << 1;
+        chaves = new long[capacidade];
+        valores = new int[capacidade];
+        Arrays.fill(chaves, VAZIO);
+        mascara = capacidade - 1;
+        tamanho = 0;
+    }
+
+    /**
+     * @param chave A chave.
+     * @return O valor associado, ou -1 se a chave estiver ausente.
+     */
+    public int obter(long chave) {
+        for (int i = posicao(chave); ; i = (i + 1) & mascara) {
+            long atual = chaves[i];
+            if (atual == VAZIO) {
+                return -1;
+            }
+            if (atual == chave) {
+                return valores[i];
+            }
+        }
+    }
+
+    /**
+     * Associa o valor à chave, substituindo o valor anterior.
+     *
+     * @param chave A chave.
+     * @param valor O valor.
+     */
+    public void colocar(long chave, int valor) {
+        int i = posicao(chave);
+        while (chaves[i] != VAZIO && chaves[i] != chave) {
+            i = (i + 1) & mascara;
+        }
+        valores[i] = valor;
+        if (chaves[i] == VAZIO) {
+            chaves[i] = chave;
+            if (++tamanho * 2 > chaves.length) {
+                redimensionar();
+            }
+        }
+    }
+
+    /**
+     * Remove a chave.
+     *
+     * @param chave A chave.
+     * @return O valor que estava associado, ou -1 se a chave estiver ausente.
+     */
+    public int remover(long chave) {
+        int i = posicao(chave);
+        while (chaves[i] != chave) {
+            if (chaves[i] == VAZIO) {
+                return -1;
+            }
+            i = (i + 1) & mascara;
+        }
+        int removido = valores[i];
+        tamanho--;
+
+        // Desloca para trás as entradas do mesmo grupo que ficariam inalcançáveis
+        int livre = i;
+        for (int j = (i + 1) & mascara; chaves[j] != VAZIO; j = (j + 1) & mascara) {
+            int ideal = posicao(chaves[j]);
+            boolean alcancavel = livre <= j ? (livre < ideal && ideal <= j) : (livre < ideal || ideal <= j);
+            if (!alcancavel) {
+                chaves[livre] = chaves[j];
+                valores[livre] = valores[j];
+                livre = j;
+            }
+        }
+        chaves[livre] = VAZIO;
+        return removido;
+    }
+
+    /**
+     * @return Quantidade de entradas.
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        int[] valoresAntigos = valores;
+        int capacidade = chavesAntigas.length * 2;
+        chaves = new long[capacidade];
+        valores = new int[capacidade];
+        Arrays.fill(chaves, VAZIO);
+        mascara = capacidade - 1;
+        for (int k = 0; k < chavesAntigas.length; k++) {
+            if (chavesAntigas[k] != VAZIO) {
+                int i = posicao(chavesAntigas[k]);
+                while (chaves[i] != VAZIO) {
+                    i = (i + 1) & mascara;
+                }
+                chaves[i] = chavesAntigas[k];
+                valores[i] = valoresAntigos[k];
+            }
+        }
+    }
+
+    private int posicao(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mascara;
+    }
+}
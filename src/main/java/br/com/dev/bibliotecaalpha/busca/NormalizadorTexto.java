@@ -0,0 +1,48 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Normalização de textos para as buscas em memória: remove acentos e converte para
+ * minúsculas, de forma que "Crônicas", "CRONICAS" e "cronicas" sejam equivalentes.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class NormalizadorTexto {
+
+    private NormalizadorTexto() {
+    }
+
+    /**
+     * Remove acentos e converte o texto para minúsculas.
+     *
+     * @param texto O texto original (pode ser null).
+     * @return O texto normalizado (vazio se o original for null).
+     */
+    public static String dobrar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+
+        // Caminho rápido: texto ASCII dispensa a decomposição Unicode
+        boolean ascii = true;
+        for (int i = 0; i < texto.length() && ascii; i++) {
+            ascii = texto.charAt(i) < 0x80;
+        }
+        if (ascii) {
+            return texto.toLowerCase(Locale.ROOT);
+        }
+
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposto.length());
+        for (int i = 0; i < decomposto.length(); i++) {
+            char c = decomposto.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
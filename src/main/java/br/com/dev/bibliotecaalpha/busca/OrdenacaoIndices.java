@@ -0,0 +1,125 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ordenação estável de arrays de índices ({@code int[]}) por um comparador primitivo, sem
+ * converter os índices em objetos.
+ * <p>
+ * Merge sort que alterna os papéis do array e de uma cópia auxiliar a cada nível (sem cópias
+ * intermediárias); faixas pequenas são ordenadas por inserção. Acima de
+ * {@value #LIMITE_SEQUENCIAL} elementos, as duas metades de cada faixa são ordenadas em paralelo
+ * no {@link ForkJoinPool#commonPool()}. O comparador é chamado por várias threads ao mesmo tempo
+ * e não deve alterar estado compartilhado.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class OrdenacaoIndices {
+
+    static final int LIMITE_SEQUENCIAL = 8192;
+    private static final int LIMITE_INSERCAO = 24;
+
+    private OrdenacaoIndices() {
+    }
+
+    /**
+     * Ordena o array de índices. Índices que o comparador considera iguais mantêm a ordem original.
+     *
+     * @param indices    Os índices (ordenados no próprio array).
+     * @param comparador Comparador dos índices.
+     */
+    public static void ordenar(int[] indices, Comparador comparador) {
+        if (indices.length < 2) {
+            return;
+        }
+        int[] auxiliar = indices.clone();
+        if (indices.length <= LIMITE_SEQUENCIAL) {
+            ordenar(auxiliar, indices, 0, indices.length, comparador);
+        } else {
+            ForkJoinPool.commonPool().invoke(new Tarefa(auxiliar, indices, 0, indices.length, comparador));
+        }
+    }
+
+    /**
+     * Ordena {@code destino[inicio, fim)} usando {@code origem} (com o mesmo conteúdo na faixa) como área auxiliar.
+     */
+    private static void ordenar(int[] origem, int[] destino, int inicio, int fim, Comparador comparador) {
+        if (fim - inicio <= LIMITE_INSERCAO) {
+            for (int i = inicio + 1; i < fim; i++) {
+                int valor = destino[i];
+                int j = i - 1;
+                while (j >= inicio && comparador.comparar(destino[j], valor) > 0) {
+                    destino[j + 1] = destino[j];
+                    j--;
+                }
+                destino[j + 1] = valor;
+            }
+            return;
+        }
+        int meio = (inicio + fim) >>> 1;
+        ordenar(destino, origem, inicio, meio, comparador);
+        ordenar(destino, origem, meio, fim, comparador);
+        intercalar(origem, destino, inicio, meio, fim, comparador);
+    }
+
+    /**
+     * Intercala as metades ordenadas {@code origem[inicio, meio)} e {@code origem[meio, fim)} em {@code destino}.
+     */
+    private static void intercalar(int[] origem, int[] destino, int inicio, int meio, int fim, Comparador comparador) {
+        if (comparador.comparar(origem[meio - 1], origem[meio]) <= 0) {
+            System.arraycopy(origem, inicio, destino, inicio, fim - inicio);
+            return;
+        }
+        int i = inicio;
+        int j = meio;
+        for (int k = inicio; k < fim; k++) {
+            if (j >= fim || (i < meio && comparador.comparar(origem[i], origem[j]) <= 0)) {
+                destino[k] = origem[i++];
+            } else {
+                destino[k] = origem[j++];
+            }
+        }
+    }
+
+    /**
+     * Compara dois índices.
+     */
+    @FunctionalInterface
+    public interface Comparador {
+        int comparar(int a, int b);
+    }
+
+    /**
+     * Ordenação de uma faixa, dividida em paralelo enquanto for maior que o limite sequencial.
+     */
+    private static final class Tarefa extends RecursiveAction {
+        private final int[] origem;
+        private final int[] destino;
+        private final int inicio;
+        private final int fim;
+        private final Comparador comparador;
+
+        Tarefa(int[] origem, int[] destino, int inicio, int fim, Comparador comparador) {
+            this.origem = origem;
+            this.destino = destino;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.comparador = comparador;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMITE_SEQUENCIAL) {
+                ordenar(origem, destino, inicio, fim, comparador);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Tarefa(destino, origem, inicio, meio, comparador),
+                    new Tarefa(destino, origem, meio, fim, comparador));
+            intercalar(origem, destino, inicio, meio, fim, comparador);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Árvore de prefixos (trie) de valores distintos ponderados pela frequência, para sugerir
+ * valores (autores, editoras) enquanto o usuário digita.
+ * <p>
+ * As chaves são normalizadas (sem acentos, minúsculas e com pontuação e espaços repetidos
+ * reduzidos a um espaço), de forma que "Addison-Wesley" e "Addison Wesley" são o mesmo valor;
+ * a sugestão exibe a grafia mais frequente. Os nós ficam em arrays primitivos (filhos em lista
+ * encadeada de irmãos) e cada nó guarda o maior peso de sua subárvore, o que permite obter as
+ * {@code k} sugestões mais frequentes de um prefixo por busca pela melhor prioridade, visitando
+ * apenas os ramos que podem conter uma delas.
+ * </p>
+ * <p>
+ * Não é thread-safe.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class TrieSugestoes {
+
+    private static final int RAIZ = 0;
+
+    private char[] caractere;
+    private int[] primeiroFilho;
+    private int[] proximoIrmao;
+    private int[] pai;
+    /** Frequência do valor que termina no nó. */
+    private int[] peso;
+    /** Maior frequência entre o nó e seus descendentes. */
+    private int[] maximo;
+    /** Grafias do valor que termina no nó (null nos nós intermediários). */
+    private Grafias[] grafias;
+    private int quantidadeNos;
+    private int quantidadeValores;
+
+    public TrieSugestoes() {
+        limpar();
+    }
+
+    /**
+     * Remove todos os valores.
+     */
+    public void limpar() {
+        caractere = new char[256];
+        primeiroFilho = new int[256];
+        proximoIrmao = new int[256];
+        pai = new int[256];
+        peso = new int[256];
+        maximo = new int[256];
+        grafias = new Grafias[256];
+        quantidadeNos = 1;
+        quantidadeValores = 0;
+        primeiroFilho[RAIZ] = -1;
+        proximoIrmao[RAIZ] = -1;
+        pai[RAIZ] = -1;
+    }
+
+    /**
+     * Soma uma quantidade à frequência de um valor (negativa para descontar).
+     * Valores com frequência zero deixam de ser sugeridos.
+     *
+     * @param valor      O valor, como digitado.
+     * @param quantidade Quantidade de ocorrências a somar.
+     */
+    public void registrar(String valor, int quantidade) {
+        String chave = chave(valor, true);
+        if (chave.isEmpty() || quantidade == 0) {
+            return;
+        }
+        int no = RAIZ;
+        for (int i = 0; i < chave.length(); i++) {
+            int filho = filho(no, chave.charAt(i));
+            if (filho < 0) {
+                if (quantidade < 0) {
+                    return; // valor desconhecido
+                }
+                filho = novoNo(no, chave.charAt(i));
+            }
+            no = filho;
+        }
+
+        if (grafias[no] == null) {
+            if (quantidade < 0) {
+                return;
+            }
+            grafias[no] = new Grafias();
+        }
+        String grafia = valor.trim();
+        grafias[no].registrar(grafia, quantidade);
+
+        int anterior = peso[no];
+        peso[no] = Math.max(0, anterior + quantidade);
+        if (anterior == 0 && peso[no] > 0) {
+            quantidadeValores++;
+        } else if (anterior > 0 && peso[no] == 0) {
+            quantidadeValores--;
+        }
+        atualizarMaximos(no);
+    }
+
+    /**
+     * @return Quantidade de valores distintos com frequência positiva.
+     */
+    public int tamanho() {
+        return quantidadeValores;
+    }
+
+    /**
+     * Sugere os valores mais frequentes que começam com o prefixo.
+     *
+     * @param prefixo O texto digitado.
+     * @param limite  Quantidade máxima de sugestões.
+     * @return As sugestões (grafia mais frequente de cada valor), da mais à menos frequente.
+     */
+    public List<String> sugerir(String prefixo, int limite) {
+        String chave = chave(prefixo, false);
+        int no = RAIZ;
+        for (int i = 0; i < chave.length() && no >= 0; i++) {
+            no = filho(no, chave.charAt(i));
+        }
+        if (no < 0 || maximo[no] == 0 || limite <= 0) {
+            return Collections.emptyList();
+        }
+
+        // Entradas positivas são nós a expandir (prioridade: máximo da subárvore);
+        // negativas são valores prontos (prioridade: peso), que saem antes de nós de mesma prioridade
+        PriorityQueue<long[]> fila = new PriorityQueue<>((a, b) -> {
+            int porPrioridade = Long.compare(b[0], a[0]);
+            return porPrioridade != 0 ? porPrioridade : Long.compare(a[1], b[1]);
+        });
+        fila.add(new long[]{maximo[no], no});
+        List<String> sugestoes = new ArrayList<>(limite);
+        while (!fila.isEmpty() && sugestoes.size() < limite) {
+            long[] entrada = fila.poll();
+            int atual = (int) entrada[1];
+            if (atual < 0) {
+                sugestoes.add(grafias[-atual - 1].melhor());
+                continue;
+            }
+            if (peso[atual] > 0) {
+                fila.add(new long[]{peso[atual], -atual - 1});
+            }
+            for (int filho = primeiroFilho[atual]; filho >= 0; filho = proximoIrmao[filho]) {
+                if (maximo[filho] > 0) {
+                    fila.add(new long[]{maximo[filho], filho});
+                }
+            }
+        }
+        return sugestoes;
+    }
+
+    /**
+     * Normaliza um valor para a chave da árvore: sem acentos, minúsculo e com qualquer sequência
+     * de espaços e pontuação reduzida a um espaço.
+     *
+     * @param valor       O valor.
+     * @param valorFinal  true para um valor completo (sem espaço no final); false para um prefixo,
+     *                    em que o espaço final indica o início de uma nova palavra.
+     */
+    static String chave(String valor, boolean valorFinal) {
+        String dobrado = NormalizadorTexto.dobrar(valor);
+        StringBuilder sb = new StringBuilder(dobrado.length());
+        boolean separador = false;
+        for (int i = 0; i < dobrado.length(); i++) {
+            char c = dobrado.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (separador && sb.length() > 0) {
+                    sb.append(' ');
+                }
+                separador = false;
+                sb.append(c);
+            } else {
+                separador = true;
+            }
+        }
+        if (separador && !valorFinal && sb.length() > 0) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+
+    private int filho(int no, char c) {
+        for (int filho = primeiroFilho[no]; filho >= 0; filho = proximoIrmao[filho]) {
+            if (caractere[filho] == c) {
+                return filho;
+            }
+        }
+        return -1;
+    }
+
+    private int novoNo(int paiDoNo, char c) {
+        if (quantidadeNos == caractere.length) {
+            int capacidade = quantidadeNos * 2;
+            caractere = Arrays.copyOf(caractere, capacidade);
+            primeiroFilho = Arrays.copyOf(primeiroFilho, capacidade);
+            proximoIrmao = Arrays.copyOf(proximoIrmao, capacidade);
+            pai = Arrays.copyOf(pai, capacidade);
+            peso = Arrays.copyOf(peso, capacidade);
+            maximo = Arrays.copyOf(maximo, capacidade);
+            grafias = Arrays.copyOf(grafias, capacidade);
+        }
+        int no = quantidadeNos++;
+        caractere[no] = c;
+        primeiroFilho[no] = -1;
+        proximoIrmao[no] = primeiroFilho[paiDoNo];
+        primeiroFilho[paiDoNo] = no;
+        pai[no] = paiDoNo;
+        return no;
+    }
+
+    /**
+     * Recalcula o máximo da subárvore do nó e de seus ancestrais, parando quando deixar de mudar.
+     */
+    private void atualizarMaximos(int no) {
+        for (int atual = no; atual >= 0; atual = pai[atual]) {
+            int novo = peso[atual];
+            for (int filho = primeiroFilho[atual]; filho >= 0; filho = proximoIrmao[filho]) {
+                novo = Math.max(novo, maximo[filho]);
+            }
+            if (novo == maximo[atual] && atual != no) {
+                return;
+            }
+            maximo[atual] = novo;
+        }
+    }
+
+    /**
+     * Grafias de um mesmo valor normalizado e suas frequências.
+     */
+    private static final class Grafias {
+        private String[] textos = new String[1];
+        private int[] contagens = new int[1];
+        private int quantidade;
+
+        void registrar(String texto, int quantidadeSomada) {
+            for (int i = 0; i < quantidade; i++) {
+                if (textos[i].equals(texto)) {
+                    contagens[i] = Math.max(0, contagens[i] + quantidadeSomada);
+                    return;
+                }
+            }
+            if (quantidadeSomada <= 0) {
+                return;
+            }
+            if (quantidade == textos.length) {
+                textos = Arrays.copyOf(textos, quantidade * 2);
+                contagens = Arrays.copyOf(contagens, quantidade * 2);
+            }
+            textos[quantidade] = texto;
+            contagens[quantidade++] = quantidadeSomada;
+        }
+
+        String melhor() {
+            int melhor = 0;
+            for (int i = 1; i < quantidade; i++) {
+                if (contagens[i] > contagens[melhor]) {
+                    melhor = i;
+                }
+            }
+            return textos[melhor];
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import java.util.Arrays;
+
+/**
+ * Vocabulário de palavras distintas que encontra as palavras a uma distância de edição
+ * (Levenshtein) máxima da consulta sem compará-la com todas as palavras.
+ * <p>
+ * As palavras ficam em um array ordenado, que funciona como uma árvore de prefixos implícita:
+ * as palavras com o mesmo prefixo ocupam uma faixa contígua, localizada por busca binária.
+ * A pesquisa percorre os prefixos simulando o autômato de Levenshtein da consulta (uma linha da
+ * matriz de distâncias por prefixo, compartilhada por todas as palavras da faixa) e abandona o
+ * prefixo, com todas as suas palavras, assim que nenhuma posição da linha está dentro da distância.
+ * </p>
+ * <p>
+ * Palavras novas entram em uma área pendente (pesquisada linearmente) e são incorporadas ao array
+ * ordenado quando ela cresce, ou em {@link #consolidar()}. Palavras não são removidas: quem utiliza
+ * o vocabulário deve ignorar as que deixaram de existir e reconstruí-lo quando forem muitas.
+ * Não é thread-safe; a pesquisa não altera o vocabulário e pode ser feita por várias threads.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class VocabularioLevenshtein {
+
+    private static final int MINIMO_PENDENTES = 1024;
+
+    private String[] ordenadas = new String[0];
+    private int maiorTamanho;
+
+    private String[] pendentes = new String[64];
+    private int quantidadePendentes;
+
+    /**
+     * Adiciona uma palavra (quem utiliza o vocabulário deve evitar repetições).
+     *
+     * @param palavra A palavra.
+     */
+    public void adicionar(String palavra) {
+        if (quantidadePendentes == pendentes.length) {
+            pendentes = Arrays.copyOf(pendentes, quantidadePendentes * 2);
+        }
+        pendentes[quantidadePendentes++] = palavra;
+        if (quantidadePendentes > Math.max(MINIMO_PENDENTES, ordenadas.length >> 4)) {
+            consolidar();
+        }
+    }
+
+    /**
+     * Incorpora as palavras pendentes ao array ordenado (após cargas em lote, por exemplo).
+     */
+    public void consolidar() {
+        if (quantidadePendentes == 0) {
+            return;
+        }
+        String[] novas = Arrays.copyOf(pendentes, quantidadePendentes);
+        Arrays.sort(novas);
+        String[] intercaladas = new String[ordenadas.length + novas.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < ordenadas.length && j < novas.length) {
+            intercaladas[k++] = ordenadas[i].compareTo(novas[j]) <= 0 ? ordenadas[i++] : novas[j++];
+        }
+        while (i < ordenadas.length) {
+            intercaladas[k++] = ordenadas[i++];
+        }
+        while (j < novas.length) {
+            intercaladas[k++] = novas[j++];
+        }
+        for (String nova : novas) {
+            maiorTamanho = Math.max(maiorTamanho, nova.length());
+        }
+        ordenadas = intercaladas;
+        pendentes = new String[64];
+        quantidadePendentes = 0;
+    }
+
+    /**
+     * @return Quantidade de palavras.
+     */
+    public int tamanho() {
+        return ordenadas.length + quantidadePendentes;
+    }
+
+    /**
+     * Pesquisa as palavras a uma distância de edição de no máximo {@code distanciaMaxima} da consulta.
+     *
+     * @param consulta        A palavra pesquisada.
+     * @param distanciaMaxima Distância de edição máxima.
+     * @param coletor         Recebe cada palavra encontrada e sua distância.
+     */
+    public void pesquisar(String consulta, int distanciaMaxima, Coletor coletor) {
+        int m = consulta.length();
+        if (ordenadas.length > 0) {
+            int[][] linhas = new int[maiorTamanho + 1][m + 1];
+            for (int i = 0; i <= m; i++) {
+                linhas[0][i] = i;
+            }
+            percorrer(0, ordenadas.length, 0, consulta, distanciaMaxima, linhas, coletor);
+        }
+
+        int[] linhaAnterior = new int[m + 1];
+        int[] linhaAtual = new int[m + 1];
+        for (int p = 0; p < quantidadePendentes; p++) {
+            String palavra = pendentes[p];
+            if (Math.abs(palavra.length() - m) <= distanciaMaxima) {
+                int distancia = distancia(consulta, palavra, linhaAnterior, linhaAtual);
+                if (distancia <= distanciaMaxima) {
+                    coletor.encontrado(palavra, distancia);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visita as palavras de [inicio, fim), que compartilham o prefixo de tamanho {@code profundidade}
+     * cuja linha de distâncias é {@code linhas[profundidade]}.
+     */
+    private void percorrer(int inicio, int fim, int profundidade, String consulta, int distanciaMaxima,
+                           int[][] linhas, Coletor coletor) {
+        int m = consulta.length();
+        int[] linha = linhas[profundidade];
+        int i = inicio;
+
+        // A palavra igual ao prefixo, se existir, é a primeira da faixa
+        while (i < fim && ordenadas[i].length() == profundidade) {
+            if (linha[m] <= distanciaMaxima) {
+                coletor.encontrado(ordenadas[i], linha[m]);
+            }
+            i++;
+        }
+
+        while (i < fim) {
+            char c = ordenadas[i].charAt(profundidade);
+            int fimGrupo = fimDoGrupo(i, fim, profundidade, c);
+
+            int[] proxima = linhas[profundidade + 1];
+            proxima[0] = profundidade + 1;
+            int minimo = proxima[0];
+            for (int j = 1; j <= m; j++) {
+                int custo = consulta.charAt(j - 1) == c ? 0 : 1;
+                int valor = Math.min(Math.min(proxima[j - 1] + 1, linha[j] + 1), linha[j - 1] + custo);
+                proxima[j] = valor;
+                minimo = Math.min(minimo, valor);
+            }
+            if (minimo <= distanciaMaxima) {
+                percorrer(i, fimGrupo, profundidade + 1, consulta, distanciaMaxima, linhas, coletor);
+            }
+            i = fimGrupo;
+        }
+    }
+
+    /**
+     * @return O primeiro índice em [inicio, fim) cuja palavra tem, na posição {@code profundidade},
+     * um caractere maior que {@code c} (ou {@code fim}).
+     */
+    private int fimDoGrupo(int inicio, int fim, int profundidade, char c) {
+        int baixo = inicio + 1;
+        int alto = fim;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (ordenadas[meio].charAt(profundidade) <= c) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    /**
+     * Distância de Levenshtein (inserção, remoção e substituição com custo 1), calculada
+     * com duas linhas reaproveitadas, dimensionadas para {@code a}.
+     */
+    static int distancia(String a, String b, int[] linhaAnterior, int[] linhaAtual) {
+        int n = a.length();
+        for (int i = 0; i <= n; i++) {
+            linhaAnterior[i] = i;
+        }
+        for (int j = 1; j <= b.length(); j++) {
+            char cb = b.charAt(j - 1);
+            linhaAtual[0] = j;
+            for (int i = 1; i <= n; i++) {
+                int custo = a.charAt(i - 1) == cb ? 0 : 1;
+                linhaAtual[i] = Math.min(Math.min(linhaAtual[i - 1] + 1, linhaAnterior[i] + 1), linhaAnterior[i - 1] + custo);
+            }
+            int[] troca = linhaAnterior;
+            linhaAnterior = linhaAtual;
+            linhaAtual = troca;
+        }
+        return linhaAnterior[n];
+    }
+
+    /**
+     * Recebe as palavras encontradas em uma pesquisa.
+     */
+    @FunctionalInterface
+    public interface Coletor {
+        void encontrado(String palavra, int distancia);
+    }
+}
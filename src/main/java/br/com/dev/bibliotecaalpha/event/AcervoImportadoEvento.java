@@ -0,0 +1,39 @@
+package br.com.dev.bibliotecaalpha.event;
+
+/**
+ * Evento publicado após a confirmação de uma importação em lote (CSV).
+ * <p>
+ * A importação não publica um evento por livro: os ouvintes que mantêm dados do acervo
+ * em memória devem descartá-los ou recarregá-los ao receber este evento.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class AcervoImportadoEvento {
+
+    private final int novos;
+    private final int atualizados;
+
+    /**
+     * @param novos       Quantidade de livros cadastrados pela importação.
+     * @param atualizados Quantidade de livros existentes atualizados pela importação.
+     */
+    public AcervoImportadoEvento(int novos, int atualizados) {
+        this.novos = novos;
+        this.atualizados = atualizados;
+    }
+
+    public int getNovos() {
+        return novos;
+    }
+
+    public int getAtualizados() {
+        return atualizados;
+    }
+
+    @Override
+    public String toString() {
+        return "AcervoImportadoEvento [novos=" + novos + ", atualizados=" + atualizados + "]";
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.dev.bibliotecaalpha.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Barramento de eventos em memória, usado para avisar as telas sobre alterações no acervo.
+ * <p>
+ * Os ouvintes se inscrevem por tipo de evento e recebem também os eventos das subclasses
+ * (ex: inscrever-se em {@link EventoLivro} recebe criação, alteração e exclusão).
+ * A entrega é síncrona, na thread que publica; ouvintes de interface gráfica devem
+ * repassar o trabalho à EDT. Uma falha em um ouvinte não impede a entrega aos demais.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Component
+public class BarramentoEventos {
+
+    private static final Logger log = LoggerFactory.getLogger(BarramentoEventos.class);
+
+    private final ConcurrentMap<Class<?>, List<Consumer<Object>>> ouvintes = new ConcurrentHashMap<>();
+
+    /**
+     * Inscreve um ouvinte para um tipo de evento (e seus subtipos).
+     *
+     * @param tipo    Classe do evento.
+     * @param ouvinte Ação executada a cada evento publicado.
+     * @param <T>     Tipo do evento.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void inscrever(Class<T> tipo, Consumer<? super T> ouvinte) {
+        ouvintes.computeIfAbsent(tipo, t -> new CopyOnWriteArrayList<>()).add((Consumer<Object>) ouvinte);
+    }
+
+    /**
+     * Entrega o evento imediatamente a todos os ouvintes do seu tipo e dos tipos ancestrais.
+     *
+     * @param evento O evento.
+     */
+    public void publicar(Object evento) {
+        log.debug("Publicando evento: {}", evento);
+        for (Class<?> tipo = evento.getClass(); tipo != null; tipo = tipo.getSuperclass()) {
+            List<Consumer<Object>> inscritos = ouvintes.get(tipo);
+            if (inscritos == null) {
+                continue;
+            }
+            for (Consumer<Object> ouvinte : inscritos) {
+                try {
+                    ouvinte.accept(evento);
+                } catch (Exception e) {
+                    log.error("Erro em ouvinte do evento {}", evento, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publica o evento somente após a confirmação (commit) da transação atual.
+     * Se a transação for desfeita, o evento é descartado. Fora de uma transação, publica imediatamente.
+     * <p>
+     * O evento é criado apenas no momento da publicação, para refletir o estado final
+     * gravado (ex: a versão do registro incrementada no commit).
+     * </p>
+     *
+     * @param fabrica Cria o evento a ser publicado.
+     */
+    public void publicarAposCommit(Supplier<?> fabrica) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publicar(fabrica.get());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publicar(fabrica.get());
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.dev.bibliotecaalpha.event;
+
+/**
+ * Base dos eventos de domínio do acervo, publicados no {@link BarramentoEventos}
+ * após a confirmação da transação que os originou.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public abstract class EventoLivro {
+
+    private final long livroId;
+
+    protected EventoLivro(long livroId) {
+        this.livroId = livroId;
+    }
+
+    /**
+     * @return ID do livro afetado.
+     */
+    public long getLivroId() {
+        return livroId;
+    }
+}
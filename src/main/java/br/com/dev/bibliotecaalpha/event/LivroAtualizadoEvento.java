@@ -0,0 +1,42 @@
+package br.com.dev.bibliotecaalpha.event;
+
+/**
+ * Evento publicado quando um livro existente é alterado.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class LivroAtualizadoEvento extends EventoLivro {
+
+    private final LivroResumo anterior;
+    private final LivroResumo livro;
+
+    /**
+     * @param anterior Dados do livro antes da alteração (pode ser null se não estiverem disponíveis).
+     * @param livro    Dados do livro após a alteração.
+     */
+    public LivroAtualizadoEvento(LivroResumo anterior, LivroResumo livro) {
+        super(livro.getId());
+        this.anterior = anterior;
+        this.livro = livro;
+    }
+
+    /**
+     * @return Os dados do livro antes da alteração, ou null se desconhecidos.
+     */
+    public LivroResumo getAnterior() {
+        return anterior;
+    }
+
+    /**
+     * @return Os dados do livro após a alteração.
+     */
+    public LivroResumo getLivro() {
+        return livro;
+    }
+
+    @Override
+    public String toString() {
+        return "LivroAtualizadoEvento [" + livro + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.dev.bibliotecaalpha.event;
+
+/**
+ * Evento publicado quando um novo livro é cadastrado.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class LivroCriadoEvento extends EventoLivro {
+
+    private final LivroResumo livro;
+
+    public LivroCriadoEvento(LivroResumo livro) {
+        super(livro.getId());
+        this.livro = livro;
+    }
+
+    /**
+     * @return Os dados do livro cadastrado.
+     */
+    public LivroResumo getLivro() {
+        return livro;
+    }
+
+    @Override
+    public String toString() {
+        return "LivroCriadoEvento [" + livro + "]";
+    }
+}
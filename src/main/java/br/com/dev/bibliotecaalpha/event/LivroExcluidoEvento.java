@@ -0,0 +1,33 @@
+package br.com.dev.bibliotecaalpha.event;
+
+/**
+ * Evento publicado quando um livro é excluído.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class LivroExcluidoEvento extends EventoLivro {
+
+    private final LivroResumo livro;
+
+    /**
+     * @param livroId ID do livro excluído.
+     * @param livro   Dados do livro no momento da exclusão (pode ser null se não estiverem disponíveis).
+     */
+    public LivroExcluidoEvento(long livroId, LivroResumo livro) {
+        super(livroId);
+        this.livro = livro;
+    }
+
+    /**
+     * @return Os dados do livro excluído, ou null se desconhecidos.
+     */
+    public LivroResumo getLivro() {
+        return livro;
+    }
+
+    @Override
+    public String toString() {
+        return "LivroExcluidoEvento [livroId=" + getLivroId() + "]";
+    }
+}
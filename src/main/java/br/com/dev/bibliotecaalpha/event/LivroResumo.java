@@ -0,0 +1,90 @@
+package br.com.dev.bibliotecaalpha.event;
+
+import br.com.dev.bibliotecaalpha.model.Livro;
+
+import java.io.Serializable;
+
+/**
+ * Projeção imutável dos dados de um livro exibidos na listagem.
+ * <p>
+ * Transportada pelos eventos de domínio, permite que as telas atualizem uma linha
+ * sem recarregar a entidade completa (capa, livros semelhantes etc.).
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class LivroResumo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long id;
+    private final String isbn;
+    private final String titulo;
+    private final String dataPublicacao;
+    private final String autores;
+    private final String editora;
+    private final String capaHash;
+    private final long versao;
+
+    public LivroResumo(long id, String isbn, String titulo, String dataPublicacao, String autores,
+                       String editora, String capaHash, long versao) {
+        this.id = id;
+        this.isbn = isbn;
+        this.titulo = titulo;
+        this.dataPublicacao = dataPublicacao;
+        this.autores = autores;
+        this.editora = editora;
+        this.capaHash = capaHash;
+        this.versao = versao;
+    }
+
+    /**
+     * Cria a projeção a partir da entidade.
+     *
+     * @param livro O livro (já persistido, com ID).
+     * @return A projeção correspondente.
+     */
+    public static LivroResumo de(Livro livro) {
+        return new LivroResumo(livro.getId(), livro.getIsbn(), livro.getTitulo(), livro.getDataPublicacao(),
+                livro.getAutores(), livro.getEditora(), livro.getCapaHash(),
+                livro.getVersao() != null ? livro.getVersao() : 0L);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public String getDataPublicacao() {
+        return dataPublicacao;
+    }
+
+    public String getAutores() {
+        return autores;
+    }
+
+    public String getEditora() {
+        return editora;
+    }
+
+    public String getCapaHash() {
+        return capaHash;
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    @Override
+    public String toString() {
+        return "LivroResumo [id=" + id + ", titulo=" + titulo + ", versao=" + versao + "]";
+    }
+}
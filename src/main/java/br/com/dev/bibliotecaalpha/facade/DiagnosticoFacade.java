@@ -0,0 +1,72 @@
+package br.com.dev.bibliotecaalpha.facade;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.service.GravacaoJfrService;
+import br.com.dev.bibliotecaalpha.service.MetricasService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fachada (Facade) do diagnóstico da aplicação.
+ * <p>
+ * Expõe à aba oculta "Diagnóstico" o resumo das métricas (tempos das fachadas, importação,
+ * caches e pool de conexões) e a gravação do JDK Flight Recorder sob demanda. Não é medida pelo {@code MetricasAspect}: a atualização periódica
+ * do painel não deve aparecer nas próprias métricas.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Component
+public class DiagnosticoFacade {
+
+    @Autowired
+    private MetricasService metricasService;
+
+    @Autowired
+    private GravacaoJfrService gravacaoJfrService;
+
+    /**
+     * Resume as métricas atuais.
+     *
+     * @return Uma medida por métrica (e combinação de tags), ordenadas por nome.
+     */
+    public List<MetricasService.Medida> resumirMetricas() {
+        return metricasService.resumir();
+    }
+
+    /**
+     * Grava o resumo atual no arquivo de métricas, sem aguardar a gravação periódica.
+     */
+    public void gravarMetricas() {
+        metricasService.gravarArquivo();
+    }
+
+    /**
+     * @return true se houver uma gravação do Flight Recorder em andamento.
+     */
+    public boolean isGravandoJfr() {
+        return gravacaoJfrService.isGravando();
+    }
+
+    /**
+     * Inicia uma gravação do Flight Recorder.
+     *
+     * @throws ServiceException Se o Flight Recorder não estiver disponível.
+     */
+    public void iniciarGravacaoJfr() throws ServiceException {
+        gravacaoJfrService.iniciar();
+    }
+
+    /**
+     * Para a gravação do Flight Recorder e grava o arquivo.
+     *
+     * @return Caminho do arquivo .jfr gravado.
+     * @throws ServiceException Se não houver gravação ou o arquivo não puder ser gravado.
+     */
+    public String pararGravacaoJfr() throws ServiceException {
+        return gravacaoJfrService.parar().toString();
+    }
+}
@@ -1,12 +1,15 @@
 package br.com.dev.bibliotecaalpha.facade;
 
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.service.ExecucaoService;
 import br.com.dev.bibliotecaalpha.service.ExportacaoService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Fachada (Facade) especializada em operações de saída de dados.
  * <p>
@@ -26,6 +29,9 @@ public class ExportacaoFacade {
     @Autowired
     private ExportacaoService exportacaoService;
 
+    @Autowired
+    private ExecucaoService execucaoService;
+
     /**
      * Coordena a exportação de todo o acervo cadastrado para um arquivo CSV.
      *
@@ -36,4 +42,17 @@ public class ExportacaoFacade {
         log.info("Iniciando solicitação de exportação para o arquivo: {}", caminhoArquivo);
         exportacaoService.exportarArquivoCSV(caminhoArquivo);
     }
-}
\ No newline at end of file
+
+    /**
+     * Versão assíncrona de {@link #exportarLivros(String)}, executada no executor de I/O.
+     *
+     * @param caminhoArquivo O caminho do arquivo CSV.
+     * @return Futuro concluído ao fim da operação, ou com a {@link ServiceException} da falha.
+     */
+    public CompletableFuture<Void> exportarLivrosAsync(String caminhoArquivo) {
+        return execucaoService.executarIo(() -> {
+            exportarLivros(caminhoArquivo);
+            return null;
+        });
+    }
+}
@@ -1,12 +1,15 @@
 package br.com.dev.bibliotecaalpha.facade;
 
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.service.ExecucaoService;
 import br.com.dev.bibliotecaalpha.service.ImportacaoService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Fachada (Facade) especializada em operações de entrada de dados em massa.
  * <p>
@@ -26,6 +29,9 @@ public class ImportacaoFacade {
     @Autowired
     private ImportacaoService importacaoService;
 
+    @Autowired
+    private ExecucaoService execucaoService;
+
     /**
      * Coordena a importação de livros a partir de um arquivo externo.
      *
@@ -37,4 +43,17 @@ public class ImportacaoFacade {
         log.info("Recebida solicitação de importação do arquivo: {}", caminhoArquivo);
         importacaoService.importarArquivoCSV(caminhoArquivo);
     }
-}
\ No newline at end of file
+
+    /**
+     * Versão assíncrona de {@link #importarLivros(String)}, executada no executor de I/O.
+     *
+     * @param caminhoArquivo O caminho do arquivo CSV.
+     * @return Futuro concluído ao fim da operação, ou com a {@link ServiceException} da falha.
+     */
+    public CompletableFuture<Void> importarLivrosAsync(String caminhoArquivo) {
+        return execucaoService.executarIo(() -> {
+            importarLivros(caminhoArquivo);
+            return null;
+        });
+    }
+}
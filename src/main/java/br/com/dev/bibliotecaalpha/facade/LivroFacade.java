@@ -1,14 +1,26 @@
 package br.com.dev.bibliotecaalpha.facade;
 
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
 import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.service.CapaCacheService;
+import br.com.dev.bibliotecaalpha.service.CapaNormalizacaoService;
+import br.com.dev.bibliotecaalpha.service.ExecucaoService;
 import br.com.dev.bibliotecaalpha.service.LivroService;
+import br.com.dev.bibliotecaalpha.service.NotificacaoLivroService;
+import br.com.dev.bibliotecaalpha.service.SugestaoService;
+import org.hibernate.stat.CacheRegionStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.awt.image.BufferedImage;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Atua como uma fachada (Facade) para o sistema de biblioteca.
@@ -16,6 +28,10 @@ import java.util.List;
  * Esta classe centraliza a comunicação entre a camada de apresentação (View)
  * e os serviços de negócio (Services). Ela repassa as exceções de negócio (ServiceException)
  * para serem tratadas visualmente nas telas.
+ * <p>
+ * As operações de banco e da API externa têm variantes {@code ...Async}, executadas no pool
+ * limitado do {@link ExecucaoService} (as da API externa, no executor de I/O), para que as telas
+ * não bloqueiem a EDT.
  *
  * @author Luccas Cabrini
  * @version 1.0
@@ -28,17 +44,78 @@ public class LivroFacade {
     @Autowired
     private LivroService livroService;
 
+    @Autowired
+    private CapaCacheService capaCacheService;
+
+    @Autowired
+    private CapaNormalizacaoService capaNormalizacaoService;
+
+    @Autowired
+    private NotificacaoLivroService notificacaoLivroService;
+
+    @Autowired
+    private BarramentoEventos barramentoEventos;
+
+    @Autowired
+    private SugestaoService sugestaoService;
+
+    @Autowired
+    private ExecucaoService execucaoService;
+
     /**
      * Solicita o salvamento de um livro (criação ou atualização).
+     * A capa é normalizada antes de abrir a transação de gravação.
      *
      * @param livro O objeto Livro contendo os dados a serem persistidos.
      * @throws ServiceException Caso ocorra erro de validação (regras de negócio) ou banco de dados.
      */
     public void salvarLivro(Livro livro) throws ServiceException {
         log.info("Solicitação de salvamento recebida. Título: {}, ISBN: {}", livro.getTitulo(), livro.getIsbn());
+        livro.setCapaImagem(capaNormalizacaoService.normalizar(livro.getCapaImagem()));
         livroService.salvar(livro);
     }
 
+    /**
+     * Versão assíncrona de {@link #salvarLivro(Livro)}, executada fora da thread chamadora.
+     *
+     * @param livro O objeto Livro contendo os dados a serem persistidos.
+     * @return Futuro concluído após a gravação (ou com a {@link ServiceException} da validação).
+     */
+    public CompletableFuture<Void> salvarLivroAsync(Livro livro) {
+        return execucaoService.executar(() -> {
+            salvarLivro(livro);
+            return null;
+        });
+    }
+
+    /**
+     * Solicita a gravação apenas dos campos alterados de um livro (sem regravar a capa).
+     *
+     * @param id         O ID do livro.
+     * @param versao     A versão do livro quando foi aberto para edição.
+     * @param alteracoes Campo -> novo valor, apenas para os campos alterados.
+     * @throws ServiceException Caso ocorra erro de validação, conflito de versão ou erro no banco de dados.
+     */
+    public void atualizarCampos(Long id, long versao, Map<LivroService.Campo, String> alteracoes) throws ServiceException {
+        log.info("Solicitação de alteração parcial recebida. ID: {}, Campos: {}", id, alteracoes.keySet());
+        livroService.atualizarCampos(id, versao, alteracoes);
+    }
+
+    /**
+     * Versão assíncrona de {@link #atualizarCampos(Long, long, Map)}.
+     *
+     * @param id         O ID do livro.
+     * @param versao     A versão do livro quando foi aberto para edição.
+     * @param alteracoes Campo -> novo valor, apenas para os campos alterados.
+     * @return Futuro concluído após a gravação (ou com a {@link ServiceException} da validação).
+     */
+    public CompletableFuture<Void> atualizarCamposAsync(Long id, long versao, Map<LivroService.Campo, String> alteracoes) {
+        return execucaoService.executar(() -> {
+            atualizarCampos(id, versao, alteracoes);
+            return null;
+        });
+    }
+
     /**
      * Recupera a lista completa de livros cadastrados.
      *
@@ -49,6 +126,84 @@ public class LivroFacade {
         return livroService.listarTodos();
     }
 
+    /**
+     * Versão assíncrona de {@link #buscarTodos()}.
+     *
+     * @return Futuro com todos os livros da base de dados.
+     */
+    public CompletableFuture<List<Livro>> buscarTodosAsync() {
+        return execucaoService.executar(this::buscarTodos);
+    }
+
+    /**
+     * Pesquisa livros por relevância (busca textual no banco, insensível a acentos).
+     *
+     * @param termo   Texto da pesquisa.
+     * @param pagina  Número da página (a partir de 0).
+     * @param tamanho Quantidade de livros por página.
+     * @return Os livros da página, do mais relevante ao menos relevante.
+     * @throws ServiceException Caso a busca textual não esteja disponível.
+     */
+    public List<Livro> pesquisarPorRelevancia(String termo, int pagina, int tamanho) throws ServiceException {
+        return livroService.pesquisarPorRelevancia(termo, pagina, tamanho);
+    }
+
+    /**
+     * Solicita a pesquisa aproximada (tolerante a erros de digitação) por título e autores.
+     *
+     * @param termo  Texto digitado pelo usuário.
+     * @param limite Quantidade máxima de livros.
+     * @return Os livros mais semelhantes com suas pontuações.
+     * @throws ServiceException Caso a pesquisa não esteja disponível.
+     */
+    public List<LivroService.ResultadoAproximado> pesquisarAproximado(String termo, int limite) throws ServiceException {
+        return livroService.pesquisarAproximado(termo, limite);
+    }
+
+    /**
+     * Solicita apenas as alterações do acervo desde a última atualização da listagem.
+     *
+     * @param desde Marca devolvida pela chamada anterior, ou null para a carga completa.
+     * @return Livros alterados, IDs excluídos e a nova marca.
+     */
+    public LivroService.Alteracoes buscarAlteracoesDesde(Long desde) {
+        log.debug("Solicitando alterações do acervo desde {}", desde);
+        return livroService.buscarAlteracoesDesde(desde);
+    }
+
+    /**
+     * Versão assíncrona de {@link #buscarAlteracoesDesde(Long)}.
+     *
+     * @param desde Marca devolvida pela chamada anterior, ou null para a carga completa.
+     * @return Futuro com os livros alterados, os IDs excluídos e a nova marca.
+     */
+    public CompletableFuture<LivroService.Alteracoes> buscarAlteracoesDesdeAsync(Long desde) {
+        return execucaoService.executar(() -> buscarAlteracoesDesde(desde));
+    }
+
+    /**
+     * Inscreve um ouvinte nos eventos do acervo publicados por esta aplicação
+     * (ex: {@link br.com.dev.bibliotecaalpha.event.LivroCriadoEvento}).
+     * O ouvinte é chamado fora da thread da interface gráfica.
+     *
+     * @param tipo    Classe do evento (ou {@link br.com.dev.bibliotecaalpha.event.EventoLivro} para todos).
+     * @param ouvinte Ação executada a cada evento.
+     * @param <T>     Tipo do evento.
+     */
+    public <T> void inscreverEventos(Class<T> tipo, Consumer<? super T> ouvinte) {
+        barramentoEventos.inscrever(tipo, ouvinte);
+    }
+
+    /**
+     * Registra um ouvinte das alterações do acervo feitas por outras estações de trabalho.
+     * O ouvinte é chamado fora da thread da interface gráfica.
+     *
+     * @param ouvinte Ação executada a cada alteração notificada.
+     */
+    public void ouvirAlteracoesRemotas(Consumer<NotificacaoLivroService.Notificacao> ouvinte) {
+        notificacaoLivroService.adicionarOuvinte(ouvinte);
+    }
+
     /**
      * Solicita a exclusão de um livro pelo seu identificador.
      *
@@ -59,6 +214,68 @@ public class LivroFacade {
         livroService.excluir(id);
     }
 
+    /**
+     * Versão assíncrona de {@link #excluirLivro(Long)}.
+     *
+     * @param id O ID único do livro a ser excluído.
+     * @return Futuro concluído após a exclusão.
+     */
+    public CompletableFuture<Void> excluirLivroAsync(Long id) {
+        return execucaoService.executar(() -> {
+            excluirLivro(id);
+            return null;
+        });
+    }
+
+    /**
+     * Solicita a exclusão de um conjunto de livros (seleção múltipla da listagem).
+     *
+     * @param ids Os IDs dos livros a serem excluídos.
+     * @return Quantidade de livros excluídos.
+     */
+    public int excluirLivros(Collection<Long> ids) {
+        log.info("Solicitação de exclusão em lote recebida para {} livros", ids.size());
+        return livroService.excluirEmLote(ids);
+    }
+
+    /**
+     * Versão assíncrona de {@link #excluirLivros(Collection)}.
+     *
+     * @param ids Os IDs dos livros a serem excluídos.
+     * @return Futuro com a quantidade de livros excluídos.
+     */
+    public CompletableFuture<Integer> excluirLivrosAsync(Collection<Long> ids) {
+        return execucaoService.executar(() -> excluirLivros(ids));
+    }
+
+    /**
+     * Solicita a alteração da editora, dos autores e/ou da data de publicação de um conjunto de livros.
+     *
+     * @param ids            Os IDs dos livros.
+     * @param editora        Nova editora, ou null para manter.
+     * @param autores        Novos autores, ou null para manter.
+     * @param dataPublicacao Nova data de publicação, ou null para manter.
+     * @return Quantidade de livros alterados.
+     * @throws ServiceException Caso nenhum campo seja informado ou um campo obrigatório esteja vazio.
+     */
+    public int atualizarLivros(Collection<Long> ids, String editora, String autores, String dataPublicacao) throws ServiceException {
+        log.info("Solicitação de alteração em lote recebida para {} livros", ids.size());
+        return livroService.atualizarEmLote(ids, editora, autores, dataPublicacao);
+    }
+
+    /**
+     * Versão assíncrona de {@link #atualizarLivros(Collection, String, String, String)}.
+     *
+     * @param ids            Os IDs dos livros.
+     * @param editora        Nova editora, ou null para manter.
+     * @param autores        Novos autores, ou null para manter.
+     * @param dataPublicacao Nova data de publicação, ou null para manter.
+     * @return Futuro com a quantidade de livros alterados (ou com a {@link ServiceException} da validação).
+     */
+    public CompletableFuture<Integer> atualizarLivrosAsync(Collection<Long> ids, String editora, String autores, String dataPublicacao) {
+        return execucaoService.executar(() -> atualizarLivros(ids, editora, autores, dataPublicacao));
+    }
+
     /**
      * Busca um livro específico pelo seu ID.
      *
@@ -71,6 +288,16 @@ public class LivroFacade {
         return livroService.buscarPorId(id);
     }
 
+    /**
+     * Versão assíncrona de {@link #buscarLivroPorId(Long)}.
+     *
+     * @param id O identificador único do livro.
+     * @return Futuro com o livro (ou com a {@link ServiceException}, se não encontrado).
+     */
+    public CompletableFuture<Livro> buscarLivroPorIdAsync(Long id) {
+        return execucaoService.executar(() -> buscarLivroPorId(id));
+    }
+
     /**
      * Obtém o número total de livros cadastrados para exibição no Dashboard.
      *
@@ -89,6 +316,24 @@ public class LivroFacade {
         return livroService.buscarNomeUltimoLivro();
     }
 
+    /**
+     * Obtém os indicadores do Dashboard (total, último livro e livros por editora) em consultas agregadas.
+     *
+     * @return Os indicadores atuais do acervo.
+     */
+    public LivroService.Indicadores carregarIndicadores() {
+        return livroService.carregarIndicadores();
+    }
+
+    /**
+     * Versão assíncrona de {@link #carregarIndicadores()}.
+     *
+     * @return Futuro com os indicadores atuais do acervo.
+     */
+    public CompletableFuture<LivroService.Indicadores> carregarIndicadoresAsync() {
+        return execucaoService.executar(this::carregarIndicadores);
+    }
+
     /**
      * Obtém o número total de editoras distintas cadastradas.
      *
@@ -98,6 +343,27 @@ public class LivroFacade {
         return (int) livroService.contarEditorasUnicas();
     }
 
+    /**
+     * Sugere valores já cadastrados para um campo do formulário, a partir do texto digitado
+     * (consulta em memória, sem acesso ao banco; vazia enquanto as sugestões não forem carregadas).
+     *
+     * @param campo   O campo (autores ou editora).
+     * @param prefixo O texto digitado.
+     * @param limite  Quantidade máxima de sugestões.
+     * @return As sugestões, da mais à menos frequente.
+     */
+    public List<String> sugerirValores(SugestaoService.Campo campo, String prefixo, int limite) {
+        return sugestaoService.sugerir(campo, prefixo, limite);
+    }
+
+    /**
+     * Agenda a carga antecipada das sugestões dos formulários, em segundo plano (pode ser chamado
+     * na thread da interface gráfica).
+     */
+    public void prepararSugestoes() {
+        sugestaoService.prepararEmSegundoPlano();
+    }
+
     /**
      * Realiza uma busca em uma API externa (OpenLibrary) utilizando o ISBN.
      *
@@ -110,6 +376,16 @@ public class LivroFacade {
         return livroService.buscarNaApiExterna(isbn);
     }
 
+    /**
+     * Versão assíncrona de {@link #buscarNaApiExterna(String)}.
+     *
+     * @param isbn O código ISBN do livro.
+     * @return Futuro com o livro preenchido com dados externos (inclusive a capa, se houver).
+     */
+    public CompletableFuture<Livro> buscarNaApiExternaAsync(String isbn) {
+        return execucaoService.executarIo(() -> buscarNaApiExterna(isbn));
+    }
+
     /**
      * Busca a imagem da capa do livro em serviço externo.
      *
@@ -119,4 +395,60 @@ public class LivroFacade {
     public byte[] buscarCapaPorIsbn(String isbn) {
         return livroService.buscarCapaPorIsbn(isbn);
     }
-}
\ No newline at end of file
+
+    /**
+     * Obtém a capa do livro pronta para exibição, redimensionada para caber na área informada.
+     * <p>
+     * Utiliza o cache de capas decodificadas, evitando decodificar a mesma imagem a cada abertura de tela.
+     * </p>
+     *
+     * @param livro   O livro cuja capa será exibida.
+     * @param largura Largura máxima da área de exibição.
+     * @param altura  Altura máxima da área de exibição.
+     * @return A imagem redimensionada ou null se o livro não possuir capa válida.
+     */
+    public BufferedImage carregarCapa(Livro livro, int largura, int altura) {
+        return capaCacheService.obter(livro.getId(), livro.getCapaHash(), livro.getCapaImagem(), largura, altura);
+    }
+
+    /**
+     * Carrega em lote as miniaturas das capas de um conjunto de livros (grade de capas).
+     *
+     * @param ids     IDs dos livros da faixa visível.
+     * @param largura Largura máxima da miniatura.
+     * @param altura  Altura máxima da miniatura.
+     * @return Mapa ID -> miniatura, apenas para livros com capa.
+     */
+    public Map<Long, BufferedImage> carregarMiniaturas(List<Long> ids, int largura, int altura) {
+        log.debug("Carregando miniaturas para {} livros", ids.size());
+        return livroService.carregarMiniaturas(ids, largura, altura);
+    }
+
+    /**
+     * Obtém as estatísticas de uso do cache de capas (acertos, falhas e ocupação).
+     *
+     * @return Retrato atual das estatísticas.
+     */
+    public CapaCacheService.Estatisticas getEstatisticasCacheCapas() {
+        return capaCacheService.getEstatisticas();
+    }
+
+    /**
+     * Obtém as estatísticas do cache de segundo nível dos livros (buscas por ID e por ISBN).
+     *
+     * @return Estatísticas da região de cache, ou null se o cache estiver desativado.
+     */
+    public CacheRegionStatistics getEstatisticasCacheLivros() {
+        return livroService.getEstatisticasCacheLivros();
+    }
+
+    /**
+     * Normaliza uma imagem de capa recém-selecionada (redução de resolução, JPEG e remoção de metadados).
+     *
+     * @param imagemBytes Bytes da imagem original (ex: arquivo escolhido pelo usuário).
+     * @return Bytes da imagem normalizada.
+     */
+    public byte[] normalizarCapa(byte[] imagemBytes) {
+        return capaNormalizacaoService.normalizar(imagemBytes);
+    }
+}
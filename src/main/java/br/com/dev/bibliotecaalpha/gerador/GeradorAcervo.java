@@ -0,0 +1,501 @@
+package br.com.dev.bibliotecaalpha.gerador;
+
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.service.CapaService;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de acervo sintético para benchmarks e demonstrações.
+ * <p>
+ * Determinístico: a mesma semente produz sempre os mesmos livros, e cada livro depende apenas da
+ * semente e da sua posição ({@link #gerar(long)}), de modo que o acervo pode ser gerado em partes
+ * ou em paralelo com o mesmo resultado. Os dados imitam um acervo real:
+ * <ul>
+ * <li>ISBN-13 válidos (prefixo 978 e dígito verificador), únicos dentro do acervo gerado;</li>
+ * <li>títulos em português, com acentos, de ficção e técnicos (alguns com volume);</li>
+ * <li>editoras e autores com distribuição de Zipf: poucas editoras e autores concentram a maior parte dos livros;</li>
+ * <li>um a três autores por livro, ano de publicação concentrado nas últimas décadas;</li>
+ * <li>uma parcela configurável de livros com capa, escolhida entre um conjunto de capas distintas
+ *     (também com distribuição de Zipf, exercitando a deduplicação das capas).</li>
+ * </ul>
+ * </p>
+ * <p>
+ * As instâncias são imutáveis após a construção (as capas são desenhadas na primeira consulta)
+ * e podem ser usadas por várias threads.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class GeradorAcervo {
+
+    public static final long SEMENTE_PADRAO = 42;
+    public static final int EDITORAS_PADRAO = 300;
+    public static final int AUTORES_PADRAO = 20000;
+    public static final double PROPORCAO_CAPAS_PADRAO = 0.3;
+    public static final int CAPAS_DISTINTAS_PADRAO = 64;
+
+    private static final double EXPOENTE_EDITORAS = 1.1;
+    private static final double EXPOENTE_AUTORES = 0.9;
+    private static final double EXPOENTE_CAPAS = 1.0;
+
+    private static final long MODULO_ISBN = 1_000_000_000L;
+    private static final int ANO_MAIS_RECENTE = 2025;
+    private static final int LARGURA_CAPA = 300;
+    private static final int ALTURA_CAPA = 450;
+
+    private static final String[] EDITORAS = {"Companhia das Letras", "Record", "Rocco", "Intrínseca", "Sextante",
+            "Saraiva", "Globo Livros", "Objetiva", "Alfaguara", "Nova Fronteira", "Zahar", "Martins Fontes", "Ática",
+            "Moderna", "FTD", "Scipione", "L&PM", "Autêntica", "Boitempo", "Todavia", "Planeta", "Arqueiro", "Aleph",
+            "DarkSide", "Novatec", "Casa do Código", "Alta Books", "Bookman", "Blucher", "Vozes", "Paulus", "Cultrix",
+            "Melhoramentos", "Edições SM", "Seguinte", "Galera Record", "HarperCollins Brasil", "Editora 34",
+            "José Olympio", "Cosac Naify", "Estação Liberdade", "Edições Loyola", "Perspectiva", "Unesp", "Edusp"};
+    private static final String[] FORMAS_EDITORA = {"Editora ", "Edições ", "Livraria ", "Publicações "};
+
+    private static final String[] PRENOMES = {"Ana", "João", "Maria", "José", "Antônio", "Francisca", "Luís",
+            "Cecília", "Raquel", "Jorge", "Clarice", "Érico", "Lygia", "Rubem", "Ângela", "Márcio", "Conceição",
+            "Sérgio", "Fábio", "Beatriz", "Helena", "Otávio", "Inês", "Patrícia", "Caio", "Débora", "Thiago", "Luíza",
+            "Vinícius", "Mônica", "Paulo", "Carolina", "Rafael", "Letícia", "Gonçalo", "Simone", "André", "Lúcia",
+            "Fernando", "Adélia", "Marcelo", "Glória", "Rodrigo", "Bárbara", "Henrique", "Júlia", "Gustavo", "Aurélio",
+            "Sônia", "Nélida", "Ítalo", "Jéssica", "Valter", "Elisa", "Milton", "Tânia", "Artur", "Ester", "Lauro",
+            "Zélia"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Lima", "Pereira",
+            "Ferreira", "Costa", "Rodrigues", "Almeida", "Nascimento", "Araújo", "Gonçalves", "Ribeiro", "Carvalho",
+            "Gomes", "Martins", "Rocha", "Barbosa", "Mendes", "Freitas", "Cardoso", "Teixeira", "Correia", "Lopes",
+            "Vieira", "Monteiro", "Moreira", "Nunes", "Macedo", "Brandão", "Magalhães", "Guimarães", "Assunção",
+            "Conceição", "Damásio", "Falcão", "Galvão", "Gusmão", "Leão", "Simões", "Antunes", "Bezerra", "Calado",
+            "Drummond", "Estêvão", "Fagundes", "Queiroz", "Lispector", "Meireles", "Veríssimo", "Amado", "Ramos",
+            "Bandeira", "Rosa", "Telles", "Prado", "Quintana", "Sabino", "Andrade", "Azevedo", "Alencar", "Távora",
+            "Pêcego", "Mourão", "Peçanha", "Goulart", "Sampaio", "Tavares", "Xavier"};
+    private static final String[] SUFIXOS_AUTOR = {"", " Filho", " Neto", " Júnior"};
+    private static final int NOMES_SIMPLES = PRENOMES.length * SOBRENOMES.length;
+    private static final int NOMES_COMPOSTOS = PRENOMES.length * SOBRENOMES.length * (SOBRENOMES.length - 1);
+
+    private static final String[] SUBSTANTIVOS_MASCULINOS = {"Silêncio", "Caminho", "Coração", "Sertão", "Menino",
+            "Relógio", "Jardim", "Segredo", "Inverno", "Mar", "Verão", "Espelho", "Último Trem", "Rio", "Cárcere",
+            "Herdeiro", "Pássaro", "Labirinto", "Horizonte", "Farol", "Exílio", "Regresso", "Mistério", "Anjo"};
+    private static final String[] SUBSTANTIVOS_FEMININOS = {"Canção", "Ilha", "Estação", "Memória", "Cidade", "Noite",
+            "Herança", "Viagem", "Lição", "Árvore", "Água", "Promessa", "Sombra", "Travessia", "Paixão", "Fé",
+            "Rebelião", "Máscara", "Tempestade", "Ausência", "Casa", "Lâmpada", "Ponte", "Maré"};
+    private static final String[][] ADJETIVOS = {{"perdido", "perdida"}, {"esquecido", "esquecida"},
+            {"último", "última"}, {"silencioso", "silenciosa"}, {"proibido", "proibida"}, {"eterno", "eterna"},
+            {"sombrio", "sombria"}, {"distante", "distante"}, {"invisível", "invisível"}, {"azul", "azul"},
+            {"inacabado", "inacabada"}, {"fantástico", "fantástica"}, {"mágico", "mágica"}, {"ímpar", "ímpar"}};
+    private static final String[] LUGARES = {"São Paulo", "Belém", "Ouro Preto", "Lisboa", "Maceió", "Florianópolis",
+            "Paraty", "Goiás", "Alcântara", "Manaus", "Olinda", "Porto Alegre", "Salvador", "Cuiabá", "Diamantina",
+            "Itabira", "Macondo", "Pasárgada", "Trás-os-Montes", "Ribeirão Preto"};
+    private static final String[] AREAS = {"Programação em Java", "Estruturas de Dados", "Análise de Algoritmos",
+            "Computação Gráfica", "Física Quântica", "Economia Política", "Gestão de Projetos", "Química Orgânica",
+            "Psicologia Cognitiva", "Ciência de Dados", "Engenharia de Software", "História do Brasil",
+            "Filosofia Política", "Música Popular Brasileira", "Sistemas Distribuídos", "Cálculo Diferencial",
+            "Administração Pública", "Língua Portuguesa", "Direito Constitucional", "Arquitetura de Computadores"};
+    private static final String[] FORMAS_TECNICAS = {"Fundamentos de ", "Manual de ", "Guia prático de ",
+            "Tópicos avançados em ", "Introdução ao estudo de "};
+    private static final String[] FORMAS_HOMENAGEM = {"Memórias de ", "Cartas a ", "Crônicas de ", "Histórias de "};
+    private static final String[] GENEROS = {"romance", "contos", "poemas", "crônicas", "novela", "ensaios"};
+
+    private final long semente;
+    private final double proporcaoCapas;
+    private final int quantidadeEditoras;
+    private final int quantidadeAutores;
+    private final int capasDistintas;
+
+    private final double[] acumuladaEditoras;
+    private final double[] acumuladaAutores;
+    private final double[] acumuladaCapas;
+
+    private final long multiplicadorIsbn;
+    private final long deslocamentoIsbn;
+    private final long multiplicadorNomesSimples;
+    private final long multiplicadorNomesCompostos;
+    private final long deslocamentoAutores;
+
+    private volatile String[] hashesCapas;
+    private volatile Map<String, byte[]> dadosCapas;
+
+    /**
+     * Cria um gerador com os valores padrão (editoras, autores e capas) e a semente informada.
+     *
+     * @param semente Semente dos dados.
+     */
+    public GeradorAcervo(long semente) {
+        this(semente, EDITORAS_PADRAO, AUTORES_PADRAO, PROPORCAO_CAPAS_PADRAO, CAPAS_DISTINTAS_PADRAO);
+    }
+
+    /**
+     * Cria um gerador.
+     *
+     * @param semente            Semente dos dados.
+     * @param quantidadeEditoras Quantidade de editoras distintas.
+     * @param quantidadeAutores  Quantidade de autores distintos.
+     * @param proporcaoCapas     Parcela dos livros com capa (de 0 a 1).
+     * @param capasDistintas     Quantidade de imagens de capa distintas.
+     * @throws IllegalArgumentException Se algum valor estiver fora dos limites.
+     */
+    public GeradorAcervo(long semente, int quantidadeEditoras, int quantidadeAutores, double proporcaoCapas,
+                         int capasDistintas) {
+        int maximoEditoras = EDITORAS.length + FORMAS_EDITORA.length * SOBRENOMES.length * SOBRENOMES.length;
+        int maximoAutores = NOMES_SIMPLES + NOMES_COMPOSTOS * SUFIXOS_AUTOR.length;
+        if (quantidadeEditoras < 1 || quantidadeEditoras > maximoEditoras) {
+            throw new IllegalArgumentException("A quantidade de editoras deve estar entre 1 e " + maximoEditoras + ".");
+        }
+        if (quantidadeAutores < 1 || quantidadeAutores > maximoAutores) {
+            throw new IllegalArgumentException("A quantidade de autores deve estar entre 1 e " + maximoAutores + ".");
+        }
+        if (!(proporcaoCapas >= 0 && proporcaoCapas <= 1)) {
+            throw new IllegalArgumentException("A proporção de capas deve estar entre 0 e 1.");
+        }
+        if (capasDistintas < 1) {
+            throw new IllegalArgumentException("A quantidade de capas distintas deve ser maior que zero.");
+        }
+        this.semente = semente;
+        this.quantidadeEditoras = quantidadeEditoras;
+        this.quantidadeAutores = quantidadeAutores;
+        this.proporcaoCapas = proporcaoCapas;
+        this.capasDistintas = capasDistintas;
+        this.acumuladaEditoras = zipf(quantidadeEditoras, EXPOENTE_EDITORAS);
+        this.acumuladaAutores = zipf(quantidadeAutores, EXPOENTE_AUTORES);
+        this.acumuladaCapas = zipf(capasDistintas, EXPOENTE_CAPAS);
+
+        // Permutações afins (a * i + b mod m, com a primo com m): posições distintas, valores distintos
+        SplittableRandom random = new SplittableRandom(semente);
+        long multiplicador = 1 + 2 * random.nextLong(MODULO_ISBN / 2);
+        this.multiplicadorIsbn = multiplicador % 5 == 0 ? multiplicador + 2 : multiplicador;
+        this.deslocamentoIsbn = random.nextLong(MODULO_ISBN);
+        this.multiplicadorNomesSimples = primoCom(NOMES_SIMPLES, 1 + random.nextInt(NOMES_SIMPLES - 1));
+        this.multiplicadorNomesCompostos = primoCom(NOMES_COMPOSTOS, 1 + random.nextInt(NOMES_COMPOSTOS - 1));
+        this.deslocamentoAutores = random.nextInt(NOMES_SIMPLES);
+    }
+
+    /**
+     * Gera o livro de uma posição do acervo (sem ID: atribuído pelo banco ao gravar).
+     *
+     * @param indice Posição do livro (a partir de 0).
+     * @return O livro.
+     */
+    public Livro gerar(long indice) {
+        SplittableRandom random = new SplittableRandom(misturar(semente ^ misturar(indice + 1)));
+
+        Livro livro = new Livro();
+        livro.setIsbn(isbn(indice));
+        livro.setTitulo(titulo(random));
+        livro.setAutores(autores(random));
+        livro.setEditora(editora(sortear(acumuladaEditoras, random)));
+        // Ano concentrado nas últimas décadas (quadrado de uma variável uniforme)
+        double u = random.nextDouble();
+        livro.setDataPublicacao(String.valueOf(ANO_MAIS_RECENTE - (int) (75 * u * u)));
+        if (random.nextInt(4) == 0) {
+            livro.setLivrosSemelhantes(titulo(random) + ", " + titulo(random));
+        }
+        if (random.nextDouble() < proporcaoCapas) {
+            livro.setCapaHash(hashesCapas()[sortear(acumuladaCapas, random)]);
+        }
+        return livro;
+    }
+
+    /**
+     * @return A semente dos dados.
+     */
+    public long getSemente() {
+        return semente;
+    }
+
+    /**
+     * @return Parcela dos livros com capa.
+     */
+    public double getProporcaoCapas() {
+        return proporcaoCapas;
+    }
+
+    /**
+     * @return Quantidade de editoras distintas.
+     */
+    public int getQuantidadeEditoras() {
+        return quantidadeEditoras;
+    }
+
+    /**
+     * @return Quantidade de autores distintos.
+     */
+    public int getQuantidadeAutores() {
+        return quantidadeAutores;
+    }
+
+    /**
+     * Bytes (JPEG) de uma das capas geradas.
+     *
+     * @param hash O hash da capa, conforme {@link Livro#getCapaHash()} dos livros gerados.
+     * @return Os bytes da imagem, ou null se o hash não for de uma capa deste gerador.
+     */
+    public byte[] dadosCapa(String hash) {
+        hashesCapas();
+        return dadosCapas.get(hash);
+    }
+
+    /**
+     * ISBN-13 da posição: prefixo 978, nove dígitos obtidos por uma permutação da posição
+     * (únicos até 10^9 livros) e o dígito verificador.
+     */
+    String isbn(long indice) {
+        long corpo = (Math.floorMod(indice, MODULO_ISBN) * multiplicadorIsbn + deslocamentoIsbn) % MODULO_ISBN;
+        char[] digitos = new char[13];
+        digitos[0] = '9';
+        digitos[1] = '7';
+        digitos[2] = '8';
+        for (int i = 11; i >= 3; i--) {
+            digitos[i] = (char) ('0' + corpo % 10);
+            corpo /= 10;
+        }
+        int soma = 0;
+        for (int i = 0; i < 12; i++) {
+            soma += (digitos[i] - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        digitos[12] = (char) ('0' + (10 - soma % 10) % 10);
+        return new String(digitos);
+    }
+
+    private String titulo(SplittableRandom random) {
+        boolean feminino = random.nextBoolean();
+        String substantivo = feminino ? escolher(SUBSTANTIVOS_FEMININOS, random) : escolher(SUBSTANTIVOS_MASCULINOS, random);
+        String artigo = feminino ? "A " : "O ";
+        String titulo;
+        switch (random.nextInt(10)) {
+            case 0:
+            case 1:
+                titulo = artigo + substantivo;
+                break;
+            case 2:
+            case 3:
+                titulo = artigo + substantivo + " " + ADJETIVOS[random.nextInt(ADJETIVOS.length)][feminino ? 1 : 0];
+                break;
+            case 4:
+                titulo = artigo + substantivo + " de " + escolher(LUGARES, random);
+                break;
+            case 5:
+                boolean outroFeminino = random.nextBoolean();
+                titulo = artigo + substantivo + " e " + (outroFeminino ? "a " : "o ")
+                        + (outroFeminino ? escolher(SUBSTANTIVOS_FEMININOS, random) : escolher(SUBSTANTIVOS_MASCULINOS, random)).toLowerCase();
+                break;
+            case 6:
+                int forma = random.nextInt(FORMAS_HOMENAGEM.length);
+                titulo = FORMAS_HOMENAGEM[forma] + (forma < 2 ? escolher(PRENOMES, random) : escolher(LUGARES, random));
+                break;
+            case 7:
+                titulo = artigo + substantivo + " " + ADJETIVOS[random.nextInt(ADJETIVOS.length)][feminino ? 1 : 0]
+                        + ": " + escolher(GENEROS, random);
+                break;
+            default:
+                String area = escolher(AREAS, random);
+                titulo = random.nextBoolean() ? escolher(FORMAS_TECNICAS, random) + area : area + ": teoria e prática";
+        }
+        if (random.nextInt(12) == 0) {
+            titulo += " – Volume " + (2 + random.nextInt(4));
+        }
+        return titulo;
+    }
+
+    private String autores(SplittableRandom random) {
+        int sorteio = random.nextInt(100);
+        int quantidade = sorteio < 78 ? 1 : sorteio < 95 ? 2 : 3;
+        int[] escolhidos = new int[quantidade];
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < quantidade; i++) {
+            int autor = sortear(acumuladaAutores, random);
+            // Coautores distintos (exceto se houver poucos autores)
+            for (int tentativa = 0; tentativa < 8 && contem(escolhidos, i, autor); tentativa++) {
+                autor = sortear(acumuladaAutores, random);
+            }
+            escolhidos[i] = autor;
+            if (i > 0) {
+                texto.append(", ");
+            }
+            texto.append(nomeAutor(autor));
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Nome do autor de uma posição da distribuição: as primeiras posições (os autores mais frequentes)
+     * têm nome e sobrenome, as seguintes um sobrenome a mais e, esgotadas as combinações, um sufixo
+     * (Filho, Neto, Júnior). Dentro de cada grupo, as posições são espalhadas por uma permutação,
+     * para que os autores mais frequentes não tenham todos o mesmo prenome.
+     */
+    String nomeAutor(int posicao) {
+        if (posicao < NOMES_SIMPLES) {
+            long codigo = (posicao * multiplicadorNomesSimples + deslocamentoAutores) % NOMES_SIMPLES;
+            return PRENOMES[(int) (codigo % PRENOMES.length)] + " " + SOBRENOMES[(int) (codigo / PRENOMES.length)];
+        }
+        int composto = posicao - NOMES_SIMPLES;
+        long codigo = ((composto % NOMES_COMPOSTOS) * multiplicadorNomesCompostos + deslocamentoAutores) % NOMES_COMPOSTOS;
+        String prenome = PRENOMES[(int) (codigo % PRENOMES.length)];
+        codigo /= PRENOMES.length;
+        int sobrenome = (int) (codigo % SOBRENOMES.length);
+        // Sobrenome do meio diferente do último
+        int meio = (sobrenome + 1 + (int) (codigo / SOBRENOMES.length)) % SOBRENOMES.length;
+        return prenome + " " + SOBRENOMES[meio] + " " + SOBRENOMES[sobrenome] + SUFIXOS_AUTOR[composto / NOMES_COMPOSTOS];
+    }
+
+    /**
+     * Nome da editora de uma posição: as primeiras são editoras conhecidas, as demais são compostas.
+     */
+    String editora(int posicao) {
+        if (posicao < EDITORAS.length) {
+            return EDITORAS[posicao];
+        }
+        int codigo = posicao - EDITORAS.length;
+        String forma = FORMAS_EDITORA[codigo % FORMAS_EDITORA.length];
+        codigo /= FORMAS_EDITORA.length;
+        String nome = SOBRENOMES[codigo % SOBRENOMES.length];
+        codigo /= SOBRENOMES.length;
+        return codigo == 0 ? forma + nome : forma + nome + " & " + SOBRENOMES[codigo % SOBRENOMES.length];
+    }
+
+    /**
+     * Hashes das capas distintas, desenhadas (e codificadas em JPEG) na primeira chamada.
+     */
+    private String[] hashesCapas() {
+        if (hashesCapas == null) {
+            desenharCapas();
+        }
+        return hashesCapas;
+    }
+
+    private synchronized void desenharCapas() {
+        if (hashesCapas == null) {
+            String[] hashes = new String[capasDistintas];
+            Map<String, byte[]> dados = new HashMap<>();
+            for (int i = 0; i < capasDistintas; i++) {
+                byte[] imagem = desenharCapa(i);
+                hashes[i] = CapaService.calcularHash(imagem);
+                dados.put(hashes[i], imagem);
+            }
+            dadosCapas = dados;
+            hashesCapas = hashes;
+        }
+    }
+
+    /**
+     * Desenha uma capa abstrata (fundo em degradê e formas geométricas), sem texto, para não
+     * depender das fontes instaladas.
+     */
+    private byte[] desenharCapa(int indice) {
+        SplittableRandom random = new SplittableRandom(misturar(semente + misturar(-1 - indice)));
+        BufferedImage imagem = new BufferedImage(LARGURA_CAPA, ALTURA_CAPA, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = imagem.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            Color inicio = Color.getHSBColor(random.nextInt(360) / 360f, 0.55f, 0.85f);
+            Color fim = Color.getHSBColor(random.nextInt(360) / 360f, 0.7f, 0.35f);
+            g.setPaint(new GradientPaint(0, 0, inicio, 0, ALTURA_CAPA, fim));
+            g.fillRect(0, 0, LARGURA_CAPA, ALTURA_CAPA);
+            int formas = 3 + random.nextInt(5);
+            for (int i = 0; i < formas; i++) {
+                g.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), 90 + random.nextInt(120)));
+                int x = random.nextInt(LARGURA_CAPA);
+                int y = random.nextInt(ALTURA_CAPA);
+                int tamanho = 40 + random.nextInt(160);
+                if (random.nextBoolean()) {
+                    g.fillOval(x - tamanho / 2, y - tamanho / 2, tamanho, tamanho);
+                } else {
+                    g.fillRect(x - tamanho / 2, y - tamanho / 4, tamanho, tamanho / 2);
+                }
+            }
+            g.setColor(new Color(255, 255, 255, 200));
+            g.fillRect(24, 60, LARGURA_CAPA - 48, 6);
+            g.fillRect(24, ALTURA_CAPA - 90, (LARGURA_CAPA - 48) / 2, 4);
+        } finally {
+            g.dispose();
+        }
+        return codificarJpeg(imagem);
+    }
+
+    private static byte[] codificarJpeg(BufferedImage imagem) {
+        ImageWriter escritor = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (ImageOutputStream fluxo = ImageIO.createImageOutputStream(saida)) {
+            escritor.setOutput(fluxo);
+            ImageWriteParam parametros = escritor.getDefaultWriteParam();
+            parametros.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parametros.setCompressionQuality(0.85f);
+            escritor.write(null, new IIOImage(imagem, null, null), parametros);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            escritor.dispose();
+        }
+        return saida.toByteArray();
+    }
+
+    /**
+     * Distribuição acumulada de Zipf (probabilidade da posição k proporcional a 1 / (k + 1)^expoente).
+     */
+    private static double[] zipf(int tamanho, double expoente) {
+        double[] acumulada = new double[tamanho];
+        double soma = 0;
+        for (int k = 0; k < tamanho; k++) {
+            soma += 1 / Math.pow(k + 1, expoente);
+            acumulada[k] = soma;
+        }
+        for (int k = 0; k < tamanho; k++) {
+            acumulada[k] /= soma;
+        }
+        return acumulada;
+    }
+
+    private static int sortear(double[] acumulada, SplittableRandom random) {
+        int posicao = Arrays.binarySearch(acumulada, random.nextDouble());
+        return Math.min(posicao >= 0 ? posicao : -posicao - 1, acumulada.length - 1);
+    }
+
+    private static String escolher(String[] valores, SplittableRandom random) {
+        return valores[random.nextInt(valores.length)];
+    }
+
+    private static boolean contem(int[] valores, int quantidade, int valor) {
+        for (int i = 0; i < quantidade; i++) {
+            if (valores[i] == valor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Menor valor a partir de {@code inicio} sem divisores comuns com {@code modulo}.
+     */
+    private static long primoCom(long modulo, long inicio) {
+        long valor = inicio;
+        while (mdc(valor, modulo) != 1) {
+            valor++;
+        }
+        return valor;
+    }
+
+    private static long mdc(long a, long b) {
+        return b == 0 ? a : mdc(b, a % b);
+    }
+
+    /**
+     * Função de mistura do SplitMix64: sementes próximas resultam em sequências independentes.
+     */
+    private static long misturar(long valor) {
+        long z = valor * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
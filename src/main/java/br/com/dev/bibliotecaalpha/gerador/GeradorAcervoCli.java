@@ -0,0 +1,129 @@
+package br.com.dev.bibliotecaalpha.gerador;
+
+import br.com.dev.bibliotecaalpha.BibliotecaAlphaApplication;
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.service.GeracaoAcervoService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Linha de comando do gerador de acervo sintético.
+ * <p>
+ * Executada pelo comando {@value #COMANDO} da aplicação, por exemplo:
+ * <pre>
+ * java -jar biblioteca-alpha.jar gerar-acervo --quantidade=1000000 --formato=banco --semente=7
+ * java -jar biblioteca-alpha.jar gerar-acervo --quantidade=1000000 --inicio=1000000 --formato=banco --semente=7
+ * java -jar biblioteca-alpha.jar gerar-acervo --quantidade=50000 --formato=csv --saida=acervo.csv
+ * </pre>
+ * Os formatos {@code csv} e {@code jsonl} não acessam o banco. No formato {@code banco}, o contexto
+ * do Spring é iniciado sem interface gráfica e as demais opções ({@code --spring.datasource.url=...})
+ * são repassadas a ele.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class GeradorAcervoCli {
+
+    /**
+     * Primeiro argumento da aplicação que executa o gerador no lugar da interface gráfica.
+     */
+    public static final String COMANDO = "gerar-acervo";
+
+    private static final String USO = "Uso: " + COMANDO + " [opções]\n"
+            + "  --quantidade=N          Quantidade de livros (padrão: 100000)\n"
+            + "  --inicio=N              Posição do primeiro livro, para ampliar um acervo já gerado (padrão: 0)\n"
+            + "  --formato=F             csv, jsonl ou banco (padrão: csv)\n"
+            + "  --saida=ARQUIVO         Arquivo gerado nos formatos csv e jsonl (padrão: acervo-N.csv/.jsonl)\n"
+            + "  --semente=S             Semente dos dados (padrão: " + GeradorAcervo.SEMENTE_PADRAO + ")\n"
+            + "  --editoras=N            Editoras distintas (padrão: " + GeradorAcervo.EDITORAS_PADRAO + ")\n"
+            + "  --autores=N             Autores distintos (padrão: " + GeradorAcervo.AUTORES_PADRAO + ")\n"
+            + "  --proporcao-capas=P     Parcela dos livros com capa, de 0 a 1 (padrão: " + GeradorAcervo.PROPORCAO_CAPAS_PADRAO + ")\n"
+            + "  --capas-distintas=N     Imagens de capa distintas (padrão: " + GeradorAcervo.CAPAS_DISTINTAS_PADRAO + ")";
+
+    private GeradorAcervoCli() {
+    }
+
+    /**
+     * Executa o gerador e encerra a JVM (código 0 em caso de sucesso).
+     *
+     * @param args Opções do gerador (sem o comando).
+     */
+    public static void main(String[] args) {
+        System.exit(executar(args));
+    }
+
+    /**
+     * Executa o gerador.
+     *
+     * @param args Opções do gerador (sem o comando).
+     * @return Código de saída: 0 em caso de sucesso, 1 em caso de falha, 2 para opções inválidas.
+     */
+    static int executar(String[] args) {
+        DefaultApplicationArguments argumentos = new DefaultApplicationArguments(args);
+        if (argumentos.containsOption("ajuda")) {
+            System.out.println(USO);
+            return 0;
+        }
+
+        GeradorAcervo gerador;
+        long inicio;
+        long quantidade;
+        String formato;
+        try {
+            quantidade = Long.parseLong(opcao(argumentos, "quantidade", "100000"));
+            inicio = Long.parseLong(opcao(argumentos, "inicio", "0"));
+            formato = opcao(argumentos, "formato", "csv").toLowerCase(Locale.ROOT);
+            if (quantidade < 0 || inicio < 0 || !(formato.equals("csv") || formato.equals("jsonl") || formato.equals("banco"))) {
+                throw new IllegalArgumentException("Quantidade, início ou formato inválido.");
+            }
+            gerador = new GeradorAcervo(
+                    Long.parseLong(opcao(argumentos, "semente", String.valueOf(GeradorAcervo.SEMENTE_PADRAO))),
+                    Integer.parseInt(opcao(argumentos, "editoras", String.valueOf(GeradorAcervo.EDITORAS_PADRAO))),
+                    Integer.parseInt(opcao(argumentos, "autores", String.valueOf(GeradorAcervo.AUTORES_PADRAO))),
+                    Double.parseDouble(opcao(argumentos, "proporcao-capas", String.valueOf(GeradorAcervo.PROPORCAO_CAPAS_PADRAO))),
+                    Integer.parseInt(opcao(argumentos, "capas-distintas", String.valueOf(GeradorAcervo.CAPAS_DISTINTAS_PADRAO))));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Opções inválidas: " + e.getMessage());
+            System.err.println(USO);
+            return 2;
+        }
+
+        try {
+            if (formato.equals("banco")) {
+                try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BibliotecaAlphaApplication.class)
+                        .headless(true)
+                        .web(WebApplicationType.NONE)
+                        .bannerMode(Banner.Mode.OFF)
+                        // A escuta de notificações só interessa à interface gráfica
+                        .properties("biblioteca.notificacao.ativa=false")
+                        .run(args)) {
+                    context.getBean(GeracaoAcervoService.class).carregarNoBanco(gerador, inicio, quantidade);
+                }
+            } else {
+                GeracaoAcervoService.Formato formatoArquivo = formato.equals("csv")
+                        ? GeracaoAcervoService.Formato.CSV : GeracaoAcervoService.Formato.JSONL;
+                Path saida = Paths.get(opcao(argumentos, "saida", "acervo-" + quantidade + "." + formato));
+                // A gravação em arquivo não usa as dependências do serviço: dispensa o contexto do Spring
+                new GeracaoAcervoService().gravarArquivo(gerador, inicio, quantidade, saida, formatoArquivo);
+            }
+            return 0;
+        } catch (ServiceException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    private static String opcao(DefaultApplicationArguments argumentos, String nome, String padrao) {
+        List<String> valores = argumentos.getOptionValues(nome);
+        return valores == null || valores.isEmpty() ? padrao : valores.get(valores.size() - 1);
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.awt.event.ActionListener;
+
+/**
+ * Evento do JDK Flight Recorder: uma ação da interface executada na thread de eventos (EDT).
+ * <p>
+ * Ações longas aparecem como eventos longos na thread {@code AWT-EventQueue}, ao lado das
+ * alocações e bloqueios que as causaram.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Name("br.com.dev.bibliotecaalpha.AcaoInterface")
+@Label("Ação da interface")
+@Category({"Biblioteca Alpha", "Interface"})
+@Description("Ação de tela (botão, atalho ou temporizador) executada na thread de eventos do Swing")
+public class EventoAcaoInterface extends Event {
+
+    @Label("Tela")
+    String tela;
+
+    @Label("Ação")
+    String acao;
+
+    /**
+     * Envolve um ActionListener para registrar cada execução como evento (e informar a ação
+     * ao {@link VigiaEdt}, que a associa aos travamentos da interface).
+     *
+     * @param tela     Nome da tela.
+     * @param acao     Nome da ação.
+     * @param listener A ação original.
+     * @return A ação medida.
+     */
+    public static ActionListener medir(String tela, String acao, ActionListener listener) {
+        String nome = tela + "." + acao;
+        return e -> {
+            String anterior = VigiaEdt.registrarAcao(nome);
+            EventoAcaoInterface evento = new EventoAcaoInterface();
+            evento.begin();
+            try {
+                listener.actionPerformed(e);
+            } finally {
+                VigiaEdt.registrarAcao(anterior);
+                evento.end();
+                if (evento.shouldCommit()) {
+                    evento.tela = tela;
+                    evento.acao = acao;
+                    evento.commit();
+                }
+            }
+        };
+    }
+
+    /**
+     * Inicializa o JFR fora da EDT. O primeiro evento criado na JVM carrega os metadados do
+     * Flight Recorder (centenas de milissegundos), o que travaria a primeira ação da interface.
+     */
+    public static void preparar() {
+        new EventoAcaoInterface().shouldCommit();
+    }
+}
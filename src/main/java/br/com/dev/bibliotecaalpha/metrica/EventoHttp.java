@@ -0,0 +1,55 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento do JDK Flight Recorder: uma requisição HTTP à Open Library.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Name("br.com.dev.bibliotecaalpha.Http")
+@Label("Requisição HTTP")
+@Category({"Biblioteca Alpha", "HTTP"})
+@Description("Requisição à Open Library, com o tipo de recurso, o status e o tamanho da resposta")
+public class EventoHttp extends Event {
+
+    /**
+     * Tipo de recurso dos metadados do livro (api/books).
+     */
+    public static final String RECURSO_LIVRO = "livro";
+
+    /**
+     * Tipo de recurso da imagem da capa (covers).
+     */
+    public static final String RECURSO_CAPA = "capa";
+
+    @Label("Recurso")
+    @Description("Tipo de URL consultada (livro ou capa), sem o ISBN")
+    String recurso;
+
+    @Label("Status")
+    @Description("Código de status HTTP (-1 se a requisição falhou antes da resposta)")
+    int status = -1;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    public void setRecurso(String recurso) {
+        this.recurso = recurso;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento do JDK Flight Recorder: um lote de linhas de uma importação ou exportação de CSV.
+ * <p>
+ * Uso: {@link #iniciar(String, String, long)} no início do lote e {@link #concluir(long)} ao final;
+ * o lote seguinte é iniciado com um novo evento.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Name("br.com.dev.bibliotecaalpha.Lote")
+@Label("Lote de importação/exportação")
+@Category({"Biblioteca Alpha", "Arquivos"})
+@Description("Lote de linhas lidas (importação) ou gravadas (exportação) em um arquivo CSV")
+public class EventoLote extends Event {
+
+    /**
+     * Linhas por lote das importações e exportações.
+     */
+    public static final int TAMANHO = 1000;
+
+    @Label("Operação")
+    @Description("importacao ou exportacao")
+    String operacao;
+
+    @Label("Arquivo")
+    String arquivo;
+
+    @Label("Primeira linha")
+    long primeiraLinha;
+
+    @Label("Linhas")
+    long linhas;
+
+    /**
+     * Cria e inicia o evento de um lote.
+     *
+     * @param operacao      importacao ou exportacao.
+     * @param arquivo       Nome do arquivo.
+     * @param primeiraLinha Posição (a partir de 0) da primeira linha do lote.
+     * @return O evento iniciado.
+     */
+    public static EventoLote iniciar(String operacao, String arquivo, long primeiraLinha) {
+        EventoLote evento = new EventoLote();
+        evento.operacao = operacao;
+        evento.arquivo = arquivo;
+        evento.primeiraLinha = primeiraLinha;
+        evento.begin();
+        return evento;
+    }
+
+    /**
+     * Encerra o lote e o registra, se houver gravação em andamento.
+     *
+     * @param linhas Linhas processadas no lote.
+     */
+    public void concluir(long linhas) {
+        this.linhas = linhas;
+        commit();
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento do JDK Flight Recorder: uma chamada a um repositório (consulta ou gravação no banco).
+ * <p>
+ * A duração, a thread e a pilha de chamadas são registradas pelo próprio JFR, o que permite
+ * relacionar o evento com os de alocação, bloqueio e E/S da mesma thread.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Name("br.com.dev.bibliotecaalpha.Repositorio")
+@Label("Chamada ao repositório")
+@Category({"Biblioteca Alpha", "Banco de Dados"})
+@Description("Consulta ou gravação por um repositório, com a quantidade de linhas retornadas")
+public class EventoRepositorio extends Event {
+
+    @Label("Consulta")
+    @Description("Repositório e método (ex: LivroRepository.findByIsbn)")
+    String consulta;
+
+    @Label("Linhas")
+    @Description("Linhas retornadas (-1 se desconhecido, ex: stream)")
+    long linhas;
+
+    @Label("Sucesso")
+    boolean sucesso;
+
+    @Label("Exceção")
+    String excecao;
+}
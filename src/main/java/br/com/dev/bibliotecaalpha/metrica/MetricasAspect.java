@@ -0,0 +1,68 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import br.com.dev.bibliotecaalpha.service.MetricasService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Mede o tempo e os erros de cada método público das fachadas e do {@code OpenLibraryService}.
+ * <p>
+ * Cada chamada registra o timer {@value MetricasService#OPERACAO} com as tags {@code componente}
+ * (classe), {@code metodo} e {@code resultado} ({@code sucesso} ou {@code erro}); as exceções também
+ * incrementam o contador {@value MetricasService#OPERACAO_ERROS}, com a tag {@code excecao}. A
+ * exceção é relançada sem alteração. Nos métodos que retornam {@link CompletableFuture}, a medição
+ * termina na conclusão do futuro.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Aspect
+@Component
+public class MetricasAspect {
+
+    @Autowired
+    private MeterRegistry registro;
+
+    @Around("execution(public * br.com.dev.bibliotecaalpha.facade.LivroFacade.*(..))"
+            + " || execution(public * br.com.dev.bibliotecaalpha.facade.ImportacaoFacade.*(..))"
+            + " || execution(public * br.com.dev.bibliotecaalpha.facade.ExportacaoFacade.*(..))"
+            + " || execution(public * br.com.dev.bibliotecaalpha.service.OpenLibraryService.*(..))")
+    public Object medir(ProceedingJoinPoint ponto) throws Throwable {
+        String componente = ponto.getSignature().getDeclaringType().getSimpleName();
+        String metodo = ponto.getSignature().getName();
+        Timer.Sample amostra = Timer.start(registro);
+        Object retorno;
+        try {
+            retorno = ponto.proceed();
+        } catch (Throwable e) {
+            registrar(amostra, componente, metodo, e);
+            throw e;
+        }
+        if (retorno instanceof CompletableFuture) {
+            // Variantes assíncronas: o tempo vai até a conclusão do futuro, não apenas até o envio da tarefa
+            ((CompletableFuture<?>) retorno).whenComplete((resultado, e) -> registrar(amostra, componente, metodo,
+                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e));
+        } else {
+            registrar(amostra, componente, metodo, null);
+        }
+        return retorno;
+    }
+
+    private void registrar(Timer.Sample amostra, String componente, String metodo, Throwable erro) {
+        if (erro != null) {
+            registro.counter(MetricasService.OPERACAO_ERROS,
+                    "componente", componente, "metodo", metodo, "excecao", erro.getClass().getSimpleName()).increment();
+        }
+        amostra.stop(registro.timer(MetricasService.OPERACAO,
+                "componente", componente, "metodo", metodo, "resultado", erro == null ? "sucesso" : "erro"));
+    }
+}
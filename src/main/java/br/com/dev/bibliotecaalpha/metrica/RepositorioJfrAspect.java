@@ -0,0 +1,98 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.BaseStream;
+
+/**
+ * Registra cada chamada aos repositórios do Spring Data como {@link EventoRepositorio} do JFR.
+ * <p>
+ * Sem gravação em andamento, o custo é o de criar o evento: os campos só são preenchidos
+ * quando o JFR vai de fato registrá-lo.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Aspect
+@Component
+public class RepositorioJfrAspect {
+
+    private static final String PACOTE_REPOSITORIOS = "br.com.dev.bibliotecaalpha.repository.";
+
+    /**
+     * Nome do repositório da aplicação por classe de proxy (ex: LivroRepository).
+     */
+    private final Map<Class<?>, String> nomes = new ConcurrentHashMap<>();
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object registrar(ProceedingJoinPoint ponto) throws Throwable {
+        EventoRepositorio evento = new EventoRepositorio();
+        evento.begin();
+        try {
+            Object retorno = ponto.proceed();
+            if (evento.shouldCommit()) {
+                evento.sucesso = true;
+                evento.linhas = contarLinhas(retorno);
+            }
+            return retorno;
+        } catch (Throwable e) {
+            evento.excecao = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                evento.consulta = nomeRepositorio(ponto.getThis()) + "." + ponto.getSignature().getName();
+                evento.commit();
+            }
+        }
+    }
+
+    /**
+     * Interface da aplicação implementada pelo proxy do repositório (o método pode ter sido
+     * declarado em uma interface do Spring Data, como CrudRepository).
+     */
+    private String nomeRepositorio(Object proxy) {
+        if (proxy == null) {
+            return "?";
+        }
+        return nomes.computeIfAbsent(proxy.getClass(), classe -> {
+            for (Class<?> interfaceRepositorio : ClassUtils.getAllInterfacesForClassAsSet(classe)) {
+                if (interfaceRepositorio.getName().startsWith(PACOTE_REPOSITORIOS)
+                        && !interfaceRepositorio.getSimpleName().endsWith("Custom")) {
+                    return interfaceRepositorio.getSimpleName();
+                }
+            }
+            return classe.getSimpleName();
+        });
+    }
+
+    static long contarLinhas(Object retorno) {
+        if (retorno == null) {
+            return 0;
+        }
+        if (retorno instanceof Collection) {
+            return ((Collection<?>) retorno).size();
+        }
+        if (retorno instanceof Slice) {
+            return ((Slice<?>) retorno).getNumberOfElements();
+        }
+        if (retorno instanceof Optional) {
+            return ((Optional<?>) retorno).isPresent() ? 1 : 0;
+        }
+        if (retorno instanceof Iterable || retorno instanceof BaseStream) {
+            return -1;
+        }
+        return retorno.getClass().isArray() ? Array.getLength(retorno) : 1;
+    }
+}
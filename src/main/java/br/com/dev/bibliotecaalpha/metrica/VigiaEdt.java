@@ -0,0 +1,191 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.awt.EventQueue;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Vigia da thread de eventos do Swing (EDT): detecta travamentos da interface.
+ * <p>
+ * A cada {@code biblioteca.edt.vigia.intervalo-ms}, uma thread em segundo plano envia um batimento
+ * à fila de eventos. Se a EDT não o processar em {@code biblioteca.edt.vigia.limite-ms}, a pilha da
+ * EDT é capturada naquele instante (o código que está travando a interface) e registrada no log
+ * imediatamente, com a ação que o causou, mesmo que a EDT nunca volte a responder. Enquanto o
+ * travamento durar, a pilha é registrada novamente a cada {@value #AVISO_TRAVAMENTO_MS} ms. Quando
+ * a EDT volta a responder, a duração final é registrada no log e no timer {@value #TRAVAMENTOS}
+ * (tag {@code acao}), cuja soma por ação ordena os travamentos mais sentidos pelos usuários.
+ * </p>
+ * <p>
+ * A ação é a informada por {@link #registrarAcao(String)} (ações medidas por
+ * {@link EventoAcaoInterface}) ou, nas demais telas, o primeiro método de tela na pilha capturada.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Component
+public class VigiaEdt {
+
+    private static final Logger log = LoggerFactory.getLogger(VigiaEdt.class);
+
+    /**
+     * Duração dos travamentos da EDT (tag: acao).
+     */
+    public static final String TRAVAMENTOS = "biblioteca.edt.travamentos";
+
+    private static final String PACOTE_TELAS = "br.com.dev.bibliotecaalpha.view.";
+
+    /**
+     * Intervalo entre os avisos de um travamento que continua.
+     */
+    static final long AVISO_TRAVAMENTO_MS = 5000;
+
+    /**
+     * Ação em execução na EDT (escrita pela EDT, lida pela thread do vigia).
+     */
+    private static volatile String acaoAtual;
+
+    @Autowired
+    private MeterRegistry registro;
+
+    @Value("${biblioteca.edt.vigia.ativa:true}")
+    private boolean ativa;
+
+    @Value("${biblioteca.edt.vigia.limite-ms:300}")
+    private long limiteMs;
+
+    @Value("${biblioteca.edt.vigia.intervalo-ms:100}")
+    private long intervaloMs;
+
+    private volatile Thread vigia;
+    private volatile Thread threadEdt;
+
+    /**
+     * Informa a ação que passa a executar na EDT.
+     *
+     * @param acao Nome da ação (ex: TelaListagem.importarCsv), ou null ao terminar.
+     * @return A ação anterior, para restaurar ao final (ações aninhadas).
+     */
+    public static String registrarAcao(String acao) {
+        String anterior = acaoAtual;
+        acaoAtual = acao;
+        return anterior;
+    }
+
+    /**
+     * Inicia o vigia (sem efeito se já estiver em execução ou se estiver desativado).
+     */
+    public synchronized void iniciar() {
+        if (!ativa || vigia != null) {
+            return;
+        }
+        // A pilha do primeiro travamento só pode ser capturada se a EDT já for conhecida
+        if (EventQueue.isDispatchThread()) {
+            threadEdt = Thread.currentThread();
+        } else {
+            try {
+                EventQueue.invokeAndWait(() -> threadEdt = Thread.currentThread());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (InvocationTargetException e) {
+                log.warn("Não foi possível identificar a EDT: {}", e.getCause().getMessage());
+            }
+        }
+        vigia = new Thread(this::vigiar, "vigia-edt");
+        vigia.setDaemon(true);
+        vigia.start();
+        log.info("Vigia da EDT iniciado (limite de {} ms).", limiteMs);
+    }
+
+    /**
+     * Interrompe o vigia.
+     */
+    @PreDestroy
+    public synchronized void parar() {
+        if (vigia != null) {
+            vigia.interrupt();
+            vigia = null;
+        }
+    }
+
+    private void vigiar() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                CountDownLatch batimento = new CountDownLatch(1);
+                AtomicLong processadoEm = new AtomicLong();
+                long enviadoEm = System.nanoTime();
+                EventQueue.invokeLater(() -> {
+                    // A EDT é recriada após uma exceção não tratada
+                    threadEdt = Thread.currentThread();
+                    processadoEm.set(System.nanoTime());
+                    batimento.countDown();
+                });
+
+                if (!batimento.await(limiteMs, TimeUnit.MILLISECONDS)) {
+                    StackTraceElement[] pilha = pilhaEdt();
+                    String acao = acaoAtual != null ? acaoAtual : acaoDaPilha(pilha);
+                    log.warn("Interface travada há mais de {} ms na ação {}. Pilha da EDT:{}", limiteMs, acao, formatar(pilha));
+
+                    while (!batimento.await(AVISO_TRAVAMENTO_MS, TimeUnit.MILLISECONDS)) {
+                        log.warn("Interface continua travada há {} ms na ação {}. Pilha da EDT:{}",
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enviadoEm), acao, formatar(pilhaEdt()));
+                    }
+                    registrarTravamento(acao, processadoEm.get() - enviadoEm);
+                }
+                Thread.sleep(intervaloMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private StackTraceElement[] pilhaEdt() {
+        Thread edt = threadEdt;
+        return edt != null ? edt.getStackTrace() : new StackTraceElement[0];
+    }
+
+    private void registrarTravamento(String acao, long duracaoNanos) {
+        Timer.builder(TRAVAMENTOS)
+                .tag("acao", acao)
+                .register(registro)
+                .record(duracaoNanos, TimeUnit.NANOSECONDS);
+
+        log.warn("Interface voltou a responder após travar por {} ms na ação {}.",
+                TimeUnit.NANOSECONDS.toMillis(duracaoNanos), acao);
+    }
+
+    private static String formatar(StackTraceElement[] pilha) {
+        StringBuilder texto = new StringBuilder();
+        for (StackTraceElement elemento : pilha) {
+            texto.append(System.lineSeparator()).append("\tat ").append(elemento);
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Primeiro método de tela chamado pela EDT (o tratador do evento), ou "desconhecida".
+     */
+    static String acaoDaPilha(StackTraceElement[] pilha) {
+        for (int i = pilha.length - 1; i >= 0; i--) {
+            String classe = pilha[i].getClassName();
+            if (classe.startsWith(PACOTE_TELAS)) {
+                String simples = classe.substring(PACOTE_TELAS.length());
+                int interna = simples.indexOf('$');
+                return (interna >= 0 ? simples.substring(0, interna) : simples) + "." + pilha[i].getMethodName();
+            }
+        }
+        return "desconhecida";
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.dev.bibliotecaalpha.model;
+
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * Representa uma imagem de capa armazenada uma única vez, endereçada pelo seu conteúdo.
+ * <p>
+ * Esta classe é mapeada para a tabela 'capa'. A chave primária é o hash SHA-256 dos bytes
+ * da imagem, de forma que edições diferentes que compartilham a mesma capa (reimpressões,
+ * box sets, capas genéricas da OpenLibrary) referenciam o mesmo registro. O campo
+ * {@code referencias} contabiliza quantos livros apontam para a capa.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Entity
+@Table(name = "capa")
+public class Capa implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Hash SHA-256 (hexadecimal) do conteúdo da imagem.
+     */
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    /**
+     * Bytes da imagem (BLOB).
+     */
+    @Lob
+    @Type(type = "org.hibernate.type.BinaryType")
+    @Column(name = "dados")
+    private byte[] dados;
+
+    /**
+     * Tamanho da imagem em bytes.
+     */
+    @Column(name = "tamanho", nullable = false)
+    private int tamanho;
+
+    /**
+     * Quantidade de livros que referenciam esta capa.
+     */
+    @Column(name = "referencias", nullable = false)
+    private int referencias;
+
+    /**
+     * Construtor padrão necessário para o JPA.
+     */
+    public Capa() {
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public byte[] getDados() {
+        return dados;
+    }
+
+    public void setDados(byte[] dados) {
+        this.dados = dados;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(int tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public int getReferencias() {
+        return referencias;
+    }
+
+    public void setReferencias(int referencias) {
+        this.referencias = referencias;
+    }
+
+    @Override
+    public String toString() {
+        return "Capa [hash=" + hash + ", tamanho=" + tamanho + ", referencias=" + referencias + "]";
+    }
+}
@@ -1,11 +1,17 @@
 package br.com.dev.bibliotecaalpha.model;
 
-import org.hibernate.annotations.Type;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
+import org.hibernate.annotations.GenerationTime;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 
 /**
  * Representa a entidade Livro no sistema da biblioteca.
@@ -13,12 +19,19 @@ import java.io.Serializable;
  * Esta classe é mapeada para a tabela 'livro' no banco de dados e contém
  * todas as validações de integridade dos dados (JPA e Bean Validation).
  * </p>
+ * <p>
+ * Quando o cache de segundo nível do Hibernate está ativado, a entidade participa dele
+ * tanto pelo ID quanto pelo ISBN (identificador natural), evitando idas ao banco em buscas repetidas.
+ * </p>
  *
  * @author Luccas Cabrini
  * @version 1.0
  */
 @Entity
 @Table(name = "livro")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 public class Livro implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -51,8 +64,10 @@ public class Livro implements Serializable {
 
     /**
      * Código ISBN (International Standard Book Number).
-     * Deve ser único no banco de dados.
+     * Deve ser único no banco de dados. É o identificador natural do livro
+     * (mutável, pois pode ser corrigido na tela de edição).
      */
+    @NaturalId(mutable = true)
     @NotBlank(message = "O ISBN é obrigatório.")
     @Size(max = 20, message = "O ISBN deve ter no máximo 20 caracteres.")
     @Column(name = "isbn", unique = true, nullable = false)
@@ -72,11 +87,36 @@ public class Livro implements Serializable {
     private String livrosSemelhantes;
 
     /**
-     * Imagem da capa do livro armazenada em formato binário (BLOB).
+     * Hash SHA-256 da capa do livro, referenciando a tabela 'capa'.
+     * Livros com a mesma imagem compartilham o mesmo registro de capa.
+     */
+    @Column(name = "capa_hash", length = 64)
+    private String capaHash;
+
+    /**
+     * Versão do registro, incrementada a cada alteração (controle de concorrência otimista).
+     */
+    @Version
+    @Column(name = "versao", nullable = false, columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+    private Long versao;
+
+    /**
+     * Data e hora da última alteração do registro.
+     * É definida pelo relógio do banco (gatilho da migração V5), e não pelo da estação
+     * que fez a alteração, e relida pelo Hibernate após cada inserção ou atualização.
+     * A atualização incremental da listagem não usa este instante, e sim o ID da transação
+     * que fez a alteração (coluna {@code transacao_alteracao}, migração V7).
+     */
+    @Generated(GenerationTime.ALWAYS)
+    @Column(name = "atualizado_em", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL")
+    private LocalDateTime atualizadoEm;
+
+    /**
+     * Bytes da imagem da capa. Não é persistido na tabela 'livro': é carregado a partir
+     * da capa referenciada por {@link #capaHash} e gravado por meio do serviço de capas.
      */
-    @Lob
-    @Type(type = "org.hibernate.type.BinaryType")
-    @Column(name = "capa_imagem")
+    @Transient
     private byte[] capaImagem;
 
     /**
@@ -152,6 +192,14 @@ public class Livro implements Serializable {
         this.livrosSemelhantes = livrosSemelhantes;
     }
 
+    public String getCapaHash() {
+        return capaHash;
+    }
+
+    public void setCapaHash(String capaHash) {
+        this.capaHash = capaHash;
+    }
+
     public byte[] getCapaImagem() {
         return capaImagem;
     }
@@ -160,6 +208,22 @@ public class Livro implements Serializable {
         this.capaImagem = capaImagem;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+
     @Override
     public String toString() {
         return "Livro [id=" + id + ", titulo=" + titulo + ", isbn=" + isbn + "]";
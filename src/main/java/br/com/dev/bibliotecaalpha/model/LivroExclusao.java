@@ -0,0 +1,63 @@
+package br.com.dev.bibliotecaalpha.model;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Registro ("lápide") da exclusão de um livro.
+ * <p>
+ * Esta classe é mapeada para a tabela 'livro_exclusao'. Como o livro excluído deixa de existir
+ * na tabela 'livro', este registro permite que as telas que mantêm a listagem em memória
+ * descubram quais linhas devem ser removidas desde a última atualização.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Entity
+@Table(name = "livro_exclusao")
+public class LivroExclusao implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * ID do livro excluído.
+     */
+    @Id
+    @Column(name = "livro_id")
+    private Long livroId;
+
+    /**
+     * Data e hora da exclusão, definida pelo relógio do banco (gatilho da migração V5).
+     */
+    @Column(name = "excluido_em", nullable = false, insertable = false, updatable = false)
+    private LocalDateTime excluidoEm;
+
+    /**
+     * Construtor padrão necessário para o JPA.
+     */
+    public LivroExclusao() {
+    }
+
+    public Long getLivroId() {
+        return livroId;
+    }
+
+    public void setLivroId(Long livroId) {
+        this.livroId = livroId;
+    }
+
+    public LocalDateTime getExcluidoEm() {
+        return excluidoEm;
+    }
+
+    public void setExcluidoEm(LocalDateTime excluidoEm) {
+        this.excluidoEm = excluidoEm;
+    }
+
+    @Override
+    public String toString() {
+        return "LivroExclusao [livroId=" + livroId + ", excluidoEm=" + excluidoEm + "]";
+    }
+}
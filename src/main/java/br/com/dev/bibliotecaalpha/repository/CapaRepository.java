@@ -0,0 +1,170 @@
+package br.com.dev.bibliotecaalpha.repository;
+
+import br.com.dev.bibliotecaalpha.model.Capa;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Interface de repositório para acesso às capas endereçadas por conteúdo ({@link Capa}).
+ * <p>
+ * As operações de contagem de referências são feitas diretamente no banco,
+ * para que cadastros concorrentes da mesma capa não percam incrementos.
+ * Os comandos SQL nativos declaram que afetam apenas a tabela 'capa'; sem essa
+ * indicação, o Hibernate descartaria todo o cache de segundo nível a cada execução.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Repository
+public interface CapaRepository extends JpaRepository<Capa, String> {
+
+    /**
+     * Dica do Hibernate que informa as tabelas afetadas por um comando SQL nativo.
+     */
+    String ESPACOS_NATIVOS = "org.hibernate.query.native.spaces";
+
+    /**
+     * Incrementa o contador de referências de uma capa já existente.
+     *
+     * @param hash O hash da capa.
+     * @return Quantidade de linhas afetadas (0 se a capa ainda não existir).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "UPDATE capa SET referencias = referencias + 1 WHERE hash = :hash", nativeQuery = true)
+    int incrementarReferencias(@Param("hash") String hash);
+
+    /**
+     * Insere o registro de uma nova capa com uma referência. Caso outra transação tenha
+     * inserido a mesma capa no meio tempo, apenas incrementa o contador.
+     * Os bytes são gravados separadamente pelo {@code CapaStorage} ativo.
+     *
+     * @param hash    O hash da capa.
+     * @param tamanho O tamanho da imagem em bytes.
+     * @return Quantidade de linhas afetadas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "INSERT INTO capa (hash, tamanho, referencias) VALUES (:hash, :tamanho, 1) "
+            + "ON CONFLICT (hash) DO UPDATE SET referencias = capa.referencias + 1", nativeQuery = true)
+    int inserirOuIncrementar(@Param("hash") String hash, @Param("tamanho") int tamanho);
+
+    /**
+     * Insere o registro de uma capa com a quantidade de referências informada,
+     * ou soma essa quantidade caso a capa já exista.
+     *
+     * @param hash        O hash da capa.
+     * @param tamanho     O tamanho da imagem em bytes.
+     * @param referencias Quantidade de referências a somar.
+     * @return Quantidade de linhas afetadas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "INSERT INTO capa (hash, tamanho, referencias) VALUES (:hash, :tamanho, :referencias) "
+            + "ON CONFLICT (hash) DO UPDATE SET referencias = capa.referencias + :referencias", nativeQuery = true)
+    int inserirOuSomar(@Param("hash") String hash, @Param("tamanho") int tamanho, @Param("referencias") int referencias);
+
+    /**
+     * Lista, paginados, os hashes de todas as capas armazenadas.
+     *
+     * @param pagina Paginação.
+     * @return Página de hashes.
+     */
+    @Query("SELECT c.hash FROM Capa c ORDER BY c.hash")
+    Page<String> findAllHashes(Pageable pagina);
+
+    /**
+     * Grava os bytes de uma capa na coluna 'dados', caso ainda não estejam gravados.
+     *
+     * @param hash  O hash da capa.
+     * @param dados Os bytes da imagem.
+     * @return Quantidade de linhas afetadas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "UPDATE capa SET dados = :dados WHERE hash = :hash AND dados IS NULL", nativeQuery = true)
+    int gravarDados(@Param("hash") String hash, @Param("dados") byte[] dados);
+
+    /**
+     * Carrega apenas os bytes de uma capa.
+     *
+     * @param hash O hash da capa.
+     * @return Os bytes da imagem ou null se não estiverem gravados no banco.
+     */
+    @Query("SELECT c.dados FROM Capa c WHERE c.hash = :hash")
+    byte[] carregarDados(@Param("hash") String hash);
+
+    /**
+     * Carrega os bytes de várias capas em uma única consulta.
+     *
+     * @param hashes Os hashes das capas.
+     * @return Pares [hash, dados].
+     */
+    @Query("SELECT c.hash, c.dados FROM Capa c WHERE c.hash IN :hashes")
+    List<Object[]> carregarDadosPorHashes(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Lista os hashes das capas cujos bytes ainda estão gravados no banco.
+     *
+     * @param pagina Paginação do lote.
+     * @return Hashes encontrados.
+     */
+    @Query("SELECT c.hash FROM Capa c WHERE c.dados IS NOT NULL ORDER BY c.hash")
+    List<String> findHashesComDadosNoBanco(Pageable pagina);
+
+    /**
+     * Esvazia a coluna 'dados' de uma capa já movida para outro armazenamento.
+     *
+     * @param hash O hash da capa.
+     * @return Quantidade de linhas afetadas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "UPDATE capa SET dados = NULL WHERE hash = :hash", nativeQuery = true)
+    int limparDados(@Param("hash") String hash);
+
+    /**
+     * Decrementa o contador de referências de uma capa.
+     *
+     * @param hash O hash da capa.
+     * @return Quantidade de linhas afetadas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "UPDATE capa SET referencias = referencias - 1 WHERE hash = :hash", nativeQuery = true)
+    int decrementarReferencias(@Param("hash") String hash);
+
+    /**
+     * Subtrai várias referências de uma capa de uma só vez (ex: exclusão de livros em lote).
+     *
+     * @param hash        O hash da capa.
+     * @param referencias Quantidade de referências liberadas.
+     * @return Quantidade de linhas afetadas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "UPDATE capa SET referencias = referencias - :referencias WHERE hash = :hash", nativeQuery = true)
+    int subtrairReferencias(@Param("hash") String hash, @Param("referencias") int referencias);
+
+    /**
+     * Remove a capa caso nenhum livro a referencie mais.
+     *
+     * @param hash O hash da capa.
+     * @return Quantidade de linhas removidas.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = ESPACOS_NATIVOS, value = "capa"))
+    @Query(value = "DELETE FROM capa WHERE hash = :hash AND referencias <= 0", nativeQuery = true)
+    int removerSemReferencias(@Param("hash") String hash);
+}
@@ -0,0 +1,40 @@
+package br.com.dev.bibliotecaalpha.repository;
+
+import br.com.dev.bibliotecaalpha.model.LivroExclusao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Interface de repositório para os registros de exclusão de livros ({@link LivroExclusao}).
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Repository
+public interface LivroExclusaoRepository extends JpaRepository<LivroExclusao, Long> {
+
+    /**
+     * Busca os IDs dos livros excluídos por transações com ID maior ou igual à marca informada.
+     *
+     * @param marca Marca da última atualização conhecida pelo cliente.
+     * @return IDs dos livros excluídos desde então.
+     */
+    @Query(value = "SELECT livro_id FROM livro_exclusao WHERE transacao_exclusao >= :marca", nativeQuery = true)
+    List<Long> findIdsExcluidosDesde(@Param("marca") long marca);
+
+    /**
+     * Registra a exclusão de um livro no instante atual do banco (e não da estação),
+     * sem consultar antes se o registro já existe.
+     *
+     * @param livroId ID do livro excluído.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO livro_exclusao (livro_id, excluido_em) VALUES (:livroId, clock_timestamp()) "
+            + "ON CONFLICT (livro_id) DO UPDATE SET excluido_em = EXCLUDED.excluido_em", nativeQuery = true)
+    void registrar(@Param("livroId") Long livroId);
+}
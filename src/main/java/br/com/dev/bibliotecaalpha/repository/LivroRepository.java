@@ -1,30 +1,144 @@
 package br.com.dev.bibliotecaalpha.repository;
 
 import br.com.dev.bibliotecaalpha.model.Livro;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Interface de repositório para acesso a dados da entidade {@link Livro}.
  * <p>
- * Estende {@link JpaRepository}, herdando operações de CRUD padrão e paginação.
+ * Estende {@link JpaRepository}, herdando operações de CRUD padrão e paginação,
+ * e {@link LivroRepositoryCustom}, que concentra as buscas implementadas manualmente.
  * </p>
  *
  * @author Luccas Cabrini
  * @version 1.0
  */
 @Repository
-public interface LivroRepository extends JpaRepository<Livro, Long> {
+public interface LivroRepository extends JpaRepository<Livro, Long>, LivroRepositoryCustom {
 
     /**
-     * Busca um livro exato pelo seu código ISBN.
-     * Utilizado para validar duplicidade no cadastro e na importação.
+     * Busca os livros inseridos ou alterados por transações com ID maior ou igual à marca informada.
      *
-     * @param isbn O código ISBN a ser pesquisado.
-     * @return Um {@link Optional} contendo o livro caso encontrado, ou vazio caso contrário.
+     * @param marca Marca da última atualização conhecida pelo cliente ({@link #consultarMarcaTransacoes()}).
+     * @return Livros alterados desde então (inclusive alguns já entregues antes).
      */
-    Optional<Livro> findByIsbn(String isbn);
+    @Query(value = "SELECT * FROM livro WHERE transacao_alteracao >= :marca", nativeQuery = true)
+    List<Livro> findAlteradosDesde(@Param("marca") long marca);
+
+    /**
+     * Retorna o menor ID de transação ainda em andamento no banco ({@code txid_snapshot_xmin}).
+     * Toda transação confirmada depois desta consulta tem ID maior ou igual ao valor retornado,
+     * o que o torna a marca comum a todas as estações para a atualização incremental
+     * (migração V7).
+     *
+     * @return A marca de transações atual.
+     */
+    @Query(value = "SELECT txid_snapshot_xmin(txid_current_snapshot())", nativeQuery = true)
+    Long consultarMarcaTransacoes();
+
+    /**
+     * Busca o último livro cadastrado (maior ID).
+     *
+     * @return O livro, ou vazio se o acervo estiver vazio.
+     */
+    Optional<Livro> findFirstByOrderByIdDesc();
+
+    /**
+     * Conta os livros de cada editora (ignorando editoras vazias).
+     *
+     * @return Pares [editora, quantidade].
+     */
+    @Query("SELECT l.editora, COUNT(l) FROM Livro l WHERE l.editora IS NOT NULL AND l.editora <> '' GROUP BY l.editora")
+    List<Object[]> contarLivrosPorEditora();
+
+    /**
+     * Busca apenas os autores e a editora de todos os livros, sem carregar as entidades.
+     * Usado na carga das sugestões dos formulários, que guardam os valores de cada livro
+     * para descontá-los quando ele for alterado ou excluído.
+     *
+     * @return Trios [id, autores, editora].
+     */
+    @Query("SELECT l.id, l.autores, l.editora FROM Livro l")
+    List<Object[]> listarAutoresEEditoras();
+
+    /**
+     * Busca apenas os autores e a editora de um livro, sem carregar a entidade.
+     *
+     * @param id O identificador do livro.
+     * @return Um par [autores, editora], ou lista vazia se o livro não existir.
+     */
+    @Query("SELECT l.autores, l.editora FROM Livro l WHERE l.id = :id")
+    List<Object[]> buscarAutoresEEditora(@Param("id") Long id);
+
+    /**
+     * Busca textual (full-text) sobre título, autores, editora e livros semelhantes, ignorando acentos,
+     * ordenada por relevância (título pesa mais que autores, que pesam mais que editora).
+     * <p>
+     * Usa a coluna gerada {@code busca} e seu índice GIN (migração V4). O termo aceita a sintaxe de
+     * busca da web: palavras (todas obrigatórias), "frase exata", {@code or} e {@code -palavra}.
+     * </p>
+     *
+     * @param termo  Texto digitado pelo usuário.
+     * @param pagina Página desejada (sem contagem total).
+     * @return Livros da página, do mais relevante ao menos relevante.
+     */
+    @Query(value = "SELECT l.* FROM livro l, websearch_to_tsquery('portugues_sem_acento', :termo) consulta "
+            + "WHERE l.busca @@ consulta ORDER BY ts_rank(l.busca, consulta) DESC, l.id", nativeQuery = true)
+    List<Livro> pesquisarPorRelevancia(@Param("termo") String termo, Pageable pagina);
+
+    /**
+     * Busca apenas o título e os autores de todos os livros, sem carregar as entidades.
+     * Usado na construção do índice da busca aproximada.
+     *
+     * @return Trios [id, titulo, autores].
+     */
+    @Query("SELECT l.id, l.titulo, l.autores FROM Livro l")
+    List<Object[]> listarTitulosEAutores();
+
+    /**
+     * Busca apenas o hash da capa referenciada por um livro, sem carregar a entidade.
+     *
+     * @param id O identificador do livro.
+     * @return O hash da capa, ou null se o livro não tiver capa ou não existir.
+     */
+    @Query("SELECT l.capaHash FROM Livro l WHERE l.id = :id")
+    String findCapaHashById(@Param("id") Long id);
+
+    /**
+     * Busca, em uma única consulta, o hash das capas de um conjunto de livros.
+     * Livros sem capa não são retornados.
+     *
+     * @param ids Os identificadores dos livros.
+     * @return Pares [id, capaHash].
+     */
+    @Query("SELECT l.id, l.capaHash FROM Livro l WHERE l.id IN :ids AND l.capaHash IS NOT NULL")
+    List<Object[]> findCapaHashesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Transfere para uma nova capa todos os livros que referenciam a capa informada.
+     *
+     * @param hashAntigo Hash da capa atual.
+     * @param hashNovo   Hash da nova capa.
+     * <p>
+     * Por ser uma atualização em massa, o Hibernate descarta a região de cache de segundo
+     * nível de {@link Livro} ao executá-la; o {@code clearAutomatically} descarta também as
+     * instâncias já carregadas no contexto de persistência atual.
+     * </p>
+     *
+     * @return Quantidade de livros atualizados.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Livro l SET l.capaHash = :hashNovo, l.versao = l.versao + 1, l.atualizadoEm = CURRENT_TIMESTAMP "
+            + "WHERE l.capaHash = :hashAntigo")
+    int substituirCapaHash(@Param("hashAntigo") String hashAntigo, @Param("hashNovo") String hashNovo);
 
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package br.com.dev.bibliotecaalpha.repository;
+
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Operações de acesso a dados de {@link Livro} implementadas manualmente,
+ * fora das consultas derivadas do Spring Data.
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public interface LivroRepositoryCustom {
+
+    /**
+     * Colunas da tabela 'livro' alteráveis por {@link #atualizarCampos(Long, long, Map)}. Apenas autores,
+     * editora e data de publicação podem ser alteradas em lote por {@link #atualizarPorIds(Collection, Map)}.
+     */
+    String COLUNA_TITULO = "titulo";
+    String COLUNA_ISBN = "isbn";
+    String COLUNA_AUTORES = "autores";
+    String COLUNA_EDITORA = "editora";
+    String COLUNA_DATA_PUBLICACAO = "data_publicacao";
+    String COLUNA_LIVROS_SEMELHANTES = "livros_semelhantes";
+
+    /**
+     * Busca um livro exato pelo seu código ISBN.
+     * Utilizado para validar duplicidade no cadastro e na importação.
+     * <p>
+     * O ISBN é o identificador natural do livro: a busca passa pelo cache de segundo nível
+     * (ISBN -> ID -> entidade) e só consulta o banco quando o livro ainda não está em cache.
+     * </p>
+     *
+     * @param isbn O código ISBN a ser pesquisado.
+     * @return Um {@link Optional} contendo o livro caso encontrado, ou vazio caso contrário.
+     */
+    @Transactional(readOnly = true)
+    Optional<Livro> findByIsbn(String isbn);
+
+    /**
+     * Exclui um conjunto de livros com um único comando ({@code DELETE ... WHERE id = ANY(?)}),
+     * sem carregar as entidades, e registra a lápide ({@code livro_exclusao}) de cada um no mesmo comando.
+     *
+     * @param ids Os IDs dos livros (recomenda-se no máximo alguns milhares por chamada).
+     * @return Os dados dos livros efetivamente excluídos (IDs inexistentes são ignorados).
+     */
+    @Transactional
+    List<LivroResumo> excluirPorIds(Collection<Long> ids);
+
+    /**
+     * Altera as mesmas colunas de um conjunto de livros com um único comando
+     * ({@code UPDATE ... WHERE id = ANY(?)}), incrementando a versão de cada um.
+     *
+     * @param ids     Os IDs dos livros.
+     * @param valores Coluna -> novo valor; apenas {@link #COLUNA_AUTORES}, {@link #COLUNA_EDITORA}
+     *                e {@link #COLUNA_DATA_PUBLICACAO}.
+     * @return Pares [antes, depois] dos livros alterados.
+     */
+    @Transactional
+    List<LivroResumo[]> atualizarPorIds(Collection<Long> ids, Map<String, String> valores);
+
+    /**
+     * Altera apenas as colunas informadas de um livro ({@code UPDATE} dinâmico), sem carregar a
+     * entidade, desde que a versão no banco ainda seja a informada (bloqueio otimista).
+     *
+     * @param id      O ID do livro.
+     * @param versao  A versão do livro quando foi aberto para edição.
+     * @param valores Coluna -> novo valor (ex: {@link #COLUNA_TITULO}).
+     * @return Par [antes, depois] do livro, ou vazio se o livro não existir ou tiver sido alterado
+     * por outra transação desde que foi aberto.
+     */
+    @Transactional
+    Optional<LivroResumo[]> atualizarCampos(Long id, long versao, Map<String, String> valores);
+}
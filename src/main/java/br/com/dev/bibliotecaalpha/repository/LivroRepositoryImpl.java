@@ -0,0 +1,193 @@
+package br.com.dev.bibliotecaalpha.repository;
+
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementação de {@link LivroRepositoryCustom}.
+ * <p>
+ * A busca por ISBN usa a API de identificador natural do Hibernate, que resolve o ISBN
+ * pelo cache de identificadores naturais e carrega a entidade pelo cache de segundo nível,
+ * ao contrário de uma consulta JPQL, que sempre vai ao banco.
+ * </p>
+ * <p>
+ * As operações em lote são comandos SQL baseados em conjunto, executados pelo {@link JdbcTemplate}
+ * na conexão da transação corrente. Os IDs seguem como um único parâmetro do tipo array
+ * ({@code id = ANY(?)}), de forma que o comando tenha sempre o mesmo texto, qualquer que seja a
+ * quantidade de livros. Os instantes de alteração e de exclusão vêm do relógio do banco
+ * ({@code clock_timestamp()}), como em todas as gravações do acervo. Como não passam pelo
+ * Hibernate, os livros afetados são descartados do cache de segundo nível após o commit.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class LivroRepositoryImpl implements LivroRepositoryCustom {
+
+    private static final String COLUNAS_RESUMO = "id, isbn, titulo, data_publicacao, autores, editora, capa_hash, versao";
+
+    private static final String SQL_EXCLUIR = "WITH excluidos AS ("
+            + "DELETE FROM livro WHERE id = ANY(?) RETURNING " + COLUNAS_RESUMO + "), "
+            + "lapides AS (INSERT INTO livro_exclusao (livro_id, excluido_em) SELECT id, clock_timestamp() FROM excluidos "
+            + "ON CONFLICT (livro_id) DO UPDATE SET excluido_em = EXCLUDED.excluido_em) "
+            + "SELECT " + COLUNAS_RESUMO + " FROM excluidos";
+
+    private static final List<String> COLUNAS_ALTERAVEIS = Arrays.asList(COLUNA_TITULO, COLUNA_ISBN, COLUNA_AUTORES,
+            COLUNA_EDITORA, COLUNA_DATA_PUBLICACAO, COLUNA_LIVROS_SEMELHANTES);
+
+    private static final List<String> COLUNAS_ALTERAVEIS_EM_LOTE = Arrays.asList(COLUNA_AUTORES, COLUNA_EDITORA, COLUNA_DATA_PUBLICACAO);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Livro> findByIsbn(String isbn) {
+        if (isbn == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Livro.class)
+                .loadOptional(isbn);
+    }
+
+    @Override
+    public List<LivroResumo> excluirPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<LivroResumo> excluidos = jdbcTemplate.query(SQL_EXCLUIR,
+                ps -> ps.setArray(1, arrayDeIds(ps, ids)), (rs, linha) -> resumo(rs, ""));
+
+        descartarDoCache(excluidos, true);
+        return excluidos;
+    }
+
+    @Override
+    public List<LivroResumo[]> atualizarPorIds(Collection<Long> ids, Map<String, String> valores) {
+        if (ids.isEmpty() || valores.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return atualizar(ids, null, valores, COLUNAS_ALTERAVEIS_EM_LOTE);
+    }
+
+    @Override
+    public Optional<LivroResumo[]> atualizarCampos(Long id, long versao, Map<String, String> valores) {
+        List<LivroResumo[]> alterados = atualizar(Collections.singletonList(id), versao, valores, COLUNAS_ALTERAVEIS);
+        return alterados.isEmpty() ? Optional.empty() : Optional.of(alterados.get(0));
+    }
+
+    /**
+     * Executa o {@code UPDATE} apenas das colunas informadas, incrementando a versão.
+     *
+     * @param versao Versão esperada (apenas para um único livro), ou null para não conferir.
+     * @return Pares [antes, depois] dos livros alterados.
+     */
+    private List<LivroResumo[]> atualizar(Collection<Long> ids, Long versao, Map<String, String> valores, List<String> permitidas) {
+        List<String> colunas = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("UPDATE livro l SET ");
+        for (String coluna : valores.keySet()) {
+            if (!permitidas.contains(coluna)) {
+                throw new IllegalArgumentException("Coluna não pode ser alterada: " + coluna);
+            }
+            colunas.add(coluna);
+            sql.append(coluna).append(" = ?, ");
+        }
+        // 'a' é a linha antes da alteração: o RETURNING devolve os dois estados para os eventos
+        sql.append("versao = l.versao + 1, atualizado_em = clock_timestamp() FROM livro a WHERE a.id = l.id AND l.id = ANY(?)");
+        if (versao != null) {
+            sql.append(" AND l.versao = ?");
+        }
+        sql.append(" RETURNING a.id, a.isbn, a.titulo, a.data_publicacao, a.autores, a.editora, a.capa_hash, a.versao, ")
+                .append("l.isbn AS novo_isbn, l.titulo AS novo_titulo, l.data_publicacao AS novo_data_publicacao, ")
+                .append("l.autores AS novo_autores, l.editora AS novo_editora, l.versao AS novo_versao");
+
+        List<LivroResumo[]> alterados = jdbcTemplate.query(sql.toString(), ps -> {
+            int indice = 1;
+            for (String coluna : colunas) {
+                ps.setString(indice++, valores.get(coluna));
+            }
+            ps.setArray(indice++, arrayDeIds(ps, ids));
+            if (versao != null) {
+                ps.setLong(indice, versao);
+            }
+        }, (rs, linha) -> new LivroResumo[]{resumo(rs, ""), resumo(rs, "novo_")});
+
+        List<LivroResumo> depois = new ArrayList<>(alterados.size());
+        for (LivroResumo[] par : alterados) {
+            depois.add(par[1]);
+        }
+        descartarDoCache(depois, valores.containsKey(COLUNA_ISBN));
+        return alterados;
+    }
+
+    private static Array arrayDeIds(PreparedStatement ps, Collection<Long> ids) throws SQLException {
+        return ps.getConnection().createArrayOf("bigint", ids.toArray());
+    }
+
+    /**
+     * Lê um {@link LivroResumo} da linha atual. As colunas alteráveis e a versão são lidas com o
+     * prefixo informado (ex: {@code novo_}, estado depois da alteração); o ID e a capa, sem prefixo.
+     */
+    private static LivroResumo resumo(ResultSet rs, String prefixo) throws SQLException {
+        return new LivroResumo(rs.getLong("id"), rs.getString(prefixo + "isbn"), rs.getString(prefixo + "titulo"),
+                rs.getString(prefixo + "data_publicacao"), rs.getString(prefixo + "autores"),
+                rs.getString(prefixo + "editora"), rs.getString("capa_hash"), rs.getLong(prefixo + "versao"));
+    }
+
+    /**
+     * Descarta os livros do cache de segundo nível somente após a confirmação da transação.
+     * Descartados antes, uma leitura concorrente ainda veria a linha anterior ao comando e
+     * a colocaria de volta no cache. Fora de uma transação, descarta imediatamente.
+     *
+     * @param identificadoresNaturais true para descartar também a resolução ISBN -> ID
+     *                                (livros excluídos ou com o ISBN alterado).
+     */
+    private void descartarDoCache(List<LivroResumo> livros, boolean identificadoresNaturais) {
+        if (livros.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        Runnable descarte = () -> {
+            for (LivroResumo livro : livros) {
+                cache.evictEntityData(Livro.class, livro.getId());
+            }
+            if (identificadoresNaturais) {
+                cache.evictNaturalIdData(Livro.class);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            descarte.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                descarte.run();
+            }
+        });
+    }
+}
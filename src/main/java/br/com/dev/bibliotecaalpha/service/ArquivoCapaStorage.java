@@ -0,0 +1,256 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazenamento das capas em um diretório local endereçado por conteúdo.
+ * <p>
+ * Cada capa é gravada em um arquivo cujo nome é o seu hash, distribuído em dois níveis
+ * de subdiretórios (ex: {@code capas/ab/cd/abcd...}) para não concentrar milhares de
+ * arquivos em uma única pasta. A gravação é atômica (arquivo temporário + move) e a leitura
+ * é feita via {@link FileChannel}, com mapeamento em memória para arquivos grandes.
+ * Ativado com {@code biblioteca.capa.storage=arquivo}.
+ * </p>
+ * <p>
+ * A remoção acontece após o commit e pode concorrer com uma nova gravação da mesma imagem
+ * (a capa liberada por um livro e cadastrada em seguida por outro). Para que essa gravação não
+ * perca o arquivo, gravação e remoção do mesmo hash são serializadas, e o arquivo só é removido se
+ * nenhuma transação em andamento o tiver gravado e se a capa não voltou a existir no banco.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(name = "biblioteca.capa.storage", havingValue = "arquivo")
+public class ArquivoCapaStorage implements CapaStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(ArquivoCapaStorage.class);
+
+    /**
+     * Tamanho a partir do qual a leitura usa mapeamento em memória em vez de leitura direta.
+     */
+    private static final int LIMITE_MAPEAMENTO = 256 * 1024;
+
+    /**
+     * Travas por faixa de hash, que serializam a gravação e a remoção do mesmo arquivo.
+     */
+    private static final int TRAVAS = 64;
+
+    private final Path diretorioRaiz;
+
+    private final Object[] travas = new Object[TRAVAS];
+
+    /**
+     * Hash -> quantidade de transações em andamento que gravaram (ou reaproveitaram) o arquivo.
+     */
+    private final Map<String, Integer> gravacoesPendentes = new ConcurrentHashMap<>();
+
+    private final CapaRepository repository;
+
+    /**
+     * Transação própria para as consultas feitas após o commit ({@link #removerArquivo(String)}),
+     * quando a transação que registrou a remoção já foi concluída.
+     */
+    private final TransactionTemplate consultaAposCommit;
+
+    /**
+     * Cria o armazenamento no diretório configurado.
+     *
+     * @param diretorio          Diretório raiz das capas (padrão: "capas", relativo ao diretório de execução).
+     * @param repository         Repositório das capas, consultado antes de remover um arquivo e para
+     *                           ler as capas ainda não migradas para o diretório.
+     * @param transactionManager Gerenciador das transações das consultas feitas após o commit.
+     */
+    public ArquivoCapaStorage(@Value("${biblioteca.capa.storage.diretorio:capas}") String diretorio,
+                              CapaRepository repository, PlatformTransactionManager transactionManager) {
+        this.diretorioRaiz = Paths.get(diretorio).toAbsolutePath();
+        this.repository = repository;
+        this.consultaAposCommit = new TransactionTemplate(transactionManager);
+        this.consultaAposCommit.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.consultaAposCommit.setReadOnly(true);
+        for (int i = 0; i < TRAVAS; i++) {
+            travas[i] = new Object();
+        }
+        log.info("Armazenamento de capas em arquivos ativo. Diretório: {}", diretorioRaiz);
+    }
+
+    @Override
+    public void gravar(String hash, byte[] dados) {
+        Path destino = caminhoDe(hash);
+        synchronized (travaDe(hash)) {
+            registrarGravacaoPendente(hash);
+            if (!Files.exists(destino)) {
+                gravarArquivo(hash, destino, dados);
+            }
+        }
+    }
+
+    /**
+     * Impede que uma remoção pendente (de outra transação) apague o arquivo antes que
+     * a transação atual termine e a capa gravada por ela fique visível no banco.
+     */
+    private void registrarGravacaoPendente(String hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        gravacoesPendentes.merge(hash, 1, Integer::sum);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                gravacoesPendentes.computeIfPresent(hash, (chave, total) -> total > 1 ? total - 1 : null);
+            }
+        });
+    }
+
+    private void gravarArquivo(String hash, Path destino, byte[] dados) {
+        try {
+            Files.createDirectories(destino.getParent());
+            Path temporario = Files.createTempFile(destino.getParent(), hash, ".tmp");
+            try {
+                try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.WRITE)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(dados);
+                    while (buffer.hasRemaining()) {
+                        canal.write(buffer);
+                    }
+                    canal.force(true);
+                }
+                moverAtomicamente(temporario, destino);
+            } finally {
+                Files.deleteIfExists(temporario);
+            }
+            log.debug("Capa gravada em arquivo: {}", destino);
+
+        } catch (IOException e) {
+            log.error("Falha ao gravar capa {} no diretório de capas", hash, e);
+            throw new UncheckedIOException("Erro ao gravar capa em arquivo: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public byte[] ler(String hash) {
+        Path arquivo = caminhoDe(hash);
+        if (!Files.exists(arquivo)) {
+            return lerDoBanco(hash);
+        }
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            int tamanho = (int) canal.size();
+            byte[] dados = new byte[tamanho];
+
+            if (tamanho >= LIMITE_MAPEAMENTO) {
+                MappedByteBuffer mapeado = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+                mapeado.get(dados);
+            } else {
+                ByteBuffer buffer = ByteBuffer.wrap(dados);
+                while (buffer.hasRemaining() && canal.read(buffer) != -1) {
+                    // leitura até preencher o buffer
+                }
+            }
+            return dados;
+
+        } catch (NoSuchFileException e) {
+            return lerDoBanco(hash);
+        } catch (IOException e) {
+            log.error("Falha ao ler capa {} do diretório de capas", hash, e);
+            return null;
+        }
+    }
+
+    /**
+     * Remove o arquivo da capa somente após a confirmação da transação,
+     * para que um rollback não deixe o registro sem os bytes correspondentes.
+     * O arquivo é mantido se, até lá, a mesma capa tiver sido gravada novamente.
+     */
+    @Override
+    public void remover(String hash) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removerArquivo(hash);
+                }
+            });
+        } else {
+            removerArquivo(hash);
+        }
+    }
+
+    /**
+     * Resolve o caminho do arquivo de uma capa: {@code raiz/ab/cd/hash}.
+     *
+     * @param hash O hash SHA-256 da capa.
+     * @return O caminho do arquivo.
+     */
+    Path caminhoDe(String hash) {
+        if (hash == null || hash.length() < 4 || !hash.matches("[0-9a-f]+")) {
+            throw new IllegalArgumentException("Hash de capa inválido: " + hash);
+        }
+        return diretorioRaiz.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private Object travaDe(String hash) {
+        return travas[Math.floorMod(hash.hashCode(), TRAVAS)];
+    }
+
+    private void removerArquivo(String hash) {
+        Path arquivo = caminhoDe(hash);
+        try {
+            synchronized (travaDe(hash)) {
+                if (gravacoesPendentes.containsKey(hash) || capaCadastrada(hash)) {
+                    log.debug("Capa {} voltou a ser referenciada; arquivo mantido", hash);
+                    return;
+                }
+                Files.deleteIfExists(arquivo);
+            }
+        } catch (IOException e) {
+            // No Windows o arquivo pode continuar bloqueado por um mapeamento ainda não coletado.
+            // O arquivo órfão não causa inconsistência, pois é endereçado por conteúdo.
+            log.warn("Não foi possível remover o arquivo da capa {}: {}", hash, e.getMessage());
+        }
+    }
+
+    /**
+     * Verifica se a capa existe no banco. Executado em uma transação nova: chamado após o commit,
+     * os recursos da transação anterior ainda estão associados à thread, mas ela já foi concluída.
+     */
+    private boolean capaCadastrada(String hash) {
+        return Boolean.TRUE.equals(consultaAposCommit.execute(status -> repository.existsById(hash)));
+    }
+
+    private void moverAtomicamente(Path origem, Path destino) throws IOException {
+        try {
+            Files.move(origem, destino, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(origem, destino, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException e) {
+            log.debug("Capa {} gravada concorrentemente por outra operação", destino.getFileName());
+        }
+    }
+
+    /**
+     * Capas ainda não migradas para o diretório continuam legíveis a partir do banco.
+     */
+    private byte[] lerDoBanco(String hash) {
+        return repository.carregarDados(hash);
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Armazenamento padrão das capas: os bytes ficam na coluna 'capa.dados' (BYTEA).
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(name = "biblioteca.capa.storage", havingValue = "banco", matchIfMissing = true)
+public class BancoCapaStorage implements CapaStorage {
+
+    @Autowired
+    private CapaRepository repository;
+
+    @Override
+    public void gravar(String hash, byte[] dados) {
+        repository.gravarDados(hash, dados);
+    }
+
+    @Override
+    public byte[] ler(String hash) {
+        return repository.carregarDados(hash);
+    }
+
+    @Override
+    public Map<String, byte[]> lerVarias(Collection<String> hashes) {
+        Map<String, byte[]> resultado = new HashMap<>();
+        if (!hashes.isEmpty()) {
+            for (Object[] linha : repository.carregarDadosPorHashes(hashes)) {
+                if (linha[1] != null) {
+                    resultado.put((String) linha[0], (byte[]) linha[1]);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Nada a fazer: os bytes são removidos junto com o registro da capa.
+     */
+    @Override
+    public void remover(String hash) {
+    }
+}
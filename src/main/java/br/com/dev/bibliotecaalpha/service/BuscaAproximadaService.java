@@ -0,0 +1,193 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.busca.IndiceAproximado;
+import br.com.dev.bibliotecaalpha.event.AcervoImportadoEvento;
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
+import br.com.dev.bibliotecaalpha.event.EventoLivro;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Serviço de busca aproximada por título e autores, tolerante a erros de digitação
+ * (ex: "Tolkein" encontra "Tolkien").
+ * <p>
+ * Mantém em memória um {@link IndiceAproximado} das palavras do acervo, construído na primeira
+ * pesquisa e mantido em dia pelos eventos do acervo (alterações desta estação) e pelas
+ * notificações de alteração (outras estações). Se notificações tiverem sido perdidas,
+ * ou após uma importação em lote, o índice é descartado e reconstruído na pesquisa seguinte.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class BuscaAproximadaService {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscaAproximadaService.class);
+
+    @Autowired
+    private LivroRepository repository;
+
+    @Autowired
+    private BarramentoEventos barramentoEventos;
+
+    @Autowired
+    private NotificacaoLivroService notificacaoLivroService;
+
+    private final IndiceAproximado indice = new IndiceAproximado();
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    private boolean construido;
+
+    /**
+     * Inscreve o serviço nos eventos e notificações de alteração do acervo.
+     */
+    @PostConstruct
+    void inscrever() {
+        barramentoEventos.inscrever(EventoLivro.class, this::aplicar);
+        barramentoEventos.inscrever(AcervoImportadoEvento.class, e -> descartar());
+        notificacaoLivroService.adicionarOuvinte(this::aplicar);
+    }
+
+    /**
+     * Pesquisa os livros cujo título ou autores têm palavras próximas das digitadas
+     * (até {@value IndiceAproximado#DISTANCIA_MAXIMA} erros por palavra).
+     *
+     * @param termo  Texto da pesquisa.
+     * @param limite Quantidade máxima de livros retornados.
+     * @return IDs e pontuações dos livros mais semelhantes, do mais ao menos semelhante.
+     */
+    public List<IndiceAproximado.Ocorrencia> pesquisar(String termo, int limite) {
+        trava.readLock().lock();
+        try {
+            if (!construido) {
+                // A trava de leitura não pode ser promovida: é solta e readquirida por construir()
+                trava.readLock().unlock();
+                construir();
+            }
+            return indice.pesquisar(termo, limite);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Texto indexado de um livro.
+     */
+    static String texto(String titulo, String autores) {
+        return (titulo == null ? "" : titulo) + "\n" + (autores == null ? "" : autores);
+    }
+
+    /**
+     * Constrói o índice, se outra pesquisa ainda não o tiver feito enquanto a trava de escrita
+     * era aguardada. Retorna com a trava de leitura adquirida (mesmo em caso de erro), obtida
+     * antes de soltar a de escrita, para que o índice não seja descartado antes da pesquisa.
+     */
+    private void construir() {
+        trava.writeLock().lock();
+        try {
+            if (construido) {
+                return;
+            }
+            long inicio = System.nanoTime();
+            List<Object[]> linhas = repository.listarTitulosEAutores();
+            indice.limpar(linhas.size());
+            for (Object[] linha : linhas) {
+                indice.indexar((Long) linha[0], texto((String) linha[1], (String) linha[2]));
+            }
+            indice.consolidar();
+            construido = true;
+            log.info("Índice da busca aproximada construído: {} livros em {} ms",
+                    linhas.size(), (System.nanoTime() - inicio) / 1_000_000);
+        } finally {
+            trava.readLock().lock();
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica ao índice um evento do acervo publicado por esta estação.
+     */
+    void aplicar(EventoLivro evento) {
+        LivroResumo livro = null;
+        if (evento instanceof LivroCriadoEvento) {
+            livro = ((LivroCriadoEvento) evento).getLivro();
+        } else if (evento instanceof LivroAtualizadoEvento) {
+            livro = ((LivroAtualizadoEvento) evento).getLivro();
+        } else if (!(evento instanceof LivroExcluidoEvento)) {
+            return;
+        }
+        atualizar(evento.getLivroId(), livro == null ? null : texto(livro.getTitulo(), livro.getAutores()));
+    }
+
+    /**
+     * Aplica ao índice uma alteração feita por outra estação, relendo o livro do banco.
+     */
+    void aplicar(NotificacaoLivroService.Notificacao notificacao) {
+        switch (notificacao.getOperacao()) {
+            case RESSINCRONIZACAO:
+                descartar();
+                break;
+            case EXCLUSAO:
+                atualizar(notificacao.getId(), null);
+                break;
+            default:
+                if (estaConstruido()) {
+                    Optional<Livro> livro = repository.findById(notificacao.getId());
+                    atualizar(notificacao.getId(), livro.map(l -> texto(l.getTitulo(), l.getAutores())).orElse(null));
+                }
+        }
+    }
+
+    /**
+     * Reindexa (ou remove, se o texto for null) um livro. Antes da construção do índice,
+     * a alteração é ignorada: a construção lerá o estado já confirmado no banco.
+     */
+    private void atualizar(long id, String texto) {
+        trava.writeLock().lock();
+        try {
+            if (!construido) {
+                return;
+            }
+            if (texto == null) {
+                indice.remover(id);
+            } else {
+                indice.indexar(id, texto);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    private void descartar() {
+        trava.writeLock().lock();
+        try {
+            construido = false;
+            indice.limpar(0);
+            log.info("Índice da busca aproximada descartado; será reconstruído na próxima pesquisa.");
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    private boolean estaConstruido() {
+        trava.readLock().lock();
+        try {
+            return construido;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache em memória das capas já decodificadas e redimensionadas.
+ * <p>
+ * Evita que a mesma capa seja decodificada e escalada novamente a cada abertura
+ * das telas de detalhes, edição ou "Ver Capa". As entradas são indexadas por
+ * (ID do livro, hash da capa, tamanho alvo) e o limite do cache é definido pelo
+ * total de bytes de pixels mantidos, e não pela quantidade de entradas.
+ * A remoção segue a ordem LRU (menos recentemente utilizada).
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class CapaCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(CapaCacheService.class);
+
+    /**
+     * Bytes ocupados por pixel nas imagens mantidas no cache (TYPE_INT_ARGB).
+     */
+    private static final int BYTES_POR_PIXEL = 4;
+
+    private final long limiteBytes;
+
+    private final LinkedHashMap<Chave, BufferedImage> entradas = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long bytesOcupados;
+    private long acertos;
+    private long falhas;
+    private long remocoes;
+
+    /**
+     * Cria o cache com o limite de memória configurado.
+     *
+     * @param limiteBytes Total máximo de bytes de pixels mantidos (padrão: 64 MB).
+     */
+    public CapaCacheService(@Value("${biblioteca.capa.cache.limite-bytes:67108864}") long limiteBytes) {
+        this.limiteBytes = limiteBytes;
+    }
+
+    /**
+     * Obtém a capa decodificada e redimensionada para caber no tamanho informado,
+     * mantendo a proporção original da imagem.
+     *
+     * @param livroId   ID do livro dono da capa.
+     * @param capaHash  Hash SHA-256 da capa, quando conhecido (evita recalcular a partir dos bytes).
+     * @param capaBytes Bytes da imagem original.
+     * @param largura   Largura máxima desejada.
+     * @param altura    Altura máxima desejada.
+     * @return A imagem pronta para exibição, ou {@code null} se não houver capa ou ela for inválida.
+     */
+    public BufferedImage obter(Long livroId, String capaHash, byte[] capaBytes, int largura, int altura) {
+        if (capaBytes == null || capaBytes.length == 0) {
+            return null;
+        }
+
+        String hash = capaHash != null ? capaHash : CapaService.calcularHash(capaBytes);
+        Chave chave = new Chave(livroId, hash, largura, altura);
+
+        synchronized (this) {
+            BufferedImage imagem = entradas.get(chave);
+            if (imagem != null) {
+                acertos++;
+                return imagem;
+            }
+            falhas++;
+        }
+
+        return decodificarEAdicionar(chave, capaBytes, largura, altura);
+    }
+
+    /**
+     * Decodifica a capa e a armazena no cache sem consultá-lo antes.
+     * Destinado a quem já consultou o cache com {@link #consultar} e obteve uma falha,
+     * para que a mesma falha não seja contabilizada duas vezes.
+     *
+     * @param livroId   ID do livro dono da capa.
+     * @param capaHash  Hash SHA-256 da capa.
+     * @param capaBytes Bytes da imagem original.
+     * @param largura   Largura máxima desejada.
+     * @param altura    Altura máxima desejada.
+     * @return A imagem pronta para exibição, ou {@code null} se não houver capa ou ela for inválida.
+     */
+    public BufferedImage armazenar(Long livroId, String capaHash, byte[] capaBytes, int largura, int altura) {
+        if (capaBytes == null || capaBytes.length == 0) {
+            return null;
+        }
+        return decodificarEAdicionar(new Chave(livroId, capaHash, largura, altura), capaBytes, largura, altura);
+    }
+
+    /**
+     * Consulta o cache sem decodificar nada: retorna a capa apenas se ela já estiver em memória.
+     * A consulta é contabilizada nas estatísticas como acerto ou falha.
+     *
+     * @param livroId  ID do livro dono da capa.
+     * @param capaHash Hash SHA-256 da capa.
+     * @param largura  Largura máxima desejada.
+     * @param altura   Altura máxima desejada.
+     * @return A imagem em cache ou null.
+     */
+    public synchronized BufferedImage consultar(Long livroId, String capaHash, int largura, int altura) {
+        BufferedImage imagem = entradas.get(new Chave(livroId, capaHash, largura, altura));
+        if (imagem != null) {
+            acertos++;
+        } else {
+            falhas++;
+        }
+        return imagem;
+    }
+
+    /**
+     * Remove do cache todas as versões da capa de um livro.
+     * Chamado quando a capa do livro é alterada ou o livro é excluído.
+     *
+     * @param livroId ID do livro cujas capas devem ser descartadas.
+     */
+    public synchronized void invalidar(Long livroId) {
+        Iterator<Map.Entry<Chave, BufferedImage>> it = entradas.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Chave, BufferedImage> entrada = it.next();
+            if (Objects.equals(entrada.getKey().livroId, livroId)) {
+                bytesOcupados -= tamanhoEmBytes(entrada.getValue());
+                it.remove();
+            }
+        }
+        log.debug("Capas do livro ID {} removidas do cache", livroId);
+    }
+
+    /**
+     * Esvazia completamente o cache.
+     */
+    public synchronized void limpar() {
+        entradas.clear();
+        bytesOcupados = 0;
+    }
+
+    /**
+     * Retorna um retrato das estatísticas de uso do cache.
+     *
+     * @return Estatísticas atuais (acertos, falhas, remoções e ocupação).
+     */
+    public synchronized Estatisticas getEstatisticas() {
+        return new Estatisticas(acertos, falhas, remocoes, entradas.size(), bytesOcupados, limiteBytes);
+    }
+
+    /**
+     * Insere a imagem no cache e remove as entradas menos recentes até respeitar o limite.
+     */
+    private synchronized void adicionar(Chave chave, BufferedImage imagem) {
+        long tamanho = tamanhoEmBytes(imagem);
+        if (tamanho > limiteBytes) {
+            log.debug("Capa do livro ID {} excede o limite do cache e não será armazenada", chave.livroId);
+            return;
+        }
+
+        BufferedImage anterior = entradas.put(chave, imagem);
+        if (anterior != null) {
+            bytesOcupados -= tamanhoEmBytes(anterior);
+        }
+        bytesOcupados += tamanho;
+
+        Iterator<BufferedImage> it = entradas.values().iterator();
+        while (bytesOcupados > limiteBytes && it.hasNext()) {
+            bytesOcupados -= tamanhoEmBytes(it.next());
+            it.remove();
+            remocoes++;
+        }
+    }
+
+    private BufferedImage decodificarEAdicionar(Chave chave, byte[] capaBytes, int largura, int altura) {
+        BufferedImage imagem = decodificarRedimensionada(capaBytes, largura, altura);
+        if (imagem == null) {
+            return null;
+        }
+
+        adicionar(chave, imagem);
+        return imagem;
+    }
+
+    /**
+     * Decodifica os bytes da imagem e a redimensiona para caber na área informada.
+     */
+    private BufferedImage decodificarRedimensionada(byte[] capaBytes, int largura, int altura) {
+        try {
+            BufferedImage original = ImageIO.read(new ByteArrayInputStream(capaBytes));
+            if (original == null) {
+                log.warn("Formato de imagem não reconhecido ao decodificar capa");
+                return null;
+            }
+
+            double escala = Math.min((double) largura / original.getWidth(), (double) altura / original.getHeight());
+            int novaLargura = Math.max(1, (int) Math.round(original.getWidth() * escala));
+            int novaAltura = Math.max(1, (int) Math.round(original.getHeight() * escala));
+
+            BufferedImage destino = new BufferedImage(novaLargura, novaAltura, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = destino.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(original, 0, 0, novaLargura, novaAltura, null);
+            } finally {
+                g.dispose();
+            }
+            return destino;
+
+        } catch (IOException e) {
+            log.warn("Falha ao decodificar capa: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long tamanhoEmBytes(BufferedImage imagem) {
+        return (long) imagem.getWidth() * imagem.getHeight() * BYTES_POR_PIXEL;
+    }
+
+    /**
+     * Chave composta das entradas do cache.
+     */
+    private static final class Chave {
+        private final Long livroId;
+        private final String hash;
+        private final int largura;
+        private final int altura;
+
+        private Chave(Long livroId, String hash, int largura, int altura) {
+            this.livroId = livroId;
+            this.hash = hash;
+            this.largura = largura;
+            this.altura = altura;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Chave)) return false;
+            Chave outra = (Chave) o;
+            return hash.equals(outra.hash) && largura == outra.largura && altura == outra.altura
+                    && Objects.equals(livroId, outra.livroId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(livroId, hash, largura, altura);
+        }
+    }
+
+    /**
+     * Retrato imutável das estatísticas do cache de capas.
+     */
+    public static final class Estatisticas {
+        private final long acertos;
+        private final long falhas;
+        private final long remocoes;
+        private final int entradas;
+        private final long bytesOcupados;
+        private final long limiteBytes;
+
+        public Estatisticas(long acertos, long falhas, long remocoes, int entradas, long bytesOcupados, long limiteBytes) {
+            this.acertos = acertos;
+            this.falhas = falhas;
+            this.remocoes = remocoes;
+            this.entradas = entradas;
+            this.bytesOcupados = bytesOcupados;
+            this.limiteBytes = limiteBytes;
+        }
+
+        public long getAcertos() {
+            return acertos;
+        }
+
+        public long getFalhas() {
+            return falhas;
+        }
+
+        public long getRemocoes() {
+            return remocoes;
+        }
+
+        public int getEntradas() {
+            return entradas;
+        }
+
+        public long getBytesOcupados() {
+            return bytesOcupados;
+        }
+
+        public long getLimiteBytes() {
+            return limiteBytes;
+        }
+
+        /**
+         * @return Proporção de acertos sobre o total de consultas (0 a 1).
+         */
+        public double getTaxaAcerto() {
+            long total = acertos + falhas;
+            return total == 0 ? 0 : (double) acertos / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Estatisticas [acertos=" + acertos + ", falhas=" + falhas + ", remocoes=" + remocoes
+                    + ", entradas=" + entradas + ", bytes=" + bytesOcupados + "/" + limiteBytes + "]";
+        }
+    }
+}
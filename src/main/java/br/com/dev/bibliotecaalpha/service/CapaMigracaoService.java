@@ -0,0 +1,147 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.model.Livro;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serviço de migração das capas gravadas diretamente na coluna 'livro.capa_imagem'
+ * para o armazenamento endereçado por conteúdo (tabela 'capa').
+ * <p>
+ * Processa os livros em lotes: cada imagem é registrada no {@link CapaService}
+ * (que reaproveita capas idênticas), o livro passa a referenciar o hash e a coluna
+ * antiga é esvaziada. Executado automaticamente na inicialização quando existirem
+ * capas pendentes, podendo ser desativado pela propriedade
+ * {@code biblioteca.capa.migracao.automatica}.
+ * </p>
+ * <p>
+ * Uma falha (banco indisponível, erro ao gravar uma capa) não impede a abertura da aplicação:
+ * o lote em andamento é desfeito, a migração é interrompida e retomada do mesmo ponto
+ * na próxima inicialização, já que cada lote confirmado esvazia a coluna antiga dos seus livros.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+@Order(1)
+public class CapaMigracaoService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CapaMigracaoService.class);
+
+    private static final int TAMANHO_LOTE = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CapaService capaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${biblioteca.capa.migracao.automatica:true}")
+    private boolean migracaoAutomatica;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migracaoAutomatica) {
+            deduplicarCapasExistentes();
+        }
+    }
+
+    /**
+     * Move as capas ainda gravadas na tabela 'livro' para a tabela 'capa', deduplicando-as.
+     *
+     * @return Quantidade de livros migrados.
+     */
+    public int deduplicarCapasExistentes() {
+        try {
+            if (!existeColunaLegada()) {
+                log.debug("Coluna livro.capa_imagem inexistente. Nenhuma capa a migrar.");
+                return 0;
+            }
+        } catch (DataAccessException e) {
+            log.error("Não foi possível verificar as capas pendentes de migração; a verificação será refeita na próxima inicialização", e);
+            return 0;
+        }
+
+        int migrados = 0;
+        long bytesOriginais = 0;
+        int processados;
+        boolean interrompida = false;
+
+        do {
+            Integer[] lote = new Integer[1];
+            long[] bytesLote = new long[1];
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Map<String, Object>> linhas = jdbcTemplate.queryForList(
+                            "SELECT id, capa_imagem FROM livro WHERE capa_imagem IS NOT NULL ORDER BY id LIMIT ?", TAMANHO_LOTE);
+
+                    for (Map<String, Object> linha : linhas) {
+                        Long id = ((Number) linha.get("id")).longValue();
+                        byte[] dados = (byte[]) linha.get("capa_imagem");
+
+                        String hashAnterior = jdbcTemplate.queryForObject(
+                                "SELECT capa_hash FROM livro WHERE id = ?", String.class, id);
+                        String hash = dados.length > 0 ? capaService.armazenar(dados) : null;
+
+                        jdbcTemplate.update("UPDATE livro SET capa_hash = ?, capa_imagem = NULL, versao = versao + 1, "
+                                + "atualizado_em = CURRENT_TIMESTAMP WHERE id = ?", hash, id);
+                        capaService.liberar(hashAnterior);
+                        bytesLote[0] += dados.length;
+                    }
+                    lote[0] = linhas.size();
+                });
+            } catch (RuntimeException e) {
+                log.error("Falha ao migrar um lote de capas. Livros migrados até aqui: {}; "
+                        + "os demais serão migrados na próxima inicialização", migrados, e);
+                interrompida = true;
+                break;
+            }
+
+            processados = lote[0];
+            migrados += processados;
+            bytesOriginais += bytesLote[0];
+        } while (processados == TAMANHO_LOTE);
+
+        if (migrados > 0) {
+            // As atualizações via JDBC não passam pelo Hibernate: descarta os livros em cache
+            entityManagerFactory.getCache().evict(Livro.class);
+        }
+        if (migrados > 0 && !interrompida) {
+            Long bytesArmazenados = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(tamanho), 0) FROM capa", Long.class);
+            log.info("Migração de capas concluída. Livros migrados: {}, Bytes originais: {}, Bytes após deduplicação: {}",
+                    migrados, bytesOriginais, bytesArmazenados);
+        }
+        return migrados;
+    }
+
+    /**
+     * Verifica se a coluna antiga 'capa_imagem' ainda existe na tabela 'livro'.
+     */
+    private boolean existeColunaLegada() {
+        Integer total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_name = 'livro' AND column_name = 'capa_imagem'",
+                Integer.class);
+        return total != null && total > 0;
+    }
+}
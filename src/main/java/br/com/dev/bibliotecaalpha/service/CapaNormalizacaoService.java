@@ -0,0 +1,341 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serviço de normalização das imagens de capa no momento da entrada (ingest).
+ * <p>
+ * Antes de serem persistidas, as capas são decodificadas, reduzidas caso excedam a
+ * resolução máxima configurada e recodificadas em JPEG com a qualidade configurada,
+ * descartando metadados (EXIF, XMP, comentários). Também oferece um processamento em
+ * lote, executado em paralelo, para normalizar as capas já existentes na base.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+@Order(3)
+public class CapaNormalizacaoService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CapaNormalizacaoService.class);
+
+    private static final int TAMANHO_PAGINA_LOTE = 500;
+
+    private final int larguraMaxima;
+    private final int alturaMaxima;
+    private final float qualidadeJpeg;
+
+    @Autowired
+    private CapaService capaService;
+
+    @Autowired
+    private CapaRepository capaRepository;
+
+    @Value("${biblioteca.capa.normalizacao.lote-na-inicializacao:false}")
+    private boolean loteNaInicializacao;
+
+    /**
+     * Cria o serviço com os limites configurados.
+     *
+     * @param larguraMaxima Largura máxima da capa armazenada, em pixels.
+     * @param alturaMaxima  Altura máxima da capa armazenada, em pixels.
+     * @param qualidadeJpeg Qualidade da compressão JPEG (0.0 a 1.0).
+     */
+    public CapaNormalizacaoService(@Value("${biblioteca.capa.normalizacao.largura-maxima:600}") int larguraMaxima,
+                                   @Value("${biblioteca.capa.normalizacao.altura-maxima:900}") int alturaMaxima,
+                                   @Value("${biblioteca.capa.normalizacao.qualidade-jpeg:0.85}") float qualidadeJpeg) {
+        this.larguraMaxima = larguraMaxima;
+        this.alturaMaxima = alturaMaxima;
+        this.qualidadeJpeg = qualidadeJpeg;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (loteNaInicializacao) {
+            normalizarCapasExistentes();
+        }
+    }
+
+    /**
+     * Normaliza uma imagem de capa: reduz para a resolução máxima, converte para JPEG
+     * e remove metadados. Capas que já estão normalizadas são devolvidas sem alteração,
+     * o que torna a operação idempotente (o hash da capa não muda a cada salvamento).
+     * A memória usada na decodificação é limitada pela resolução máxima, e não pelas
+     * dimensões declaradas no arquivo (ver {@link #decodificar(byte[])}).
+     *
+     * @param dados Bytes da imagem original.
+     * @return Bytes da imagem normalizada, ou os próprios bytes originais caso não seja
+     * possível decodificá-los.
+     */
+    public byte[] normalizar(byte[] dados) {
+        if (dados == null || dados.length == 0 || jaNormalizada(dados)) {
+            return dados;
+        }
+
+        try {
+            BufferedImage original = decodificar(dados);
+            if (original == null) {
+                log.warn("Formato de imagem não reconhecido. Capa mantida sem normalização.");
+                return dados;
+            }
+
+            byte[] normalizada = codificarJpeg(redimensionar(original));
+            log.debug("Capa normalizada: {} bytes -> {} bytes", dados.length, normalizada.length);
+            return normalizada;
+
+        } catch (IOException e) {
+            log.warn("Falha ao normalizar capa. Capa mantida sem normalização: {}", e.getMessage());
+            return dados;
+        }
+    }
+
+    /**
+     * Normaliza em paralelo todas as capas já armazenadas.
+     * <p>
+     * As capas são lidas em páginas e distribuídas entre threads (uma por núcleo).
+     * Cada capa alterada é substituída atomicamente pela versão normalizada,
+     * transferindo as referências dos livros para o novo hash.
+     * </p>
+     *
+     * @return Quantidade de capas que foram efetivamente alteradas.
+     */
+    public int normalizarCapasExistentes() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private final AtomicInteger contador = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "normalizacao-capas-" + contador.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+
+        AtomicInteger alteradas = new AtomicInteger();
+        AtomicLong bytesAntes = new AtomicLong();
+        AtomicLong bytesDepois = new AtomicLong();
+        long inicio = System.currentTimeMillis();
+
+        try {
+            List<String> hashes = listarTodosHashes();
+            log.info("Iniciando normalização em lote de {} capas com {} threads", hashes.size(), threads);
+
+            List<Future<?>> tarefas = new ArrayList<>(hashes.size());
+            for (String hash : hashes) {
+                tarefas.add(executor.submit(() -> {
+                    byte[] dados = capaService.carregar(hash);
+                    if (dados == null || jaNormalizada(dados)) {
+                        return;
+                    }
+                    byte[] normalizada = normalizar(dados);
+                    if (normalizada != dados) {
+                        capaService.substituir(hash, normalizada);
+                        alteradas.incrementAndGet();
+                        bytesAntes.addAndGet(dados.length);
+                        bytesDepois.addAndGet(normalizada.length);
+                    }
+                }));
+            }
+
+            for (Future<?> tarefa : tarefas) {
+                try {
+                    tarefa.get();
+                } catch (ExecutionException e) {
+                    log.error("Falha ao normalizar uma capa do lote", e.getCause());
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Normalização em lote interrompida");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Normalização em lote concluída em {} ms. Capas alteradas: {}, Bytes: {} -> {}",
+                System.currentTimeMillis() - inicio, alteradas.get(), bytesAntes.get(), bytesDepois.get());
+        return alteradas.get();
+    }
+
+    /**
+     * Verifica se a imagem já está no formato normalizado: JPEG dentro da resolução
+     * máxima e sem segmentos de metadados (APP1 a APP15 e comentários).
+     *
+     * @param dados Bytes da imagem.
+     * @return true se a imagem não precisa ser normalizada.
+     */
+    boolean jaNormalizada(byte[] dados) {
+        if (dados.length < 4 || (dados[0] & 0xFF) != 0xFF || (dados[1] & 0xFF) != 0xD8) {
+            return false;
+        }
+
+        int pos = 2;
+        while (pos + 4 <= dados.length) {
+            if ((dados[pos] & 0xFF) != 0xFF) {
+                return false;
+            }
+            int marcador = dados[pos + 1] & 0xFF;
+            int tamanho = ((dados[pos + 2] & 0xFF) << 8) | (dados[pos + 3] & 0xFF);
+
+            if ((marcador >= 0xE1 && marcador <= 0xEF) || marcador == 0xFE) {
+                return false;
+            }
+            if (marcador >= 0xC0 && marcador <= 0xCF && marcador != 0xC4 && marcador != 0xC8 && marcador != 0xCC) {
+                if (pos + 9 > dados.length) {
+                    return false;
+                }
+                int altura = ((dados[pos + 5] & 0xFF) << 8) | (dados[pos + 6] & 0xFF);
+                int largura = ((dados[pos + 7] & 0xFF) << 8) | (dados[pos + 8] & 0xFF);
+                return largura <= larguraMaxima && altura <= alturaMaxima && temApenasSegmentosPermitidos(dados, pos + 2 + tamanho);
+            }
+            pos += 2 + tamanho;
+        }
+        return false;
+    }
+
+    /**
+     * Continua a varredura após o cabeçalho do quadro até o início dos dados (SOS),
+     * garantindo que não existam metadados posicionados depois dele.
+     */
+    private boolean temApenasSegmentosPermitidos(byte[] dados, int pos) {
+        while (pos + 4 <= dados.length) {
+            if ((dados[pos] & 0xFF) != 0xFF) {
+                return false;
+            }
+            int marcador = dados[pos + 1] & 0xFF;
+            if (marcador == 0xDA) {
+                return true;
+            }
+            if ((marcador >= 0xE1 && marcador <= 0xEF) || marcador == 0xFE) {
+                return false;
+            }
+            pos += 2 + (((dados[pos + 2] & 0xFF) << 8) | (dados[pos + 3] & 0xFF));
+        }
+        return false;
+    }
+
+    /**
+     * Decodifica a imagem lendo antes apenas as dimensões declaradas no cabeçalho.
+     * <p>
+     * Um arquivo pequeno pode declarar uma imagem enorme (ex: PNG de 20000x20000 pixels
+     * altamente comprimido); decodificá-la inteira alocaria gigabytes. Imagens com mais do que
+     * o dobro da resolução máxima são lidas por amostragem (uma a cada N linhas e colunas),
+     * de forma que a imagem decodificada nunca exceda cerca de duas vezes a resolução máxima,
+     * mantendo margem para a redução com qualidade feita por {@link #redimensionar(BufferedImage)}.
+     * </p>
+     *
+     * @param dados Bytes da imagem.
+     * @return A imagem decodificada, ou null se o formato não for reconhecido.
+     * @throws IOException Caso os dados da imagem estejam corrompidos.
+     */
+    private BufferedImage decodificar(byte[] dados) throws IOException {
+        try (ImageInputStream entrada = ImageIO.createImageInputStream(new ByteArrayInputStream(dados))) {
+            Iterator<ImageReader> leitores = entrada != null ? ImageIO.getImageReaders(entrada) : null;
+            if (leitores == null || !leitores.hasNext()) {
+                return null;
+            }
+            ImageReader leitor = leitores.next();
+            try {
+                leitor.setInput(entrada, true, true);
+                int largura = leitor.getWidth(0);
+                int altura = leitor.getHeight(0);
+
+                ImageReadParam parametros = leitor.getDefaultReadParam();
+                int passo = Math.max(1, Math.max(largura / (2 * larguraMaxima), altura / (2 * alturaMaxima)));
+                if (passo > 1) {
+                    parametros.setSourceSubsampling(passo, passo, 0, 0);
+                    log.debug("Capa de {}x{} decodificada por amostragem (1 a cada {} pixels)", largura, altura, passo);
+                }
+                return leitor.read(0, parametros);
+            } finally {
+                leitor.dispose();
+            }
+        }
+    }
+
+    /**
+     * Reduz a imagem para caber na resolução máxima (sem ampliar imagens pequenas),
+     * convertendo para RGB sobre fundo branco, já que o JPEG não suporta transparência.
+     */
+    private BufferedImage redimensionar(BufferedImage original) {
+        double escala = Math.min(1.0, Math.min((double) larguraMaxima / original.getWidth(),
+                (double) alturaMaxima / original.getHeight()));
+        int largura = Math.max(1, (int) Math.round(original.getWidth() * escala));
+        int altura = Math.max(1, (int) Math.round(original.getHeight() * escala));
+
+        BufferedImage destino = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = destino.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, largura, altura);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(original, 0, 0, largura, altura, null);
+        } finally {
+            g.dispose();
+        }
+        return destino;
+    }
+
+    /**
+     * Codifica a imagem em JPEG com a qualidade configurada e sem metadados.
+     */
+    private byte[] codificarJpeg(BufferedImage imagem) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(saida)) {
+            writer.setOutput(ios);
+            ImageWriteParam parametros = writer.getDefaultWriteParam();
+            parametros.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parametros.setCompressionQuality(qualidadeJpeg);
+            writer.write(null, new IIOImage(imagem, null, null), parametros);
+        } finally {
+            writer.dispose();
+        }
+        return saida.toByteArray();
+    }
+
+    private List<String> listarTodosHashes() {
+        List<String> hashes = new ArrayList<>();
+        Page<String> pagina;
+        int numero = 0;
+        do {
+            pagina = capaRepository.findAllHashes(PageRequest.of(numero++, TAMANHO_PAGINA_LOTE));
+            hashes.addAll(pagina.getContent());
+        } while (pagina.hasNext());
+        return hashes;
+    }
+}
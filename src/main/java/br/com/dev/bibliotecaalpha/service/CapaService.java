@@ -0,0 +1,173 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Serviço responsável pelo armazenamento endereçado por conteúdo das capas dos livros.
+ * <p>
+ * Cada imagem distinta é gravada uma única vez na tabela 'capa', identificada pelo hash
+ * SHA-256 dos seus bytes. Os livros passam a referenciar a capa pelo hash e o serviço
+ * mantém a contagem de referências, removendo a imagem quando o último livro deixa de usá-la.
+ * Os bytes em si são delegados ao {@link CapaStorage} configurado (banco ou diretório local).
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class CapaService {
+
+    private static final Logger log = LoggerFactory.getLogger(CapaService.class);
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Autowired
+    private CapaRepository repository;
+
+    @Autowired
+    private CapaStorage storage;
+
+    @Autowired
+    private LivroRepository livroRepository;
+
+    /**
+     * Registra uma nova referência para a imagem informada, gravando-a caso ainda não exista.
+     *
+     * @param dados Bytes da imagem.
+     * @return O hash SHA-256 que identifica a capa.
+     */
+    @Transactional
+    public String armazenar(byte[] dados) {
+        String hash = calcularHash(dados);
+
+        if (repository.incrementarReferencias(hash) == 0) {
+            repository.inserirOuIncrementar(hash, dados.length);
+            storage.gravar(hash, dados);
+            log.debug("Nova capa armazenada. Hash: {}, Tamanho: {} bytes", hash, dados.length);
+        } else {
+            log.debug("Capa já existente reaproveitada. Hash: {}", hash);
+        }
+        return hash;
+    }
+
+    /**
+     * Remove uma referência da capa, excluindo a imagem quando não restarem referências.
+     *
+     * @param hash O hash da capa a ser liberada. Ignorado se nulo.
+     */
+    @Transactional
+    public void liberar(String hash) {
+        if (hash == null) {
+            return;
+        }
+        repository.decrementarReferencias(hash);
+        if (repository.removerSemReferencias(hash) > 0) {
+            storage.remover(hash);
+            log.debug("Capa sem referências removida. Hash: {}", hash);
+        }
+    }
+
+    /**
+     * Remove várias referências da capa, excluindo a imagem quando não restarem referências.
+     *
+     * @param hash        O hash da capa a ser liberada. Ignorado se nulo.
+     * @param referencias Quantidade de referências liberadas (ex: livros excluídos em lote).
+     */
+    @Transactional
+    public void liberar(String hash, int referencias) {
+        if (hash == null || referencias <= 0) {
+            return;
+        }
+        repository.subtrairReferencias(hash, referencias);
+        if (repository.removerSemReferencias(hash) > 0) {
+            storage.remover(hash);
+            log.debug("Capa sem referências removida. Hash: {}", hash);
+        }
+    }
+
+    /**
+     * Substitui o conteúdo de uma capa por uma nova versão (ex: capa normalizada),
+     * transferindo todas as referências dos livros para o novo hash e removendo a capa antiga
+     * se nenhuma outra referência tiver surgido nesse meio tempo (ex: cadastro concorrente da mesma imagem).
+     *
+     * @param hashAntigo Hash da capa atual.
+     * @param novosDados Bytes da nova versão da capa.
+     * @return O hash da nova capa.
+     */
+    @Transactional
+    public String substituir(String hashAntigo, byte[] novosDados) {
+        String hashNovo = calcularHash(novosDados);
+        if (hashNovo.equals(hashAntigo)) {
+            return hashAntigo;
+        }
+
+        int livros = livroRepository.substituirCapaHash(hashAntigo, hashNovo);
+        if (livros > 0) {
+            repository.inserirOuSomar(hashNovo, novosDados.length, livros);
+            storage.gravar(hashNovo, novosDados);
+        }
+
+        if (livros > 0) {
+            repository.subtrairReferencias(hashAntigo, livros);
+        }
+        if (repository.removerSemReferencias(hashAntigo) > 0) {
+            storage.remover(hashAntigo);
+        }
+        log.debug("Capa {} substituída por {} ({} livros)", hashAntigo, hashNovo, livros);
+        return hashNovo;
+    }
+
+    /**
+     * Carrega os bytes de uma capa pelo hash.
+     *
+     * @param hash O hash da capa.
+     * @return Os bytes da imagem ou null se o hash for nulo ou não existir.
+     */
+    public byte[] carregar(String hash) {
+        if (hash == null) {
+            return null;
+        }
+        return storage.ler(hash);
+    }
+
+    /**
+     * Carrega os bytes de várias capas de uma só vez.
+     *
+     * @param hashes Os hashes das capas.
+     * @return Mapa hash -> bytes contendo apenas as capas encontradas.
+     */
+    public Map<String, byte[]> carregarVarias(Collection<String> hashes) {
+        return storage.lerVarias(hashes);
+    }
+
+    /**
+     * Calcula o hash SHA-256 (hexadecimal) dos bytes informados.
+     *
+     * @param dados Bytes da imagem.
+     * @return Representação hexadecimal com 64 caracteres.
+     */
+    public static String calcularHash(byte[] dados) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(dados);
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Algoritmo SHA-256 indisponível na JVM", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contrato do meio de armazenamento dos bytes das capas.
+ * <p>
+ * O {@link CapaService} continua responsável pelo hash e pela contagem de referências
+ * (tabela 'capa'); as implementações desta interface cuidam apenas de onde os bytes
+ * de cada capa ficam gravados. A implementação ativa é escolhida pela propriedade
+ * {@code biblioteca.capa.storage} ({@code banco} ou {@code arquivo}).
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public interface CapaStorage {
+
+    /**
+     * Grava os bytes de uma capa. Gravar novamente o mesmo hash não tem efeito.
+     *
+     * @param hash  O hash SHA-256 que identifica a capa.
+     * @param dados Os bytes da imagem.
+     */
+    void gravar(String hash, byte[] dados);
+
+    /**
+     * Lê os bytes de uma capa.
+     *
+     * @param hash O hash SHA-256 da capa.
+     * @return Os bytes da imagem ou null caso a capa não exista.
+     */
+    byte[] ler(String hash);
+
+    /**
+     * Lê os bytes de várias capas. Implementações podem sobrescrever para buscar
+     * todas em uma única operação.
+     *
+     * @param hashes Os hashes das capas.
+     * @return Mapa hash -> bytes contendo apenas as capas encontradas.
+     */
+    default Map<String, byte[]> lerVarias(Collection<String> hashes) {
+        Map<String, byte[]> resultado = new HashMap<>();
+        for (String hash : hashes) {
+            byte[] dados = ler(hash);
+            if (dados != null) {
+                resultado.put(hash, dados);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Remove os bytes de uma capa que não possui mais referências.
+     *
+     * @param hash O hash SHA-256 da capa.
+     */
+    void remover(String hash);
+}
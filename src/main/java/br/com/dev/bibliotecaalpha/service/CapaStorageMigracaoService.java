@@ -0,0 +1,110 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Ferramenta de migração dos bytes das capas do banco de dados para o diretório local.
+ * <p>
+ * Ativa apenas com {@code biblioteca.capa.storage=arquivo}. Em lotes, grava cada capa
+ * que ainda possui bytes na coluna 'capa.dados' no {@link ArquivoCapaStorage} e esvazia
+ * a coluna, reduzindo o tamanho da base. Executada na inicialização, podendo ser desativada
+ * pela propriedade {@code biblioteca.capa.storage.migracao.automatica}.
+ * </p>
+ * <p>
+ * Cada lote é migrado em uma única transação. Uma falha (banco indisponível, disco cheio)
+ * desfaz apenas o lote em andamento e interrompe a migração sem impedir a abertura da aplicação;
+ * as capas restantes continuam legíveis do banco e são migradas na próxima inicialização.
+ * Arquivos gravados por um lote desfeito não causam inconsistência, pois são endereçados por conteúdo.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+@Order(2)
+@ConditionalOnProperty(name = "biblioteca.capa.storage", havingValue = "arquivo")
+public class CapaStorageMigracaoService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CapaStorageMigracaoService.class);
+
+    private static final int TAMANHO_LOTE = 100;
+
+    @Autowired
+    private CapaRepository repository;
+
+    @Autowired
+    private ArquivoCapaStorage arquivoCapaStorage;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${biblioteca.capa.storage.migracao.automatica:true}")
+    private boolean migracaoAutomatica;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migracaoAutomatica) {
+            migrarParaArquivos();
+        }
+    }
+
+    /**
+     * Move para o diretório de capas todos os bytes ainda gravados no banco.
+     *
+     * @return Quantidade de capas migradas.
+     */
+    public int migrarParaArquivos() {
+        int migradas = 0;
+        int processadas;
+
+        do {
+            try {
+                processadas = transactionTemplate.execute(status -> migrarLote());
+            } catch (RuntimeException e) {
+                log.error("Falha ao migrar um lote de capas para o diretório local. Capas migradas até aqui: {}; "
+                        + "as demais serão migradas na próxima inicialização", migradas, e);
+                break;
+            }
+            migradas += processadas;
+        } while (processadas == TAMANHO_LOTE);
+
+        if (migradas > 0) {
+            log.info("Migração de capas para o diretório local concluída. Capas migradas: {}", migradas);
+        }
+        return migradas;
+    }
+
+    /**
+     * Migra um lote de capas (executado dentro da transação do lote).
+     *
+     * @return Quantidade de capas do lote.
+     */
+    private int migrarLote() {
+        List<String> lote = repository.findHashesComDadosNoBanco(PageRequest.of(0, TAMANHO_LOTE));
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        for (Object[] capa : repository.carregarDadosPorHashes(lote)) {
+            String hash = (String) capa[0];
+            byte[] dados = (byte[]) capa[1];
+            if (dados != null) {
+                arquivoCapaStorage.gravar(hash, dados);
+            }
+            repository.limparDados(hash);
+        }
+        return lote.size();
+    }
+}
@@ -0,0 +1,276 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serviço de execução assíncrona das operações da fachada (banco de dados e API externa).
+ * <p>
+ * As tarefas rodam em um pool limitado de threads nomeadas ({@code biblioteca-async-N}), com
+ * {@code biblioteca.execucao.threads} threads e fila de {@code biblioteca.execucao.fila} tarefas.
+ * Com o pool e a fila cheios, a tarefa é recusada (o futuro falha com {@link ServiceException})
+ * em vez de criar mais threads ou bloquear quem a enviou, que normalmente é a EDT.
+ * O pool é medido pelo Micrometer (métricas {@code executor.*}, tag {@code name=biblioteca.async}).
+ * </p>
+ * <p>
+ * As tarefas de I/O bloqueante (consultas e capas da Open Library, gravação e leitura dos arquivos
+ * de importação e exportação) usam {@link #executarIo(Tarefa)}, em um executor separado cujo modo
+ * é definido por {@code biblioteca.execucao.io.modo}:
+ * </p>
+ * <ul>
+ *     <li>{@code virtual}: uma thread virtual por tarefa ({@code biblioteca-io-N}), disponível a
+ *     partir do Java 21. O executor é obtido por reflexão, pois o projeto compila para o Java 8;</li>
+ *     <li>{@code plataforma}: pool de {@code biblioteca.execucao.io.limite} threads de plataforma,
+ *     com fila sem limite, para runtimes anteriores;</li>
+ *     <li>{@code auto} (padrão): virtual quando o runtime oferece, senão plataforma.</li>
+ * </ul>
+ * <p>
+ * Nos dois modos, um semáforo de {@code biblioteca.execucao.io.limite} permissões limita as tarefas
+ * de I/O simultâneas, para não abrir milhares de conexões com a Open Library de uma só vez.
+ * No modo virtual, as tarefas excedentes aguardam a permissão em threads virtuais, que não ocupam
+ * uma thread do sistema enquanto esperam. O executor é medido com {@code name=biblioteca.io},
+ * e as permissões em uso em {@code biblioteca.io.em.uso}.
+ * </p>
+ * <p>
+ * O semáforo não protege o pool de conexões do banco: o limite padrão (32) é maior que o pool
+ * do Hikari (10). As tarefas deste executor que usam o banco (importação e exportação) são
+ * iniciadas uma a uma pelo usuário e, como as demais operações, aguardam uma conexão livre
+ * do Hikari quando o pool estiver ocupado.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class ExecucaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecucaoService.class);
+
+    /**
+     * Nome do executor nas métricas.
+     */
+    public static final String NOME = "biblioteca.async";
+
+    /**
+     * Nome do executor de I/O nas métricas.
+     */
+    public static final String NOME_IO = "biblioteca.io";
+
+    private static final String PREFIXO_IO = "biblioteca-io-";
+
+    /**
+     * Modo de execução das tarefas de I/O.
+     */
+    public enum ModoIo {
+        VIRTUAL, PLATAFORMA
+    }
+
+    @Autowired
+    private MeterRegistry registro;
+
+    @Value("${biblioteca.execucao.threads:4}")
+    private int threads;
+
+    @Value("${biblioteca.execucao.fila:100}")
+    private int fila;
+
+    @Value("${biblioteca.execucao.io.modo:auto}")
+    private String modoIoConfigurado;
+
+    @Value("${biblioteca.execucao.io.limite:32}")
+    private int limiteIo;
+
+    private ExecutorService executor;
+
+    private ExecutorService executorIo;
+
+    private ModoIo modoIo;
+
+    private Semaphore permissoesIo;
+
+    /**
+     * Tarefa executada em segundo plano, que pode lançar exceções verificadas (ex: {@link ServiceException}).
+     *
+     * @param <T> Tipo do resultado.
+     */
+    @FunctionalInterface
+    public interface Tarefa<T> {
+        T executar() throws Exception;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(fila), new ThreadFactory() {
+            private final AtomicInteger contador = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "biblioteca-async-" + contador.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        }, new ThreadPoolExecutor.AbortPolicy());
+        // Threads ociosas são encerradas: a aplicação passa a maior parte do tempo sem tarefas
+        pool.allowCoreThreadTimeOut(true);
+        executor = ExecutorServiceMetrics.monitor(registro, pool, NOME, Collections.emptyList());
+
+        iniciarIo();
+    }
+
+    private void iniciarIo() {
+        String configurado = modoIoConfigurado == null ? "auto" : modoIoConfigurado.trim().toLowerCase(Locale.ROOT);
+        ExecutorService virtual = configurado.equals("plataforma") ? null : criarExecutorVirtual();
+        if (virtual == null && configurado.equals("virtual")) {
+            log.warn("Threads virtuais indisponíveis no Java {}: tarefas de I/O usarão threads de plataforma.",
+                    System.getProperty("java.version"));
+        }
+
+        ExecutorService io;
+        if (virtual != null) {
+            modoIo = ModoIo.VIRTUAL;
+            io = virtual;
+        } else {
+            modoIo = ModoIo.PLATAFORMA;
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(limiteIo, limiteIo, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new ThreadFactory() {
+                private final AtomicInteger contador = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, PREFIXO_IO + contador.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+            pool.allowCoreThreadTimeOut(true);
+            io = pool;
+        }
+        permissoesIo = new Semaphore(limiteIo);
+        executorIo = ExecutorServiceMetrics.monitor(registro, io, NOME_IO, Collections.emptyList());
+        Gauge.builder("biblioteca.io.em.uso", permissoesIo, p -> limiteIo - p.availablePermits())
+                .description("Tarefas de I/O em execução")
+                .tag("modo", modoIo.name().toLowerCase(Locale.ROOT))
+                .register(registro);
+        log.info("Tarefas de I/O em threads {} (até {} simultâneas).",
+                modoIo == ModoIo.VIRTUAL ? "virtuais" : "de plataforma", limiteIo);
+    }
+
+    /**
+     * Cria o executor de uma thread virtual por tarefa ({@code Executors.newThreadPerTaskExecutor}
+     * com {@code Thread.ofVirtual()}) por reflexão.
+     *
+     * @return O executor, ou null se o runtime não oferecer threads virtuais.
+     */
+    static ExecutorService criarExecutorVirtual() {
+        try {
+            Class<?> tipoConstrutor = Class.forName("java.lang.Thread$Builder");
+            Object construtor = Thread.class.getMethod("ofVirtual").invoke(null);
+            construtor = tipoConstrutor.getMethod("name", String.class, long.class).invoke(construtor, PREFIXO_IO, 1L);
+            ThreadFactory fabrica = (ThreadFactory) tipoConstrutor.getMethod("factory").invoke(construtor);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, fabrica);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Java 8 a 18 (classes e métodos ausentes) ou 19 e 20 sem --enable-preview
+            return null;
+        }
+    }
+
+    @PreDestroy
+    void encerrar() {
+        executor.shutdownNow();
+        executorIo.shutdownNow();
+    }
+
+    /**
+     * Modo efetivo das tarefas de I/O, após a detecção do runtime.
+     *
+     * @return O modo.
+     */
+    public ModoIo getModoIo() {
+        return modoIo;
+    }
+
+    /**
+     * Executa a tarefa em segundo plano.
+     *
+     * @param tarefa A tarefa.
+     * @param <T>    Tipo do resultado.
+     * @return Futuro com o resultado. Em caso de erro, o futuro falha com a exceção original da
+     * tarefa; se o pool estiver saturado, com {@link ServiceException}.
+     */
+    public <T> CompletableFuture<T> executar(Tarefa<T> tarefa) {
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    futuro.complete(tarefa.executar());
+                } catch (Throwable e) {
+                    futuro.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Tarefa recusada: {} threads ocupadas e fila de {} tarefas cheia.", threads, fila);
+            futuro.completeExceptionally(new ServiceException("O sistema está ocupado com outras operações. Tente novamente em instantes."));
+        }
+        return futuro;
+    }
+
+    /**
+     * Executa uma tarefa de I/O bloqueante no executor de I/O, respeitando o limite de tarefas
+     * simultâneas. Não recusa tarefas: as excedentes aguardam a vez, o que permite enviar de uma só
+     * vez os milhares de ISBNs de um enriquecimento.
+     *
+     * @param tarefa A tarefa.
+     * @param <T>    Tipo do resultado.
+     * @return Futuro com o resultado. Em caso de erro, o futuro falha com a exceção original da tarefa.
+     */
+    public <T> CompletableFuture<T> executarIo(Tarefa<T> tarefa) {
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        try {
+            executorIo.execute(() -> {
+                try {
+                    permissoesIo.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futuro.completeExceptionally(e);
+                    return;
+                }
+                try {
+                    futuro.complete(tarefa.executar());
+                } catch (Throwable e) {
+                    futuro.completeExceptionally(e);
+                } finally {
+                    permissoesIo.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Apenas após o encerramento do contexto
+            futuro.completeExceptionally(new ServiceException("O sistema está sendo encerrado."));
+        }
+        return futuro;
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.dev.bibliotecaalpha.service;
 
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.metrica.EventoLote;
 import br.com.dev.bibliotecaalpha.model.Livro;
 import br.com.dev.bibliotecaalpha.repository.LivroRepository;
 import org.apache.commons.csv.CSVFormat;
@@ -61,8 +62,14 @@ public class ExportacaoService {
             try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(caminhoArquivo), StandardCharsets.UTF_8);
                  CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader("ID", "ISBN", "Titulo", "Autores", "Editora", "Data"))) {
 
-                for (Livro livro : livros) {
-                    csvPrinter.printRecord(livro.getId(), livro.getIsbn(), livro.getTitulo(), livro.getAutores(), livro.getEditora(), livro.getDataPublicacao());
+                String nomeArquivo = Paths.get(caminhoArquivo).getFileName().toString();
+                for (int inicio = 0; inicio < livros.size(); inicio += EventoLote.TAMANHO) {
+                    int fim = Math.min(inicio + EventoLote.TAMANHO, livros.size());
+                    EventoLote lote = EventoLote.iniciar("exportacao", nomeArquivo, inicio);
+                    for (Livro livro : livros.subList(inicio, fim)) {
+                        csvPrinter.printRecord(livro.getId(), livro.getIsbn(), livro.getTitulo(), livro.getAutores(), livro.getEditora(), livro.getDataPublicacao());
+                    }
+                    lote.concluir(fim - inicio);
                 }
 
                 csvPrinter.flush();
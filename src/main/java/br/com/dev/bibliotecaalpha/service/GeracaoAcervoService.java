@@ -0,0 +1,300 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.gerador.GeradorAcervo;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.json.JSONObject;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serviço de geração de acervos sintéticos (ver {@link GeradorAcervo}) para benchmarks e demonstrações.
+ * <p>
+ * O acervo pode ser gravado em arquivo (CSV no layout da importação ou JSON Lines, com as capas
+ * em um diretório ao lado) ou carregado diretamente no banco. A carga usa o {@code COPY} do
+ * PostgreSQL, em lotes de {@value #TAMANHO_LOTE} livros (uma transação por lote), e silencia
+ * o gatilho de notificação apenas na transação de cada lote ({@code SET LOCAL}, sem bloquear a
+ * tabela para as outras estações): ao final, uma única notificação de ressincronização substitui
+ * as milhões que seriam enviadas.
+ * </p>
+ * <p>
+ * Os livros gerados não passam pelo Hibernate nem pelo barramento de eventos: a carga é feita
+ * pela linha de comando ({@code gerar-acervo}), antes de abrir a aplicação.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class GeracaoAcervoService {
+
+    private static final Logger log = LoggerFactory.getLogger(GeracaoAcervoService.class);
+
+    static final int TAMANHO_LOTE = 100_000;
+
+    static final String DIRETORIO_CAPAS = "capas";
+
+    private static final String SQL_COPY = "COPY livro (isbn, titulo, autores, editora, data_publicacao, "
+            + "livros_semelhantes, capa_hash) FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Campos vazios sem aspas são gravados como NULL pelo COPY.
+     */
+    private static final CSVFormat FORMATO_COPY = CSVFormat.DEFAULT.withRecordSeparator('\n');
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CapaRepository capaRepository;
+
+    @Autowired
+    private CapaStorage capaStorage;
+
+    /**
+     * Formatos de arquivo do acervo gerado.
+     */
+    public enum Formato {
+        /**
+         * CSV no layout da importação (ISBN, Titulo, Autores, Editora, Data), com a coluna Capa
+         * quando houver capas.
+         */
+        CSV,
+        /**
+         * Um objeto JSON por linha, com todos os campos do livro.
+         */
+        JSONL
+    }
+
+    /**
+     * Gera o acervo em um arquivo. As capas são gravadas uma única vez cada, no diretório
+     * {@value #DIRETORIO_CAPAS} ao lado do arquivo, e referenciadas pelo caminho relativo.
+     * Não depende do banco de dados.
+     *
+     * @param gerador    O gerador (semente e distribuições).
+     * @param inicio     Posição do primeiro livro no acervo do gerador.
+     * @param quantidade Quantidade de livros.
+     * @param destino    O arquivo (sobrescrito se existir).
+     * @param formato    O formato do arquivo.
+     * @throws ServiceException Em caso de erro de I/O.
+     */
+    public void gravarArquivo(GeradorAcervo gerador, long inicio, long quantidade, Path destino, Formato formato) throws ServiceException {
+        log.info("Gerando acervo sintético: {} livros a partir da posição {} (semente {}) em {} ({})", quantidade, inicio,
+                gerador.getSemente(), destino, formato);
+        long inicioNs = System.nanoTime();
+        Path diretorioCapas = destino.toAbsolutePath().getParent().resolve(DIRETORIO_CAPAS);
+        boolean comCapas = gerador.getProporcaoCapas() > 0;
+        Set<String> capasGravadas = new HashSet<>();
+
+        try (BufferedWriter writer = Files.newBufferedWriter(destino, StandardCharsets.UTF_8)) {
+            if (comCapas) {
+                Files.createDirectories(diretorioCapas);
+            }
+            CSVPrinter csvPrinter = null;
+            if (formato == Formato.CSV) {
+                csvPrinter = new CSVPrinter(writer, comCapas
+                        ? CSVFormat.DEFAULT.withHeader("ISBN", "Titulo", "Autores", "Editora", "Data", "Capa")
+                        : CSVFormat.DEFAULT.withHeader("ISBN", "Titulo", "Autores", "Editora", "Data"));
+            }
+
+            for (long i = inicio; i < inicio + quantidade; i++) {
+                Livro livro = gerador.gerar(i);
+                String capa = null;
+                if (livro.getCapaHash() != null) {
+                    capa = DIRETORIO_CAPAS + "/" + livro.getCapaHash() + ".jpg";
+                    if (capasGravadas.add(livro.getCapaHash())) {
+                        Files.write(diretorioCapas.resolve(livro.getCapaHash() + ".jpg"), gerador.dadosCapa(livro.getCapaHash()));
+                    }
+                }
+                if (csvPrinter != null) {
+                    if (comCapas) {
+                        csvPrinter.printRecord(livro.getIsbn(), livro.getTitulo(), livro.getAutores(), livro.getEditora(),
+                                livro.getDataPublicacao(), capa);
+                    } else {
+                        csvPrinter.printRecord(livro.getIsbn(), livro.getTitulo(), livro.getAutores(), livro.getEditora(),
+                                livro.getDataPublicacao());
+                    }
+                } else {
+                    escreverJson(writer, livro, capa);
+                }
+            }
+
+            if (csvPrinter != null) {
+                csvPrinter.flush();
+            }
+        } catch (IOException e) {
+            log.error("Falha ao gravar o acervo gerado", e);
+            throw new ServiceException("Erro ao gravar o acervo gerado: " + e.getMessage());
+        }
+
+        log.info("Acervo gerado: {} livros e {} capas distintas em {} ms", quantidade, capasGravadas.size(),
+                (System.nanoTime() - inicioNs) / 1_000_000);
+    }
+
+    /**
+     * Gera o acervo diretamente no banco de dados. Cada lote é gravado em uma transação: em caso de
+     * falha, os lotes anteriores permanecem gravados. ISBNs já cadastrados fazem o lote falhar: para
+     * ampliar um acervo já carregado, continue da posição seguinte com a mesma semente (as posições
+     * de um mesmo gerador nunca repetem o ISBN).
+     *
+     * @param gerador    O gerador (semente e distribuições).
+     * @param inicio     Posição do primeiro livro no acervo do gerador.
+     * @param quantidade Quantidade de livros.
+     * @return Quantidade de livros gravados.
+     * @throws ServiceException Se um lote falhar.
+     */
+    public long carregarNoBanco(GeradorAcervo gerador, long inicio, long quantidade) throws ServiceException {
+        log.info("Carregando acervo sintético no banco: {} livros a partir da posição {} (semente {})", quantidade, inicio,
+                gerador.getSemente());
+        boolean silenciarGatilho = podeSilenciarGatilho();
+        if (!silenciarGatilho) {
+            log.warn("O gatilho de notificação não pode ser silenciado (migração V6 não aplicada): cada livro gerará uma notificação às outras estações.");
+        }
+
+        long inicioNs = System.nanoTime();
+        Set<String> capasGravadas = new HashSet<>();
+        long gravados = 0;
+        try {
+            while (gravados < quantidade) {
+                long primeiro = inicio + gravados;
+                long lote = Math.min(quantidade - gravados, TAMANHO_LOTE);
+                transactionTemplate.executeWithoutResult(status ->
+                        carregarLote(gerador, primeiro, primeiro + lote, silenciarGatilho, capasGravadas));
+                gravados += lote;
+
+                long decorridoMs = Math.max(1, (System.nanoTime() - inicioNs) / 1_000_000);
+                log.info("Carga do acervo: {} de {} livros ({} livros/min)", gravados, quantidade, gravados * 60_000 / decorridoMs);
+            }
+        } catch (DataAccessException | UncheckedIOException e) {
+            log.error("Falha na carga do acervo após {} livros gravados", gravados, e);
+            throw new ServiceException("Erro na carga do acervo (" + gravados + " livros gravados): " + e.getMessage());
+        } finally {
+            if (silenciarGatilho && gravados > 0) {
+                notificarRessincronizacao();
+            }
+        }
+
+        log.info("Carga do acervo concluída: {} livros e {} capas distintas em {} ms", gravados, capasGravadas.size(),
+                (System.nanoTime() - inicioNs) / 1_000_000);
+        return gravados;
+    }
+
+    /**
+     * Grava as posições {@code [primeiro, fim)} do acervo (chamado dentro da transação do lote).
+     */
+    private void carregarLote(GeradorAcervo gerador, long primeiro, long fim, boolean silenciarGatilho, Set<String> capasGravadas) {
+        if (silenciarGatilho) {
+            // Vale somente até o fim da transação do lote; as demais conexões continuam notificando
+            jdbcTemplate.execute("SET LOCAL " + NotificacaoLivroService.PARAMETRO_SILENCIAR + " = 'on'");
+        }
+
+        Map<String, Integer> referencias = new HashMap<>();
+        // A conexão é a da transação do lote (a mesma usada pelo JdbcTemplate e pelos repositórios)
+        jdbcTemplate.execute((ConnectionCallback<Void>) conexao -> {
+            PGConnection pgConexao = conexao.unwrap(PGConnection.class);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new PGCopyOutputStream(pgConexao, SQL_COPY, 1 << 16), StandardCharsets.UTF_8), 1 << 16);
+                 CSVPrinter csvPrinter = new CSVPrinter(writer, FORMATO_COPY)) {
+                for (long i = primeiro; i < fim; i++) {
+                    Livro livro = gerador.gerar(i);
+                    csvPrinter.printRecord(livro.getIsbn(), livro.getTitulo(), livro.getAutores(), livro.getEditora(),
+                            livro.getDataPublicacao(), livro.getLivrosSemelhantes(), livro.getCapaHash());
+                    if (livro.getCapaHash() != null) {
+                        referencias.merge(livro.getCapaHash(), 1, Integer::sum);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+
+        for (Map.Entry<String, Integer> capa : referencias.entrySet()) {
+            byte[] dados = gerador.dadosCapa(capa.getKey());
+            capaRepository.inserirOuSomar(capa.getKey(), dados.length, capa.getValue());
+            if (!capasGravadas.contains(capa.getKey())) {
+                capaStorage.gravar(capa.getKey(), dados);
+            }
+        }
+        capasGravadas.addAll(referencias.keySet());
+    }
+
+    /**
+     * Verifica se a função do gatilho de notificação respeita o parâmetro
+     * {@value NotificacaoLivroService#PARAMETRO_SILENCIAR} (migração V6 ou gatilho instalado por
+     * {@link NotificacaoLivroService}).
+     */
+    private boolean podeSilenciarGatilho() {
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_proc "
+                + "WHERE proname = 'notificar_alteracao_livro' AND prosrc LIKE ?", Integer.class,
+                "%" + NotificacaoLivroService.PARAMETRO_SILENCIAR + "%");
+        return total != null && total > 0;
+    }
+
+    /**
+     * Avisa as outras estações que o acervo mudou em massa (as telas reconsultam as alterações).
+     */
+    private void notificarRessincronizacao() {
+        try {
+            JSONObject conteudo = new JSONObject()
+                    .put("id", 0)
+                    .put("operacao", NotificacaoLivroService.OPERACAO_RESSINCRONIZACAO)
+                    .put("origem", "biblioteca-alpha-gerador");
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", NotificacaoLivroService.CANAL, conteudo.toString());
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível notificar as outras estações sobre a carga: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Escreve o livro como uma linha JSON (campos nulos omitidos, sempre na mesma ordem).
+     */
+    private static void escreverJson(Writer writer, Livro livro, String capa) throws IOException {
+        writer.write("{\"isbn\":");
+        writer.write(JSONObject.quote(livro.getIsbn()));
+        writer.write(",\"titulo\":");
+        writer.write(JSONObject.quote(livro.getTitulo()));
+        writer.write(",\"autores\":");
+        writer.write(JSONObject.quote(livro.getAutores()));
+        writer.write(",\"editora\":");
+        writer.write(JSONObject.quote(livro.getEditora()));
+        writer.write(",\"dataPublicacao\":");
+        writer.write(JSONObject.quote(livro.getDataPublicacao()));
+        if (livro.getLivrosSemelhantes() != null) {
+            writer.write(",\"livrosSemelhantes\":");
+            writer.write(JSONObject.quote(livro.getLivrosSemelhantes()));
+        }
+        if (capa != null) {
+            writer.write(",\"capa\":");
+            writer.write(JSONObject.quote(capa));
+        }
+        writer.write("}\n");
+    }
+}
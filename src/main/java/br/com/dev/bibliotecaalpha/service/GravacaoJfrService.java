@@ -0,0 +1,117 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serviço de gravação do JDK Flight Recorder sob demanda.
+ * <p>
+ * Permite ao usuário capturar uma gravação enquanto reproduz uma lentidão: a gravação usa a
+ * configuração {@code profile} do JDK (amostragem de CPU, alocações, bloqueios e E/S) e inclui
+ * os eventos da aplicação (repositórios, HTTP, lotes de importação/exportação e ações da interface).
+ * Ao parar, o arquivo {@code .jfr} é gravado no diretório {@code biblioteca.jfr.diretorio}, para
+ * abrir no JDK Mission Control.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class GravacaoJfrService {
+
+    private static final Logger log = LoggerFactory.getLogger(GravacaoJfrService.class);
+
+    private static final DateTimeFormatter FORMATO_ARQUIVO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Value("${biblioteca.jfr.diretorio:logs/gravacoes}")
+    private String diretorio;
+
+    private Recording gravacao;
+
+    /**
+     * @return true se houver uma gravação em andamento.
+     */
+    public synchronized boolean isGravando() {
+        return gravacao != null;
+    }
+
+    /**
+     * Inicia uma gravação (sem efeito se já houver uma em andamento).
+     *
+     * @throws ServiceException Se o JFR não estiver disponível nesta JVM.
+     */
+    public synchronized void iniciar() throws ServiceException {
+        if (gravacao != null) {
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            throw new ServiceException("O Flight Recorder não está disponível nesta JVM.");
+        }
+        try {
+            Recording nova = new Recording(Configuration.getConfiguration("profile"));
+            nova.setName("biblioteca-alpha");
+            nova.setToDisk(true);
+            nova.start();
+            gravacao = nova;
+            log.info("Gravação do Flight Recorder iniciada.");
+        } catch (IOException | ParseException e) {
+            log.error("Falha ao iniciar a gravação do Flight Recorder", e);
+            throw new ServiceException("Não foi possível iniciar a gravação: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Para a gravação em andamento e grava o arquivo.
+     *
+     * @return O caminho do arquivo gravado.
+     * @throws ServiceException Se não houver gravação em andamento ou se o arquivo não puder ser gravado.
+     */
+    public synchronized Path parar() throws ServiceException {
+        if (gravacao == null) {
+            throw new ServiceException("Não há gravação em andamento.");
+        }
+        Recording atual = gravacao;
+        gravacao = null;
+        try {
+            Path pasta = Paths.get(diretorio);
+            Files.createDirectories(pasta);
+            Path arquivo = pasta.resolve("biblioteca-alpha-" + LocalDateTime.now().format(FORMATO_ARQUIVO) + ".jfr")
+                    .toAbsolutePath();
+            atual.stop();
+            atual.dump(arquivo);
+            log.info("Gravação do Flight Recorder salva em {}", arquivo);
+            return arquivo;
+        } catch (IOException e) {
+            log.error("Falha ao gravar o arquivo do Flight Recorder", e);
+            throw new ServiceException("Não foi possível gravar o arquivo: " + e.getMessage());
+        } finally {
+            atual.close();
+        }
+    }
+
+    /**
+     * Descarta a gravação em andamento ao encerrar a aplicação.
+     */
+    @PreDestroy
+    synchronized void encerrar() {
+        if (gravacao != null) {
+            gravacao.close();
+            gravacao = null;
+        }
+    }
+}
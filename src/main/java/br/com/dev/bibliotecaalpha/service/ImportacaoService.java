@@ -1,8 +1,13 @@
 package br.com.dev.bibliotecaalpha.service;
 
+import br.com.dev.bibliotecaalpha.event.AcervoImportadoEvento;
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.metrica.EventoLote;
 import br.com.dev.bibliotecaalpha.model.Livro;
 import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
@@ -37,6 +42,12 @@ public class ImportacaoService {
     @Autowired
     private LivroRepository repository;
 
+    @Autowired
+    private MeterRegistry registro;
+
+    @Autowired
+    private BarramentoEventos barramentoEventos;
+
     /**
      * Lê um arquivo CSV do sistema de arquivos e persiste os dados na base.
      * <p>
@@ -49,6 +60,10 @@ public class ImportacaoService {
      * <li>Data</li>
      * </ul>
      * </p>
+     * <p>
+     * Após a confirmação da transação, publica um único {@link AcervoImportadoEvento}
+     * (e não um evento por livro importado).
+     * </p>
      *
      * @param caminhoArquivo O caminho absoluto ou relativo para o arquivo CSV.
      * @throws ServiceException Se o arquivo não existir, estiver vazio, tiver formato inválido
@@ -79,10 +94,20 @@ public class ImportacaoService {
                 throw new ServiceException("O arquivo CSV está inválido: Coluna 'ISBN' não encontrada.");
             }
 
+            long inicio = System.nanoTime();
             int novos = 0;
             int atualizados = 0;
+            String nomeArquivo = Paths.get(caminhoArquivo).getFileName().toString();
+            long linha = 0;
+            EventoLote lote = EventoLote.iniciar("importacao", nomeArquivo, 0);
 
             for (CSVRecord csvRecord : csvParser) {
+                if (linha > 0 && linha % EventoLote.TAMANHO == 0) {
+                    lote.concluir(EventoLote.TAMANHO);
+                    lote = EventoLote.iniciar("importacao", nomeArquivo, linha);
+                }
+                linha++;
+
                 String isbn = csvRecord.get("ISBN");
                 String titulo = csvRecord.get("Titulo");
                 String autores = csvRecord.get("Autores");
@@ -110,9 +135,15 @@ public class ImportacaoService {
 
                 repository.save(livro);
             }
+            lote.concluir(linha == 0 ? 0 : (linha - 1) % EventoLote.TAMANHO + 1);
 
             log.info("Importação finalizada com sucesso. Total lido: {}, Novos: {}, Atualizados: {}",
                     csvParser.getRecordNumber(), novos, atualizados);
+            registrarMetricas(novos, atualizados, System.nanoTime() - inicio);
+
+            int totalNovos = novos;
+            int totalAtualizados = atualizados;
+            barramentoEventos.publicarAposCommit(() -> new AcervoImportadoEvento(totalNovos, totalAtualizados));
 
         } catch (IOException e) {
             log.error("Erro de IO ao processar arquivo", e);
@@ -122,4 +153,18 @@ public class ImportacaoService {
             throw new ServiceException("Formato do CSV inválido: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Registra os livros gravados e a taxa (livros por segundo) da importação concluída.
+     */
+    private void registrarMetricas(int novos, int atualizados, long duracaoNanos) {
+        registro.counter(MetricasService.LIVROS_IMPORTADOS, "tipo", "novo").increment(novos);
+        registro.counter(MetricasService.LIVROS_IMPORTADOS, "tipo", "atualizado").increment(atualizados);
+        if (duracaoNanos > 0 && novos + atualizados > 0) {
+            DistributionSummary.builder(MetricasService.TAXA_IMPORTACAO)
+                    .baseUnit("livros/s")
+                    .register(registro)
+                    .record((novos + atualizados) * 1e9 / duracaoNanos);
+        }
+    }
+}
@@ -3,14 +3,40 @@ package br.com.dev.bibliotecaalpha.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import br.com.dev.bibliotecaalpha.busca.IndiceAproximado;
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
 import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.repository.LivroExclusaoRepository;
 import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -28,12 +54,49 @@ public class LivroService {
 
     private static final Logger log = LoggerFactory.getLogger(LivroService.class);
 
+    /**
+     * Quantidade máxima de IDs por comando nas operações em lote.
+     */
+    static final int TAMANHO_LOTE = 1000;
+
     @Autowired
     private LivroRepository repository;
 
+    @Autowired
+    private LivroExclusaoRepository exclusaoRepository;
+
     @Autowired
     private OpenLibraryService openLibraryService;
 
+    @Autowired
+    private CapaCacheService capaCacheService;
+
+    @Autowired
+    private CapaService capaService;
+
+    @Autowired
+    private CapaNormalizacaoService capaNormalizacaoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BarramentoEventos barramentoEventos;
+
+    @Autowired
+    private BuscaAproximadaService buscaAproximadaService;
+
+    @Autowired
+    private NotificacaoLivroService notificacaoLivroService;
+
+    /**
+     * Inscreve o cache de segundo nível nas notificações de alteração de outras estações.
+     */
+    @PostConstruct
+    void inscrever() {
+        notificacaoLivroService.adicionarOuvinte(this::descartarDoCache);
+    }
+
     /**
      * Salva ou atualiza um livro no banco de dados.
      * <p>
@@ -42,6 +105,11 @@ public class LivroService {
      * <li>Verifica campos obrigatórios (Título, ISBN, Autores, Data).</li>
      * <li>Verifica duplicidade de ISBN para evitar dois livros diferentes com o mesmo código.</li>
      * </ul>
+     * Após a confirmação da transação, publica {@link LivroCriadoEvento} ou {@link LivroAtualizadoEvento}.
+     * </p>
+     * <p>
+     * A capa deve chegar já normalizada ({@link CapaNormalizacaoService#normalizar(byte[])}, feito pela
+     * fachada antes de chamar este método), para que a decodificação da imagem não prolongue a transação.
      * </p>
      *
      * @param livro O objeto {@link Livro} a ser salvo.
@@ -61,9 +129,20 @@ public class LivroService {
             }
         }
 
+        boolean novo = livro.getId() == null;
+        LivroResumo anterior = novo ? null : repository.findById(livro.getId()).map(LivroResumo::de).orElse(null);
+
         try {
+            atualizarReferenciaCapa(livro);
             Livro salvo = repository.save(livro);
             log.info("Livro salvo com sucesso. ID: {}", salvo.getId());
+
+            barramentoEventos.publicarAposCommit(() -> novo
+                    ? new LivroCriadoEvento(LivroResumo.de(salvo))
+                    : new LivroAtualizadoEvento(anterior, LivroResumo.de(salvo)));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Conflito de versão ao salvar livro ID: {}", livro.getId());
+            throw new ServiceException("Este livro foi alterado em outra tela desde que foi aberto. Recarregue a listagem e tente novamente.");
         } catch (Exception e) {
             log.error("Erro ao persistir livro no banco de dados", e);
             throw new ServiceException("Erro técnico ao salvar livro: " + e.getMessage());
@@ -80,18 +159,277 @@ public class LivroService {
         return repository.findAll();
     }
 
+    /**
+     * Pesquisa livros por relevância (busca textual no banco, insensível a acentos)
+     * em título, autores, editora e livros semelhantes.
+     *
+     * @param termo   Texto da pesquisa.
+     * @param pagina  Número da página (a partir de 0).
+     * @param tamanho Quantidade de livros por página.
+     * @return Os livros da página, do mais relevante ao menos relevante (vazia se o termo estiver em branco).
+     * @throws ServiceException Caso a busca textual não esteja disponível no banco.
+     */
+    @Transactional(readOnly = true)
+    public List<Livro> pesquisarPorRelevancia(String termo, int pagina, int tamanho) throws ServiceException {
+        if (termo == null || termo.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        log.debug("Pesquisa por relevância: '{}' (página {})", termo, pagina);
+        try {
+            return repository.pesquisarPorRelevancia(termo.trim(), PageRequest.of(pagina, tamanho));
+        } catch (DataAccessException e) {
+            log.error("Falha na busca textual por '{}'", termo, e);
+            throw new ServiceException("A pesquisa por relevância não está disponível: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    /**
+     * Pesquisa livros por semelhança das palavras do título e dos autores, tolerando erros
+     * de digitação (ex: "Tolkein", "Rowlling").
+     *
+     * @param termo  Texto da pesquisa.
+     * @param limite Quantidade máxima de livros retornados.
+     * @return Os livros mais semelhantes com suas pontuações, do mais ao menos semelhante
+     * (vazia se o termo estiver em branco).
+     * @throws ServiceException Caso o acervo não possa ser lido para montar o índice.
+     */
+    @Transactional(readOnly = true)
+    public List<ResultadoAproximado> pesquisarAproximado(String termo, int limite) throws ServiceException {
+        if (termo == null || termo.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        log.debug("Pesquisa aproximada: '{}'", termo);
+        try {
+            List<IndiceAproximado.Ocorrencia> ocorrencias = buscaAproximadaService.pesquisar(termo, limite);
+            List<Long> ids = new ArrayList<>(ocorrencias.size());
+            for (IndiceAproximado.Ocorrencia ocorrencia : ocorrencias) {
+                ids.add(ocorrencia.getId());
+            }
+            Map<Long, Livro> livrosPorId = new HashMap<>();
+            for (Livro livro : repository.findAllById(ids)) {
+                livrosPorId.put(livro.getId(), livro);
+            }
+
+            List<ResultadoAproximado> resultado = new ArrayList<>(ocorrencias.size());
+            for (IndiceAproximado.Ocorrencia ocorrencia : ocorrencias) {
+                Livro livro = livrosPorId.get(ocorrencia.getId());
+                if (livro != null) {
+                    resultado.add(new ResultadoAproximado(livro, ocorrencia.getPontuacao()));
+                }
+            }
+            return resultado;
+        } catch (DataAccessException e) {
+            log.error("Falha na busca aproximada por '{}'", termo, e);
+            throw new ServiceException("A pesquisa aproximada não está disponível: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    /**
+     * Retorna apenas o que mudou no acervo desde a última atualização conhecida pelo cliente.
+     * <p>
+     * Na primeira chamada ({@code desde} nulo) devolve o acervo completo. Nas seguintes, devolve
+     * os livros inseridos ou alterados e os IDs dos livros excluídos após a marca informada,
+     * de forma que o custo da atualização seja proporcional à quantidade de alterações,
+     * e não ao tamanho do acervo.
+     * </p>
+     * <p>
+     * A marca é um ID de transação, e não um instante: é o menor ID ainda em andamento quando
+     * a consulta começou, de forma que uma transação confirmada depois dela, mesmo que tenha
+     * escrito suas linhas muito antes, seja incluída na próxima chamada. Por isso uma mesma
+     * alteração pode ser devolvida mais de uma vez; o cliente deve aplicá-las como substituição.
+     * </p>
+     *
+     * @param desde Marca devolvida pela chamada anterior, ou null para a carga completa.
+     * @return As alterações e a nova marca a ser informada na próxima chamada.
+     */
+    @Transactional(readOnly = true)
+    public Alteracoes buscarAlteracoesDesde(Long desde) {
+        // Obtida antes das leituras: o que for confirmado depois delas tem ID >= novaMarca
+        long novaMarca = repository.consultarMarcaTransacoes();
+
+        if (desde == null) {
+            List<Livro> todos = repository.findAll();
+            log.debug("Carga completa da listagem: {} livros", todos.size());
+            return new Alteracoes(todos, Collections.<Long>emptyList(), novaMarca, true);
+        }
+
+        List<Livro> alterados = repository.findAlteradosDesde(desde);
+        List<Long> excluidos = exclusaoRepository.findIdsExcluidosDesde(desde);
+        log.debug("Atualização incremental desde {}: {} alterados, {} excluídos", desde, alterados.size(), excluidos.size());
+        return new Alteracoes(alterados, excluidos, novaMarca, false);
+    }
+
+    /**
+     * Grava apenas os campos alterados na tela de edição, sem carregar o livro nem tocar na capa.
+     * <p>
+     * Ao contrário de {@link #salvar(Livro)}, que mescla a entidade inteira (relendo a linha e
+     * reprocessando a capa), executa um único {@code UPDATE} das colunas informadas, condicionado
+     * à versão com que o livro foi aberto. Após a confirmação da transação, publica
+     * {@link LivroAtualizadoEvento}.
+     * </p>
+     *
+     * @param id         O ID do livro.
+     * @param versao     A versão do livro quando foi aberto para edição.
+     * @param alteracoes Campo -> novo valor, apenas para os campos alterados.
+     * @throws ServiceException Caso um campo obrigatório esteja vazio, o ISBN já pertença a outro
+     * livro, o livro tenha sido alterado ou excluído desde que foi aberto ou ocorra erro no banco.
+     */
+    @Transactional
+    public void atualizarCampos(Long id, long versao, Map<Campo, String> alteracoes) throws ServiceException {
+        if (alteracoes.isEmpty()) {
+            return;
+        }
+        log.info("Alteração parcial do livro ID {} (versão {}): {}", id, versao, alteracoes.keySet());
+
+        Map<String, String> valores = new LinkedHashMap<>();
+        for (Map.Entry<Campo, String> alteracao : alteracoes.entrySet()) {
+            Campo campo = alteracao.getKey();
+            String valor = alteracao.getValue();
+            if (campo.getMensagemObrigatorio() != null && (valor == null || valor.trim().isEmpty())) {
+                log.warn("Validação falhou: {} vazio", campo);
+                throw new ServiceException(campo.getMensagemObrigatorio());
+            }
+            valores.put(campo.getColuna(), valor);
+        }
+
+        String isbn = alteracoes.get(Campo.ISBN);
+        if (isbn != null) {
+            Optional<Livro> existente = repository.findByIsbn(isbn);
+            if (existente.isPresent() && !existente.get().getId().equals(id)) {
+                log.warn("Tentativa de alterar para ISBN já cadastrado: {}", isbn);
+                throw new ServiceException("Já existe um livro cadastrado com este ISBN: " + isbn);
+            }
+        }
+
+        Optional<LivroResumo[]> alterado;
+        try {
+            alterado = repository.atualizarCampos(id, versao, valores);
+        } catch (DataAccessException e) {
+            log.error("Erro ao persistir livro no banco de dados", e);
+            throw new ServiceException("Erro técnico ao salvar livro: " + e.getMessage());
+        }
+        if (!alterado.isPresent()) {
+            if (!repository.existsById(id)) {
+                throw new ServiceException("Livro não encontrado com o ID: " + id);
+            }
+            log.warn("Conflito de versão ao salvar livro ID: {}", id);
+            throw new ServiceException("Este livro foi alterado em outra tela desde que foi aberto. Recarregue a listagem e tente novamente.");
+        }
+
+        LivroResumo[] par = alterado.get();
+        barramentoEventos.publicarAposCommit(() -> new LivroAtualizadoEvento(par[0], par[1]));
+        log.info("Livro ID {} alterado parcialmente. Nova versão: {}", id, par[1].getVersao());
+    }
+
     /**
      * Remove um livro permanentemente do banco de dados.
+     * Após a confirmação da transação, publica {@link LivroExcluidoEvento}.
      *
      * @param id O identificador único do livro a ser excluído.
      */
     @Transactional
     public void excluir(Long id) {
         log.info("Solicitação de exclusão para o livro ID: {}", id);
+        LivroResumo resumo = repository.findById(id).map(LivroResumo::de).orElse(null);
+        String capaHash = resumo != null ? resumo.getCapaHash() : null;
         repository.deleteById(id);
+        exclusaoRepository.registrar(id);
+        capaService.liberar(capaHash);
+        capaCacheService.invalidar(id);
+        barramentoEventos.publicarAposCommit(() -> new LivroExcluidoEvento(id, resumo));
         log.info("Livro ID {} excluído com sucesso", id);
     }
 
+    /**
+     * Remove permanentemente um conjunto de livros (ex: linhas importadas por engano).
+     * <p>
+     * Ao contrário de {@link #excluir(Long)}, não carrega os livros: cada lote de até
+     * {@value #TAMANHO_LOTE} IDs é excluído com um único comando, que também grava as lápides.
+     * As capas têm suas referências liberadas de uma só vez por hash. Tudo ocorre em uma única
+     * transação; após a confirmação, publica um {@link LivroExcluidoEvento} por livro.
+     * </p>
+     *
+     * @param ids Os IDs dos livros a serem excluídos.
+     * @return Quantidade de livros excluídos (IDs inexistentes são ignorados).
+     */
+    @Transactional
+    public int excluirEmLote(Collection<Long> ids) {
+        List<Long> distintos = new ArrayList<>(new LinkedHashSet<>(ids));
+        log.info("Solicitação de exclusão em lote de {} livros", distintos.size());
+
+        List<LivroResumo> excluidos = new ArrayList<>(distintos.size());
+        for (int inicio = 0; inicio < distintos.size(); inicio += TAMANHO_LOTE) {
+            excluidos.addAll(repository.excluirPorIds(distintos.subList(inicio, Math.min(inicio + TAMANHO_LOTE, distintos.size()))));
+        }
+
+        Map<String, Integer> referenciasPorCapa = new HashMap<>();
+        for (LivroResumo livro : excluidos) {
+            if (livro.getCapaHash() != null) {
+                referenciasPorCapa.merge(livro.getCapaHash(), 1, Integer::sum);
+            }
+            capaCacheService.invalidar(livro.getId());
+        }
+        referenciasPorCapa.forEach(capaService::liberar);
+
+        for (LivroResumo livro : excluidos) {
+            barramentoEventos.publicarAposCommit(() -> new LivroExcluidoEvento(livro.getId(), livro));
+        }
+        log.info("{} livros excluídos em lote", excluidos.size());
+        return excluidos.size();
+    }
+
+    /**
+     * Altera a editora, os autores e/ou a data de publicação de um conjunto de livros.
+     * <p>
+     * Os campos nulos são mantidos. Cada lote de até {@value #TAMANHO_LOTE} IDs é alterado com
+     * um único comando, sem carregar os livros; após a confirmação da transação, publica um
+     * {@link LivroAtualizadoEvento} por livro.
+     * </p>
+     *
+     * @param ids            Os IDs dos livros.
+     * @param editora        Nova editora, ou null para manter (vazia remove a editora).
+     * @param autores        Novos autores, ou null para manter.
+     * @param dataPublicacao Nova data de publicação, ou null para manter.
+     * @return Quantidade de livros alterados.
+     * @throws ServiceException Caso nenhum campo seja informado ou um campo obrigatório esteja vazio.
+     */
+    @Transactional
+    public int atualizarEmLote(Collection<Long> ids, String editora, String autores, String dataPublicacao) throws ServiceException {
+        Map<String, String> valores = new LinkedHashMap<>();
+        if (editora != null) {
+            valores.put(LivroRepository.COLUNA_EDITORA, editora.trim());
+        }
+        if (autores != null) {
+            if (autores.trim().isEmpty()) {
+                throw new ServiceException("O campo Autor(es) é obrigatório.");
+            }
+            valores.put(LivroRepository.COLUNA_AUTORES, autores.trim());
+        }
+        if (dataPublicacao != null) {
+            if (dataPublicacao.trim().isEmpty()) {
+                throw new ServiceException("A Data de Publicação é obrigatória.");
+            }
+            valores.put(LivroRepository.COLUNA_DATA_PUBLICACAO, dataPublicacao.trim());
+        }
+        if (valores.isEmpty()) {
+            throw new ServiceException("Informe ao menos um campo a ser alterado.");
+        }
+
+        List<Long> distintos = new ArrayList<>(new LinkedHashSet<>(ids));
+        log.info("Solicitação de alteração em lote de {} livros: {}", distintos.size(), valores.keySet());
+
+        List<LivroResumo[]> alterados = new ArrayList<>(distintos.size());
+        for (int inicio = 0; inicio < distintos.size(); inicio += TAMANHO_LOTE) {
+            alterados.addAll(repository.atualizarPorIds(distintos.subList(inicio, Math.min(inicio + TAMANHO_LOTE, distintos.size())), valores));
+        }
+
+        for (LivroResumo[] par : alterados) {
+            barramentoEventos.publicarAposCommit(() -> new LivroAtualizadoEvento(par[0], par[1]));
+        }
+        log.info("{} livros alterados em lote", alterados.size());
+        return alterados.size();
+    }
+
     /**
      * Busca um livro pelo seu ID.
      *
@@ -100,10 +438,98 @@ public class LivroService {
      * @throws ServiceException Caso nenhum livro seja encontrado com o ID informado.
      */
     public Livro buscarPorId(Long id) throws ServiceException {
-        return repository.findById(id).orElseThrow(() -> {
+        Livro livro = repository.findById(id).orElseThrow(() -> {
             log.warn("Livro não encontrado para ID: {}", id);
             return new ServiceException("Livro não encontrado com o ID: " + id);
         });
+        livro.setCapaImagem(capaService.carregar(livro.getCapaHash()));
+        return livro;
+    }
+
+    /**
+     * Carrega as miniaturas das capas de um conjunto de livros em lote.
+     * <p>
+     * Os hashes das capas são obtidos em uma única consulta; apenas as capas que ainda
+     * não estão no cache de imagens têm seus bytes lidos (também em lote) e decodificados.
+     * </p>
+     *
+     * @param ids     Os IDs dos livros (ex: faixa visível da grade de capas).
+     * @param largura Largura máxima da miniatura.
+     * @param altura  Altura máxima da miniatura.
+     * @return Mapa ID do livro -> miniatura, contendo apenas os livros com capa válida.
+     */
+    public Map<Long, BufferedImage> carregarMiniaturas(List<Long> ids, int largura, int altura) {
+        Map<Long, BufferedImage> miniaturas = new HashMap<>();
+        if (ids.isEmpty()) {
+            return miniaturas;
+        }
+
+        Map<Long, String> pendentes = new HashMap<>();
+        for (Object[] linha : repository.findCapaHashesByIds(ids)) {
+            Long id = (Long) linha[0];
+            String hash = (String) linha[1];
+            BufferedImage emCache = capaCacheService.consultar(id, hash, largura, altura);
+            if (emCache != null) {
+                miniaturas.put(id, emCache);
+            } else {
+                pendentes.put(id, hash);
+            }
+        }
+
+        if (!pendentes.isEmpty()) {
+            Map<String, byte[]> bytesPorHash = capaService.carregarVarias(new HashSet<>(pendentes.values()));
+            for (Map.Entry<Long, String> pendente : pendentes.entrySet()) {
+                BufferedImage imagem = capaCacheService.armazenar(pendente.getKey(), pendente.getValue(),
+                        bytesPorHash.get(pendente.getValue()), largura, altura);
+                if (imagem != null) {
+                    miniaturas.put(pendente.getKey(), imagem);
+                }
+            }
+        }
+
+        log.debug("Miniaturas carregadas: {} solicitadas, {} decodificadas", ids.size(), pendentes.size());
+        return miniaturas;
+    }
+
+    /**
+     * Retorna as estatísticas do cache de segundo nível da entidade {@link Livro}
+     * (acertos, falhas, inserções e entradas em memória).
+     *
+     * @return As estatísticas da região, ou null se o cache ou as estatísticas estiverem desativados.
+     */
+    public CacheRegionStatistics getEstatisticasCacheLivros() {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!estatisticas.isStatisticsEnabled()) {
+            return null;
+        }
+        try {
+            return estatisticas.getDomainDataRegionStatistics(Livro.class.getName());
+        } catch (IllegalArgumentException e) {
+            log.debug("Cache de segundo nível de Livro não configurado: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Descarta do cache de segundo nível um livro alterado ou excluído por outra estação, que do
+     * contrário continuaria sendo lido em sua versão anterior (ex: a tela de edição abriria dados
+     * antigos e falharia por conflito de versão ao salvar). A resolução ISBN -> ID é descartada
+     * por inteiro, pois o ISBN anterior do livro não é conhecido. Na ressincronização, em que
+     * notificações podem ter sido perdidas, descarta todos os livros.
+     *
+     * @param notificacao A notificação recebida.
+     */
+    void descartarDoCache(NotificacaoLivroService.Notificacao notificacao) {
+        if (notificacao.getOperacao() == NotificacaoLivroService.Operacao.INSERCAO) {
+            return;
+        }
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (notificacao.getOperacao() == NotificacaoLivroService.Operacao.RESSINCRONIZACAO) {
+            cache.evictEntityData(Livro.class);
+        } else {
+            cache.evictEntityData(Livro.class, notificacao.getId());
+        }
+        cache.evictNaturalIdData(Livro.class);
     }
 
     /**
@@ -133,6 +559,23 @@ public class LivroService {
         return ultimo.getTitulo();
     }
 
+    /**
+     * Carrega os indicadores do Dashboard em consultas agregadas (sem carregar o acervo):
+     * total de livros, último livro cadastrado e quantidade de livros por editora.
+     * A partir deles, a tela mantém os indicadores atualizados pelos eventos do acervo.
+     *
+     * @return Os indicadores atuais.
+     */
+    @Transactional(readOnly = true)
+    public Indicadores carregarIndicadores() {
+        Map<String, Long> porEditora = new HashMap<>();
+        for (Object[] linha : repository.contarLivrosPorEditora()) {
+            porEditora.put((String) linha[0], (Long) linha[1]);
+        }
+        LivroResumo ultimo = repository.findFirstByOrderByIdDesc().map(LivroResumo::de).orElse(null);
+        return new Indicadores(repository.count(), ultimo, porEditora);
+    }
+
     /**
      * Calcula a quantidade de editoras distintas presentes no acervo.
      * <p>
@@ -181,14 +624,42 @@ public class LivroService {
     }
 
     /**
-     * Busca a imagem da capa de um livro na API externa.
+     * Busca a imagem da capa de um livro na API externa, já normalizada.
      *
      * @param isbn O ISBN do livro.
      * @return Array de bytes da imagem (BLOB).
      */
     public byte[] buscarCapaPorIsbn(String isbn) {
         log.debug("Baixando capa para ISBN: {}", isbn);
-        return openLibraryService.baixarCapa(isbn);
+        return capaNormalizacaoService.normalizar(openLibraryService.baixarCapa(isbn));
+    }
+
+    /**
+     * Sincroniza a referência de capa do livro com a imagem informada.
+     * <p>
+     * Calcula o hash da imagem atual (já normalizada) e, caso seja diferente da capa já
+     * referenciada, registra a nova capa e libera a anterior (contagem de referências).
+     * Uma imagem nula ou vazia remove a capa do livro.
+     * </p>
+     *
+     * @param livro O livro sendo salvo.
+     */
+    private void atualizarReferenciaCapa(Livro livro) {
+        byte[] capa = livro.getCapaImagem();
+        String hashNovo = capa != null && capa.length > 0 ? CapaService.calcularHash(capa) : null;
+        String hashAnterior = livro.getId() != null ? repository.findCapaHashById(livro.getId()) : null;
+
+        if (Objects.equals(hashNovo, hashAnterior)) {
+            livro.setCapaHash(hashAnterior);
+            return;
+        }
+
+        livro.setCapaHash(hashNovo != null ? capaService.armazenar(capa) : null);
+        capaService.liberar(hashAnterior);
+
+        if (livro.getId() != null) {
+            capaCacheService.invalidar(livro.getId());
+        }
     }
 
     /**
@@ -215,4 +686,140 @@ public class LivroService {
             throw new ServiceException("A Data de Publicação é obrigatória.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Campos de texto do livro que podem ser alterados por {@link #atualizarCampos(Long, long, Map)}.
+     */
+    public enum Campo {
+        TITULO(LivroRepository.COLUNA_TITULO, "O Título é obrigatório."),
+        ISBN(LivroRepository.COLUNA_ISBN, "O ISBN é obrigatório."),
+        AUTORES(LivroRepository.COLUNA_AUTORES, "O campo Autor(es) é obrigatório."),
+        EDITORA(LivroRepository.COLUNA_EDITORA, null),
+        DATA_PUBLICACAO(LivroRepository.COLUNA_DATA_PUBLICACAO, "A Data de Publicação é obrigatória."),
+        LIVROS_SEMELHANTES(LivroRepository.COLUNA_LIVROS_SEMELHANTES, null);
+
+        private final String coluna;
+        private final String mensagemObrigatorio;
+
+        Campo(String coluna, String mensagemObrigatorio) {
+            this.coluna = coluna;
+            this.mensagemObrigatorio = mensagemObrigatorio;
+        }
+
+        /**
+         * @return Nome da coluna na tabela 'livro'.
+         */
+        public String getColuna() {
+            return coluna;
+        }
+
+        /**
+         * @return Mensagem exibida quando o campo obrigatório está vazio, ou null se o campo for opcional.
+         */
+        public String getMensagemObrigatorio() {
+            return mensagemObrigatorio;
+        }
+    }
+
+    /**
+     * Resultado de uma atualização incremental do acervo.
+     */
+    public static final class Alteracoes {
+        private final List<Livro> alterados;
+        private final List<Long> excluidos;
+        private final long marca;
+        private final boolean completa;
+
+        public Alteracoes(List<Livro> alterados, List<Long> excluidos, long marca, boolean completa) {
+            this.alterados = alterados;
+            this.excluidos = excluidos;
+            this.marca = marca;
+            this.completa = completa;
+        }
+
+        /**
+         * @return Livros inseridos ou alterados (ou todos, na carga completa).
+         */
+        public List<Livro> getAlterados() {
+            return alterados;
+        }
+
+        /**
+         * @return IDs dos livros excluídos.
+         */
+        public List<Long> getExcluidos() {
+            return excluidos;
+        }
+
+        /**
+         * @return Marca a ser informada na próxima atualização.
+         */
+        public long getMarca() {
+            return marca;
+        }
+
+        /**
+         * @return true se o resultado contém o acervo completo (a listagem deve ser substituída).
+         */
+        public boolean isCompleta() {
+            return completa;
+        }
+    }
+
+    /**
+     * Livro encontrado na pesquisa aproximada, com sua semelhança com o termo pesquisado.
+     */
+    public static final class ResultadoAproximado {
+        private final Livro livro;
+        private final double pontuacao;
+
+        public ResultadoAproximado(Livro livro, double pontuacao) {
+            this.livro = livro;
+            this.pontuacao = pontuacao;
+        }
+
+        public Livro getLivro() {
+            return livro;
+        }
+
+        /**
+         * @return Semelhança de 0 a 1 (1 quando todas as palavras coincidem exatamente).
+         */
+        public double getPontuacao() {
+            return pontuacao;
+        }
+    }
+
+    /**
+     * Indicadores agregados do acervo exibidos no Dashboard.
+     */
+    public static final class Indicadores {
+        private final long totalLivros;
+        private final LivroResumo ultimoLivro;
+        private final Map<String, Long> livrosPorEditora;
+
+        public Indicadores(long totalLivros, LivroResumo ultimoLivro, Map<String, Long> livrosPorEditora) {
+            this.totalLivros = totalLivros;
+            this.ultimoLivro = ultimoLivro;
+            this.livrosPorEditora = livrosPorEditora;
+        }
+
+        public long getTotalLivros() {
+            return totalLivros;
+        }
+
+        /**
+         * @return O último livro cadastrado, ou null se o acervo estiver vazio.
+         */
+        public LivroResumo getUltimoLivro() {
+            return ultimoLivro;
+        }
+
+        /**
+         * @return Quantidade de livros por editora (apenas editoras preenchidas).
+         */
+        public Map<String, Long> getLivrosPorEditora() {
+            return livrosPorEditora;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço de métricas da aplicação (Micrometer).
+ * <p>
+ * As métricas são registradas por quem as produz: as fachadas e o {@link OpenLibraryService}
+ * (tempos e erros, pelo {@code MetricasAspect}), a importação (livros importados e taxa) e o pool
+ * de conexões Hikari (registrado pelo Spring Boot); os caches de capas e de livros são registrados
+ * por este serviço. Este serviço resume as métricas de interesse para a
+ * aba oculta "Diagnóstico" e grava o mesmo resumo periodicamente no arquivo {@code logs/metricas.log}
+ * (intervalo em {@code biblioteca.metricas.arquivo.intervalo-segundos}; 0 desativa).
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class MetricasService {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricasService.class);
+
+    /**
+     * Logger do arquivo de métricas (ver logback-spring.xml).
+     */
+    private static final Logger arquivo = LoggerFactory.getLogger("br.com.dev.bibliotecaalpha.metricas");
+
+    /**
+     * Tempo de cada chamada às fachadas e ao serviço da Open Library (tags: componente, metodo, resultado).
+     */
+    public static final String OPERACAO = "biblioteca.operacao";
+
+    /**
+     * Exceções lançadas pelas chamadas medidas (tags: componente, metodo, excecao).
+     */
+    public static final String OPERACAO_ERROS = "biblioteca.operacao.erros";
+
+    /**
+     * Livros gravados pela importação de CSV (tag: tipo = novo ou atualizado).
+     */
+    public static final String LIVROS_IMPORTADOS = "biblioteca.importacao.livros";
+
+    /**
+     * Livros por segundo de cada importação.
+     */
+    public static final String TAXA_IMPORTACAO = "biblioteca.importacao.taxa";
+
+    /**
+     * Consultas ao cache de capas decodificadas (tag: resultado = acerto ou falha).
+     */
+    public static final String CACHE_CAPAS_CONSULTAS = "biblioteca.cache.capas.consultas";
+
+    /**
+     * Consultas ao cache de segundo nível de Livro (tag: resultado = acerto ou falha).
+     */
+    public static final String CACHE_LIVROS_CONSULTAS = "biblioteca.cache.livros.consultas";
+
+    /**
+     * Prefixos das métricas exibidas e gravadas (as demais, como as da JVM, ficam apenas no registro).
+     */
+    static final List<String> PREFIXOS = Arrays.asList("biblioteca.", "hikaricp.", "executor",
+            "jvm.memory.used", "jvm.gc.pause", "jvm.threads.live", "process.cpu.usage");
+
+    @Autowired
+    private MeterRegistry registro;
+
+    @Autowired
+    private CapaCacheService capaCacheService;
+
+    @Autowired
+    private LivroService livroService;
+
+    @Value("${biblioteca.metricas.arquivo.intervalo-segundos:60}")
+    private long intervaloArquivoSegundos;
+
+    private ScheduledExecutorService agendador;
+
+    /**
+     * Registra as métricas do cache de capas e agenda a gravação periódica do arquivo.
+     */
+    @PostConstruct
+    void iniciar() {
+        FunctionCounter.builder(CACHE_CAPAS_CONSULTAS, capaCacheService, c -> c.getEstatisticas().getAcertos())
+                .tag("resultado", "acerto").register(registro);
+        FunctionCounter.builder(CACHE_CAPAS_CONSULTAS, capaCacheService, c -> c.getEstatisticas().getFalhas())
+                .tag("resultado", "falha").register(registro);
+        Gauge.builder("biblioteca.cache.capas.bytes", capaCacheService, c -> c.getEstatisticas().getBytesOcupados())
+                .baseUnit("bytes").register(registro);
+        Gauge.builder("biblioteca.cache.capas.entradas", capaCacheService, c -> c.getEstatisticas().getEntradas())
+                .register(registro);
+
+        // Cache de segundo nível de Livro (estatísticas do Hibernate; indisponível se o cache estiver desativado)
+        FunctionCounter.builder(CACHE_LIVROS_CONSULTAS, livroService, s -> cacheLivros(s, CacheRegionStatistics::getHitCount))
+                .tag("resultado", "acerto").register(registro);
+        FunctionCounter.builder(CACHE_LIVROS_CONSULTAS, livroService, s -> cacheLivros(s, CacheRegionStatistics::getMissCount))
+                .tag("resultado", "falha").register(registro);
+        Gauge.builder("biblioteca.cache.livros.entradas", livroService, s -> cacheLivros(s, CacheRegionStatistics::getElementCountInMemory))
+                .register(registro);
+
+        if (intervaloArquivoSegundos > 0) {
+            agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+                Thread thread = new Thread(tarefa, "metricas-arquivo");
+                thread.setDaemon(true);
+                return thread;
+            });
+            agendador.scheduleAtFixedRate(this::gravarArquivo, intervaloArquivoSegundos, intervaloArquivoSegundos, TimeUnit.SECONDS);
+        }
+    }
+
+    private static double cacheLivros(LivroService livroService, ToLongFunction<CacheRegionStatistics> valor) {
+        CacheRegionStatistics estatisticas = livroService.getEstatisticasCacheLivros();
+        return estatisticas != null ? valor.applyAsLong(estatisticas) : Double.NaN;
+    }
+
+    /**
+     * Interrompe a gravação periódica e grava um último resumo.
+     */
+    @PreDestroy
+    void encerrar() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+            gravarArquivo();
+        }
+    }
+
+    /**
+     * Resume as métricas de interesse, ordenadas por nome e tags.
+     *
+     * @return Uma medida por métrica (e combinação de tags).
+     */
+    public List<Medida> resumir() {
+        List<Medida> medidas = new ArrayList<>();
+        for (Meter meter : registro.getMeters()) {
+            String nome = meter.getId().getName();
+            // Os percentis publicados como medidores separados já aparecem na medida do timer
+            if (PREFIXOS.stream().anyMatch(nome::startsWith) && !nome.endsWith(".percentile")) {
+                medidas.add(medir(meter));
+            }
+        }
+        medidas.sort(Comparator.comparing(Medida::getNome).thenComparing(Medida::getTags));
+        return medidas;
+    }
+
+    /**
+     * Grava o resumo atual no arquivo de métricas (uma linha por medida).
+     */
+    public void gravarArquivo() {
+        try {
+            List<Medida> medidas = resumir();
+            arquivo.info("--- {} métricas ---", medidas.size());
+            for (Medida medida : medidas) {
+                arquivo.info("{}", medida);
+            }
+        } catch (RuntimeException e) {
+            // Chamado pelo agendador: uma falha não pode cancelar as próximas gravações
+            log.warn("Falha ao gravar o arquivo de métricas: {}", e.getMessage());
+        }
+    }
+
+    private static Medida medir(Meter meter) {
+        String nome = meter.getId().getName();
+        String tags = meter.getId().getTags().stream()
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(","));
+        String unidade = meter.getId().getBaseUnit();
+
+        if (meter instanceof Timer) {
+            Timer timer = (Timer) meter;
+            HistogramSnapshot retrato = timer.takeSnapshot();
+            return new Medida(nome, tags, "timer", "ms", retrato.count(), retrato.total(TimeUnit.MILLISECONDS),
+                    retrato.mean(TimeUnit.MILLISECONDS), percentis(retrato, TimeUnit.MILLISECONDS),
+                    retrato.max(TimeUnit.MILLISECONDS));
+        }
+        if (meter instanceof DistributionSummary) {
+            HistogramSnapshot retrato = ((DistributionSummary) meter).takeSnapshot();
+            return new Medida(nome, tags, "resumo", unidade, retrato.count(), retrato.total(), retrato.mean(),
+                    percentis(retrato, null), retrato.max());
+        }
+        if (meter instanceof FunctionTimer) {
+            FunctionTimer timer = (FunctionTimer) meter;
+            return new Medida(nome, tags, "timer", "ms", (long) timer.count(), timer.totalTime(TimeUnit.MILLISECONDS),
+                    timer.mean(TimeUnit.MILLISECONDS), null, Double.NaN);
+        }
+        if (meter instanceof LongTaskTimer) {
+            LongTaskTimer timer = (LongTaskTimer) meter;
+            return new Medida(nome, tags, "tarefas", "ms", timer.activeTasks(), timer.duration(TimeUnit.MILLISECONDS),
+                    timer.mean(TimeUnit.MILLISECONDS), null, timer.max(TimeUnit.MILLISECONDS));
+        }
+        if (meter instanceof Counter) {
+            return Medida.valor(nome, tags, "contador", unidade, ((Counter) meter).count());
+        }
+        if (meter instanceof FunctionCounter) {
+            return Medida.valor(nome, tags, "contador", unidade, ((FunctionCounter) meter).count());
+        }
+        if (meter instanceof TimeGauge) {
+            return Medida.valor(nome, tags, "medidor", "ms", ((TimeGauge) meter).value(TimeUnit.MILLISECONDS));
+        }
+        if (meter instanceof Gauge) {
+            return Medida.valor(nome, tags, "medidor", unidade, ((Gauge) meter).value());
+        }
+        double valor = Double.NaN;
+        for (Measurement medicao : meter.measure()) {
+            valor = medicao.getValue();
+        }
+        return Medida.valor(nome, tags, "outro", unidade, valor);
+    }
+
+    /**
+     * Percentis 50, 95 e 99 (configurados em application.properties), ou null se não houver.
+     */
+    private static double[] percentis(HistogramSnapshot retrato, TimeUnit unidade) {
+        ValueAtPercentile[] valores = retrato.percentileValues();
+        if (valores.length == 0) {
+            return null;
+        }
+        double[] resultado = {Double.NaN, Double.NaN, Double.NaN};
+        double[] alvos = {0.5, 0.95, 0.99};
+        for (ValueAtPercentile valor : valores) {
+            for (int i = 0; i < alvos.length; i++) {
+                if (Math.abs(valor.percentile() - alvos[i]) < 1e-9) {
+                    resultado[i] = unidade != null ? valor.value(unidade) : valor.value();
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Resumo de uma métrica: contagem, total, média, percentis e máximo (tempos em milissegundos)
+     * ou apenas o valor atual, para contadores e medidores.
+     */
+    public static final class Medida {
+        private final String nome;
+        private final String tags;
+        private final String tipo;
+        private final String unidade;
+        private final long contagem;
+        private final double valor;
+        private final double media;
+        private final double p50;
+        private final double p95;
+        private final double p99;
+        private final double maximo;
+
+        Medida(String nome, String tags, String tipo, String unidade, long contagem, double total, double media,
+               double[] percentis, double maximo) {
+            this.nome = nome;
+            this.tags = tags;
+            this.tipo = tipo;
+            this.unidade = unidade;
+            this.contagem = contagem;
+            this.valor = total;
+            this.media = media;
+            this.p50 = percentis != null ? percentis[0] : Double.NaN;
+            this.p95 = percentis != null ? percentis[1] : Double.NaN;
+            this.p99 = percentis != null ? percentis[2] : Double.NaN;
+            this.maximo = maximo;
+        }
+
+        static Medida valor(String nome, String tags, String tipo, String unidade, double valor) {
+            return new Medida(nome, tags, tipo, unidade, -1, valor, Double.NaN, null, Double.NaN);
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        public String getTags() {
+            return tags;
+        }
+
+        public String getTipo() {
+            return tipo;
+        }
+
+        /**
+         * @return Unidade dos valores (ex: ms, bytes), ou null se não informada.
+         */
+        public String getUnidade() {
+            return unidade;
+        }
+
+        /**
+         * @return Quantidade de registros (timers e resumos), ou -1 para contadores e medidores.
+         */
+        public long getContagem() {
+            return contagem;
+        }
+
+        /**
+         * @return Total registrado (timers e resumos) ou valor atual (contadores e medidores).
+         */
+        public double getValor() {
+            return valor;
+        }
+
+        public double getMedia() {
+            return media;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP95() {
+            return p95;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getMaximo() {
+            return maximo;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder texto = new StringBuilder(nome);
+            if (!tags.isEmpty()) {
+                texto.append('{').append(tags).append('}');
+            }
+            if (contagem < 0) {
+                texto.append(" valor=").append(formatar(valor));
+            } else {
+                texto.append(" contagem=").append(contagem)
+                        .append(" total=").append(formatar(valor))
+                        .append(" media=").append(formatar(media))
+                        .append(" p50=").append(formatar(p50))
+                        .append(" p95=").append(formatar(p95))
+                        .append(" p99=").append(formatar(p99))
+                        .append(" max=").append(formatar(maximo));
+            }
+            if (unidade != null) {
+                texto.append(' ').append(unidade);
+            }
+            return texto.toString();
+        }
+
+        /**
+         * Formata um valor com até três casas decimais ("-" se indisponível).
+         *
+         * @param valor O valor.
+         * @return O texto.
+         */
+        public static String formatar(double valor) {
+            if (Double.isNaN(valor)) {
+                return "-";
+            }
+            if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+                return String.valueOf((long) valor);
+            }
+            return String.format(Locale.ROOT, "%.3f", valor);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Serviço de notificação de alterações do acervo entre estações de trabalho.
+ * <p>
+ * Um gatilho na tabela 'livro' emite um {@code NOTIFY} (canal {@value #CANAL}) a cada inserção,
+ * alteração ou exclusão, com o ID, a operação, a versão do registro e a origem (nome da aplicação
+ * da conexão que fez a alteração). Este serviço mantém uma conexão dedicada, fora do pool, ouvindo
+ * o canal em uma thread de fundo, e repassa as notificações aos ouvintes registrados (as telas).
+ * As alterações feitas pela própria instância são ignoradas, pois as telas já as aplicam.
+ * </p>
+ * <p>
+ * Se a conexão cair, o serviço reconecta e emite uma notificação de ressincronização,
+ * pois notificações enviadas enquanto estava desconectado foram perdidas.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+@Order(10)
+public class NotificacaoLivroService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificacaoLivroService.class);
+
+    static final String CANAL = "livro_alteracao";
+
+    /**
+     * Operação enviada (fora do gatilho) após alterações em massa, como a carga do {@link GeracaoAcervoService}.
+     */
+    static final String OPERACAO_RESSINCRONIZACAO = "RESSINCRONIZACAO";
+
+    /**
+     * Parâmetro de sessão que, com o valor 'on' ({@code SET LOCAL}), faz o gatilho deixar de notificar
+     * as alterações da transação atual (ver migração V6).
+     */
+    static final String PARAMETRO_SILENCIAR = "biblioteca.silenciar";
+
+    private static final int ESPERA_NOTIFICACAO_MS = 1000;
+    private static final long ESPERA_RECONEXAO_MAXIMA_MS = 30000;
+
+    private static final String SQL_FUNCAO = "CREATE OR REPLACE FUNCTION notificar_alteracao_livro() RETURNS trigger AS $$ "
+            + "DECLARE registro RECORD; "
+            + "BEGIN "
+            + "  IF current_setting('" + PARAMETRO_SILENCIAR + "', true) = 'on' THEN RETURN NULL; END IF; "
+            + "  IF TG_OP = 'DELETE' THEN registro := OLD; ELSE registro := NEW; END IF; "
+            + "  PERFORM pg_notify('" + CANAL + "', json_build_object("
+            + "    'id', registro.id, 'operacao', TG_OP, 'versao', registro.versao, "
+            + "    'origem', current_setting('application_name'))::text); "
+            + "  RETURN NULL; "
+            + "END; $$ LANGUAGE plpgsql";
+
+    private static final String SQL_GATILHO = "CREATE TRIGGER trg_livro_notificacao "
+            + "AFTER INSERT OR UPDATE OR DELETE ON livro "
+            + "FOR EACH ROW EXECUTE PROCEDURE notificar_alteracao_livro()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String usuario;
+
+    @Value("${spring.datasource.password}")
+    private String senha;
+
+    @Value("${biblioteca.notificacao.ativa:true}")
+    private boolean ativa;
+
+    @Value("${biblioteca.notificacao.instalar-gatilho:false}")
+    private boolean instalarGatilho;
+
+    private final List<Consumer<Notificacao>> ouvintes = new CopyOnWriteArrayList<>();
+
+    private volatile boolean executando;
+    private volatile String origemLocal;
+    private Thread thread;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!ativa) {
+            log.info("Notificação de alterações entre estações desativada.");
+            return;
+        }
+
+        try {
+            if (instalarGatilho) {
+                instalarGatilho();
+            }
+            origemLocal = jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class);
+        } catch (Exception e) {
+            log.warn("Não foi possível preparar a notificação de alterações: {}", e.getMessage());
+            return;
+        }
+
+        executando = true;
+        thread = new Thread(this::ouvir, "notificacoes-livro");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Ouvindo alterações do acervo no canal '{}' (origem local: {})", CANAL, origemLocal);
+    }
+
+    /**
+     * Registra um ouvinte das alterações feitas por outras estações.
+     * O ouvinte é chamado na thread de notificações (não na thread da interface gráfica).
+     *
+     * @param ouvinte Ação executada a cada notificação.
+     */
+    public void adicionarOuvinte(Consumer<Notificacao> ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    /**
+     * Remove um ouvinte registrado anteriormente.
+     *
+     * @param ouvinte O ouvinte a remover.
+     */
+    public void removerOuvinte(Consumer<Notificacao> ouvinte) {
+        ouvintes.remove(ouvinte);
+    }
+
+    /**
+     * Encerra a escuta (chamado no desligamento do contexto).
+     */
+    @PreDestroy
+    public void encerrar() {
+        executando = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Cria (ou atualiza) a função de notificação e, se ainda não existir, o gatilho na tabela 'livro'.
+     * Normalmente criados pela migração V3; usado apenas em bases que não passam pelas migrações.
+     */
+    private void instalarGatilho() {
+        jdbcTemplate.execute(SQL_FUNCAO);
+        Integer existentes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_trigger WHERE tgname = 'trg_livro_notificacao'", Integer.class);
+        if (existentes == null || existentes == 0) {
+            jdbcTemplate.execute(SQL_GATILHO);
+            log.info("Gatilho de notificação de alterações criado na tabela 'livro'.");
+        }
+    }
+
+    /**
+     * Laço da thread de escuta: conecta, executa o LISTEN e repassa as notificações recebidas.
+     * Em caso de falha, reconecta com espera crescente.
+     */
+    private void ouvir() {
+        long espera = 1000;
+        boolean primeiraConexao = true;
+
+        while (executando) {
+            try (Connection conexao = conectar()) {
+                try (Statement st = conexao.createStatement()) {
+                    st.execute("LISTEN " + CANAL);
+                }
+                PGConnection pgConexao = conexao.unwrap(PGConnection.class);
+                espera = 1000;
+
+                if (!primeiraConexao) {
+                    log.info("Conexão de notificações restabelecida. Solicitando ressincronização.");
+                    despachar(Notificacao.ressincronizacao());
+                }
+                primeiraConexao = false;
+
+                while (executando) {
+                    PGNotification[] recebidas = pgConexao.getNotifications(ESPERA_NOTIFICACAO_MS);
+                    if (recebidas == null) {
+                        continue;
+                    }
+                    for (PGNotification recebida : recebidas) {
+                        Notificacao notificacao = interpretar(recebida.getParameter());
+                        if (notificacao != null && !notificacao.getOrigem().equals(origemLocal)) {
+                            despachar(notificacao);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!executando) {
+                    break;
+                }
+                log.warn("Falha na conexão de notificações: {}. Nova tentativa em {} ms", e.getMessage(), espera);
+                try {
+                    Thread.sleep(espera);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                espera = Math.min(espera * 2, ESPERA_RECONEXAO_MAXIMA_MS);
+            }
+        }
+        log.debug("Thread de notificações encerrada.");
+    }
+
+    /**
+     * Abre a conexão dedicada à escuta (fora do pool, pois fica ocupada durante toda a execução).
+     */
+    private Connection conectar() throws SQLException {
+        Properties propriedades = new Properties();
+        propriedades.setProperty("user", usuario);
+        propriedades.setProperty("password", senha);
+        propriedades.setProperty("ApplicationName", "biblioteca-alpha-notificacoes");
+        return DriverManager.getConnection(url, propriedades);
+    }
+
+    private void despachar(Notificacao notificacao) {
+        for (Consumer<Notificacao> ouvinte : ouvintes) {
+            try {
+                ouvinte.accept(notificacao);
+            } catch (Exception e) {
+                log.error("Erro ao processar notificação {}", notificacao, e);
+            }
+        }
+    }
+
+    /**
+     * Converte o conteúdo JSON enviado pelo gatilho em uma {@link Notificacao}.
+     *
+     * @param conteudo Conteúdo da notificação.
+     * @return A notificação, ou null se o conteúdo for inválido.
+     */
+    static Notificacao interpretar(String conteudo) {
+        try {
+            JSONObject json = new JSONObject(conteudo);
+            Operacao operacao;
+            switch (json.getString("operacao")) {
+                case "INSERT":
+                    operacao = Operacao.INSERCAO;
+                    break;
+                case "UPDATE":
+                    operacao = Operacao.ALTERACAO;
+                    break;
+                case "DELETE":
+                    operacao = Operacao.EXCLUSAO;
+                    break;
+                case OPERACAO_RESSINCRONIZACAO:
+                    operacao = Operacao.RESSINCRONIZACAO;
+                    break;
+                default:
+                    return null;
+            }
+            return new Notificacao(json.getLong("id"), operacao, json.optLong("versao", 0), json.optString("origem", ""));
+        } catch (JSONException e) {
+            log.warn("Notificação de alteração inválida ignorada: {}", conteudo);
+            return null;
+        }
+    }
+
+    /**
+     * Tipo de alteração notificada.
+     */
+    public enum Operacao {
+        INSERCAO,
+        ALTERACAO,
+        EXCLUSAO,
+        /**
+         * Notificações podem ter sido perdidas (reconexão): o ouvinte deve reconsultar as alterações.
+         */
+        RESSINCRONIZACAO
+    }
+
+    /**
+     * Alteração de um livro feita por outra estação de trabalho.
+     */
+    public static final class Notificacao {
+        private final long id;
+        private final Operacao operacao;
+        private final long versao;
+        private final String origem;
+
+        public Notificacao(long id, Operacao operacao, long versao, String origem) {
+            this.id = id;
+            this.operacao = operacao;
+            this.versao = versao;
+            this.origem = origem;
+        }
+
+        static Notificacao ressincronizacao() {
+            return new Notificacao(0, Operacao.RESSINCRONIZACAO, 0, "");
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Operacao getOperacao() {
+            return operacao;
+        }
+
+        public long getVersao() {
+            return versao;
+        }
+
+        public String getOrigem() {
+            return origem;
+        }
+
+        @Override
+        public String toString() {
+            return "Notificacao [id=" + id + ", operacao=" + operacao + ", versao=" + versao + ", origem=" + origem + "]";
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.dev.bibliotecaalpha.service;
 
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.metrica.EventoHttp;
 import br.com.dev.bibliotecaalpha.model.Livro;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -121,6 +122,8 @@ public class OpenLibraryService {
         try {
             String urlCapa = "https://covers.openlibrary.org/b/isbn/" + isbn + "-M.jpg";
 
+            EventoHttp evento = new EventoHttp();
+            evento.begin();
             try (InputStream in = abrirStreamUrl(urlCapa); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
                 if (in == null) return null;
 
@@ -131,6 +134,9 @@ public class OpenLibraryService {
                 }
 
                 byte[] imagemBytes = out.toByteArray();
+                // URL.openStream só retorna após uma resposta 2xx
+                evento.setStatus(200);
+                evento.setBytes(imagemBytes.length);
 
                 if (imagemBytes.length < 100) {
                     log.debug("Imagem baixada é muito pequena ({} bytes), provável pixel transparente. Ignorando.", imagemBytes.length);
@@ -138,6 +144,9 @@ public class OpenLibraryService {
                 }
 
                 return imagemBytes;
+            } finally {
+                evento.setRecurso(EventoHttp.RECURSO_CAPA);
+                evento.commit();
             }
         } catch (Exception e) {
             log.warn("Não foi possível baixar a capa para ISBN {}: {}", isbn, e.getMessage());
@@ -155,22 +164,31 @@ public class OpenLibraryService {
     protected String fazerRequisicaoHttp(String urlString) throws Exception {
         log.debug("Executando GET: {}", urlString);
 
-        URL url = new URL(urlString);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setConnectTimeout(5000);
-        conn.setReadTimeout(5000);
-
-        if (conn.getResponseCode() != 200) {
-            log.error("Erro HTTP {}: {}", conn.getResponseCode(), urlString);
-            throw new Exception("HTTP Erro: " + conn.getResponseCode());
-        }
+        EventoHttp evento = new EventoHttp();
+        evento.begin();
+        try {
+            URL url = new URL(urlString);
+            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+            conn.setRequestMethod("GET");
+            conn.setConnectTimeout(5000);
+            conn.setReadTimeout(5000);
+
+            evento.setStatus(conn.getResponseCode());
+            if (conn.getResponseCode() != 200) {
+                log.error("Erro HTTP {}: {}", conn.getResponseCode(), urlString);
+                throw new Exception("HTTP Erro: " + conn.getResponseCode());
+            }
 
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
-            StringBuilder response = new StringBuilder();
-            String line;
-            while ((line = br.readLine()) != null) response.append(line);
-            return response.toString();
+            try (BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()))) {
+                StringBuilder response = new StringBuilder();
+                String line;
+                while ((line = br.readLine()) != null) response.append(line);
+                evento.setBytes(conn.getContentLengthLong() >= 0 ? conn.getContentLengthLong() : response.length());
+                return response.toString();
+            }
+        } finally {
+            evento.setRecurso(EventoHttp.RECURSO_LIVRO);
+            evento.commit();
         }
     }
 
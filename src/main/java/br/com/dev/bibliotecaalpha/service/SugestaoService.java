@@ -0,0 +1,353 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.busca.MapaLongInt;
+import br.com.dev.bibliotecaalpha.busca.TrieSugestoes;
+import br.com.dev.bibliotecaalpha.event.AcervoImportadoEvento;
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
+import br.com.dev.bibliotecaalpha.event.EventoLivro;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Serviço de sugestões (autocompletar) para os campos Autores e Editora dos formulários.
+ * <p>
+ * Mantém em memória uma {@link TrieSugestoes} por campo e, para cada livro, o par
+ * (autores, editora) com que foi contado. As sugestões são carregadas em segundo plano, no pool
+ * do {@link ExecucaoService}, e mantidas em dia pelos eventos do acervo (alterações desta estação)
+ * e pelas notificações de alteração (outras estações): cada alteração desconta os valores
+ * anteriores do livro e soma os novos, relendo do banco apenas a linha alterada. Assim, cada
+ * tecla é respondida sem acesso ao banco, e a consulta nunca aguarda uma carga: enquanto as
+ * sugestões não estiverem carregadas, não há sugestões. Autores são sugeridos individualmente
+ * (o campo aceita vários, separados por vírgula ou ponto e vírgula).
+ * </p>
+ * <p>
+ * Se notificações tiverem sido perdidas (ressincronização) ou após uma importação, as sugestões
+ * são recarregadas em segundo plano; as atuais continuam sendo usadas até a troca.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+@Service
+public class SugestaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(SugestaoService.class);
+
+    /**
+     * Separadores de autores em um mesmo campo.
+     */
+    public static final Pattern SEPARADOR_AUTORES = Pattern.compile("[,;]");
+
+    @Autowired
+    private LivroRepository repository;
+
+    @Autowired
+    private BarramentoEventos barramentoEventos;
+
+    @Autowired
+    private NotificacaoLivroService notificacaoLivroService;
+
+    @Autowired
+    private ExecucaoService execucaoService;
+
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+    private final AtomicBoolean cargaAgendada = new AtomicBoolean();
+
+    /** Sugestões em uso, ou null se ainda não carregadas. */
+    private Sugestoes atuais;
+    /** Alterações recebidas durante uma carga, reaplicadas sobre o resultado; null fora de uma carga. */
+    private List<Consumer<Sugestoes>> pendentes;
+    /** true se as sugestões atuais devem ser recarregadas (ressincronização ou importação). */
+    private boolean desatualizado;
+
+    /**
+     * Campos com sugestões.
+     */
+    public enum Campo {
+        AUTORES,
+        EDITORA
+    }
+
+    /**
+     * Inscreve o serviço nos eventos e notificações de alteração do acervo.
+     */
+    @PostConstruct
+    void inscrever() {
+        barramentoEventos.inscrever(EventoLivro.class, this::aplicar);
+        barramentoEventos.inscrever(AcervoImportadoEvento.class, e -> recarregar());
+        notificacaoLivroService.adicionarOuvinte(this::aplicar);
+    }
+
+    /**
+     * Sugere os valores já cadastrados mais frequentes que começam com o texto digitado.
+     * Não acessa o banco: se as sugestões ainda não estiverem carregadas (ou em caso de falha
+     * ao carregá-las), não há sugestões, e a carga é agendada em segundo plano.
+     *
+     * @param campo   O campo.
+     * @param prefixo O texto digitado (para autores, apenas o autor sendo digitado).
+     * @param limite  Quantidade máxima de sugestões.
+     * @return As sugestões, da mais à menos frequente.
+     */
+    public List<String> sugerir(Campo campo, String prefixo, int limite) {
+        List<String> sugestoes;
+        boolean carregar;
+        trava.readLock().lock();
+        try {
+            carregar = atuais == null || desatualizado;
+            sugestoes = atuais == null ? Collections.<String>emptyList() : atuais.sugerir(campo, prefixo, limite);
+        } finally {
+            trava.readLock().unlock();
+        }
+        if (carregar) {
+            prepararEmSegundoPlano();
+        }
+        return sugestoes;
+    }
+
+    /**
+     * Agenda a carga das sugestões no pool do {@link ExecucaoService}, se ainda não carregadas
+     * (ou desatualizadas) e se não houver outra carga agendada. Pode ser chamado na thread da
+     * interface gráfica (ex: ao abrir um formulário, para que a primeira tecla já tenha sugestões).
+     */
+    public void prepararEmSegundoPlano() {
+        if (cargaAgendada.compareAndSet(false, true)) {
+            execucaoService.executar(this::preparar).whenComplete((carregado, erro) -> cargaAgendada.set(false));
+        }
+    }
+
+    /**
+     * Carrega as sugestões, se ainda não carregadas ou se desatualizadas. A consulta ao banco e a
+     * construção ocorrem sem bloquear {@link #sugerir(Campo, String, int)}, que continua usando as
+     * sugestões anteriores até a troca.
+     *
+     * @return true se as sugestões estão disponíveis.
+     */
+    public boolean preparar() {
+        trava.writeLock().lock();
+        try {
+            if (pendentes != null) {
+                return atuais != null;
+            }
+            if (atuais != null && !desatualizado) {
+                return true;
+            }
+            pendentes = new ArrayList<>();
+            desatualizado = false;
+        } finally {
+            trava.writeLock().unlock();
+        }
+
+        Sugestoes novas = new Sugestoes();
+        long inicio = System.nanoTime();
+        try {
+            for (Object[] linha : repository.listarAutoresEEditoras()) {
+                novas.definir((Long) linha[0], (String) linha[1], (String) linha[2]);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Não foi possível carregar as sugestões: {}", e.getMessage());
+            trava.writeLock().lock();
+            try {
+                pendentes = null;
+                desatualizado = atuais != null;
+                return atuais != null;
+            } finally {
+                trava.writeLock().unlock();
+            }
+        }
+
+        trava.writeLock().lock();
+        try {
+            for (Consumer<Sugestoes> alteracao : pendentes) {
+                alteracao.accept(novas);
+            }
+            pendentes = null;
+            atuais = novas;
+        } finally {
+            trava.writeLock().unlock();
+        }
+        log.info("Sugestões carregadas: {} autores e {} editoras em {} ms", novas.autores.tamanho(),
+                novas.editoras.tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+        return true;
+    }
+
+    /**
+     * Marca as sugestões como desatualizadas e agenda a recarga em segundo plano (ex: após uma
+     * importação, cujos livros não geram eventos individuais).
+     */
+    public void recarregar() {
+        trava.writeLock().lock();
+        try {
+            if (atuais == null && pendentes == null) {
+                return;
+            }
+            desatualizado = true;
+        } finally {
+            trava.writeLock().unlock();
+        }
+        prepararEmSegundoPlano();
+    }
+
+    /**
+     * Aplica às sugestões um evento do acervo publicado por esta estação.
+     */
+    void aplicar(EventoLivro evento) {
+        LivroResumo livro;
+        if (evento instanceof LivroCriadoEvento) {
+            livro = ((LivroCriadoEvento) evento).getLivro();
+        } else if (evento instanceof LivroAtualizadoEvento) {
+            livro = ((LivroAtualizadoEvento) evento).getLivro();
+        } else if (evento instanceof LivroExcluidoEvento) {
+            livro = null;
+        } else {
+            return;
+        }
+        long id = evento.getLivroId();
+        alterar(livro == null
+                ? sugestoes -> sugestoes.remover(id)
+                : sugestoes -> sugestoes.definir(id, livro.getAutores(), livro.getEditora()));
+    }
+
+    /**
+     * Aplica às sugestões uma alteração feita por outra estação, relendo do banco apenas os
+     * autores e a editora do livro alterado (chamado na thread de notificações).
+     */
+    void aplicar(NotificacaoLivroService.Notificacao notificacao) {
+        long id = notificacao.getId();
+        switch (notificacao.getOperacao()) {
+            case RESSINCRONIZACAO:
+                recarregar();
+                break;
+            case EXCLUSAO:
+                alterar(sugestoes -> sugestoes.remover(id));
+                break;
+            default:
+                if (!emUso()) {
+                    return;
+                }
+                try {
+                    List<Object[]> linhas = repository.buscarAutoresEEditora(id);
+                    if (linhas.isEmpty()) {
+                        alterar(sugestoes -> sugestoes.remover(id));
+                    } else {
+                        Object[] linha = linhas.get(0);
+                        alterar(sugestoes -> sugestoes.definir(id, (String) linha[0], (String) linha[1]));
+                    }
+                } catch (DataAccessException e) {
+                    log.warn("Não foi possível reler o livro {} para as sugestões: {}", id, e.getMessage());
+                    recarregar();
+                }
+        }
+    }
+
+    /**
+     * Aplica uma alteração às sugestões atuais e, durante uma carga, guarda-a para reaplicar ao
+     * resultado (a carga pode ter lido o livro antes ou depois da alteração; como a alteração
+     * define o estado final do livro, reaplicá-la não conta o livro duas vezes).
+     */
+    private void alterar(Consumer<Sugestoes> alteracao) {
+        trava.writeLock().lock();
+        try {
+            if (atuais != null) {
+                alteracao.accept(atuais);
+            }
+            if (pendentes != null) {
+                pendentes.add(alteracao);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true se as sugestões estão carregadas ou sendo carregadas.
+     */
+    private boolean emUso() {
+        trava.readLock().lock();
+        try {
+            return atuais != null || pendentes != null;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sugestões de autores e editoras, com o par (autores, editora) com que cada livro foi contado.
+     * Não é thread-safe.
+     */
+    private static final class Sugestoes {
+        private final TrieSugestoes autores = new TrieSugestoes();
+        private final TrieSugestoes editoras = new TrieSugestoes();
+        /** ID do livro -> índice do seu par em {@link #pares}. */
+        private final MapaLongInt parPorLivro = new MapaLongInt();
+        /** Pares (autores, editora) distintos, compartilhados pelos livros com os mesmos valores. */
+        private final List<String[]> pares = new ArrayList<>();
+        private final Map<List<String>, Integer> indicePorPar = new HashMap<>();
+
+        List<String> sugerir(Campo campo, String prefixo, int limite) {
+            return (campo == Campo.AUTORES ? autores : editoras).sugerir(prefixo, limite);
+        }
+
+        /**
+         * Define os valores atuais de um livro, descontando os anteriores.
+         */
+        void definir(long id, String autoresLivro, String editora) {
+            List<String> par = Arrays.asList(autoresLivro, editora);
+            Integer indice = indicePorPar.get(par);
+            if (indice == null) {
+                indice = pares.size();
+                pares.add(new String[]{autoresLivro, editora});
+                indicePorPar.put(par, indice);
+            }
+            int anterior = parPorLivro.obter(id);
+            if (anterior == indice) {
+                return;
+            }
+            if (anterior >= 0) {
+                contar(pares.get(anterior), -1);
+            }
+            contar(pares.get(indice), 1);
+            parPorLivro.colocar(id, indice);
+        }
+
+        /**
+         * Remove um livro, descontando seus valores.
+         */
+        void remover(long id) {
+            int anterior = parPorLivro.remover(id);
+            if (anterior >= 0) {
+                contar(pares.get(anterior), -1);
+            }
+        }
+
+        private void contar(String[] par, int quantidade) {
+            if (par[0] != null) {
+                for (String autor : SEPARADOR_AUTORES.split(par[0])) {
+                    autores.registrar(autor, quantidade);
+                }
+            }
+            if (par[1] != null) {
+                editoras.registrar(par[1], quantidade);
+            }
+        }
+    }
+}
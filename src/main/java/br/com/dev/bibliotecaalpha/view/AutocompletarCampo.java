@@ -0,0 +1,216 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Autocompletar para campos de texto: exibe, abaixo do campo, os valores sugeridos para o texto
+ * digitado, atualizados a cada tecla.
+ * <p>
+ * Setas para cima e para baixo percorrem as sugestões, Enter (ou clique) aceita a selecionada
+ * e Esc fecha a lista. Com a lista fechada, Enter continua acionando o botão padrão da janela.
+ * Em campos com vários valores (ex: autores separados por vírgula), apenas o último valor é
+ * completado.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class AutocompletarCampo {
+
+    private static final int LIMITE_SUGESTOES = 8;
+
+    private final JTextField campo;
+    private final Function<String, List<String>> fonte;
+    private final boolean multiplosValores;
+
+    private final JPopupMenu popup = new JPopupMenu();
+    private final DefaultListModel<String> modelo = new DefaultListModel<>();
+    private final JList<String> lista = new JList<>(modelo);
+    private boolean aplicando;
+
+    private AutocompletarCampo(JTextField campo, Function<String, List<String>> fonte, boolean multiplosValores) {
+        this.campo = campo;
+        this.fonte = fonte;
+        this.multiplosValores = multiplosValores;
+    }
+
+    /**
+     * Instala o autocompletar em um campo.
+     *
+     * @param campo            O campo de texto.
+     * @param fonte            Função que devolve as sugestões para o texto digitado (chamada na
+     *                         thread da interface gráfica a cada tecla: deve ser rápida).
+     * @param multiplosValores true se o campo aceita vários valores separados por vírgula ou ponto e vírgula.
+     */
+    public static void instalar(JTextField campo, Function<String, List<String>> fonte, boolean multiplosValores) {
+        new AutocompletarCampo(campo, fonte, multiplosValores).configurar();
+    }
+
+    private void configurar() {
+        lista.setFocusable(false);
+        lista.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        lista.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int indice = lista.locationToIndex(e.getPoint());
+                if (indice >= 0) {
+                    lista.setSelectedIndex(indice);
+                    aceitar();
+                }
+            }
+        });
+
+        JScrollPane scroll = new JScrollPane(lista);
+        scroll.setBorder(BorderFactory.createEmptyBorder());
+        popup.setFocusable(false);
+        popup.setLayout(new BorderLayout());
+        popup.add(scroll, BorderLayout.CENTER);
+
+        campo.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                alterado();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                alterado();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+        campo.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                popup.setVisible(false);
+            }
+        });
+
+        associarTecla(KeyEvent.VK_DOWN, "autocompletar-proxima", () -> true, () -> {
+            if (popup.isVisible()) {
+                mover(1);
+            } else {
+                atualizar();
+            }
+        });
+        associarTecla(KeyEvent.VK_UP, "autocompletar-anterior", popup::isVisible, () -> mover(-1));
+        associarTecla(KeyEvent.VK_ENTER, "autocompletar-aceitar",
+                () -> popup.isVisible() && lista.getSelectedIndex() >= 0, this::aceitar);
+        associarTecla(KeyEvent.VK_ESCAPE, "autocompletar-fechar", popup::isVisible, () -> popup.setVisible(false));
+    }
+
+    /**
+     * Associa uma tecla do campo a uma ação. Enquanto a ação estiver desabilitada, a tecla segue
+     * seu tratamento normal (ex: Enter aciona o botão padrão da janela).
+     */
+    private void associarTecla(int tecla, String nome, BooleanSupplier habilitada, Runnable acao) {
+        campo.getInputMap(JComponent.WHEN_FOCUSED).put(KeyStroke.getKeyStroke(tecla, 0), nome);
+        campo.getActionMap().put(nome, new AbstractAction() {
+            @Override
+            public boolean isEnabled() {
+                return habilitada.getAsBoolean();
+            }
+
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                acao.run();
+            }
+        });
+    }
+
+    private void alterado() {
+        if (!aplicando) {
+            // Após o processamento do evento: o documento não pode ser lido durante a notificação
+            SwingUtilities.invokeLater(this::atualizar);
+        }
+    }
+
+    /**
+     * Consulta as sugestões para o valor sendo digitado e exibe (ou fecha) a lista.
+     */
+    private void atualizar() {
+        if (!campo.isShowing() || !campo.hasFocus()) {
+            return;
+        }
+        String digitado = valorAtual().replaceFirst("^\\s+", "");
+        List<String> sugestoes = digitado.isEmpty() ? null : fonte.apply(digitado);
+        if (sugestoes == null || sugestoes.isEmpty()
+                || (sugestoes.size() == 1 && sugestoes.get(0).equalsIgnoreCase(digitado.trim()))) {
+            popup.setVisible(false);
+            return;
+        }
+
+        modelo.clear();
+        for (String sugestao : sugestoes.subList(0, Math.min(sugestoes.size(), LIMITE_SUGESTOES))) {
+            modelo.addElement(sugestao);
+        }
+        lista.setVisibleRowCount(modelo.size());
+        lista.clearSelection();
+        popup.setPopupSize(new Dimension(campo.getWidth(), lista.getPreferredScrollableViewportSize().height + 4));
+        if (!popup.isVisible()) {
+            popup.show(campo, 0, campo.getHeight());
+        } else {
+            popup.revalidate();
+            popup.repaint();
+        }
+    }
+
+    private void mover(int deslocamento) {
+        int tamanho = modelo.size();
+        if (tamanho == 0) {
+            return;
+        }
+        int indice = lista.getSelectedIndex() + deslocamento;
+        indice = indice < 0 ? tamanho - 1 : indice % tamanho;
+        lista.setSelectedIndex(indice);
+        lista.ensureIndexIsVisible(indice);
+    }
+
+    /**
+     * Substitui o valor sendo digitado pela sugestão selecionada.
+     */
+    private void aceitar() {
+        String sugestao = lista.getSelectedValue();
+        popup.setVisible(false);
+        if (sugestao == null) {
+            return;
+        }
+        String texto = campo.getText();
+        int inicio = inicioValorAtual(texto);
+        aplicando = true;
+        try {
+            campo.setText(texto.substring(0, inicio) + (inicio > 0 ? " " : "") + sugestao);
+        } finally {
+            aplicando = false;
+        }
+    }
+
+    private String valorAtual() {
+        String texto = campo.getText();
+        return texto.substring(inicioValorAtual(texto));
+    }
+
+    /**
+     * @return Posição em que começa o último valor do campo (após o último separador, se houver vários).
+     */
+    private int inicioValorAtual(String texto) {
+        if (!multiplosValores) {
+            return 0;
+        }
+        return Math.max(texto.lastIndexOf(','), texto.lastIndexOf(';')) + 1;
+    }
+}
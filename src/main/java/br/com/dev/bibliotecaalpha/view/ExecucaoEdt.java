@@ -0,0 +1,57 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Conclusão de operações assíncronas da fachada na thread de eventos do Swing (EDT).
+ * <p>
+ * As telas iniciam a operação com um método {@code ...Async} da fachada e tratam o resultado ou
+ * o erro com {@link #aoConcluir(CompletableFuture, Consumer, Consumer)}: os tratadores sempre
+ * rodam na EDT, onde é seguro alterar os componentes, e recebem a exceção original da operação
+ * (ex: {@code ServiceException}), sem o invólucro do {@link CompletableFuture}.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public final class ExecucaoEdt {
+
+    private ExecucaoEdt() {
+    }
+
+    /**
+     * Executa o tratador de sucesso ou de erro na EDT quando o futuro for concluído.
+     *
+     * @param futuro  A operação assíncrona.
+     * @param sucesso Recebe o resultado, na EDT.
+     * @param erro    Recebe a exceção original, na EDT.
+     * @param <T>     Tipo do resultado.
+     */
+    public static <T> void aoConcluir(CompletableFuture<T> futuro, Consumer<? super T> sucesso, Consumer<Throwable> erro) {
+        futuro.whenComplete((resultado, falha) -> SwingUtilities.invokeLater(() -> {
+            if (falha == null) {
+                sucesso.accept(resultado);
+            } else {
+                erro.accept(causa(falha));
+            }
+        }));
+    }
+
+    /**
+     * Remove os invólucros {@link CompletionException} e {@link ExecutionException}.
+     *
+     * @param falha A exceção recebida do futuro.
+     * @return A exceção lançada pela operação.
+     */
+    public static Throwable causa(Throwable falha) {
+        Throwable atual = falha;
+        while ((atual instanceof CompletionException || atual instanceof ExecutionException) && atual.getCause() != null) {
+            atual = atual.getCause();
+        }
+        return atual;
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import br.com.dev.bibliotecaalpha.busca.MapaLongInt;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Modelo da tabela de livros da {@link TelaListagem}.
+ * <p>
+ * Mantém um índice primitivo ID -> linha (tabela hash de endereçamento aberto sobre
+ * {@code long[]}/{@code int[]}, sem objetos por entrada), de forma que inserir, alterar ou
+ * remover um único livro custe O(1) e notifique a JTable apenas sobre as linhas afetadas.
+ * A remoção troca a linha removida pela última, evitando deslocar as demais; a ordem
+ * exibida é definida pelo {@link javax.swing.RowSorter} da tabela.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class LivroTableModel extends AbstractTableModel {
+
+    private static final String[] COLUNAS = {"ID", "ISBN", "Título", "Data de Publicação", "Autores", "Editora"};
+
+    private final List<LivroResumo> linhas = new ArrayList<>();
+    private final MapaLongInt indice = new MapaLongInt();
+
+    @Override
+    public int getRowCount() {
+        return linhas.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUNAS.length;
+    }
+
+    @Override
+    public String getColumnName(int coluna) {
+        return COLUNAS[coluna];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int coluna) {
+        return coluna == 0 ? Long.class : String.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int linha, int coluna) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int linha, int coluna) {
+        LivroResumo livro = linhas.get(linha);
+        switch (coluna) {
+            case 0:
+                return livro.getId();
+            case 1:
+                return livro.getIsbn();
+            case 2:
+                return livro.getTitulo();
+            case 3:
+                return livro.getDataPublicacao();
+            case 4:
+                return livro.getAutores();
+            case 5:
+                return livro.getEditora();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Substitui todo o conteúdo do modelo.
+     *
+     * @param livros Os livros a exibir.
+     */
+    public void definirLivros(List<LivroResumo> livros) {
+        linhas.clear();
+        indice.limpar(livros.size());
+        for (LivroResumo livro : livros) {
+            indice.colocar(livro.getId(), linhas.size());
+            linhas.add(livro);
+        }
+        fireTableDataChanged();
+    }
+
+    /**
+     * Insere o livro, ou substitui a linha existente com o mesmo ID.
+     *
+     * @param livro Os dados do livro.
+     */
+    public void inserirOuAtualizar(LivroResumo livro) {
+        int linha = indice.obter(livro.getId());
+        if (linha >= 0) {
+            linhas.set(linha, livro);
+            fireTableRowsUpdated(linha, linha);
+        } else {
+            linha = linhas.size();
+            indice.colocar(livro.getId(), linha);
+            linhas.add(livro);
+            fireTableRowsInserted(linha, linha);
+        }
+    }
+
+    /**
+     * Remove a linha do livro informado, movendo a última linha para a posição liberada.
+     * <p>
+     * A JTable preserva a seleção pelo índice no modelo: o livro movido herda a seleção
+     * da linha removida. Quem exibe a tabela deve reaplicar a seleção do livro movido
+     * (ver {@code TelaListagem#removerLivro}).
+     * </p>
+     *
+     * @param id ID do livro.
+     * @return true se o livro estava no modelo.
+     */
+    public boolean remover(long id) {
+        int linha = indice.remover(id);
+        if (linha < 0) {
+            return false;
+        }
+        int ultima = linhas.size() - 1;
+        LivroResumo movido = linhas.remove(ultima);
+        if (linha != ultima) {
+            linhas.set(linha, movido);
+            indice.colocar(movido.getId(), linha);
+            fireTableRowsDeleted(ultima, ultima);
+            fireTableRowsUpdated(linha, linha);
+        } else {
+            fireTableRowsDeleted(linha, linha);
+        }
+        return true;
+    }
+
+    /**
+     * @param id ID do livro.
+     * @return A linha (no modelo) do livro, ou -1 se ausente.
+     */
+    public int linhaDe(long id) {
+        return indice.obter(id);
+    }
+
+    /**
+     * @param linha Linha no modelo.
+     * @return Os dados do livro exibido na linha.
+     */
+    public LivroResumo getLivro(int linha) {
+        return linhas.get(linha);
+    }
+
+    /**
+     * @param linha Linha no modelo.
+     * @return O ID do livro exibido na linha.
+     */
+    public long getId(int linha) {
+        return linhas.get(linha).getId();
+    }
+}
@@ -0,0 +1,667 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import br.com.dev.bibliotecaalpha.busca.ChaveColacao;
+import br.com.dev.bibliotecaalpha.busca.OrdenacaoIndices;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.SwingWorker;
+import javax.swing.table.TableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Ordenador das linhas de uma tabela que compara textos pela colação do português (pt-BR),
+ * de forma que títulos e nomes acentuados fiquem em ordem alfabética ("Árvore" entre "Arte"
+ * e "Azul"), e que ordena tabelas grandes fora da thread da interface gráfica.
+ * <p>
+ * A chave de colação de cada célula ({@link ChaveColacao}) é calculada uma única vez (na primeira
+ * ordenação pela coluna, depois apenas para as linhas inseridas ou alteradas), de forma que cada
+ * comparação é uma simples comparação de strings. Um clique no cabeçalho ou uma nova carga do modelo ordena em
+ * segundo plano: as chaves que faltam são calculadas em paralelo e os índices das linhas são
+ * ordenados por {@link OrdenacaoIndices}; a nova ordem substitui a anterior de uma só vez na EDT.
+ * Até lá a tabela continua exibindo a ordem anterior. Inserções, alterações e exclusões de
+ * poucas linhas são posicionadas por busca binária, sem reordenar.
+ * </p>
+ * <p>
+ * Colunas da classe {@link Long}, {@link Integer}, {@link Short} ou {@link Byte} são comparadas
+ * numericamente. Aceita um {@link RowFilter}, como o {@link javax.swing.table.TableRowSorter};
+ * trocar o filtro não reordena. Deve ser usado apenas na EDT.
+ * </p>
+ *
+ * @param <M> Tipo do modelo da tabela.
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class OrdenadorColacao<M extends TableModel> extends RowSorter<M> {
+
+    private static final int MAXIMO_CHAVES_ORDENACAO = 3;
+    private static final int LIMITE_SINCRONO = 2048;
+    private static final int LIMITE_INCREMENTAL = 256;
+
+    private final M modelo;
+    private final int limiteSincrono;
+    private final Entrada entrada = new Entrada();
+
+    private List<SortKey> chavesOrdenacao = Collections.emptyList();
+    private RowFilter<? super M, ? super Integer> filtro;
+
+    /** Chaves de comparação de cada coluna, por linha do modelo (null enquanto não calculadas). */
+    private Coluna[] colunas;
+    /** Todas as linhas do modelo, na ordem exibida (antes do filtro). */
+    private int[] ordem;
+    /** Linhas do modelo aceitas pelo filtro. */
+    private boolean[] aceitas;
+    private int[] visaoParaModelo;
+    private int[] modeloParaVisao;
+
+    /** false enquanto uma ordenação em segundo plano estiver pendente: a ordem atual é provisória. */
+    private boolean ordemValida;
+    /** Incrementada a cada alteração do modelo ou da ordenação; descarta resultados obsoletos. */
+    private int geracao;
+    private boolean tarefaEmAndamento;
+
+    /**
+     * @param modelo O modelo da tabela.
+     */
+    public OrdenadorColacao(M modelo) {
+        this(modelo, LIMITE_SINCRONO);
+    }
+
+    /**
+     * @param limiteSincrono Quantidade de linhas até a qual a ordenação é feita diretamente na EDT.
+     */
+    OrdenadorColacao(M modelo, int limiteSincrono) {
+        this.modelo = modelo;
+        this.limiteSincrono = limiteSincrono;
+        recarregar();
+        reconstruirVisao();
+    }
+
+    @Override
+    public M getModel() {
+        return modelo;
+    }
+
+    @Override
+    public List<? extends SortKey> getSortKeys() {
+        return chavesOrdenacao;
+    }
+
+    @Override
+    public void setSortKeys(List<? extends SortKey> chaves) {
+        List<SortKey> novas = chaves == null ? Collections.<SortKey>emptyList()
+                : Collections.unmodifiableList(new ArrayList<SortKey>(chaves));
+        for (SortKey chave : novas) {
+            if (chave == null || chave.getColumn() < 0 || chave.getColumn() >= modelo.getColumnCount()) {
+                throw new IllegalArgumentException("Chave de ordenação inválida: " + chave);
+            }
+        }
+        if (novas.equals(chavesOrdenacao)) {
+            return;
+        }
+        chavesOrdenacao = novas;
+        fireSortOrderChanged();
+        ordenar();
+    }
+
+    /**
+     * Ordena pela coluna, em ordem crescente; se ela já for a primeira chave, inverte a ordem.
+     */
+    @Override
+    public void toggleSortOrder(int coluna) {
+        if (coluna < 0 || coluna >= modelo.getColumnCount()) {
+            throw new IndexOutOfBoundsException("Coluna inválida: " + coluna);
+        }
+        List<SortKey> chaves = new ArrayList<>(chavesOrdenacao);
+        int posicao = -1;
+        for (int i = 0; i < chaves.size(); i++) {
+            if (chaves.get(i).getColumn() == coluna) {
+                posicao = i;
+                break;
+            }
+        }
+        if (posicao == 0) {
+            SortOrder atual = chaves.get(0).getSortOrder();
+            chaves.set(0, new SortKey(coluna, atual == SortOrder.ASCENDING ? SortOrder.DESCENDING : SortOrder.ASCENDING));
+        } else {
+            if (posicao > 0) {
+                chaves.remove(posicao);
+            }
+            chaves.add(0, new SortKey(coluna, SortOrder.ASCENDING));
+        }
+        setSortKeys(chaves.size() > MAXIMO_CHAVES_ORDENACAO ? chaves.subList(0, MAXIMO_CHAVES_ORDENACAO) : chaves);
+    }
+
+    /**
+     * Define o filtro das linhas exibidas (null exibe todas). Não altera a ordem.
+     *
+     * @param filtro O filtro.
+     */
+    public void setRowFilter(RowFilter<? super M, ? super Integer> filtro) {
+        this.filtro = filtro;
+        for (int linha = 0; linha < aceitas.length; linha++) {
+            aceitas[linha] = incluir(linha);
+        }
+        reconstruirVisao();
+    }
+
+    /**
+     * @return O filtro atual, ou null.
+     */
+    public RowFilter<? super M, ? super Integer> getRowFilter() {
+        return filtro;
+    }
+
+    @Override
+    public int convertRowIndexToModel(int indice) {
+        if (indice < 0 || indice >= visaoParaModelo.length) {
+            throw new IndexOutOfBoundsException("Linha inválida: " + indice);
+        }
+        return visaoParaModelo[indice];
+    }
+
+    @Override
+    public int convertRowIndexToView(int indice) {
+        if (indice < 0 || indice >= modelo.getRowCount()) {
+            throw new IndexOutOfBoundsException("Linha inválida: " + indice);
+        }
+        return indice < modeloParaVisao.length ? modeloParaVisao[indice] : -1;
+    }
+
+    @Override
+    public int getViewRowCount() {
+        return visaoParaModelo.length;
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return modelo.getRowCount();
+    }
+
+    @Override
+    public void modelStructureChanged() {
+        if (!chavesOrdenacao.isEmpty()) {
+            chavesOrdenacao = Collections.emptyList();
+            fireSortOrderChanged();
+        }
+        allRowsChanged();
+    }
+
+    @Override
+    public void allRowsChanged() {
+        recarregar();
+        reconstruirVisao();
+        if (!ordemValida) {
+            iniciarOrdenacao();
+        }
+    }
+
+    @Override
+    public void rowsInserted(int primeira, int ultima) {
+        int total = ordem.length;
+        if (primeira < 0 || ultima < primeira || primeira > total) {
+            throw new IndexOutOfBoundsException("Faixa inválida: " + primeira + " a " + ultima);
+        }
+        int inseridas = ultima - primeira + 1;
+        if (inseridas > LIMITE_INCREMENTAL) {
+            allRowsChanged();
+            return;
+        }
+        geracao++;
+
+        int[] novaOrdem = new int[total + inseridas];
+        for (int i = 0; i < total; i++) {
+            novaOrdem[i] = ordem[i] >= primeira ? ordem[i] + inseridas : ordem[i];
+        }
+        boolean[] novasAceitas = new boolean[total + inseridas];
+        System.arraycopy(aceitas, 0, novasAceitas, 0, primeira);
+        System.arraycopy(aceitas, primeira, novasAceitas, ultima + 1, total - primeira);
+        ordem = novaOrdem;
+        aceitas = novasAceitas;
+        for (int c = 0; c < colunas.length; c++) {
+            if (colunas[c] != null) {
+                colunas[c].inserir(primeira, inseridas);
+            }
+        }
+
+        OrdenacaoIndices.Comparador comparador = ordemValida ? comparador() : null;
+        for (int linha = primeira; linha <= ultima; linha++) {
+            calcularChaves(linha);
+            aceitas[linha] = incluir(linha);
+            if (comparador != null) {
+                inserirOrdenado(total++, linha, comparador);
+            } else {
+                ordem[total++] = linha;
+            }
+        }
+        reconstruirVisao();
+    }
+
+    @Override
+    public void rowsDeleted(int primeira, int ultima) {
+        int total = ordem.length;
+        if (primeira < 0 || ultima < primeira || ultima >= total) {
+            throw new IndexOutOfBoundsException("Faixa inválida: " + primeira + " a " + ultima);
+        }
+        int removidas = ultima - primeira + 1;
+        geracao++;
+
+        int[] novaOrdem = new int[total - removidas];
+        int k = 0;
+        for (int i = 0; i < total; i++) {
+            int linha = ordem[i];
+            if (linha < primeira) {
+                novaOrdem[k++] = linha;
+            } else if (linha > ultima) {
+                novaOrdem[k++] = linha - removidas;
+            }
+        }
+        boolean[] novasAceitas = new boolean[total - removidas];
+        System.arraycopy(aceitas, 0, novasAceitas, 0, primeira);
+        System.arraycopy(aceitas, ultima + 1, novasAceitas, primeira, total - ultima - 1);
+        ordem = novaOrdem;
+        aceitas = novasAceitas;
+        for (int c = 0; c < colunas.length; c++) {
+            if (colunas[c] != null) {
+                colunas[c].remover(primeira, removidas);
+            }
+        }
+        reconstruirVisao();
+    }
+
+    @Override
+    public void rowsUpdated(int primeira, int ultima) {
+        int total = ordem.length;
+        if (primeira < 0 || ultima < primeira || ultima >= total) {
+            throw new IndexOutOfBoundsException("Faixa inválida: " + primeira + " a " + ultima);
+        }
+        if (ultima - primeira + 1 > LIMITE_INCREMENTAL) {
+            allRowsChanged();
+            return;
+        }
+        geracao++;
+
+        OrdenacaoIndices.Comparador comparador = ordemValida ? comparador() : null;
+        for (int linha = primeira; linha <= ultima; linha++) {
+            calcularChaves(linha);
+            aceitas[linha] = incluir(linha);
+            if (comparador != null) {
+                int posicao = 0;
+                while (ordem[posicao] != linha) {
+                    posicao++;
+                }
+                System.arraycopy(ordem, posicao + 1, ordem, posicao, total - posicao - 1);
+                inserirOrdenado(total - 1, linha, comparador);
+            }
+        }
+        reconstruirVisao();
+    }
+
+    @Override
+    public void rowsUpdated(int primeira, int ultima, int coluna) {
+        rowsUpdated(primeira, ultima);
+    }
+
+    /**
+     * Descarta as chaves calculadas e volta à ordem do modelo, até que a ordenação seja refeita.
+     */
+    private void recarregar() {
+        geracao++;
+        int total = modelo.getRowCount();
+        colunas = new Coluna[modelo.getColumnCount()];
+        ordem = new int[total];
+        aceitas = new boolean[total];
+        for (int linha = 0; linha < total; linha++) {
+            ordem[linha] = linha;
+            aceitas[linha] = incluir(linha);
+        }
+        ordemValida = chavesAtivas().isEmpty();
+        if (visaoParaModelo == null) {
+            visaoParaModelo = new int[0];
+            modeloParaVisao = new int[0];
+        }
+    }
+
+    /**
+     * Reordena todas as linhas pelas chaves de ordenação atuais: diretamente, em tabelas pequenas
+     * com as chaves já calculadas, ou em segundo plano.
+     */
+    private void ordenar() {
+        geracao++;
+        List<SortKey> ativas = chavesAtivas();
+        if (ativas.isEmpty()) {
+            Arrays.sort(ordem);
+            ordemValida = true;
+            reconstruirVisao();
+            return;
+        }
+        ordemValida = false;
+        iniciarOrdenacao();
+    }
+
+    /**
+     * Ordena em segundo plano, a partir de uma cópia das chaves e dos valores das colunas ordenadas.
+     * Se o modelo ou a ordenação mudarem antes do fim, o resultado é descartado e a ordenação refeita.
+     */
+    private void iniciarOrdenacao() {
+        if (tarefaEmAndamento) {
+            return;
+        }
+        List<SortKey> ativas = chavesAtivas();
+        if (ordem.length <= limiteSincrono) {
+            Coluna[] calculadas = calcularColunas(ativas, capturarColunas(ativas));
+            aplicar(calculadas, ordenarIndices(ativas, calculadas, ordem.length));
+            return;
+        }
+        final int geracaoTarefa = geracao;
+        final Object[] capturadas = capturarColunas(ativas);
+        final int total = ordem.length;
+        tarefaEmAndamento = true;
+
+        new SwingWorker<int[], Void>() {
+            private Coluna[] calculadas;
+
+            @Override
+            protected int[] doInBackground() {
+                calculadas = calcularColunas(ativas, capturadas);
+                return ordenarIndices(ativas, calculadas, total);
+            }
+
+            @Override
+            protected void done() {
+                tarefaEmAndamento = false;
+                try {
+                    int[] resultado = get();
+                    if (geracaoTarefa == geracao) {
+                        aplicar(calculadas, resultado);
+                        return;
+                    }
+                } catch (Exception ex) {
+                    ex.printStackTrace();
+                    return;
+                }
+                if (!ordemValida) {
+                    iniciarOrdenacao();
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Captura, na EDT, o que a ordenação precisa de cada coluna ordenada: a cópia das chaves já
+     * calculadas ({@link Coluna}) ou os valores das células ({@code Object[]}).
+     */
+    private Object[] capturarColunas(List<SortKey> ativas) {
+        Object[] capturadas = new Object[colunas.length];
+        for (SortKey chave : ativas) {
+            int c = chave.getColumn();
+            if (capturadas[c] != null) {
+                continue;
+            }
+            if (colunas[c] != null) {
+                capturadas[c] = colunas[c].copiar();
+            } else {
+                Object[] valores = new Object[ordem.length];
+                for (int linha = 0; linha < valores.length; linha++) {
+                    valores[linha] = modelo.getValueAt(linha, c);
+                }
+                capturadas[c] = valores;
+            }
+        }
+        return capturadas;
+    }
+
+    /**
+     * Calcula (em paralelo) as chaves das colunas capturadas apenas com os valores.
+     */
+    private Coluna[] calcularColunas(List<SortKey> ativas, Object[] capturadas) {
+        Coluna[] calculadas = new Coluna[capturadas.length];
+        for (SortKey chave : ativas) {
+            int c = chave.getColumn();
+            if (calculadas[c] != null) {
+                continue;
+            }
+            if (capturadas[c] instanceof Coluna) {
+                calculadas[c] = (Coluna) capturadas[c];
+                continue;
+            }
+            Object[] valores = (Object[]) capturadas[c];
+            Coluna coluna = new Coluna(numerica(modelo.getColumnClass(c)), valores.length);
+            if (valores.length <= limiteSincrono) {
+                for (int linha = 0; linha < valores.length; linha++) {
+                    coluna.definir(linha, valores[linha]);
+                }
+            } else {
+                IntStream.range(0, valores.length).parallel().forEach(linha -> coluna.definir(linha, valores[linha]));
+            }
+            calculadas[c] = coluna;
+        }
+        return calculadas;
+    }
+
+    private static int[] ordenarIndices(List<SortKey> ativas, Coluna[] calculadas, int total) {
+        int[] indices = new int[total];
+        for (int i = 0; i < total; i++) {
+            indices[i] = i;
+        }
+        OrdenacaoIndices.ordenar(indices, comparador(ativas, calculadas));
+        return indices;
+    }
+
+    /**
+     * Adota as chaves calculadas e a nova ordem, e notifica a tabela.
+     */
+    private void aplicar(Coluna[] calculadas, int[] novaOrdem) {
+        for (int c = 0; c < calculadas.length; c++) {
+            if (calculadas[c] != null && colunas[c] == null) {
+                colunas[c] = calculadas[c];
+            }
+        }
+        ordem = novaOrdem;
+        ordemValida = true;
+        reconstruirVisao();
+    }
+
+    /**
+     * Recalcula os índices de conversão entre a visão e o modelo e notifica a tabela.
+     */
+    private void reconstruirVisao() {
+        int[] anterior = visaoParaModelo;
+        int exibidas = 0;
+        for (boolean aceita : aceitas) {
+            if (aceita) {
+                exibidas++;
+            }
+        }
+        int[] novaVisao = new int[exibidas];
+        int[] novoModelo = new int[ordem.length];
+        Arrays.fill(novoModelo, -1);
+        int v = 0;
+        for (int linha : ordem) {
+            if (aceitas[linha]) {
+                novoModelo[linha] = v;
+                novaVisao[v++] = linha;
+            }
+        }
+        visaoParaModelo = novaVisao;
+        modeloParaVisao = novoModelo;
+        fireRowSorterChanged(anterior);
+    }
+
+    /**
+     * Insere a linha em {@code ordem[0, tamanho)}, já ordenado, na posição dada pelo comparador.
+     */
+    private void inserirOrdenado(int tamanho, int linha, OrdenacaoIndices.Comparador comparador) {
+        int baixo = 0;
+        int alto = tamanho;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (comparador.comparar(ordem[meio], linha) < 0) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        System.arraycopy(ordem, baixo, ordem, baixo + 1, tamanho - baixo);
+        ordem[baixo] = linha;
+    }
+
+    private void calcularChaves(int linha) {
+        for (int c = 0; c < colunas.length; c++) {
+            if (colunas[c] != null) {
+                colunas[c].definir(linha, modelo.getValueAt(linha, c));
+            }
+        }
+    }
+
+    private boolean incluir(int linha) {
+        if (filtro == null) {
+            return true;
+        }
+        entrada.linha = linha;
+        return filtro.include(entrada);
+    }
+
+    private List<SortKey> chavesAtivas() {
+        List<SortKey> ativas = new ArrayList<>(chavesOrdenacao.size());
+        for (SortKey chave : chavesOrdenacao) {
+            if (chave.getSortOrder() != SortOrder.UNSORTED) {
+                ativas.add(chave);
+            }
+        }
+        return ativas;
+    }
+
+    private OrdenacaoIndices.Comparador comparador() {
+        return comparador(chavesAtivas(), colunas);
+    }
+
+    /**
+     * Compara duas linhas pelas chaves de ordenação; o desempate pela linha do modelo torna a
+     * ordem total, o que permite posicionar linhas por busca binária.
+     */
+    private static OrdenacaoIndices.Comparador comparador(List<SortKey> ativas, Coluna[] chaves) {
+        Coluna[] ordenadas = new Coluna[ativas.size()];
+        boolean[] decrescentes = new boolean[ativas.size()];
+        for (int i = 0; i < ordenadas.length; i++) {
+            ordenadas[i] = chaves[ativas.get(i).getColumn()];
+            decrescentes[i] = ativas.get(i).getSortOrder() == SortOrder.DESCENDING;
+        }
+        return (a, b) -> {
+            for (int i = 0; i < ordenadas.length; i++) {
+                int resultado = ordenadas[i].comparar(a, b);
+                if (resultado != 0) {
+                    return decrescentes[i] ? -resultado : resultado;
+                }
+            }
+            return Integer.compare(a, b);
+        };
+    }
+
+    private static boolean numerica(Class<?> classe) {
+        return classe == Long.class || classe == Integer.class || classe == Short.class || classe == Byte.class;
+    }
+
+    /**
+     * Chaves de comparação de uma coluna, por linha do modelo: números ou chaves de colação.
+     */
+    private static final class Coluna {
+        private final boolean numerica;
+        private long[] numeros;
+        private String[] textos;
+
+        Coluna(boolean numerica, int tamanho) {
+            this.numerica = numerica;
+            if (numerica) {
+                numeros = new long[tamanho];
+            } else {
+                textos = new String[tamanho];
+            }
+        }
+
+        private Coluna(Coluna original) {
+            this.numerica = original.numerica;
+            this.numeros = original.numeros;
+            this.textos = original.textos;
+        }
+
+        /**
+         * Cópia que continua válida se esta coluna ganhar ou perder linhas.
+         */
+        Coluna copiar() {
+            return new Coluna(this);
+        }
+
+        void definir(int linha, Object valor) {
+            if (numerica) {
+                numeros[linha] = valor instanceof Number ? ((Number) valor).longValue() : Long.MIN_VALUE;
+            } else {
+                textos[linha] = ChaveColacao.gerar(valor == null ? null : valor.toString());
+            }
+        }
+
+        int comparar(int a, int b) {
+            return numerica ? Long.compare(numeros[a], numeros[b]) : textos[a].compareTo(textos[b]);
+        }
+
+        void inserir(int posicao, int quantidade) {
+            if (numerica) {
+                long[] novos = new long[numeros.length + quantidade];
+                System.arraycopy(numeros, 0, novos, 0, posicao);
+                System.arraycopy(numeros, posicao, novos, posicao + quantidade, numeros.length - posicao);
+                numeros = novos;
+            } else {
+                String[] novos = new String[textos.length + quantidade];
+                System.arraycopy(textos, 0, novos, 0, posicao);
+                System.arraycopy(textos, posicao, novos, posicao + quantidade, textos.length - posicao);
+                textos = novos;
+            }
+        }
+
+        void remover(int posicao, int quantidade) {
+            if (numerica) {
+                long[] novos = new long[numeros.length - quantidade];
+                System.arraycopy(numeros, 0, novos, 0, posicao);
+                System.arraycopy(numeros, posicao + quantidade, novos, posicao, novos.length - posicao);
+                numeros = novos;
+            } else {
+                String[] novos = new String[textos.length - quantidade];
+                System.arraycopy(textos, 0, novos, 0, posicao);
+                System.arraycopy(textos, posicao + quantidade, novos, posicao, novos.length - posicao);
+                textos = novos;
+            }
+        }
+    }
+
+    /**
+     * Linha apresentada ao filtro.
+     */
+    private final class Entrada extends RowFilter.Entry<M, Integer> {
+        private int linha;
+
+        @Override
+        public M getModel() {
+            return modelo;
+        }
+
+        @Override
+        public int getValueCount() {
+            return modelo.getColumnCount();
+        }
+
+        @Override
+        public Object getValue(int indice) {
+            return modelo.getValueAt(linha, indice);
+        }
+
+        @Override
+        public Integer getIdentifier() {
+            return linha;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import br.com.dev.bibliotecaalpha.facade.DiagnosticoFacade;
+import br.com.dev.bibliotecaalpha.service.MetricasService;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aba oculta de diagnóstico (exibida com Ctrl+Shift+D na tela principal).
+ * <p>
+ * Mostra o resumo das métricas da aplicação (tempos e erros das fachadas, importação,
+ * caches e pool de conexões), atualizado a cada dois segundos enquanto a aba está visível.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class PainelDiagnostico extends JPanel {
+
+    private final DiagnosticoFacade facade;
+    private final ModeloMedidas modelo = new ModeloMedidas();
+    private final JLabel lblResumo = new JLabel(" ");
+    private final Timer timerAtualizacao;
+
+    /**
+     * Construtor do painel de diagnóstico.
+     *
+     * @param facade Instância da fachada de diagnóstico.
+     */
+    public PainelDiagnostico(DiagnosticoFacade facade) {
+        this.facade = facade;
+        setLayout(new BorderLayout(0, 10));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+
+        JLabel lblTitulo = new JLabel("Diagnóstico");
+        lblTitulo.setFont(new Font("Segoe UI", Font.BOLD, 20));
+
+        JPanel panelTopo = new JPanel(new BorderLayout());
+        panelTopo.add(lblTitulo, BorderLayout.WEST);
+        panelTopo.add(lblResumo, BorderLayout.EAST);
+        add(panelTopo, BorderLayout.NORTH);
+
+        JTable tabela = new JTable(modelo);
+        tabela.setAutoCreateRowSorter(true);
+        tabela.setFillsViewportHeight(true);
+        tabela.getColumnModel().getColumn(0).setPreferredWidth(260);
+        tabela.getColumnModel().getColumn(1).setPreferredWidth(260);
+        add(new JScrollPane(tabela), BorderLayout.CENTER);
+
+        JButton btnAtualizar = new JButton("Atualizar");
+        btnAtualizar.addActionListener(e -> atualizar());
+        JButton btnGravar = new JButton("Gravar em logs/metricas.log");
+        btnGravar.addActionListener(e -> {
+            facade.gravarMetricas();
+            lblResumo.setText("Métricas gravadas em logs/metricas.log");
+        });
+
+        JPanel panelBotoes = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        panelBotoes.add(btnAtualizar);
+        panelBotoes.add(btnGravar);
+        add(panelBotoes, BorderLayout.SOUTH);
+
+        timerAtualizacao = new Timer(2000, e -> {
+            if (isShowing()) {
+                atualizar();
+            }
+        });
+    }
+
+    /**
+     * Inicia a atualização periódica (ao exibir a aba).
+     */
+    public void iniciar() {
+        atualizar();
+        timerAtualizacao.start();
+    }
+
+    /**
+     * Interrompe a atualização periódica (ao ocultar a aba).
+     */
+    public void parar() {
+        timerAtualizacao.stop();
+    }
+
+    /**
+     * Recarrega a tabela com o resumo atual das métricas.
+     */
+    public void atualizar() {
+        try {
+            List<MetricasService.Medida> medidas = facade.resumirMetricas();
+            modelo.definir(medidas);
+            lblResumo.setText(medidas.size() + " métricas");
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Modelo da tabela de métricas: uma linha por medida.
+     */
+    private static class ModeloMedidas extends AbstractTableModel {
+
+        private final String[] colunas = {"Métrica", "Tags", "Contagem", "Valor / Total", "Média", "p50", "p95", "p99", "Máx.", "Unidade"};
+        private List<MetricasService.Medida> medidas = new ArrayList<>();
+
+        void definir(List<MetricasService.Medida> medidas) {
+            this.medidas = medidas;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return medidas.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return colunas.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return colunas[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            if (columnIndex == 2) {
+                return Long.class;
+            }
+            // Colunas numéricas: a tabela ordena pelo valor (ex: travamentos por tempo total)
+            return columnIndex >= 3 && columnIndex <= 8 ? Double.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            MetricasService.Medida medida = medidas.get(rowIndex);
+            switch (columnIndex) {
+                case 0:
+                    return medida.getNome();
+                case 1:
+                    return medida.getTags();
+                case 2:
+                    return medida.getContagem() < 0 ? null : medida.getContagem();
+                case 3:
+                    return numero(medida.getValor());
+                case 4:
+                    return numero(medida.getMedia());
+                case 5:
+                    return numero(medida.getP50());
+                case 6:
+                    return numero(medida.getP95());
+                case 7:
+                    return numero(medida.getP99());
+                case 8:
+                    return numero(medida.getMaximo());
+                case 9:
+                    return medida.getUnidade() != null ? medida.getUnidade() : "";
+                default:
+                    return null;
+            }
+        }
+
+        private static Double numero(double valor) {
+            return Double.isNaN(valor) ? null : valor;
+        }
+    }
+}
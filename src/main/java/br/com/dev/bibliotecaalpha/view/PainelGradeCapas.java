@@ -0,0 +1,382 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import br.com.dev.bibliotecaalpha.facade.LivroFacade;
+
+import javax.swing.*;
+import javax.swing.Timer;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongConsumer;
+
+/**
+ * Painel de visualização do acervo em grade de capas ("parede de capas").
+ * <p>
+ * A grade é virtualizada: apenas as células visíveis e uma tela adicional de antecipação
+ * (acima e abaixo) têm suas capas carregadas. O carregamento é assíncrono e feito em lote
+ * por faixa de IDs visíveis, em uma única thread de fundo, evitando uma consulta por célula.
+ * As miniaturas das células que saem da área de interesse são descartadas, mantendo
+ * o consumo de memória proporcional ao tamanho da janela, e não ao tamanho do acervo.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class PainelGradeCapas extends JPanel {
+
+    private static final int LARGURA_MINIATURA = 120;
+    private static final int ALTURA_MINIATURA = 180;
+    private static final int LARGURA_CELULA = 140;
+    private static final int ALTURA_CELULA = 225;
+    private static final int ATRASO_CARREGAMENTO_MS = 60;
+
+    private final LivroFacade facade;
+    private final Grade grade;
+    private final JScrollPane scroll;
+
+    private final ExecutorService carregador = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "grade-capas-carregador");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Timer timerCarregamento;
+
+    private long[] ids = new long[0];
+    private String[] titulos = new String[0];
+
+    private final Map<Long, BufferedImage> miniaturas = new HashMap<>();
+    private final Set<Long> semCapa = new HashSet<>();
+    private final Set<Long> pendentes = new HashSet<>();
+
+    private int geracao;
+    private long idSelecionado = -1;
+
+    private LongConsumer aoSelecionar = id -> { };
+    private LongConsumer aoAbrir = id -> { };
+
+    /**
+     * Construtor do painel de grade.
+     *
+     * @param facade Fachada utilizada para carregar as miniaturas em lote.
+     */
+    public PainelGradeCapas(LivroFacade facade) {
+        this.facade = facade;
+        setLayout(new BorderLayout());
+
+        grade = new Grade();
+        scroll = new JScrollPane(grade);
+        scroll.setBorder(BorderFactory.createEmptyBorder());
+        scroll.getVerticalScrollBar().setUnitIncrement(ALTURA_CELULA / 4);
+        add(scroll, BorderLayout.CENTER);
+
+        timerCarregamento = new Timer(ATRASO_CARREGAMENTO_MS, e -> carregarFaixaVisivel());
+        timerCarregamento.setRepeats(false);
+
+        scroll.getViewport().addChangeListener(e -> timerCarregamento.restart());
+        scroll.getViewport().addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                grade.revalidate();
+            }
+        });
+    }
+
+    /**
+     * Define os livros exibidos na grade, na ordem informada (normalmente a ordem atual da tabela).
+     * <p>
+     * As cargas em andamento só são descartadas se os livros da faixa visível mudaram;
+     * alterações fora dela (ex: uma linha alterada em outra estação) não as interrompem.
+     * </p>
+     *
+     * @param novosIds     IDs dos livros.
+     * @param novosTitulos Títulos exibidos enquanto a capa não é carregada ou quando não houver capa.
+     */
+    public void definirLivros(long[] novosIds, String[] novosTitulos) {
+        int[] faixa = faixaDeInteresse(Math.max(ids.length, novosIds.length));
+        if (!mesmosIds(ids, novosIds, faixa[0], faixa[1])) {
+            geracao++;
+            pendentes.clear();
+        }
+        this.ids = novosIds;
+        this.titulos = novosTitulos;
+
+        grade.revalidate();
+        grade.repaint();
+        timerCarregamento.restart();
+    }
+
+    /**
+     * Descarta a miniatura de um livro (ex: após a alteração da capa), forçando nova carga.
+     *
+     * @param id ID do livro.
+     */
+    public void invalidar(long id) {
+        miniaturas.remove(id);
+        semCapa.remove(id);
+        timerCarregamento.restart();
+    }
+
+    /**
+     * Descarta todas as miniaturas em memória (ex: após recarregar a listagem).
+     * As capas continuam no cache do serviço, então a nova carga é barata.
+     */
+    public void limpar() {
+        miniaturas.clear();
+        semCapa.clear();
+    }
+
+    /**
+     * @param acao Ação executada quando o usuário seleciona uma capa (clique simples).
+     */
+    public void setAoSelecionar(LongConsumer acao) {
+        this.aoSelecionar = acao;
+    }
+
+    /**
+     * @param acao Ação executada quando o usuário abre uma capa (duplo clique).
+     */
+    public void setAoAbrir(LongConsumer acao) {
+        this.aoAbrir = acao;
+    }
+
+    /**
+     * Calcula a faixa de células visíveis mais uma tela de antecipação, descarta as miniaturas
+     * fora dessa faixa e solicita em lote as que ainda não foram carregadas.
+     */
+    private void carregarFaixaVisivel() {
+        if (ids.length == 0 || !isShowing()) {
+            return;
+        }
+
+        int[] faixa = faixaDeInteresse(ids.length);
+        int inicio = faixa[0];
+        int fim = faixa[1];
+
+        reciclarForaDaFaixa(inicio, fim);
+
+        List<Long> solicitar = new ArrayList<>();
+        for (int i = inicio; i < fim; i++) {
+            long id = ids[i];
+            if (!miniaturas.containsKey(id) && !semCapa.contains(id) && !pendentes.contains(id)) {
+                solicitar.add(id);
+            }
+        }
+        if (solicitar.isEmpty()) {
+            return;
+        }
+
+        pendentes.addAll(solicitar);
+        int geracaoSolicitacao = geracao;
+
+        carregador.submit(() -> {
+            Map<Long, BufferedImage> carregadas;
+            try {
+                carregadas = facade.carregarMiniaturas(solicitar, LARGURA_MINIATURA, ALTURA_MINIATURA);
+            } catch (Exception ex) {
+                carregadas = Collections.emptyMap();
+            }
+
+            Map<Long, BufferedImage> resultado = carregadas;
+            SwingUtilities.invokeLater(() -> {
+                pendentes.removeAll(solicitar);
+                if (geracaoSolicitacao != geracao) {
+                    timerCarregamento.restart();
+                    return;
+                }
+                for (Long id : solicitar) {
+                    BufferedImage img = resultado.get(id);
+                    if (img != null) {
+                        miniaturas.put(id, img);
+                    } else {
+                        semCapa.add(id);
+                    }
+                }
+                grade.repaint();
+            });
+        });
+    }
+
+    /**
+     * Calcula a faixa de índices das células visíveis mais uma tela de antecipação.
+     *
+     * @param total Quantidade de livros da grade.
+     * @return Par [início, fim) de índices, limitado ao total.
+     */
+    private int[] faixaDeInteresse(int total) {
+        Rectangle visivel = scroll.getViewport().getViewRect();
+        int colunas = grade.colunas();
+        int alturaTela = Math.max(visivel.height, ALTURA_CELULA);
+
+        int linhaInicial = Math.max(0, (visivel.y - alturaTela) / ALTURA_CELULA);
+        int linhaFinal = (visivel.y + visivel.height + alturaTela) / ALTURA_CELULA;
+        return new int[]{Math.min(total, linhaInicial * colunas), Math.min(total, (linhaFinal + 1) * colunas)};
+    }
+
+    /**
+     * Compara os IDs de duas ordens da grade na faixa [início, fim).
+     */
+    private static boolean mesmosIds(long[] anteriores, long[] novos, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            boolean emAnteriores = i < anteriores.length;
+            if (emAnteriores != (i < novos.length) || (emAnteriores && anteriores[i] != novos[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Libera as miniaturas dos livros que ficaram fora da faixa de interesse.
+     */
+    private void reciclarForaDaFaixa(int inicio, int fim) {
+        if (miniaturas.isEmpty() && semCapa.isEmpty()) {
+            return;
+        }
+        Set<Long> manter = new HashSet<>(Math.max(16, (fim - inicio) * 2));
+        for (int i = inicio; i < fim; i++) {
+            manter.add(ids[i]);
+        }
+        miniaturas.keySet().retainAll(manter);
+        semCapa.retainAll(manter);
+    }
+
+    /**
+     * Componente que desenha apenas as células que intersectam a área visível.
+     */
+    private class Grade extends JComponent implements Scrollable {
+
+        Grade() {
+            setOpaque(true);
+            addMouseListener(new MouseAdapter() {
+                @Override
+                public void mouseClicked(MouseEvent e) {
+                    int indice = indiceEm(e.getPoint());
+                    if (indice < 0) {
+                        return;
+                    }
+                    idSelecionado = ids[indice];
+                    repaint();
+                    if (e.getClickCount() >= 2) {
+                        aoAbrir.accept(idSelecionado);
+                    } else {
+                        aoSelecionar.accept(idSelecionado);
+                    }
+                }
+            });
+        }
+
+        int colunas() {
+            int largura = scroll.getViewport().getWidth();
+            return Math.max(1, largura / LARGURA_CELULA);
+        }
+
+        int indiceEm(Point p) {
+            int coluna = p.x / LARGURA_CELULA;
+            if (coluna >= colunas()) {
+                return -1;
+            }
+            int indice = (p.y / ALTURA_CELULA) * colunas() + coluna;
+            return indice < ids.length ? indice : -1;
+        }
+
+        @Override
+        public Dimension getPreferredSize() {
+            int colunas = colunas();
+            int linhas = (ids.length + colunas - 1) / colunas;
+            return new Dimension(colunas * LARGURA_CELULA, linhas * ALTURA_CELULA);
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                Rectangle clip = g2.getClipBounds();
+                g2.setColor(UIManager.getColor("Panel.background"));
+                g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+                int colunas = colunas();
+                int linhaInicial = clip.y / ALTURA_CELULA;
+                int linhaFinal = (clip.y + clip.height) / ALTURA_CELULA;
+
+                g2.setFont(new Font("Segoe UI", Font.PLAIN, 11));
+                g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+                for (int linha = linhaInicial; linha <= linhaFinal; linha++) {
+                    for (int coluna = 0; coluna < colunas; coluna++) {
+                        int indice = linha * colunas + coluna;
+                        if (indice >= ids.length) {
+                            return;
+                        }
+                        desenharCelula(g2, indice, coluna * LARGURA_CELULA, linha * ALTURA_CELULA);
+                    }
+                }
+            } finally {
+                g2.dispose();
+            }
+        }
+
+        private void desenharCelula(Graphics2D g2, int indice, int x, int y) {
+            long id = ids[indice];
+            int xCapa = x + (LARGURA_CELULA - LARGURA_MINIATURA) / 2;
+            int yCapa = y + 8;
+
+            BufferedImage img = miniaturas.get(id);
+            if (img != null) {
+                g2.drawImage(img, xCapa + (LARGURA_MINIATURA - img.getWidth()) / 2,
+                        yCapa + (ALTURA_MINIATURA - img.getHeight()) / 2, null);
+            } else {
+                g2.setColor(new Color(128, 128, 128, 60));
+                g2.fillRect(xCapa, yCapa, LARGURA_MINIATURA, ALTURA_MINIATURA);
+                g2.setColor(UIManager.getColor("Label.disabledForeground"));
+                g2.drawString(semCapa.contains(id) ? "Sem Capa" : "...", xCapa + 8, yCapa + ALTURA_MINIATURA / 2);
+            }
+
+            if (id == idSelecionado) {
+                g2.setColor(new Color(66, 133, 244));
+                g2.setStroke(new BasicStroke(3));
+                g2.drawRect(xCapa - 2, yCapa - 2, LARGURA_MINIATURA + 4, ALTURA_MINIATURA + 4);
+            }
+
+            g2.setColor(UIManager.getColor("Label.foreground"));
+            String titulo = titulos[indice] != null ? titulos[indice] : "";
+            FontMetrics fm = g2.getFontMetrics();
+            while (titulo.length() > 3 && fm.stringWidth(titulo) > LARGURA_CELULA - 10) {
+                titulo = titulo.substring(0, titulo.length() - 4) + "…";
+            }
+            g2.drawString(titulo, x + (LARGURA_CELULA - fm.stringWidth(titulo)) / 2, yCapa + ALTURA_MINIATURA + 20);
+        }
+
+        @Override
+        public Dimension getPreferredScrollableViewportSize() {
+            return getPreferredSize();
+        }
+
+        @Override
+        public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+            return ALTURA_CELULA / 4;
+        }
+
+        @Override
+        public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+            return Math.max(ALTURA_CELULA, visibleRect.height - ALTURA_CELULA);
+        }
+
+        @Override
+        public boolean getScrollableTracksViewportWidth() {
+            return true;
+        }
+
+        @Override
+        public boolean getScrollableTracksViewportHeight() {
+            return false;
+        }
+    }
+}
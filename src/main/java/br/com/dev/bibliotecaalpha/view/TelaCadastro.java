@@ -3,6 +3,7 @@ package br.com.dev.bibliotecaalpha.view;
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
 import br.com.dev.bibliotecaalpha.facade.LivroFacade;
 import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.service.SugestaoService;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -23,13 +24,13 @@ import java.nio.file.Files;
 public class TelaCadastro extends JDialog {
 
     private final LivroFacade facade;
-    private final TelaListagem telaListagem;
 
     private Livro livro;
 
     private JTextField txtIsbn, txtTitulo, txtAutores, txtEditora, txtDataPublicacao;
     private JLabel lblCapa;
     private JTextArea txtSemelhantes;
+    private JButton btnBuscarApi, btnSalvar;
 
     private byte[] imagemAtualBytes = null;
 
@@ -41,7 +42,6 @@ public class TelaCadastro extends JDialog {
      */
     public TelaCadastro(TelaListagem telaListagem, LivroFacade facade) {
         super(telaListagem, "Cadastro de Livro", true);
-        this.telaListagem = telaListagem;
         this.facade = facade;
 
         setSize(650, 550);
@@ -63,6 +63,7 @@ public class TelaCadastro extends JDialog {
         txtTitulo = new JTextField(20);
         txtAutores = new JTextField(20);
         txtEditora = new JTextField(20);
+        instalarSugestoes();
         txtDataPublicacao = new JTextField(10);
 
         txtSemelhantes = new JTextArea(4, 20);
@@ -70,7 +71,7 @@ public class TelaCadastro extends JDialog {
         txtSemelhantes.setWrapStyleWord(true);
         JScrollPane scrollSemelhantes = new JScrollPane(txtSemelhantes);
 
-        JButton btnBuscarApi = new JButton("Buscar na Web 🌍");
+        btnBuscarApi = new JButton("Buscar na Web 🌍");
         btnBuscarApi.addActionListener(e -> buscarNaApi());
 
         lblCapa = new JLabel("Sem Capa");
@@ -115,7 +116,7 @@ public class TelaCadastro extends JDialog {
         add(btnUpload, gbcCapa);
 
         JPanel panelBotoes = new JPanel();
-        JButton btnSalvar = new JButton("Confirmar Cadastro");
+        btnSalvar = new JButton("Confirmar Cadastro");
         JButton btnCancelar = new JButton("Cancelar");
 
         btnSalvar.setBackground(new Color(60, 120, 60));
@@ -133,6 +134,17 @@ public class TelaCadastro extends JDialog {
         add(panelBotoes, gbc);
     }
 
+    /**
+     * Instala o autocompletar nos campos Autores e Editora, com os valores já cadastrados,
+     * e carrega as sugestões em segundo plano (se ainda não carregadas).
+     */
+    private void instalarSugestoes() {
+        AutocompletarCampo.instalar(txtAutores, texto -> facade.sugerirValores(SugestaoService.Campo.AUTORES, texto, 8), true);
+        AutocompletarCampo.instalar(txtEditora, texto -> facade.sugerirValores(SugestaoService.Campo.EDITORA, texto, 8), false);
+
+        facade.prepararSugestoes();
+    }
+
     /**
      * Método auxiliar para adicionar labels e campos de texto ao layout.
      */
@@ -148,42 +160,43 @@ public class TelaCadastro extends JDialog {
     }
 
     /**
-     * Coleta os dados dos campos, valida e envia para o Facade salvar.
+     * Coleta os dados dos campos e envia para o Facade salvar em segundo plano.
+     * A validação e o resultado são exibidos quando a gravação termina.
      */
     private void salvarLivro() {
-        try {
-            if (this.livro == null) {
-                this.livro = new Livro();
-            }
-
-            this.livro.setTitulo(txtTitulo.getText());
-            this.livro.setIsbn(txtIsbn.getText());
-            this.livro.setAutores(txtAutores.getText());
-            this.livro.setEditora(txtEditora.getText());
-            this.livro.setDataPublicacao(txtDataPublicacao.getText());
-            this.livro.setLivrosSemelhantes(txtSemelhantes.getText());
+        if (this.livro == null) {
+            this.livro = new Livro();
+        }
 
-            if (this.imagemAtualBytes != null) {
-                this.livro.setCapaImagem(this.imagemAtualBytes);
-            }
+        this.livro.setTitulo(txtTitulo.getText());
+        this.livro.setIsbn(txtIsbn.getText());
+        this.livro.setAutores(txtAutores.getText());
+        this.livro.setEditora(txtEditora.getText());
+        this.livro.setDataPublicacao(txtDataPublicacao.getText());
+        this.livro.setLivrosSemelhantes(txtSemelhantes.getText());
 
-            facade.salvarLivro(this.livro);
+        if (this.imagemAtualBytes != null) {
+            this.livro.setCapaImagem(this.imagemAtualBytes);
+        }
 
+        btnSalvar.setEnabled(false);
+        ExecucaoEdt.aoConcluir(facade.salvarLivroAsync(this.livro), ok -> {
             JOptionPane.showMessageDialog(this, "Livro salvo com sucesso!");
-
-            telaListagem.atualizarListagem();
             dispose();
-
-        } catch (ServiceException se) {
-            JOptionPane.showMessageDialog(this, se.getMessage(), "Atenção", JOptionPane.WARNING_MESSAGE);
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            JOptionPane.showMessageDialog(this, "Erro inesperado: " + ex.getMessage(), "Erro Crítico", JOptionPane.ERROR_MESSAGE);
-        }
+        }, ex -> {
+            btnSalvar.setEnabled(true);
+            if (ex instanceof ServiceException) {
+                JOptionPane.showMessageDialog(this, ex.getMessage(), "Atenção", JOptionPane.WARNING_MESSAGE);
+            } else {
+                ex.printStackTrace();
+                JOptionPane.showMessageDialog(this, "Erro inesperado: " + ex.getMessage(), "Erro Crítico", JOptionPane.ERROR_MESSAGE);
+            }
+        });
     }
 
     /**
-     * Executa a busca na API externa em uma Thread separada para não travar a interface.
+     * Executa a busca na API externa em segundo plano (pool da fachada) para não travar a interface.
+     * A capa vem junto com os dados do livro.
      */
     private void buscarNaApi() {
         String isbn = txtIsbn.getText().trim();
@@ -194,34 +207,23 @@ public class TelaCadastro extends JDialog {
 
         lblCapa.setText("Buscando...");
         lblCapa.setIcon(null);
-
-        new Thread(() -> {
-            try {
-
-                Livro livroEncontrado = facade.buscarNaApiExterna(isbn);
-                byte[] capaBytes = facade.buscarCapaPorIsbn(isbn);
-
-                SwingUtilities.invokeLater(() -> {
-                    if (livroEncontrado != null) {
-                        txtTitulo.setText(livroEncontrado.getTitulo());
-                        txtAutores.setText(livroEncontrado.getAutores());
-                        txtEditora.setText(livroEncontrado.getEditora());
-                        txtDataPublicacao.setText(livroEncontrado.getDataPublicacao());
-
-                        if (this.livro == null) this.livro = new Livro();
-                        this.livro = livroEncontrado;
-                    }
-
-                    this.imagemAtualBytes = capaBytes;
-                    atualizarPreviewImagem(capaBytes);
-                });
-            } catch (Exception ex) {
-                SwingUtilities.invokeLater(() -> {
-                    lblCapa.setText("Erro/Sem Capa");
-                    JOptionPane.showMessageDialog(this, "Aviso: " + ex.getMessage());
-                });
-            }
-        }).start();
+        btnBuscarApi.setEnabled(false);
+
+        ExecucaoEdt.aoConcluir(facade.buscarNaApiExternaAsync(isbn), livroEncontrado -> {
+            btnBuscarApi.setEnabled(true);
+            txtTitulo.setText(livroEncontrado.getTitulo());
+            txtAutores.setText(livroEncontrado.getAutores());
+            txtEditora.setText(livroEncontrado.getEditora());
+            txtDataPublicacao.setText(livroEncontrado.getDataPublicacao());
+            this.livro = livroEncontrado;
+
+            this.imagemAtualBytes = livroEncontrado.getCapaImagem();
+            atualizarPreviewImagem(this.imagemAtualBytes);
+        }, ex -> {
+            btnBuscarApi.setEnabled(true);
+            lblCapa.setText("Erro/Sem Capa");
+            JOptionPane.showMessageDialog(this, "Aviso: " + ex.getMessage());
+        });
     }
 
     /**
@@ -235,7 +237,7 @@ public class TelaCadastro extends JDialog {
         if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             try {
                 File arquivo = fileChooser.getSelectedFile();
-                byte[] bytes = Files.readAllBytes(arquivo.toPath());
+                byte[] bytes = facade.normalizarCapa(Files.readAllBytes(arquivo.toPath()));
 
                 this.imagemAtualBytes = bytes;
                 atualizarPreviewImagem(bytes);
@@ -0,0 +1,155 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Janela exibida imediatamente na inicialização, enquanto o contexto do Spring é carregado.
+ * <p>
+ * Não depende do backend: mostra o esboço (skeleton) da tela principal, com as mesmas
+ * dimensões e posição, e uma mensagem com a etapa atual. Quando a aplicação fica pronta,
+ * é substituída pela {@link TelaListagem}.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class TelaCarregamento extends JFrame {
+
+    private static final int LINHAS_ESBOCO = 12;
+
+    private final JLabel lblEtapa;
+    private final JProgressBar barraProgresso;
+
+    private Runnable aoPrimeiroDesenho;
+
+    /**
+     * Construtor da janela de carregamento.
+     */
+    public TelaCarregamento() {
+        setTitle("Biblioteca Alpha - Gestão de Acervo");
+
+        java.net.URL urlIcone = getClass().getResource("/app_icon.png");
+        if (urlIcone != null) {
+            setIconImage(Toolkit.getDefaultToolkit().getImage(urlIcone));
+        }
+
+        setSize(1000, 650);
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLocationRelativeTo(null);
+        setLayout(new BorderLayout());
+
+        JPanel panelHeader = new JPanel(new BorderLayout());
+        panelHeader.setBackground(new Color(60, 63, 65));
+        panelHeader.setBorder(BorderFactory.createEmptyBorder(15, 20, 15, 20));
+
+        JLabel lblTitulo = new JLabel("Acervo de Livros");
+        lblTitulo.setFont(new Font("Segoe UI", Font.BOLD, 24));
+        lblTitulo.setForeground(Color.WHITE);
+        panelHeader.add(lblTitulo, BorderLayout.WEST);
+        add(panelHeader, BorderLayout.NORTH);
+
+        add(new PainelEsboco(), BorderLayout.CENTER);
+
+        JPanel panelRodape = new JPanel(new BorderLayout(0, 6));
+        panelRodape.setBorder(BorderFactory.createEmptyBorder(10, 20, 12, 20));
+
+        lblEtapa = new JLabel("Iniciando...");
+        lblEtapa.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+
+        barraProgresso = new JProgressBar();
+        barraProgresso.setIndeterminate(true);
+
+        panelRodape.add(lblEtapa, BorderLayout.NORTH);
+        panelRodape.add(barraProgresso, BorderLayout.CENTER);
+        add(panelRodape, BorderLayout.SOUTH);
+    }
+
+    /**
+     * Atualiza a mensagem da etapa atual.
+     *
+     * @param etapa Descrição da etapa.
+     */
+    public void setEtapa(String etapa) {
+        lblEtapa.setText(etapa);
+    }
+
+    /**
+     * Exibe uma falha na inicialização, interrompendo a animação de progresso.
+     *
+     * @param mensagem Mensagem de erro.
+     */
+    public void exibirFalha(String mensagem) {
+        barraProgresso.setIndeterminate(false);
+        lblEtapa.setText(mensagem);
+        lblEtapa.setForeground(new Color(200, 50, 50));
+    }
+
+    /**
+     * Define uma ação executada uma única vez, quando a janela é desenhada pela primeira vez
+     * (usada para medir o tempo até a primeira exibição).
+     *
+     * @param acao A ação.
+     */
+    public void setAoPrimeiroDesenho(Runnable acao) {
+        this.aoPrimeiroDesenho = acao;
+    }
+
+    /**
+     * Esboço da tabela de livros: faixas cinzas no lugar das linhas, sem dados.
+     */
+    private class PainelEsboco extends JComponent {
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            Color base = UIManager.getColor("Panel.background");
+            if (base == null) {
+                base = getBackground();
+            }
+            g2.setColor(base);
+            g2.fillRect(0, 0, getWidth(), getHeight());
+
+            Color faixa = mesclar(base, UIManager.getColor("Label.foreground"), 0.12f);
+            int margem = 20;
+            int larguraUtil = getWidth() - margem * 2;
+            int[] colunas = {8, 16, 34, 14, 16, 12};
+
+            g2.setColor(mesclar(base, UIManager.getColor("Label.foreground"), 0.2f));
+            g2.fillRoundRect(margem, 16, larguraUtil, 18, 8, 8);
+
+            g2.setColor(faixa);
+            for (int linha = 0; linha < LINHAS_ESBOCO; linha++) {
+                int y = 50 + linha * 30;
+                if (y + 14 > getHeight()) {
+                    break;
+                }
+                int x = margem;
+                for (int coluna : colunas) {
+                    int largura = larguraUtil * coluna / 100;
+                    g2.fillRoundRect(x + 4, y, largura - 12 - ((linha + coluna) % 3) * 8, 14, 8, 8);
+                    x += largura;
+                }
+            }
+            g2.dispose();
+
+            if (aoPrimeiroDesenho != null) {
+                Runnable acao = aoPrimeiroDesenho;
+                aoPrimeiroDesenho = null;
+                acao.run();
+            }
+        }
+
+        private Color mesclar(Color base, Color outra, float proporcao) {
+            if (outra == null) {
+                outra = Color.GRAY;
+            }
+            return new Color(
+                    Math.round(base.getRed() + (outra.getRed() - base.getRed()) * proporcao),
+                    Math.round(base.getGreen() + (outra.getGreen() - base.getGreen()) * proporcao),
+                    Math.round(base.getBlue() + (outra.getBlue() - base.getBlue()) * proporcao));
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package br.com.dev.bibliotecaalpha.view;
 
+import br.com.dev.bibliotecaalpha.event.EventoLivro;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
 import br.com.dev.bibliotecaalpha.facade.LivroFacade;
+import br.com.dev.bibliotecaalpha.service.LivroService;
 import com.formdev.flatlaf.FlatDarkLaf;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.FlatLightLaf;
@@ -10,6 +16,8 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Painel principal do Dashboard da aplicação.
@@ -33,11 +41,21 @@ public class TelaDashboard extends JPanel {
 
     private JPanel card1, card2, card3;
 
+    private long totalLivros;
+    private LivroResumo ultimoLivro;
+    private final Map<String, Long> livrosPorEditora = new HashMap<>();
+
+    /**
+     * Agrupa as recargas completas dos indicadores solicitadas em sequência em uma única consulta.
+     */
+    private final Timer timerRecarga;
+
     /**
      * Construtor padrão do Dashboard.
      * <p>
-     * Inicializa a interface gráfica, carrega os dados do banco via Facade
-     * e aplica o tema visual inicial.
+     * Inicializa a interface gráfica e aplica o tema visual inicial. Os indicadores
+     * são exibidos quando carregados (ver {@link #definirIndicadores(LivroService.Indicadores)})
+     * e, a seguir, ajustados pelas alterações aplicadas na listagem (ver {@link #aplicarEvento(EventoLivro)}).
      * </p>
      *
      * @param facade Instância da fachada para comunicação com o backend.
@@ -54,8 +72,10 @@ public class TelaDashboard extends JPanel {
         lblDecoracao.setFont(new Font("Segoe UI", Font.BOLD, 40));
         add(lblDecoracao, BorderLayout.SOUTH);
 
-        atualizarDados();
         aplicarTema();
+
+        timerRecarga = new Timer(500, e -> atualizarDados());
+        timerRecarga.setRepeats(false);
     }
 
     /**
@@ -245,18 +265,93 @@ public class TelaDashboard extends JPanel {
     }
 
     /**
-     * Busca os dados atualizados no Facade e atualiza os textos dos Cards.
+     * Busca os indicadores atualizados no Facade, em segundo plano, e atualiza os textos dos Cards ao concluir.
+     * Em caso de erro, mantém os valores exibidos.
      */
     public void atualizarDados() {
-        try {
-            lblTotalLivros.setText(String.valueOf(facade.getTotalLivros()));
+        ExecucaoEdt.aoConcluir(facade.carregarIndicadoresAsync(), this::definirIndicadores, ex -> {
+        });
+    }
 
-            String ultimo = facade.getUltimoLivro();
-            if (ultimo.length() > 14) ultimo = ultimo.substring(0, 11) + "...";
-            lblUltimoLivro.setText(ultimo);
+    /**
+     * Exibe indicadores já carregados (ex.: em segundo plano, na abertura da aplicação).
+     *
+     * @param indicadores Os indicadores do acervo.
+     */
+    public void definirIndicadores(LivroService.Indicadores indicadores) {
+        totalLivros = indicadores.getTotalLivros();
+        ultimoLivro = indicadores.getUltimoLivro();
+        livrosPorEditora.clear();
+        livrosPorEditora.putAll(indicadores.getLivrosPorEditora());
+        exibirIndicadores();
+    }
 
-            lblTotalEditoras.setText(String.valueOf(facade.getTotalEditoras()));
-        } catch (Exception e) {
+    /**
+     * Ajusta os indicadores a partir de uma alteração do acervo, sem consultar o banco.
+     * Chamado pela listagem para cada linha inserida, alterada ou removida, seja por esta
+     * estação ou por outra.
+     * Quando o evento não traz informação suficiente (ex.: exclusão do último livro),
+     * agenda uma recarga completa.
+     *
+     * @param evento A alteração, na forma de evento do acervo.
+     */
+    public void aplicarEvento(EventoLivro evento) {
+        if (evento instanceof LivroCriadoEvento) {
+            LivroResumo livro = ((LivroCriadoEvento) evento).getLivro();
+            totalLivros++;
+            contarEditora(livro.getEditora(), 1);
+            if (ultimoLivro == null || livro.getId() > ultimoLivro.getId()) {
+                ultimoLivro = livro;
+            }
+        } else if (evento instanceof LivroAtualizadoEvento) {
+            LivroAtualizadoEvento atualizado = (LivroAtualizadoEvento) evento;
+            if (atualizado.getAnterior() == null) {
+                agendarRecarga();
+                return;
+            }
+            contarEditora(atualizado.getAnterior().getEditora(), -1);
+            contarEditora(atualizado.getLivro().getEditora(), 1);
+            if (ultimoLivro != null && ultimoLivro.getId() == evento.getLivroId()) {
+                ultimoLivro = atualizado.getLivro();
+            }
+        } else if (evento instanceof LivroExcluidoEvento) {
+            LivroResumo livro = ((LivroExcluidoEvento) evento).getLivro();
+            boolean eraUltimo = ultimoLivro != null && ultimoLivro.getId() == evento.getLivroId();
+            if (livro == null || eraUltimo) {
+                agendarRecarga();
+                return;
+            }
+            totalLivros--;
+            contarEditora(livro.getEditora(), -1);
+        }
+        exibirIndicadores();
+    }
+
+    private void contarEditora(String editora, long delta) {
+        if (editora == null || editora.isEmpty()) {
+            return;
+        }
+        long quantidade = livrosPorEditora.getOrDefault(editora, 0L) + delta;
+        if (quantidade > 0) {
+            livrosPorEditora.put(editora, quantidade);
+        } else {
+            livrosPorEditora.remove(editora);
         }
     }
+
+    private void agendarRecarga() {
+        if (!timerRecarga.isRunning()) {
+            timerRecarga.start();
+        }
+    }
+
+    private void exibirIndicadores() {
+        lblTotalLivros.setText(String.valueOf(totalLivros));
+
+        String ultimo = ultimoLivro != null ? ultimoLivro.getTitulo() : "Nenhum livro";
+        if (ultimo.length() > 14) ultimo = ultimo.substring(0, 11) + "...";
+        lblUltimoLivro.setText(ultimo);
+
+        lblTotalEditoras.setText(String.valueOf(livrosPorEditora.size()));
+    }
 }
\ No newline at end of file
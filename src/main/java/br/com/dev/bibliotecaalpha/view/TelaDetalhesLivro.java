@@ -1,5 +1,6 @@
 package br.com.dev.bibliotecaalpha.view;
 
+import br.com.dev.bibliotecaalpha.facade.LivroFacade;
 import br.com.dev.bibliotecaalpha.model.Livro;
 
 import javax.swing.*;
@@ -23,8 +24,9 @@ public class TelaDetalhesLivro extends JDialog {
      *
      * @param parent A tela pai (geralmente TelaListagem) para centralização.
      * @param livro  O objeto contendo os dados a serem exibidos.
+     * @param facade Fachada utilizada para obter a capa já redimensionada (cache de capas).
      */
-    public TelaDetalhesLivro(Frame parent, Livro livro) {
+    public TelaDetalhesLivro(Frame parent, Livro livro, LivroFacade facade) {
         super(parent, "Detalhes do Livro", true);
         setSize(700, 580);
         setLocationRelativeTo(parent);
@@ -60,9 +62,8 @@ public class TelaDetalhesLivro extends JDialog {
         lblCapa.setHorizontalAlignment(SwingConstants.CENTER);
         lblCapa.setText("Sem Capa");
 
-        if (livro.getCapaImagem() != null && livro.getCapaImagem().length > 0) {
-            ImageIcon icon = new ImageIcon(livro.getCapaImagem());
-            Image img = icon.getImage().getScaledInstance(160, 230, Image.SCALE_SMOOTH);
+        Image img = facade.carregarCapa(livro, 160, 230);
+        if (img != null) {
             lblCapa.setIcon(new ImageIcon(img));
             lblCapa.setText("");
         }
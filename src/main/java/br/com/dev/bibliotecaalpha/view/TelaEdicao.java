@@ -2,6 +2,8 @@ package br.com.dev.bibliotecaalpha.view;
 
 import br.com.dev.bibliotecaalpha.facade.LivroFacade;
 import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.service.LivroService;
+import br.com.dev.bibliotecaalpha.service.SugestaoService;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -10,6 +12,9 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.io.File;
 import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Janela de diálogo (Modal) para edição de livros existentes.
@@ -25,24 +30,23 @@ import java.nio.file.Files;
 public class TelaEdicao extends JDialog {
 
     private final LivroFacade facade;
-    private final TelaListagem telaListagem;
     private final Livro livroAtual;
 
     private JTextArea txtSemelhantes;
     private JTextField txtIsbn, txtTitulo, txtAutores, txtEditora, txtDataPublicacao;
     private JLabel lblCapa;
+    private JButton btnSalvar;
 
     private byte[] imagemAtualBytes;
 
     /**
      * Construtor da Tela de Edição.
-     * @param telaListagem    A janela de listagem que invocou a edição (para atualização posterior).
+     * @param telaListagem    A janela de listagem que invocou a edição (Parent).
      * @param facade          A fachada para comunicação com o banco de dados.
      * @param livroParaEditar O objeto Livro original que será modificado.
      */
     public TelaEdicao(TelaListagem telaListagem, LivroFacade facade, Livro livroParaEditar) {
         super(telaListagem, "Editar Livro", true);
-        this.telaListagem = telaListagem;
         this.facade = facade;
         this.livroAtual = livroParaEditar;
 
@@ -88,6 +92,7 @@ public class TelaEdicao extends JDialog {
         txtTitulo = new JTextField(20);
         txtAutores = new JTextField(20);
         txtEditora = new JTextField(20);
+        instalarSugestoes();
         txtDataPublicacao = new JTextField(10);
 
         lblCapa = new JLabel("Sem Capa");
@@ -99,7 +104,12 @@ public class TelaEdicao extends JDialog {
         lblCapa.addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent e) {
-                if (imagemAtualBytes != null) {
+                if (imagemAtualBytes != null && imagemAtualBytes == livroAtual.getCapaImagem()) {
+                    Image capa = facade.carregarCapa(livroAtual, 480, 550);
+                    if (capa != null) {
+                        new TelaVisualizacaoImagem(TelaEdicao.this, capa).setVisible(true);
+                    }
+                } else if (imagemAtualBytes != null) {
                     new TelaVisualizacaoImagem(TelaEdicao.this, imagemAtualBytes).setVisible(true);
                 }
             }
@@ -139,7 +149,7 @@ public class TelaEdicao extends JDialog {
         add(btnUpload, gbcCapa);
 
         JPanel panelBotoes = new JPanel();
-        JButton btnSalvar = new JButton("Salvar Alterações");
+        btnSalvar = new JButton("Salvar Alterações");
         JButton btnCancelar = new JButton("Cancelar");
 
         btnSalvar.setBackground(new Color(70, 130, 180));
@@ -155,6 +165,17 @@ public class TelaEdicao extends JDialog {
         add(panelBotoes, gbc);
     }
 
+    /**
+     * Instala o autocompletar nos campos Autores e Editora, com os valores já cadastrados,
+     * e carrega as sugestões em segundo plano (se ainda não carregadas).
+     */
+    private void instalarSugestoes() {
+        AutocompletarCampo.instalar(txtAutores, texto -> facade.sugerirValores(SugestaoService.Campo.AUTORES, texto, 8), true);
+        AutocompletarCampo.instalar(txtEditora, texto -> facade.sugerirValores(SugestaoService.Campo.EDITORA, texto, 8), false);
+
+        facade.prepararSugestoes();
+    }
+
     /**
      * Método auxiliar para adicionar labels e campos ao layout.
      */
@@ -174,7 +195,7 @@ public class TelaEdicao extends JDialog {
         if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             try {
                 File arquivo = fileChooser.getSelectedFile();
-                this.imagemAtualBytes = Files.readAllBytes(arquivo.toPath());
+                this.imagemAtualBytes = facade.normalizarCapa(Files.readAllBytes(arquivo.toPath()));
                 atualizarPreviewImagem(this.imagemAtualBytes);
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(this, "Erro: " + ex.getMessage());
@@ -189,9 +210,10 @@ public class TelaEdicao extends JDialog {
      */
     private void atualizarPreviewImagem(byte[] bytes) {
         if (bytes != null && bytes.length > 0) {
-            ImageIcon icon = new ImageIcon(bytes);
-            Image img = icon.getImage().getScaledInstance(120, 180, Image.SCALE_SMOOTH);
-            lblCapa.setIcon(new ImageIcon(img));
+            Image img = bytes == livroAtual.getCapaImagem()
+                    ? facade.carregarCapa(livroAtual, 120, 180)
+                    : new ImageIcon(bytes).getImage().getScaledInstance(120, 180, Image.SCALE_SMOOTH);
+            lblCapa.setIcon(img != null ? new ImageIcon(img) : null);
             lblCapa.setText("");
             lblCapa.setToolTipText("Clique para ampliar");
         } else {
@@ -202,26 +224,75 @@ public class TelaEdicao extends JDialog {
     }
 
     /**
-     * Coleta os dados editados, atualiza o objeto Livro e persiste via Facade.
-     * Fecha a janela e atualiza a listagem ao finalizar.
+     * Persiste as alterações via Facade em segundo plano.
+     * <p>
+     * Se a capa foi trocada, grava o livro inteiro (a nova imagem precisa ser normalizada e
+     * armazenada). Caso contrário, envia apenas os campos de texto alterados, com a versão em que
+     * o livro foi aberto, sem regravar a capa. Fecha a janela ao finalizar (a listagem é
+     * atualizada pelo evento de alteração).
+     * </p>
      */
     private void salvarAlteracoes() {
-        try {
-            livroAtual.setIsbn(txtIsbn.getText());
-            livroAtual.setTitulo(txtTitulo.getText());
-            livroAtual.setAutores(txtAutores.getText());
-            livroAtual.setEditora(txtEditora.getText());
-            livroAtual.setDataPublicacao(txtDataPublicacao.getText());
-            livroAtual.setLivrosSemelhantes(txtSemelhantes.getText());
+        if (imagemAtualBytes != livroAtual.getCapaImagem()) {
+            salvarLivroCompleto();
+            return;
+        }
 
-            livroAtual.setCapaImagem(this.imagemAtualBytes);
+        Map<LivroService.Campo, String> alteracoes = new EnumMap<>(LivroService.Campo.class);
+        registrarAlteracao(alteracoes, LivroService.Campo.ISBN, livroAtual.getIsbn(), txtIsbn.getText());
+        registrarAlteracao(alteracoes, LivroService.Campo.TITULO, livroAtual.getTitulo(), txtTitulo.getText());
+        registrarAlteracao(alteracoes, LivroService.Campo.AUTORES, livroAtual.getAutores(), txtAutores.getText());
+        registrarAlteracao(alteracoes, LivroService.Campo.EDITORA, livroAtual.getEditora(), txtEditora.getText());
+        registrarAlteracao(alteracoes, LivroService.Campo.DATA_PUBLICACAO, livroAtual.getDataPublicacao(), txtDataPublicacao.getText());
+        registrarAlteracao(alteracoes, LivroService.Campo.LIVROS_SEMELHANTES, livroAtual.getLivrosSemelhantes(), txtSemelhantes.getText());
 
-            facade.salvarLivro(livroAtual);
+        if (alteracoes.isEmpty()) {
+            dispose();
+            return;
+        }
+
+        btnSalvar.setEnabled(false);
+        long versao = livroAtual.getVersao() != null ? livroAtual.getVersao() : 0L;
+        ExecucaoEdt.aoConcluir(facade.atualizarCamposAsync(livroAtual.getId(), versao, alteracoes), ok -> {
             JOptionPane.showMessageDialog(this, "Livro atualizado!");
-            telaListagem.atualizarListagem();
             dispose();
-        } catch (Exception ex) {
+        }, ex -> {
+            btnSalvar.setEnabled(true);
             JOptionPane.showMessageDialog(this, "Erro: " + ex.getMessage());
+        });
+    }
+
+    /**
+     * Inclui o campo no mapa de alterações se o texto digitado for diferente do valor original
+     * (um valor original nulo equivale a um campo vazio).
+     */
+    private static void registrarAlteracao(Map<LivroService.Campo, String> alteracoes, LivroService.Campo campo,
+                                           String original, String atual) {
+        if (!Objects.equals(original != null ? original : "", atual)) {
+            alteracoes.put(campo, atual);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Coleta os dados editados, atualiza o objeto Livro e persiste o livro inteiro, com a nova capa.
+     */
+    private void salvarLivroCompleto() {
+        livroAtual.setIsbn(txtIsbn.getText());
+        livroAtual.setTitulo(txtTitulo.getText());
+        livroAtual.setAutores(txtAutores.getText());
+        livroAtual.setEditora(txtEditora.getText());
+        livroAtual.setDataPublicacao(txtDataPublicacao.getText());
+        livroAtual.setLivrosSemelhantes(txtSemelhantes.getText());
+
+        livroAtual.setCapaImagem(this.imagemAtualBytes);
+
+        btnSalvar.setEnabled(false);
+        ExecucaoEdt.aoConcluir(facade.salvarLivroAsync(livroAtual), ok -> {
+            JOptionPane.showMessageDialog(this, "Livro atualizado!");
+            dispose();
+        }, ex -> {
+            btnSalvar.setEnabled(true);
+            JOptionPane.showMessageDialog(this, "Erro: " + ex.getMessage());
+        });
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.facade.LivroFacade;
+import br.com.dev.bibliotecaalpha.service.SugestaoService;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Janela de diálogo (Modal) para edição em lote dos livros selecionados na listagem.
+ * <p>
+ * Permite alterar de uma só vez a editora, os autores e/ou a data de publicação.
+ * Apenas os campos marcados são gravados; os demais permanecem como estão em cada livro.
+ * </p>
+ *
+ * @author Luccas Cabrini
+ * @version 1.0
+ */
+public class TelaEdicaoLote extends JDialog {
+
+    private final LivroFacade facade;
+    private final List<Long> ids;
+
+    private JCheckBox chkAutores, chkEditora, chkDataPublicacao;
+    private JTextField txtAutores, txtEditora, txtDataPublicacao;
+    private JButton btnSalvar;
+
+    /**
+     * Construtor da Tela de Edição em Lote.
+     *
+     * @param telaListagem A janela de listagem que invocou a edição (Parent).
+     * @param facade       A fachada para comunicação com o banco de dados.
+     * @param ids          Os IDs dos livros selecionados.
+     */
+    public TelaEdicaoLote(TelaListagem telaListagem, LivroFacade facade, List<Long> ids) {
+        super(telaListagem, "Editar " + ids.size() + " Livros", true);
+        this.facade = facade;
+        this.ids = ids;
+
+        setSize(520, 300);
+        setLocationRelativeTo(telaListagem);
+        setLayout(new GridBagLayout());
+
+        inicializarComponentes();
+    }
+
+    /**
+     * Configura o layout (GridBagLayout) e inicializa os componentes visuais.
+     * Cada campo só fica editável quando a caixa ao lado está marcada.
+     */
+    private void inicializarComponentes() {
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(8, 8, 8, 8);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+
+        JLabel lblAviso = new JLabel("Marque os campos que serão alterados nos " + ids.size() + " livros selecionados.");
+        lblAviso.setFont(new Font("Segoe UI", Font.BOLD, 13));
+
+        gbc.gridx = 0; gbc.gridy = 0; gbc.gridwidth = 2;
+        add(lblAviso, gbc);
+
+        txtAutores = new JTextField(20);
+        txtEditora = new JTextField(20);
+        txtDataPublicacao = new JTextField(10);
+        AutocompletarCampo.instalar(txtAutores, texto -> facade.sugerirValores(SugestaoService.Campo.AUTORES, texto, 8), true);
+        AutocompletarCampo.instalar(txtEditora, texto -> facade.sugerirValores(SugestaoService.Campo.EDITORA, texto, 8), false);
+
+        chkAutores = adicionarCampo("Autores:", txtAutores, 1, gbc);
+        chkEditora = adicionarCampo("Editora:", txtEditora, 2, gbc);
+        chkDataPublicacao = adicionarCampo("Data Pub.:", txtDataPublicacao, 3, gbc);
+
+        JPanel panelBotoes = new JPanel();
+        btnSalvar = new JButton("Salvar Alterações");
+        JButton btnCancelar = new JButton("Cancelar");
+
+        btnSalvar.setBackground(new Color(70, 130, 180));
+        btnSalvar.setForeground(Color.WHITE);
+
+        btnSalvar.addActionListener(e -> salvarAlteracoes());
+        btnCancelar.addActionListener(e -> dispose());
+
+        panelBotoes.add(btnSalvar);
+        panelBotoes.add(btnCancelar);
+
+        gbc.gridx = 0; gbc.gridy = 4; gbc.gridwidth = 2;
+        add(panelBotoes, gbc);
+
+        facade.prepararSugestoes();
+    }
+
+    /**
+     * Método auxiliar para adicionar a caixa de marcação e o campo ao layout.
+     *
+     * @return A caixa que habilita o campo.
+     */
+    private JCheckBox adicionarCampo(String rotulo, JTextField campo, int linha, GridBagConstraints gbc) {
+        JCheckBox marcador = new JCheckBox(rotulo);
+        campo.setEnabled(false);
+        marcador.addActionListener(e -> {
+            campo.setEnabled(marcador.isSelected());
+            if (marcador.isSelected()) {
+                campo.requestFocusInWindow();
+            }
+        });
+
+        gbc.gridx = 0; gbc.gridy = linha; gbc.gridwidth = 1;
+        add(marcador, gbc);
+        gbc.gridx = 1;
+        add(campo, gbc);
+        return marcador;
+    }
+
+    /**
+     * Envia à fachada apenas os campos marcados, em segundo plano.
+     * Fecha a janela ao finalizar (a listagem é atualizada pelos eventos de alteração).
+     */
+    private void salvarAlteracoes() {
+        String autores = chkAutores.isSelected() ? txtAutores.getText() : null;
+        String editora = chkEditora.isSelected() ? txtEditora.getText() : null;
+        String dataPublicacao = chkDataPublicacao.isSelected() ? txtDataPublicacao.getText() : null;
+
+        btnSalvar.setEnabled(false);
+        ExecucaoEdt.aoConcluir(facade.atualizarLivrosAsync(ids, editora, autores, dataPublicacao), alterados -> {
+            JOptionPane.showMessageDialog(this, alterados + " livros atualizados!");
+            dispose();
+        }, ex -> {
+            btnSalvar.setEnabled(true);
+            if (ex instanceof ServiceException) {
+                JOptionPane.showMessageDialog(this, ex.getMessage(), "Atenção", JOptionPane.WARNING_MESSAGE);
+            } else {
+                JOptionPane.showMessageDialog(this, "Erro: " + ex.getMessage());
+            }
+        });
+    }
+}
@@ -19,20 +19,19 @@ import java.awt.*;
 public class TelaExclusao extends JDialog {
 
     private final LivroFacade facade;
-    private final TelaListagem telaListagem;
     private final Livro livro;
     private JTextField txtIsbn, txtTitulo, txtAutores;
+    private JButton btnExcluir;
 
     /**
      * Construtor da Tela de Exclusão.
      *
-     * @param telaListagem Janela de listagem (Parent) para atualização após a exclusão.
+     * @param telaListagem Janela de listagem (Parent) que chamou este diálogo.
      * @param facade       Fachada para comunicação com o backend.
      * @param livro        O objeto Livro que será alvo da exclusão.
      */
     public TelaExclusao(TelaListagem telaListagem, LivroFacade facade, Livro livro) {
         super(telaListagem, "Excluir Livro", true);
-        this.telaListagem = telaListagem;
         this.facade = facade;
         this.livro = livro;
         setSize(500, 300);
@@ -83,7 +82,7 @@ public class TelaExclusao extends JDialog {
         adicionarCampo("Autores:", txtAutores, 3, gbc);
 
         JPanel panelBotoes = new JPanel();
-        JButton btnExcluir = new JButton("CONFIRMAR EXCLUSÃO");
+        btnExcluir = new JButton("CONFIRMAR EXCLUSÃO");
         JButton btnCancelar = new JButton("Cancelar");
 
         btnExcluir.setBackground(new Color(200, 50, 50));
@@ -111,17 +110,18 @@ public class TelaExclusao extends JDialog {
     }
 
     /**
-     * Aciona o Facade para remover o livro do banco de dados.
-     * Exibe mensagem de sucesso, atualiza a tabela da tela principal e fecha o diálogo.
+     * Aciona o Facade para remover o livro do banco de dados, em segundo plano.
+     * Ao concluir, exibe mensagem de sucesso e fecha o diálogo (a tabela da tela principal
+     * é atualizada pelo evento de exclusão).
      */
     private void confirmarExclusao() {
-        try {
-            facade.excluirLivro(livro.getId());
+        btnExcluir.setEnabled(false);
+        ExecucaoEdt.aoConcluir(facade.excluirLivroAsync(livro.getId()), ok -> {
             JOptionPane.showMessageDialog(this, "Registro removido do sistema.");
-            telaListagem.atualizarListagem();
             dispose();
-        } catch (Exception ex) {
+        }, ex -> {
+            btnExcluir.setEnabled(true);
             JOptionPane.showMessageDialog(this, "Erro ao excluir: " + ex.getMessage());
-        }
+        });
     }
 }
\ No newline at end of file
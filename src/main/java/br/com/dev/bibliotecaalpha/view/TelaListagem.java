@@ -1,19 +1,37 @@
 package br.com.dev.bibliotecaalpha.view;
 
+import br.com.dev.bibliotecaalpha.busca.IndiceTrigramas;
+import br.com.dev.bibliotecaalpha.event.EventoLivro;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.facade.DiagnosticoFacade;
 import br.com.dev.bibliotecaalpha.facade.ExportacaoFacade;
 import br.com.dev.bibliotecaalpha.facade.LivroFacade;
 import br.com.dev.bibliotecaalpha.facade.ImportacaoFacade;
+import br.com.dev.bibliotecaalpha.metrica.EventoAcaoInterface;
 import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.service.LivroService;
+import br.com.dev.bibliotecaalpha.service.NotificacaoLivroService;
 import com.formdev.flatlaf.FlatDarkLaf;
 import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.FlatLightLaf;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableRowSorter;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Tela Principal da aplicação (Main Window).
@@ -31,29 +49,77 @@ public class TelaListagem extends JFrame {
     private final LivroFacade livroFacade;
     private final ImportacaoFacade importacaoFacade;
     private final ExportacaoFacade exportacaoFacade;
+    private final DiagnosticoFacade diagnosticoFacade;
+
+    private JTabbedPane tabbedPane;
+
+    /**
+     * Aba oculta "Diagnóstico" (métricas), criada no primeiro Ctrl+Shift+D.
+     */
+    private PainelDiagnostico painelDiagnostico;
 
     private JTable tabela;
-    private DefaultTableModel modeloTabela;
-    private TableRowSorter<DefaultTableModel> ordenar;
+    private LivroTableModel modeloTabela;
+    private OrdenadorColacao<LivroTableModel> ordenar;
 
     private JPanel panelAvisoFiltro;
     private JLabel lblTextoFiltro;
+    private RowFilter<LivroTableModel, Integer> filtroExterno;
+
+    /**
+     * Busca instantânea: índice de trigramas dos livros carregados, mantido junto com a tabela.
+     */
+    private IndiceTrigramas indiceBusca = new IndiceTrigramas();
+    private IndiceTrigramas.Resultado resultadoBusca;
+    private JTextField txtBusca;
+    private JLabel lblResultadoBusca;
+    private Timer timerBusca;
 
     private CardLayout cardLayoutCentral;
     private JPanel panelConteudoCentral;
 
     private TelaDashboard dashboard;
 
+    private PainelGradeCapas painelGrade;
+    private boolean modoGrade;
+
+    /**
+     * Marca da última atualização recebida do backend (null até a primeira carga).
+     */
+    private Long marcaAtualizacao;
+
+    /**
+     * Agrupa as notificações de outras estações recebidas em sequência em uma única atualização incremental.
+     */
+    private Timer timerAlteracoesRemotas;
+
+    /**
+     * Indica uma sincronização em andamento em segundo plano; novas solicitações feitas durante ela
+     * são agrupadas em uma única sincronização seguinte ({@link #sincronizacaoPendente}).
+     */
+    private boolean sincronizando;
+    private boolean sincronizacaoPendente;
+
+    /**
+     * Indica uma exibição do conteúdo já agendada na EDT ({@link #agendarMostrarConteudo()}):
+     * os eventos de uma operação em lote, recebidos em sequência, atualizam a grade uma única vez.
+     */
+    private boolean conteudoAgendado;
+
     /**
      * Construtor da Tela Principal.
      * Configura as propriedades da janela, ícone, tamanho e inicializa os componentes.
+     * Não consulta o banco: os dados são carregados em segundo plano por {@link #carregarDadosIniciais(Runnable)}.
      *
-     * @param livroFacade Instância da fachada para comunicação com o backend.
+     * @param livroFacade       Instância da fachada para comunicação com o backend.
+     * @param diagnosticoFacade Fachada das métricas exibidas na aba oculta "Diagnóstico".
      */
-    public TelaListagem(LivroFacade livroFacade, ImportacaoFacade importacaoFacade, ExportacaoFacade exportacaoFacade) {
+    public TelaListagem(LivroFacade livroFacade, ImportacaoFacade importacaoFacade, ExportacaoFacade exportacaoFacade,
+                        DiagnosticoFacade diagnosticoFacade) {
         this.livroFacade = livroFacade;
         this.importacaoFacade = importacaoFacade;
         this.exportacaoFacade = exportacaoFacade;
+        this.diagnosticoFacade = diagnosticoFacade;
 
         setTitle("Biblioteca Alpha - Gestão de Acervo");
 
@@ -74,7 +140,11 @@ public class TelaListagem extends JFrame {
         setLayout(new BorderLayout());
 
         inicializarComponentes();
-        atualizarListagem();
+
+        timerAlteracoesRemotas = new Timer(150, acao("sincronizarAlteracoesRemotas", e -> sincronizarTabela()));
+        timerAlteracoesRemotas.setRepeats(false);
+        livroFacade.ouvirAlteracoesRemotas(n -> SwingUtilities.invokeLater(() -> tratarAlteracaoRemota(n)));
+        livroFacade.inscreverEventos(EventoLivro.class, e -> SwingUtilities.invokeLater(() -> aplicarEvento(e)));
     }
 
     /**
@@ -91,7 +161,7 @@ public class TelaListagem extends JFrame {
      */
     private void inicializarComponentes() {
 
-        JTabbedPane tabbedPane = new JTabbedPane();
+        tabbedPane = new JTabbedPane();
         tabbedPane.setFont(new Font("Segoe UI", Font.BOLD, 14));
 
         this.dashboard = new TelaDashboard(livroFacade);
@@ -122,7 +192,7 @@ public class TelaListagem extends JFrame {
         btnTema.setToolTipText("Alternar Tema");
         btnTema.setForeground(FlatLaf.isLafDark() ? Color.YELLOW : Color.WHITE);
 
-        btnTema.addActionListener(e -> {
+        btnTema.addActionListener(acao("alternarTema", e -> {
             try {
                 if (FlatLaf.isLafDark()) {
                     UIManager.setLookAndFeel(new FlatLightLaf());
@@ -141,7 +211,14 @@ public class TelaListagem extends JFrame {
             } catch (Exception ex) {
                 ex.printStackTrace();
             }
-        });
+        }));
+
+        JButton btnGravacao = new JButton("⏺");
+        btnGravacao.putClientProperty("JButton.buttonType", "toolBarButton");
+        btnGravacao.setFocusable(false);
+        btnGravacao.setFont(new Font("Segoe UI Symbol", Font.PLAIN, 20));
+        btnGravacao.setToolTipText("Iniciar gravação de desempenho (Flight Recorder)");
+        btnGravacao.addActionListener(acao("alternarGravacaoJfr", e -> alternarGravacaoJfr(btnGravacao)));
 
         JButton btnAbrirPesquisa = new JButton("Pesquisar Livros");
         btnAbrirPesquisa.setFont(new Font("Segoe UI", Font.PLAIN, 14));
@@ -150,12 +227,55 @@ public class TelaListagem extends JFrame {
         btnAbrirPesquisa.setFocusPainted(false);
         btnAbrirPesquisa.setBorder(BorderFactory.createCompoundBorder(BorderFactory.createLineBorder(new Color(100, 100, 100)), BorderFactory.createEmptyBorder(8, 20, 8, 20)));
 
-        btnAbrirPesquisa.addActionListener(e -> {
-            TelaPesquisa telaPesquisa = new TelaPesquisa(this);
+        btnAbrirPesquisa.addActionListener(acao("abrirPesquisa", e -> {
+            TelaPesquisa telaPesquisa = new TelaPesquisa(this, livroFacade);
             telaPesquisa.setVisible(true);
+        }));
+
+        JButton btnModoVisualizacao = new JButton("Grade de Capas");
+        btnModoVisualizacao.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        btnModoVisualizacao.setFocusPainted(false);
+        btnModoVisualizacao.setToolTipText("Alternar entre tabela e grade de capas");
+        btnModoVisualizacao.addActionListener(acao("alternarModoVisualizacao", e -> {
+            modoGrade = !modoGrade;
+            btnModoVisualizacao.setText(modoGrade ? "Tabela" : "Grade de Capas");
+            mostrarConteudo();
+        }));
+
+        txtBusca = new JTextField(22);
+        txtBusca.setFont(new Font("Segoe UI", Font.PLAIN, 14));
+        txtBusca.putClientProperty("JTextField.placeholderText", "Buscar título, autor, editora ou ISBN...");
+        txtBusca.putClientProperty("JTextField.showClearButton", true);
+        txtBusca.setToolTipText("Filtra a listagem enquanto você digita (ignora acentos e maiúsculas)");
+
+        lblResultadoBusca = new JLabel();
+        lblResultadoBusca.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        lblResultadoBusca.setForeground(new Color(200, 200, 200));
+
+        timerBusca = new Timer(60, acao("buscar", e -> executarBusca()));
+        timerBusca.setRepeats(false);
+        txtBusca.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                timerBusca.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                timerBusca.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                timerBusca.restart();
+            }
         });
 
+        panelDireitaHeader.add(lblResultadoBusca);
+        panelDireitaHeader.add(txtBusca);
+        panelDireitaHeader.add(btnGravacao);
         panelDireitaHeader.add(btnTema);
+        panelDireitaHeader.add(btnModoVisualizacao);
         panelDireitaHeader.add(btnAbrirPesquisa);
         panelHeader.add(panelDireitaHeader, BorderLayout.EAST);
         panelTopoGeral.add(panelHeader);
@@ -176,7 +296,7 @@ public class TelaListagem extends JFrame {
         btnLimparFiltro.setForeground(new Color(200, 50, 50));
         btnLimparFiltro.setFont(new Font("Segoe UI", Font.BOLD, 16));
         btnLimparFiltro.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        btnLimparFiltro.addActionListener(e -> aplicarFiltroExterno(""));
+        btnLimparFiltro.addActionListener(acao("limparFiltro", e -> aplicarFiltroExterno("")));
 
         panelAvisoFiltro.add(lblTextoFiltro, BorderLayout.CENTER);
         panelAvisoFiltro.add(btnLimparFiltro, BorderLayout.EAST);
@@ -188,22 +308,10 @@ public class TelaListagem extends JFrame {
         cardLayoutCentral = new CardLayout();
         panelConteudoCentral = new JPanel(cardLayoutCentral);
 
-        String[] colunas = {"ID", "ISBN", "Título", "Data de Publicação", "Autores", "Editora"};
-        modeloTabela = new DefaultTableModel(colunas, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-
-            @Override
-            public Class<?> getColumnClass(int columnIndex) {
-                if (columnIndex == 0) return Long.class;
-                return String.class;
-            }
-        };
+        modeloTabela = new LivroTableModel();
 
         tabela = new JTable(modeloTabela);
-        ordenar = new TableRowSorter<>(modeloTabela);
+        ordenar = new OrdenadorColacao<>(modeloTabela);
         tabela.setRowSorter(ordenar);
 
         tabela.setRowHeight(30);
@@ -251,6 +359,22 @@ public class TelaListagem extends JFrame {
 
         panelConteudoCentral.add(panelVazio, "VAZIO");
 
+        JPanel panelCarregando = new JPanel(new GridBagLayout());
+        JLabel lblCarregando = new JLabel("Carregando acervo...");
+        lblCarregando.setFont(new Font("Segoe UI", Font.PLAIN, 16));
+        lblCarregando.setForeground(new Color(150, 150, 150));
+        panelCarregando.add(lblCarregando);
+        panelConteudoCentral.add(panelCarregando, "CARREGANDO");
+        cardLayoutCentral.show(panelConteudoCentral, "CARREGANDO");
+
+        painelGrade = new PainelGradeCapas(livroFacade);
+        painelGrade.setAoSelecionar(this::selecionarLinhaPorId);
+        painelGrade.setAoAbrir(id -> {
+            selecionarLinhaPorId(id);
+            comLivroSelecionado(livro -> new TelaDetalhesLivro(this, livro, livroFacade).setVisible(true));
+        });
+        panelConteudoCentral.add(painelGrade, "GRADE");
+
         panelAbaListagem.add(panelConteudoCentral, BorderLayout.CENTER);
 
         JPanel panelBotoes = new JPanel();
@@ -266,80 +390,82 @@ public class TelaListagem extends JFrame {
         JButton btnAtualizar = new JButton("Atualizar Lista");
         JButton btnVisualizar = new JButton("Visualizar Detalhes");
 
-        btnVisualizar.addActionListener(e -> {
-            Livro livro = obterLivroSelecionado();
-            if (livro != null) {
-                new TelaDetalhesLivro(this, livro).setVisible(true);
-            }
-        });
+        btnVisualizar.addActionListener(acao("visualizarDetalhes",
+                e -> comLivroSelecionado(livro -> new TelaDetalhesLivro(this, livro, livroFacade).setVisible(true))));
 
-        btnIncluir.addActionListener(e -> {
+        btnIncluir.addActionListener(acao("incluir", e -> {
             TelaCadastro tela = new TelaCadastro(this, livroFacade);
             tela.setVisible(true);
-            dashboard.atualizarDados();
-        });
+        }));
+
+        btnEditar.setToolTipText("Com vários livros selecionados, altera a editora, os autores ou a data de todos");
+        btnExcluir.setToolTipText("Exclui o livro selecionado (ou todos os selecionados)");
 
-        btnEditar.addActionListener(e -> {
-            Livro livro = obterLivroSelecionado();
-            if (livro != null) {
+        btnEditar.addActionListener(acao("editar", e -> {
+            if (tabela.getSelectedRowCount() > 1) {
+                new TelaEdicaoLote(this, livroFacade, idsSelecionados()).setVisible(true);
+                return;
+            }
+            comLivroSelecionado(livro -> {
                 TelaEdicao tela = new TelaEdicao(this, livroFacade, livro);
                 tela.setVisible(true);
-            }
-        });
+            });
+        }));
 
-        btnExcluir.addActionListener(e -> {
-            Livro livro = obterLivroSelecionado();
-            if (livro != null) {
+        btnExcluir.addActionListener(acao("excluir", e -> {
+            if (tabela.getSelectedRowCount() > 1) {
+                excluirSelecionados(btnExcluir);
+                return;
+            }
+            comLivroSelecionado(livro -> {
                 TelaExclusao tela = new TelaExclusao(this, livroFacade, livro);
                 tela.setVisible(true);
-                dashboard.atualizarDados();
-            }
-        });
+            });
+        }));
 
-        btnVerCapa.addActionListener(e -> visualizarCapaSelecionada());
+        btnVerCapa.addActionListener(acao("verCapa", e -> visualizarCapaSelecionada()));
 
-        btnImportar.addActionListener(e -> {
+        btnImportar.addActionListener(acao("importarCsv", e -> {
             JFileChooser fileChooser = new JFileChooser();
             fileChooser.setDialogTitle("Selecione o arquivo CSV para importar");
             fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("Arquivos CSV", "csv"));
 
             if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
-                try {
-                    String caminho = fileChooser.getSelectedFile().getAbsolutePath();
-                    importacaoFacade.importarLivros(caminho);
-
+                String caminho = fileChooser.getSelectedFile().getAbsolutePath();
+                btnImportar.setEnabled(false);
+                ExecucaoEdt.aoConcluir(importacaoFacade.importarLivrosAsync(caminho), ok -> {
+                    btnImportar.setEnabled(true);
                     atualizarListagem();
-                    dashboard.atualizarDados();
 
                     JOptionPane.showMessageDialog(this, "Importação realizada com sucesso!");
-                } catch (Exception ex) {
+                }, ex -> {
+                    btnImportar.setEnabled(true);
                     JOptionPane.showMessageDialog(this, "Erro ao importar: " + ex.getMessage(), "Erro", JOptionPane.ERROR_MESSAGE);
-                }
+                });
             }
-        });
+        }));
 
-        btnExportar.addActionListener(e -> {
+        btnExportar.addActionListener(acao("exportarCsv", e -> {
             JFileChooser fileChooser = new JFileChooser();
             fileChooser.setDialogTitle("Salvar Relatório de Livros");
             fileChooser.setSelectedFile(new java.io.File("relatorio_livros.csv"));
 
             if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
-                try {
-                    String caminho = fileChooser.getSelectedFile().getAbsolutePath();
-                    if (!caminho.toLowerCase().endsWith(".csv")) {
-                        caminho += ".csv";
-                    }
-
-                    exportacaoFacade.exportarLivros(caminho);
+                String selecionado = fileChooser.getSelectedFile().getAbsolutePath();
+                String caminho = selecionado.toLowerCase().endsWith(".csv") ? selecionado : selecionado + ".csv";
 
+                btnExportar.setEnabled(false);
+                ExecucaoEdt.aoConcluir(exportacaoFacade.exportarLivrosAsync(caminho), ok -> {
+                    btnExportar.setEnabled(true);
                     JOptionPane.showMessageDialog(this, "Arquivo exportado com sucesso em:\n" + caminho);
-                } catch (Exception ex) {
+                }, ex -> {
+                    btnExportar.setEnabled(true);
                     JOptionPane.showMessageDialog(this, "Erro ao exportar: " + ex.getMessage(), "Erro", JOptionPane.ERROR_MESSAGE);
-                }
+                });
             }
-        });
+        }));
 
-        btnAtualizar.addActionListener(e -> atualizarListagem());
+        btnAtualizar.addActionListener(acao("atualizarLista", e -> atualizarListagem()));
 
         panelBotoes.add(btnIncluir);
         panelBotoes.add(btnVisualizar);
@@ -355,54 +481,155 @@ public class TelaListagem extends JFrame {
 
         tabbedPane.addTab("Gerenciar Acervo", panelAbaListagem);
 
-        tabbedPane.addChangeListener(e -> {
-            if (tabbedPane.getSelectedIndex() == 0) {
-                dashboard.atualizarDados();
+        add(tabbedPane, BorderLayout.CENTER);
+
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(
+                KeyStroke.getKeyStroke(KeyEvent.VK_D, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK), "diagnostico");
+        getRootPane().getActionMap().put("diagnostico", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                alternarDiagnostico();
             }
         });
+    }
 
-        add(tabbedPane, BorderLayout.CENTER);
+    /**
+     * Registra cada execução da ação como evento do Flight Recorder ({@link EventoAcaoInterface}).
+     *
+     * @param nome     Nome da ação no evento.
+     * @param listener A ação.
+     * @return A ação medida.
+     */
+    private ActionListener acao(String nome, ActionListener listener) {
+        return EventoAcaoInterface.medir("TelaListagem", nome, listener);
+    }
+
+    /**
+     * Inicia ou para a gravação do Flight Recorder. Ao parar, informa o arquivo gravado
+     * (para enviar ao suporte ou abrir no JDK Mission Control).
+     *
+     * @param botao O botão de gravação, que indica a gravação em andamento.
+     */
+    private void alternarGravacaoJfr(JButton botao) {
+        try {
+            if (diagnosticoFacade.isGravandoJfr()) {
+                String arquivo = diagnosticoFacade.pararGravacaoJfr();
+                botao.setText("⏺");
+                botao.setForeground(UIManager.getColor("Button.foreground"));
+                botao.setToolTipText("Iniciar gravação de desempenho (Flight Recorder)");
+                JOptionPane.showMessageDialog(this, "Gravação de desempenho salva em:\n" + arquivo);
+            } else {
+                diagnosticoFacade.iniciarGravacaoJfr();
+                botao.setText("⏹");
+                botao.setForeground(new Color(220, 50, 50));
+                botao.setToolTipText("Parar e salvar a gravação de desempenho");
+            }
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(this, "Erro na gravação de desempenho: " + ex.getMessage(), "Erro", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Exibe ou oculta a aba "Diagnóstico" (atalho Ctrl+Shift+D).
+     */
+    private void alternarDiagnostico() {
+        if (painelDiagnostico == null) {
+            painelDiagnostico = new PainelDiagnostico(diagnosticoFacade);
+        }
+        int indice = tabbedPane.indexOfComponent(painelDiagnostico);
+        if (indice >= 0) {
+            painelDiagnostico.parar();
+            tabbedPane.removeTabAt(indice);
+        } else {
+            tabbedPane.addTab("Diagnóstico", painelDiagnostico);
+            tabbedPane.setSelectedComponent(painelDiagnostico);
+            painelDiagnostico.iniciar();
+        }
     }
 
     /**
      * Exibe a imagem da capa do livro selecionado em uma janela modal.
      */
     private void visualizarCapaSelecionada() {
-        Livro livro = obterLivroSelecionado();
-        if (livro != null) {
-            byte[] capa = livro.getCapaImagem();
-            if (capa != null && capa.length > 0) {
+        comLivroSelecionado(livro -> {
+            Image capa = livroFacade.carregarCapa(livro, 480, 550);
+            if (capa != null) {
                 new TelaVisualizacaoImagem(this, capa).setVisible(true);
             } else {
                 JOptionPane.showMessageDialog(this, "Este livro não possui capa cadastrada.", "Sem Capa", JOptionPane.INFORMATION_MESSAGE);
             }
-        }
+        });
     }
 
     /**
      * Helper para obter o objeto {@link Livro} selecionado na tabela.
-     * Converte o índice da view para o índice do model (necessário devido à ordenação).
+     * Converte o índice da view para o índice do model (necessário devido à ordenação)
+     * e carrega o livro em segundo plano, sem bloquear a EDT.
      *
-     * @return O objeto Livro selecionado ou null se nenhum estiver selecionado.
+     * @param acao Executada na EDT com o livro carregado (não é executada se nenhum livro
+     *             estiver selecionado ou se a busca falhar).
      */
-    private Livro obterLivroSelecionado() {
+    private void comLivroSelecionado(Consumer<Livro> acao) {
         int linha = tabela.getSelectedRow();
         if (linha == -1) {
             JOptionPane.showMessageDialog(this, "Selecione um livro na tabela.");
-            return null;
+            return;
         }
         if (tabela.getSelectedRowCount() > 1) {
             JOptionPane.showMessageDialog(this, "Selecione apenas UM livro para esta operação.");
-            return null;
+            return;
         }
-        try {
-            int linhaModel = tabela.convertRowIndexToModel(linha);
-            Long id = (Long) modeloTabela.getValueAt(linhaModel, 0);
-            return livroFacade.buscarLivroPorId(id);
-        } catch (Exception ex) {
+        int linhaModel = tabela.convertRowIndexToModel(linha);
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        ExecucaoEdt.aoConcluir(livroFacade.buscarLivroPorIdAsync(modeloTabela.getId(linhaModel)), livro -> {
+            setCursor(Cursor.getDefaultCursor());
+            acao.accept(livro);
+        }, ex -> {
+            setCursor(Cursor.getDefaultCursor());
             JOptionPane.showMessageDialog(this, "Erro ao buscar dados: " + ex.getMessage());
-            return null;
+        });
+    }
+
+    /**
+     * IDs dos livros selecionados na tabela, na ordem exibida.
+     *
+     * @return Lista de IDs (vazia se nada estiver selecionado).
+     */
+    private List<Long> idsSelecionados() {
+        int[] linhas = tabela.getSelectedRows();
+        List<Long> ids = new ArrayList<>(linhas.length);
+        for (int linha : linhas) {
+            ids.add(modeloTabela.getId(tabela.convertRowIndexToModel(linha)));
         }
+        return ids;
+    }
+
+    /**
+     * Exclui em lote os livros selecionados, após confirmação, em segundo plano.
+     * A tabela é atualizada pelos eventos de exclusão.
+     *
+     * @param botao Botão desabilitado enquanto a exclusão é executada.
+     */
+    private void excluirSelecionados(JButton botao) {
+        List<Long> ids = idsSelecionados();
+        int resposta = JOptionPane.showConfirmDialog(this,
+                "Você confirma a exclusão dos " + ids.size() + " livros selecionados?\nEsta operação não pode ser desfeita.",
+                "Excluir Livros", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+        if (resposta != JOptionPane.YES_OPTION) {
+            return;
+        }
+
+        botao.setEnabled(false);
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        ExecucaoEdt.aoConcluir(livroFacade.excluirLivrosAsync(ids), excluidos -> {
+            botao.setEnabled(true);
+            setCursor(Cursor.getDefaultCursor());
+            JOptionPane.showMessageDialog(this, excluidos + " livros removidos do sistema.");
+        }, ex -> {
+            botao.setEnabled(true);
+            setCursor(Cursor.getDefaultCursor());
+            JOptionPane.showMessageDialog(this, "Erro ao excluir: " + ex.getMessage(), "Erro", JOptionPane.ERROR_MESSAGE);
+        });
     }
 
     /**
@@ -416,40 +643,439 @@ public class TelaListagem extends JFrame {
      */
     public void aplicarFiltroExterno(String termo) {
         if (termo == null || termo.trim().isEmpty()) {
-            ordenar.setRowFilter(null);
+            filtroExterno = null;
             panelAvisoFiltro.setVisible(false);
-            cardLayoutCentral.show(panelConteudoCentral, "TABELA");
         } else {
-            ordenar.setRowFilter(RowFilter.regexFilter("(?i)" + termo));
+            filtroExterno = RowFilter.regexFilter("(?i)" + termo);
             lblTextoFiltro.setText("Exibindo resultados para: \"" + termo + "\"");
             panelAvisoFiltro.setVisible(true);
+        }
+        atualizarFiltro();
+        mostrarConteudo();
+    }
+
+    /**
+     * Executa a busca instantânea com o texto digitado na caixa de busca, usando o índice de trigramas,
+     * e filtra a listagem com o resultado. Também é reexecutada após alterações nos livros carregados.
+     */
+    private void executarBusca() {
+        long inicio = System.nanoTime();
+        resultadoBusca = indiceBusca.pesquisar(txtBusca.getText());
+        long microsBusca = (System.nanoTime() - inicio) / 1000;
+
+        if (resultadoBusca == null) {
+            lblResultadoBusca.setText("");
+        } else {
+            lblResultadoBusca.setText(resultadoBusca.getTotal() + " livro(s) em " + String.format("%.1f", microsBusca / 1000.0) + " ms");
+        }
+        atualizarFiltro();
+        mostrarConteudo();
+    }
+
+    /**
+     * Aplica na tabela a combinação do filtro externo (Tela de Pesquisa) com o resultado da busca instantânea.
+     */
+    private void atualizarFiltro() {
+        List<RowFilter<LivroTableModel, Integer>> filtros = new ArrayList<>(2);
+        if (filtroExterno != null) {
+            filtros.add(filtroExterno);
+        }
+        if (resultadoBusca != null) {
+            IndiceTrigramas.Resultado resultado = resultadoBusca;
+            filtros.add(new RowFilter<LivroTableModel, Integer>() {
+                @Override
+                public boolean include(Entry<? extends LivroTableModel, ? extends Integer> entrada) {
+                    return resultado.contem(entrada.getModel().getId(entrada.getIdentifier()));
+                }
+            });
+        }
+
+        if (filtros.isEmpty()) {
+            ordenar.setRowFilter(null);
+        } else if (filtros.size() == 1) {
+            ordenar.setRowFilter(filtros.get(0));
+        } else {
+            ordenar.setRowFilter(RowFilter.andFilter(filtros));
+        }
+    }
+
+    /**
+     * Monta o texto indexado pela busca instantânea (campos separados por quebra de linha).
+     */
+    private static String textoBusca(LivroResumo livro) {
+        return livro.getTitulo() + "\n" + livro.getAutores() + "\n" + livro.getEditora() + "\n" + livro.getIsbn();
+    }
+
+    /**
+     * Cria o índice da busca instantânea para um conjunto de livros.
+     */
+    static IndiceTrigramas indexar(List<LivroResumo> livros) {
+        IndiceTrigramas indice = new IndiceTrigramas();
+        indice.limpar(livros.size());
+        for (LivroResumo livro : livros) {
+            indice.indexar(livro.getId(), textoBusca(livro));
+        }
+        return indice;
+    }
+
+    /**
+     * Atualiza os dados da tabela a partir do banco de dados via Facade, em segundo plano.
+     * <p>
+     * A primeira chamada carrega o acervo completo. As seguintes solicitam apenas as alterações
+     * desde a última atualização e modificam somente as linhas afetadas.
+     * Recarrega também os indicadores do Dashboard se disponível.
+     * </p>
+     */
+    public void atualizarListagem() {
+        // Na carga completa, a própria sincronização recarrega o Dashboard
+        boolean completa = marcaAtualizacao == null;
+        sincronizarTabela();
+
+        if (this.dashboard != null && !completa) {
+            this.dashboard.atualizarDados();
+        }
+    }
+
+    /**
+     * Carrega o acervo e os indicadores do Dashboard em segundo plano, fora da EDT,
+     * e os exibe ao concluir. Usado na abertura da janela.
+     *
+     * @param aoConcluir Ação executada na EDT após a exibição dos dados (pode ser null).
+     */
+    public void carregarDadosIniciais(Runnable aoConcluir) {
+        new SwingWorker<CargaInicial, Void>() {
+            @Override
+            protected CargaInicial doInBackground() {
+                LivroService.Alteracoes alteracoes = livroFacade.buscarAlteracoesDesde(null);
+                List<LivroResumo> resumos = new ArrayList<>(alteracoes.getAlterados().size());
+                for (Livro livro : alteracoes.getAlterados()) {
+                    resumos.add(LivroResumo.de(livro));
+                }
+                return new CargaInicial(resumos, indexar(resumos), alteracoes.getMarca(), livroFacade.carregarIndicadores());
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    CargaInicial carga = get();
+                    indiceBusca = carga.indice;
+                    modeloTabela.definirLivros(carga.livros);
+                    painelGrade.limpar();
+                    if (resultadoBusca != null) {
+                        timerBusca.restart();
+                    }
+                    marcaAtualizacao = carga.marca;
+                    dashboard.definirIndicadores(carga.indicadores);
+                    mostrarConteudo();
+                } catch (Exception ex) {
+                    ex.printStackTrace();
+                    mostrarConteudo();
+                    JOptionPane.showMessageDialog(TelaListagem.this, "Não foi possível carregar o acervo. Use o botão Atualizar para tentar novamente.", "Erro", JOptionPane.ERROR_MESSAGE);
+                }
+                if (aoConcluir != null) {
+                    aoConcluir.run();
+                }
+            }
+        }.execute();
+    }
 
-            if (tabela.getRowCount() == 0) {
-                cardLayoutCentral.show(panelConteudoCentral, "VAZIO");
+    /**
+     * Busca em segundo plano as alterações desde a última atualização e as aplica na tabela ao concluir
+     * (ou carrega o acervo completo, na primeira chamada). Executado na EDT; se já houver uma
+     * sincronização em andamento, apenas agenda outra para depois dela.
+     */
+    private void sincronizarTabela() {
+        if (sincronizando) {
+            sincronizacaoPendente = true;
+            return;
+        }
+        sincronizando = true;
+
+        CompletableFuture<Sincronizacao> futuro = livroFacade.buscarAlteracoesDesdeAsync(marcaAtualizacao)
+                .thenApply(Sincronizacao::new);
+        ExecucaoEdt.aoConcluir(futuro, sincronizacao -> {
+            if (sincronizacao.alteracoes.isCompleta()) {
+                indiceBusca = sincronizacao.indice;
+                modeloTabela.definirLivros(sincronizacao.livros);
+                painelGrade.limpar();
+                if (resultadoBusca != null) {
+                    timerBusca.restart();
+                }
+                if (dashboard != null) {
+                    dashboard.atualizarDados();
+                }
             } else {
-                cardLayoutCentral.show(panelConteudoCentral, "TABELA");
+                aplicarAlteracoes(sincronizacao.alteracoes);
             }
+            marcaAtualizacao = sincronizacao.alteracoes.getMarca();
+            mostrarConteudo();
+            concluirSincronizacao();
+        }, ex -> {
+            ex.printStackTrace();
+            concluirSincronizacao();
+        });
+    }
+
+    private void concluirSincronizacao() {
+        sincronizando = false;
+        if (sincronizacaoPendente) {
+            sincronizacaoPendente = false;
+            sincronizarTabela();
         }
     }
 
     /**
-     * Recarrega todos os dados da tabela buscando do banco de dados via Facade.
-     * Atualiza também o Dashboard se disponível.
+     * Resultado de uma sincronização, preparado fora da EDT: na carga completa,
+     * inclui os resumos e o índice da busca instantânea já montados.
      */
-    public void atualizarListagem() {
-        modeloTabela.setRowCount(0);
-        List<Livro> livros = livroFacade.buscarTodos();
+    private static final class Sincronizacao {
+        private final LivroService.Alteracoes alteracoes;
+        private final List<LivroResumo> livros;
+        private final IndiceTrigramas indice;
+
+        Sincronizacao(LivroService.Alteracoes alteracoes) {
+            this.alteracoes = alteracoes;
+            if (alteracoes.isCompleta()) {
+                livros = new ArrayList<>(alteracoes.getAlterados().size());
+                for (Livro livro : alteracoes.getAlterados()) {
+                    livros.add(LivroResumo.de(livro));
+                }
+                indice = indexar(livros);
+            } else {
+                livros = null;
+                indice = null;
+            }
+        }
+    }
+
+    /**
+     * Resultado da carga inicial feita em segundo plano.
+     */
+    private static final class CargaInicial {
+        private final List<LivroResumo> livros;
+        private final IndiceTrigramas indice;
+        private final long marca;
+        private final LivroService.Indicadores indicadores;
+
+        CargaInicial(List<LivroResumo> livros, IndiceTrigramas indice, long marca, LivroService.Indicadores indicadores) {
+            this.livros = livros;
+            this.indice = indice;
+            this.marca = marca;
+            this.indicadores = indicadores;
+        }
+    }
 
-        for (Livro livro : livros) {
-            modeloTabela.addRow(new Object[]{livro.getId(), livro.getIsbn(), livro.getTitulo(), livro.getDataPublicacao(), livro.getAutores(), livro.getEditora()});
+    /**
+     * Trata uma alteração feita por outra estação de trabalho (executado na EDT).
+     * <p>
+     * Exclusões são aplicadas diretamente; inserções e alterações cuja versão ainda não é
+     * conhecida disparam uma atualização incremental em segundo plano, agrupando notificações próximas.
+     * Os indicadores do Dashboard acompanham as linhas alteradas na tabela, sem nova consulta agregada.
+     * </p>
+     *
+     * @param notificacao A alteração notificada.
+     */
+    private void tratarAlteracaoRemota(NotificacaoLivroService.Notificacao notificacao) {
+        switch (notificacao.getOperacao()) {
+            case EXCLUSAO:
+                if (removerLivro(notificacao.getId())) {
+                    agendarMostrarConteudo();
+                }
+                return;
+            case INSERCAO:
+            case ALTERACAO:
+                int linha = modeloTabela.linhaDe(notificacao.getId());
+                if (linha >= 0 && modeloTabela.getLivro(linha).getVersao() >= notificacao.getVersao()) {
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        if (!timerAlteracoesRemotas.isRunning()) {
+            timerAlteracoesRemotas.start();
         }
+    }
 
-        if (tabela.getRowCount() > 0) {
+    /**
+     * Aplica um evento do acervo publicado por esta aplicação (executado na EDT),
+     * alterando apenas a linha afetada e o indicador do Dashboard. As operações em lote
+     * publicam um evento por livro; a grade é atualizada uma vez, após o último deles.
+     *
+     * @param evento O evento recebido.
+     */
+    private void aplicarEvento(EventoLivro evento) {
+        if (evento instanceof LivroCriadoEvento) {
+            aplicarResumo(((LivroCriadoEvento) evento).getLivro());
+        } else if (evento instanceof LivroAtualizadoEvento) {
+            aplicarResumo(((LivroAtualizadoEvento) evento).getLivro());
+        } else if (evento instanceof LivroExcluidoEvento) {
+            removerLivro(evento.getLivroId());
+        }
+        agendarMostrarConteudo();
+    }
+
+    /**
+     * Insere ou atualiza a linha de um livro, ignorando dados mais antigos que os exibidos.
+     * Se a capa mudou, descarta a miniatura da grade. Repassa ao Dashboard a diferença entre
+     * a linha anterior e a nova, para que uma mesma alteração recebida por evento e por
+     * sincronização seja contada uma única vez.
+     *
+     * @param resumo Os dados do livro.
+     */
+    private void aplicarResumo(LivroResumo resumo) {
+        int linha = modeloTabela.linhaDe(resumo.getId());
+        LivroResumo anterior = null;
+        if (linha >= 0) {
+            anterior = modeloTabela.getLivro(linha);
+            if (anterior.getVersao() > resumo.getVersao()) {
+                return;
+            }
+            if (!Objects.equals(anterior.getCapaHash(), resumo.getCapaHash())) {
+                painelGrade.invalidar(resumo.getId());
+            }
+        }
+        modeloTabela.inserirOuAtualizar(resumo);
+        indiceBusca.indexar(resumo.getId(), textoBusca(resumo));
+        if (resultadoBusca != null) {
+            timerBusca.restart();
+        }
+
+        if (dashboard != null) {
+            dashboard.aplicarEvento(anterior == null ? new LivroCriadoEvento(resumo) : new LivroAtualizadoEvento(anterior, resumo));
+        }
+    }
+
+    /**
+     * Remove um livro da tabela, do índice da busca instantânea e da grade de capas,
+     * e o desconta dos indicadores do Dashboard.
+     *
+     * @param id ID do livro.
+     * @return true se o livro estava na tabela.
+     */
+    private boolean removerLivro(long id) {
+        int linha = modeloTabela.linhaDe(id);
+        if (linha < 0) {
+            return false;
+        }
+        LivroResumo anterior = modeloTabela.getLivro(linha);
+        // O modelo move a última linha para a posição removida; sem isto, o livro movido
+        // herdaria a seleção do livro excluído
+        int ultima = modeloTabela.getRowCount() - 1;
+        boolean movidoSelecionado = linha != ultima && isLinhaSelecionada(ultima);
+        modeloTabela.remover(id);
+        if (linha != ultima) {
+            definirSelecao(linha, movidoSelecionado);
+        }
+        if (dashboard != null) {
+            dashboard.aplicarEvento(new LivroExcluidoEvento(id, anterior));
+        }
+        indiceBusca.remover(id);
+        painelGrade.invalidar(id);
+        if (resultadoBusca != null) {
+            timerBusca.restart();
+        }
+        return true;
+    }
+
+    /**
+     * Aplica na tabela apenas as inserções, alterações e exclusões recebidas.
+     *
+     * @param alteracoes Alterações desde a última atualização.
+     */
+    private void aplicarAlteracoes(LivroService.Alteracoes alteracoes) {
+        if (alteracoes.getAlterados().isEmpty() && alteracoes.getExcluidos().isEmpty()) {
+            return;
+        }
+
+        for (Livro livro : alteracoes.getAlterados()) {
+            aplicarResumo(LivroResumo.de(livro));
+        }
+        for (Long id : alteracoes.getExcluidos()) {
+            removerLivro(id);
+        }
+    }
+
+    /**
+     * Agenda {@link #mostrarConteudo()} para depois das tarefas já enfileiradas na EDT,
+     * agrupando as solicitações feitas até lá em uma única exibição.
+     */
+    private void agendarMostrarConteudo() {
+        if (conteudoAgendado) {
+            return;
+        }
+        conteudoAgendado = true;
+        SwingUtilities.invokeLater(() -> {
+            conteudoAgendado = false;
+            mostrarConteudo();
+        });
+    }
+
+    /**
+     * Exibe o conteúdo central adequado: tabela, grade de capas ou aviso de lista vazia.
+     * No modo grade, repassa à grade os livros na ordem e filtro atuais da tabela.
+     */
+    private void mostrarConteudo() {
+        if (tabela.getRowCount() == 0 && (panelAvisoFiltro.isVisible() || resultadoBusca != null)) {
+            cardLayoutCentral.show(panelConteudoCentral, "VAZIO");
+            return;
+        }
+
+        if (modoGrade) {
+            int total = tabela.getRowCount();
+            long[] ids = new long[total];
+            String[] titulos = new String[total];
+            for (int i = 0; i < total; i++) {
+                LivroResumo livro = modeloTabela.getLivro(tabela.convertRowIndexToModel(i));
+                ids[i] = livro.getId();
+                titulos[i] = livro.getTitulo();
+            }
+            painelGrade.definirLivros(ids, titulos);
+            cardLayoutCentral.show(panelConteudoCentral, "GRADE");
+        } else {
             cardLayoutCentral.show(panelConteudoCentral, "TABELA");
         }
+    }
 
-        if (this.dashboard != null) {
-            this.dashboard.atualizarDados();
+    /**
+     * Seleciona na tabela a linha do livro informado (usado pela grade de capas,
+     * para que os botões de ação operem sobre a capa escolhida).
+     *
+     * @param id ID do livro.
+     */
+    private void selecionarLinhaPorId(long id) {
+        int linhaModel = modeloTabela.linhaDe(id);
+        int linha = linhaModel >= 0 ? tabela.convertRowIndexToView(linhaModel) : -1;
+        if (linha >= 0) {
+            tabela.setRowSelectionInterval(linha, linha);
+            tabela.scrollRectToVisible(tabela.getCellRect(linha, 0, true));
+        }
+    }
+
+    /**
+     * @param linhaModel Linha no modelo.
+     * @return true se a linha estiver visível (não filtrada) e selecionada na tabela.
+     */
+    private boolean isLinhaSelecionada(int linhaModel) {
+        int linha = tabela.convertRowIndexToView(linhaModel);
+        return linha >= 0 && tabela.isRowSelected(linha);
+    }
+
+    /**
+     * Seleciona ou desmarca uma linha do modelo, sem alterar a seleção das demais.
+     *
+     * @param linhaModel  Linha no modelo.
+     * @param selecionada true para selecionar, false para desmarcar.
+     */
+    private void definirSelecao(int linhaModel, boolean selecionada) {
+        int linha = tabela.convertRowIndexToView(linhaModel);
+        if (linha < 0 || tabela.isRowSelected(linha) == selecionada) {
+            return;
+        }
+        if (selecionada) {
+            tabela.addRowSelectionInterval(linha, linha);
+        } else {
+            tabela.removeRowSelectionInterval(linha, linha);
         }
     }
-}
\ No newline at end of file
+}
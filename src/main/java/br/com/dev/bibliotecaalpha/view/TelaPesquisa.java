@@ -1,13 +1,26 @@
 package br.com.dev.bibliotecaalpha.view;
 
+import br.com.dev.bibliotecaalpha.facade.LivroFacade;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.service.LivroService;
+
 import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Janela de diálogo (Modal) dedicada à pesquisa e filtragem de livros.
  * <p>
- * Permite que o usuário insira termos de busca. Esta tela não processa os dados diretamente,
- * mas delega a ação de filtragem para a {@link TelaListagem} principal.
+ * No modo "Filtrar listagem", esta tela não processa os dados diretamente, mas delega a ação
+ * de filtragem para a {@link TelaListagem} principal. No modo "Relevância", a pesquisa é feita
+ * no banco (busca textual insensível a acentos) e os resultados são exibidos na própria tela,
+ * do mais relevante ao menos relevante, carregados por páginas. No modo "Aproximada", a pesquisa
+ * tolera erros de digitação no título e nos autores (ex: "Tolkein") e exibe os livros mais
+ * semelhantes com sua pontuação.
  * </p>
  *
  * @author Luccas Cabrini
@@ -15,20 +28,45 @@ import java.awt.*;
  */
 public class TelaPesquisa extends JDialog {
 
+    private static final String MODO_FILTRO = "Filtrar listagem";
+    private static final String MODO_RELEVANCIA = "Relevância";
+    private static final String MODO_APROXIMADA = "Aproximada (tolera erros)";
+    private static final int TAMANHO_PAGINA = 50;
+
     private final TelaListagem telaListagem;
+    private final LivroFacade facade;
+    private JComboBox<String> cmbModo;
     private JComboBox<String> cmbCampos;
     private JTextField txtValor;
 
+    private JPanel panelResultados;
+    private DefaultTableModel modeloResultados;
+    private JTable tabelaResultados;
+    private JLabel lblResultados;
+    private JButton btnMaisResultados;
+
+    private final List<Long> idsResultados = new ArrayList<>();
+    private String termoAtual;
+    private int proximaPagina;
+
+    /**
+     * Identificador da pesquisa exibida, incrementado a cada nova pesquisa. Os resultados
+     * de pesquisas anteriores (inclusive do mesmo termo) que terminarem depois são descartados.
+     */
+    private int pesquisaAtual;
+
     /**
      * Construtor da Tela de Pesquisa.
      *
      * @param telaListagem A janela principal (Listagem) que receberá o comando de filtro.
+     * @param facade       Fachada usada na pesquisa por relevância.
      */
-    public TelaPesquisa(TelaListagem telaListagem) {
+    public TelaPesquisa(TelaListagem telaListagem, LivroFacade facade) {
         super(telaListagem, "Pesquisar Livros", true);
         this.telaListagem = telaListagem;
+        this.facade = facade;
 
-        setSize(400, 180);
+        setSize(400, 210);
         setLocationRelativeTo(telaListagem);
         setLayout(new BorderLayout());
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
@@ -37,13 +75,20 @@ public class TelaPesquisa extends JDialog {
     }
 
     /**
-     * Inicializa os componentes visuais (Campo de texto, Combo de seleção e Botões).
+     * Inicializa os componentes visuais (Campo de texto, Combos de seleção, Resultados e Botões).
      * Configura o botão "Pesquisar" como padrão (acionado pelo Enter).
      */
     private void inicializarComponentes() {
-        JPanel panelForm = new JPanel(new GridLayout(2, 2, 10, 10));
+        JPanel panelForm = new JPanel(new GridLayout(3, 2, 10, 10));
         panelForm.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
 
+        panelForm.add(new JLabel("Modo:"));
+        cmbModo = new JComboBox<>(new String[]{MODO_FILTRO, MODO_RELEVANCIA, MODO_APROXIMADA});
+        cmbModo.setToolTipText("<html>Relevância: pesquisa no banco, ignora acentos e ordena pelos melhores resultados<br>"
+                + "Aproximada: encontra títulos e autores mesmo com erros de digitação</html>");
+        cmbModo.addActionListener(e -> cmbCampos.setEnabled(MODO_FILTRO.equals(cmbModo.getSelectedItem())));
+        panelForm.add(cmbModo);
+
         panelForm.add(new JLabel("Pesquisar em:"));
         String[] campos = {"Todos os Campos", "Título", "Autores", "Editora", "ISBN"};
         cmbCampos = new JComboBox<>(campos);
@@ -53,7 +98,10 @@ public class TelaPesquisa extends JDialog {
         txtValor = new JTextField();
         panelForm.add(txtValor);
 
-        add(panelForm, BorderLayout.CENTER);
+        add(panelForm, BorderLayout.NORTH);
+
+        criarPainelResultados();
+        add(panelResultados, BorderLayout.CENTER);
 
         JPanel panelBotoes = new JPanel();
         JButton btnPesquisar = new JButton("Pesquisar 🔍");
@@ -74,13 +122,178 @@ public class TelaPesquisa extends JDialog {
     }
 
     /**
-     * Captura o termo digitado e aciona o método de filtro na tela principal.
-     * Após aplicar o filtro, fecha a janela de pesquisa.
+     * Monta a área de resultados dos modos "Relevância" e "Aproximada" (oculta até a primeira pesquisa).
+     * Um duplo clique em um resultado abre os detalhes do livro.
+     */
+    private void criarPainelResultados() {
+        panelResultados = new JPanel(new BorderLayout(0, 5));
+        panelResultados.setBorder(BorderFactory.createEmptyBorder(0, 15, 0, 15));
+
+        modeloResultados = new DefaultTableModel(new String[]{"#", "Título", "Autores", "Editora", "Semelhança"}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        tabelaResultados = new JTable(modeloResultados);
+        tabelaResultados.setRowHeight(26);
+        tabelaResultados.getTableHeader().setReorderingAllowed(false);
+        tabelaResultados.getColumnModel().getColumn(0).setMaxWidth(45);
+        tabelaResultados.getColumnModel().getColumn(4).setMaxWidth(90);
+        tabelaResultados.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2 && tabelaResultados.getSelectedRow() >= 0) {
+                    abrirResultado(idsResultados.get(tabelaResultados.getSelectedRow()));
+                }
+            }
+        });
+
+        lblResultados = new JLabel(" ");
+        btnMaisResultados = new JButton("Mais resultados");
+        btnMaisResultados.addActionListener(e -> carregarPagina());
+
+        JPanel panelRodape = new JPanel(new BorderLayout());
+        panelRodape.add(lblResultados, BorderLayout.WEST);
+        panelRodape.add(btnMaisResultados, BorderLayout.EAST);
+
+        panelResultados.add(new JScrollPane(tabelaResultados), BorderLayout.CENTER);
+        panelResultados.add(panelRodape, BorderLayout.SOUTH);
+        panelResultados.setVisible(false);
+    }
+
+
+    /**
+     * Captura o termo digitado e aciona a pesquisa do modo selecionado.
+     * No modo de filtro, aplica o filtro na tela principal e fecha a janela de pesquisa.
      */
     private void executarPesquisa() {
         String termo = txtValor.getText().trim();
 
-        telaListagem.aplicarFiltroExterno(termo);
-        dispose();
+        Object modo = cmbModo.getSelectedItem();
+        if (MODO_FILTRO.equals(modo)) {
+            telaListagem.aplicarFiltroExterno(termo);
+            dispose();
+            return;
+        }
+
+        if (termo.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Digite um termo para pesquisar!");
+            return;
+        }
+
+        termoAtual = termo;
+        pesquisaAtual++;
+        proximaPagina = 0;
+        idsResultados.clear();
+        modeloResultados.setRowCount(0);
+
+        if (!panelResultados.isVisible()) {
+            panelResultados.setVisible(true);
+            setSize(720, 520);
+            setLocationRelativeTo(telaListagem);
+        }
+        if (MODO_APROXIMADA.equals(modo)) {
+            carregarAproximados();
+        } else {
+            carregarPagina();
+        }
+    }
+
+    /**
+     * Busca em segundo plano a próxima página de resultados do termo atual e a acrescenta à tabela.
+     */
+    private void carregarPagina() {
+        String termo = termoAtual;
+        int pesquisa = pesquisaAtual;
+        int pagina = proximaPagina;
+        btnMaisResultados.setEnabled(false);
+        lblResultados.setText("Pesquisando...");
+
+        new SwingWorker<List<Livro>, Void>() {
+            @Override
+            protected List<Livro> doInBackground() throws Exception {
+                return facade.pesquisarPorRelevancia(termo, pagina, TAMANHO_PAGINA);
+            }
+
+            @Override
+            protected void done() {
+                if (pesquisa != pesquisaAtual) {
+                    return;
+                }
+                try {
+                    List<Livro> livros = get();
+                    for (Livro livro : livros) {
+                        adicionarResultado(livro, "");
+                    }
+                    proximaPagina = pagina + 1;
+                    btnMaisResultados.setEnabled(livros.size() == TAMANHO_PAGINA);
+                    exibirTotal();
+                } catch (Exception ex) {
+                    exibirFalha(ex);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Busca em segundo plano os livros mais semelhantes ao termo atual (pesquisa aproximada,
+     * sem paginação) e os exibe com a pontuação de semelhança.
+     */
+    private void carregarAproximados() {
+        String termo = termoAtual;
+        int pesquisa = pesquisaAtual;
+        btnMaisResultados.setEnabled(false);
+        lblResultados.setText("Pesquisando...");
+
+        new SwingWorker<List<LivroService.ResultadoAproximado>, Void>() {
+            @Override
+            protected List<LivroService.ResultadoAproximado> doInBackground() throws Exception {
+                return facade.pesquisarAproximado(termo, TAMANHO_PAGINA);
+            }
+
+            @Override
+            protected void done() {
+                if (pesquisa != pesquisaAtual) {
+                    return;
+                }
+                try {
+                    for (LivroService.ResultadoAproximado resultado : get()) {
+                        adicionarResultado(resultado.getLivro(), Math.round(resultado.getPontuacao() * 100) + "%");
+                    }
+                    exibirTotal();
+                } catch (Exception ex) {
+                    exibirFalha(ex);
+                }
+            }
+        }.execute();
+    }
+
+    private void adicionarResultado(Livro livro, String semelhanca) {
+        idsResultados.add(livro.getId());
+        modeloResultados.addRow(new Object[]{idsResultados.size(), livro.getTitulo(), livro.getAutores(), livro.getEditora(), semelhanca});
+    }
+
+    private void exibirTotal() {
+        lblResultados.setText(idsResultados.isEmpty()
+                ? "Nenhum livro encontrado."
+                : idsResultados.size() + " resultado(s) exibido(s). Duplo clique para abrir.");
+    }
+
+    private void exibirFalha(Exception ex) {
+        Throwable causa = ex.getCause() != null ? ex.getCause() : ex;
+        lblResultados.setText(" ");
+        JOptionPane.showMessageDialog(this, causa.getMessage(), "Atenção", JOptionPane.WARNING_MESSAGE);
+    }
+
+    /**
+     * Abre a tela de detalhes do livro escolhido nos resultados.
+     *
+     * @param id ID do livro.
+     */
+    private void abrirResultado(long id) {
+        ExecucaoEdt.aoConcluir(facade.buscarLivroPorIdAsync(id),
+                livro -> new TelaDetalhesLivro(telaListagem, livro, facade).setVisible(true),
+                ex -> JOptionPane.showMessageDialog(this, "Erro ao buscar dados: " + ex.getMessage()));
     }
-}
\ No newline at end of file
+}
@@ -54,6 +54,35 @@ public class TelaVisualizacaoImagem extends JDialog {
             add(lblErro, BorderLayout.CENTER);
         }
 
+        fecharAoClicar();
+    }
+
+    /**
+     * Construtor da tela de visualização a partir de uma imagem já decodificada e redimensionada.
+     *
+     * @param parent A janela pai (pode ser JFrame ou JDialog) para centralização.
+     * @param imagem A imagem pronta para exibição (ex: obtida do cache de capas).
+     */
+    public TelaVisualizacaoImagem(Window parent, Image imagem) {
+        super(parent, "Visualização da Capa", ModalityType.APPLICATION_MODAL);
+
+        setSize(500, 600);
+        setLocationRelativeTo(parent);
+        setLayout(new BorderLayout());
+
+        getContentPane().setBackground(new Color(50, 50, 50));
+
+        JLabel lblImagem = new JLabel(new ImageIcon(imagem));
+        lblImagem.setHorizontalAlignment(SwingConstants.CENTER);
+        add(lblImagem, BorderLayout.CENTER);
+
+        fecharAoClicar();
+    }
+
+    /**
+     * Permite fechar a janela clicando em qualquer lugar dela.
+     */
+    private void fecharAoClicar() {
         addMouseListener(new MouseAdapter() {
             @Override
             public void mouseClicked(MouseEvent evt) {
@@ -0,0 +1,39 @@
+-- ============================================================================
+-- V1 - Estrutura inicial do acervo (tabelas 'capa', 'livro' e 'livro_exclusao')
+--
+-- Idempotente: em bases criadas antes das migrações (pelo ddl-auto do Hibernate
+-- ou pelo database/scripts_banco.sql), apenas completa o que estiver faltando.
+-- ============================================================================
+
+-- Capas endereçadas por conteúdo: cada imagem distinta é gravada uma única vez,
+-- identificada pelo hash SHA-256, e compartilhada entre os livros que a utilizam.
+CREATE TABLE IF NOT EXISTS capa (
+    hash VARCHAR(64) PRIMARY KEY,
+    dados BYTEA,
+    tamanho INTEGER NOT NULL,
+    referencias INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS livro (
+    id BIGSERIAL PRIMARY KEY,
+    isbn VARCHAR(20) NOT NULL UNIQUE,
+    titulo VARCHAR(255) NOT NULL,
+    autores VARCHAR(255) NOT NULL,
+    editora VARCHAR(255),
+    data_publicacao VARCHAR(50),
+    livros_semelhantes TEXT,
+    capa_hash VARCHAR(64),
+    versao BIGINT DEFAULT 0 NOT NULL,
+    atualizado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- Colunas adicionadas após a primeira versão (bases antigas)
+ALTER TABLE livro ADD COLUMN IF NOT EXISTS capa_hash VARCHAR(64);
+ALTER TABLE livro ADD COLUMN IF NOT EXISTS versao BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE livro ADD COLUMN IF NOT EXISTS atualizado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+-- Registro das exclusões, usado pela atualização incremental da listagem.
+CREATE TABLE IF NOT EXISTS livro_exclusao (
+    livro_id BIGINT PRIMARY KEY,
+    excluido_em TIMESTAMP NOT NULL
+);
@@ -0,0 +1,19 @@
+-- ============================================================================
+-- V2 - Índices secundários usados pelas consultas da aplicação
+-- ============================================================================
+
+-- Troca de capa (LivroRepository.substituirCapaHash: WHERE capa_hash = ?)
+CREATE INDEX IF NOT EXISTS idx_livro_capa_hash ON livro (capa_hash);
+
+-- Atualização incremental da listagem (LivroRepository.findByAtualizadoEmAfter)
+CREATE INDEX IF NOT EXISTS idx_livro_atualizado_em ON livro (atualizado_em);
+
+-- Exclusões desde a última atualização (LivroExclusaoRepository.findIdsExcluidosDesde)
+CREATE INDEX IF NOT EXISTS idx_livro_exclusao_excluido_em ON livro_exclusao (excluido_em);
+
+-- Indicadores do Dashboard (LivroRepository.contarLivrosPorEditora: GROUP BY editora)
+CREATE INDEX IF NOT EXISTS idx_livro_editora ON livro (editora);
+
+-- Migração de armazenamento das capas (CapaRepository.findHashesComDadosNoBanco):
+-- percorre em ordem de hash apenas as capas que ainda têm bytes no banco.
+CREATE INDEX IF NOT EXISTS idx_capa_com_dados ON capa (hash) WHERE dados IS NOT NULL;
@@ -0,0 +1,28 @@
+-- ============================================================================
+-- V3 - Notificação de alterações entre estações de trabalho (LISTEN livro_alteracao)
+-- Ver NotificacaoLivroService.
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION notificar_alteracao_livro() RETURNS trigger AS $$
+DECLARE
+    registro RECORD;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        registro := OLD;
+    ELSE
+        registro := NEW;
+    END IF;
+    PERFORM pg_notify('livro_alteracao', json_build_object(
+        'id', registro.id,
+        'operacao', TG_OP,
+        'versao', registro.versao,
+        'origem', current_setting('application_name'))::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_livro_notificacao ON livro;
+
+CREATE TRIGGER trg_livro_notificacao
+    AFTER INSERT OR UPDATE OR DELETE ON livro
+    FOR EACH ROW EXECUTE PROCEDURE notificar_alteracao_livro();
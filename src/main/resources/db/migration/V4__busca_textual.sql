@@ -0,0 +1,30 @@
+-- ============================================================================
+-- V4 - Busca textual (full-text) insensível a acentos, com ordenação por relevância
+--
+-- A configuração 'portugues_sem_acento' remove os acentos (unaccent) antes do
+-- radical em português, tanto na indexação quanto na consulta: "cronicas narnia"
+-- encontra "As Crônicas de Nárnia". Requer PostgreSQL 12+ (coluna gerada).
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'portugues_sem_acento') THEN
+        CREATE TEXT SEARCH CONFIGURATION portugues_sem_acento (COPY = portuguese);
+        ALTER TEXT SEARCH CONFIGURATION portugues_sem_acento
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+    END IF;
+END
+$$;
+
+-- Documento de busca mantido pelo próprio banco a cada INSERT/UPDATE.
+-- Pesos: título (A) > autores (B) > editora (C) > livros semelhantes (D).
+ALTER TABLE livro ADD COLUMN IF NOT EXISTS busca TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('portugues_sem_acento'::regconfig, coalesce(titulo, '')), 'A') ||
+    setweight(to_tsvector('portugues_sem_acento'::regconfig, coalesce(autores, '')), 'B') ||
+    setweight(to_tsvector('portugues_sem_acento'::regconfig, coalesce(editora, '')), 'C') ||
+    setweight(to_tsvector('portugues_sem_acento'::regconfig, coalesce(livros_semelhantes, '')), 'D')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_livro_busca ON livro USING GIN (busca);
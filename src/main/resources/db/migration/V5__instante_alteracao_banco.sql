@@ -0,0 +1,38 @@
+-- ============================================================================
+-- V5 - Instantes de alteração e exclusão definidos pelo relógio do banco
+--
+-- A atualização incremental da listagem compara livro.atualizado_em e
+-- livro_exclusao.excluido_em com uma marca obtida do próprio banco. Se esses
+-- instantes viessem do relógio de cada estação, uma diferença entre os relógios
+-- faria a listagem de uma estação perder as alterações feitas em outra.
+-- Os gatilhos abaixo sobrescrevem o valor enviado pela aplicação, de forma que
+-- todo INSERT/UPDATE (Hibernate, comandos em lote, COPY) use o mesmo relógio.
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION registrar_instante_alteracao_livro() RETURNS trigger AS $$
+BEGIN
+    NEW.atualizado_em := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_livro_atualizado_em ON livro;
+
+CREATE TRIGGER trg_livro_atualizado_em
+    BEFORE INSERT OR UPDATE ON livro
+    FOR EACH ROW EXECUTE PROCEDURE registrar_instante_alteracao_livro();
+
+CREATE OR REPLACE FUNCTION registrar_instante_exclusao_livro() RETURNS trigger AS $$
+BEGIN
+    NEW.excluido_em := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_livro_exclusao_excluido_em ON livro_exclusao;
+
+CREATE TRIGGER trg_livro_exclusao_excluido_em
+    BEFORE INSERT OR UPDATE ON livro_exclusao
+    FOR EACH ROW EXECUTE PROCEDURE registrar_instante_exclusao_livro();
+
+ALTER TABLE livro_exclusao ALTER COLUMN excluido_em SET DEFAULT CURRENT_TIMESTAMP;
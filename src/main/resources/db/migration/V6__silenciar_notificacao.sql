@@ -0,0 +1,32 @@
+-- ============================================================================
+-- V6 - Notificação de alterações silenciável por transação
+--
+-- Cargas em massa (GeracaoAcervoService) enviam uma única notificação de
+-- ressincronização no lugar de uma por livro. Antes, isso exigia
+-- ALTER TABLE livro DISABLE TRIGGER, que bloqueia a tabela inteira
+-- (ACCESS EXCLUSIVE) até o fim do lote, inclusive para leituras de outras
+-- estações, e só é permitido ao dono da tabela.
+-- Agora a carga executa SET LOCAL biblioteca.silenciar = 'on': apenas a
+-- própria transação deixa de notificar, sem bloqueio e sem privilégio especial.
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION notificar_alteracao_livro() RETURNS trigger AS $$
+DECLARE
+    registro RECORD;
+BEGIN
+    IF current_setting('biblioteca.silenciar', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP = 'DELETE' THEN
+        registro := OLD;
+    ELSE
+        registro := NEW;
+    END IF;
+    PERFORM pg_notify('livro_alteracao', json_build_object(
+        'id', registro.id,
+        'operacao', TG_OP,
+        'versao', registro.versao,
+        'origem', current_setting('application_name'))::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,40 @@
+-- ============================================================================
+-- V7 - Atualização incremental ordenada pela confirmação das transações
+--
+-- Os instantes gravados pelos gatilhos da V5 (clock_timestamp()) indicam quando
+-- a linha foi escrita, e não quando a transação foi confirmada. Uma transação
+-- demorada (carga em lote, exclusão ou edição em massa) confirma linhas com
+-- instantes anteriores à marca já entregue às estações, que nunca as veriam.
+--
+-- Cada alteração e exclusão passa a registrar também o ID da transação que a
+-- fez (txid_current()). A marca entregue às estações é o menor ID de transação
+-- ainda em andamento no instante da consulta (txid_snapshot_xmin): toda
+-- transação confirmada depois dela tem ID maior ou igual à marca, por mais que
+-- tenha demorado, e é incluída na atualização seguinte.
+-- As linhas já existentes recebem 0: são anteriores a qualquer marca.
+-- ============================================================================
+
+ALTER TABLE livro ADD COLUMN IF NOT EXISTS transacao_alteracao BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE livro_exclusao ADD COLUMN IF NOT EXISTS transacao_exclusao BIGINT DEFAULT 0 NOT NULL;
+
+CREATE OR REPLACE FUNCTION registrar_instante_alteracao_livro() RETURNS trigger AS $$
+BEGIN
+    NEW.atualizado_em := clock_timestamp();
+    NEW.transacao_alteracao := txid_current();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION registrar_instante_exclusao_livro() RETURNS trigger AS $$
+BEGIN
+    NEW.excluido_em := clock_timestamp();
+    NEW.transacao_exclusao := txid_current();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Atualização incremental da listagem (LivroRepository.findAlteradosDesde)
+CREATE INDEX IF NOT EXISTS idx_livro_transacao_alteracao ON livro (transacao_alteracao);
+
+-- Exclusões desde a última atualização (LivroExclusaoRepository.findIdsExcluidosDesde)
+CREATE INDEX IF NOT EXISTS idx_livro_exclusao_transacao ON livro_exclusao (transacao_exclusao);
@@ -0,0 +1,40 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChaveColacaoTest {
+
+    @Test
+    @DisplayName("Deve ordenar como o Collator pt-BR: acentos e maiúsculas só desempatam, espaços e hífens são ignorados")
+    void deveOrdenarComoOCollator() {
+        List<String> textos = Arrays.asList("Éramos Seis", "eramos", "Ensaio", "Azul", "Árvore", "arte", "Ação", "ação",
+                "Acao", "acao", "1984", "O Alquimista", "O alquimista", "o-alquimista", "Oalquimista", "Ç", "c", "d",
+                "Capitães da Areia", "Capitaes da areia", "São Bernardo", "Sao Paulo", "(Des)encontros", "Dom Casmurro");
+        List<String> esperado = new ArrayList<>(textos);
+        esperado.sort(Collator.getInstance(new Locale("pt", "BR")));
+        List<String> ordenado = new ArrayList<>(textos);
+        Collections.shuffle(ordenado);
+
+        ordenado.sort(Comparator.comparing(ChaveColacao::gerar));
+
+        assertEquals(esperado, ordenado);
+    }
+
+    @Test
+    @DisplayName("Deve tratar nulo como vazio, que vem antes de qualquer texto")
+    void deveTratarNuloComoVazio() {
+        assertEquals("", ChaveColacao.gerar(null));
+        assertTrue(ChaveColacao.gerar(null).compareTo(ChaveColacao.gerar("!")) < 0);
+    }
+}
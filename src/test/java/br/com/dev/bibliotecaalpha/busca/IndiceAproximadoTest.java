@@ -0,0 +1,176 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceAproximadoTest {
+
+    private IndiceAproximado indice;
+
+    @BeforeEach
+    void setup() {
+        indice = new IndiceAproximado();
+        indice.indexar(1L, "O Senhor dos Anéis: A Sociedade do Anel\nJ.R.R. Tolkien");
+        indice.indexar(2L, "Harry Potter e a Pedra Filosofal\nJ.K. Rowling");
+        indice.indexar(3L, "O Hobbit\nJ.R.R. Tolkien");
+        indice.indexar(4L, "Clean Code\nRobert C. Martin");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar autores com erros de digitação")
+    void deveEncontrar_ComErrosDeDigitacao() {
+        List<IndiceAproximado.Ocorrencia> tolkien = indice.pesquisar("Tolkein", 10);
+        assertEquals(2, tolkien.size());
+        assertEquals(1L, tolkien.get(0).getId());
+        assertEquals(3L, tolkien.get(1).getId());
+
+        List<IndiceAproximado.Ocorrencia> rowling = indice.pesquisar("Rowlling", 10);
+        assertEquals(1, rowling.size());
+        assertEquals(2L, rowling.get(0).getId());
+        assertTrue(rowling.get(0).getPontuacao() < 1.0);
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pela pontuação, favorecendo quem atende mais termos")
+    void deveOrdenarPorPontuacao() {
+        List<IndiceAproximado.Ocorrencia> resultado = indice.pesquisar("hobit tolkien", 10);
+
+        assertEquals(3L, resultado.get(0).getId());
+        assertEquals(1L, resultado.get(1).getId());
+        assertTrue(resultado.get(0).getPontuacao() > resultado.get(1).getPontuacao());
+        assertEquals(0.5, resultado.get(1).getPontuacao(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite e ignorar palavras distantes ou curtas")
+    void deveRespeitarLimite() {
+        assertEquals(1, indice.pesquisar("tolkien", 1).size());
+        assertTrue(indice.pesquisar("xyzwq", 10).isEmpty());
+        assertTrue(indice.pesquisar("o a", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve refletir alterações e exclusões incrementais")
+    void deveAtualizarIncrementalmente() {
+        indice.indexar(4L, "Código Limpo\nRobert C. Martin");
+        assertTrue(indice.pesquisar("clean", 10).isEmpty());
+        assertEquals(4L, indice.pesquisar("codigo limpo", 10).get(0).getId());
+
+        assertTrue(indice.remover(2L));
+        assertFalse(indice.remover(2L));
+        assertTrue(indice.pesquisar("rowling", 10).isEmpty());
+        assertEquals(3, indice.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a comparação linear após muitas alterações (com reconstrução do vocabulário)")
+    void deveCoincidirComBuscaLinear_AposAlteracoesAleatorias() {
+        Random random = new Random(7);
+        Map<Long, String> esperado = new HashMap<>();
+        IndiceAproximado aleatorio = new IndiceAproximado();
+
+        for (int passo = 0; passo < 30000; passo++) {
+            long id = random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                aleatorio.remover(id);
+                esperado.remove(id);
+            } else {
+                String texto = palavraAleatoria(random) + " " + palavraAleatoria(random);
+                aleatorio.indexar(id, texto);
+                esperado.put(id, texto);
+            }
+        }
+
+        for (int consulta = 0; consulta < 50; consulta++) {
+            String termo = palavraAleatoria(random);
+            List<Long> encontrados = new ArrayList<>();
+            for (IndiceAproximado.Ocorrencia ocorrencia : aleatorio.pesquisar(termo, 1000)) {
+                encontrados.add(ocorrencia.getId());
+            }
+            for (Map.Entry<Long, String> documento : esperado.entrySet()) {
+                boolean deveConter = false;
+                for (String palavra : IndiceAproximado.termos(documento.getValue())) {
+                    deveConter |= distancia(termo, palavra) <= IndiceAproximado.distanciaMaxima(termo);
+                }
+                assertEquals(deveConter, encontrados.contains(documento.getKey()), termo + " / " + documento.getValue());
+            }
+            assertEquals(encontrados.size(), encontrados.stream().distinct().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve calcular a distância de Levenshtein")
+    void deveCalcularDistancia() {
+        assertEquals(2, distancia("tolkein", "tolkien"));
+        assertEquals(1, distancia("rowlling", "rowling"));
+        assertEquals(3, distancia("kitten", "sitting"));
+        assertEquals(4, distancia("", "anel"));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar no vocabulário, ordenado ou pendente, apenas as palavras dentro da distância")
+    void deveEncontrarNoVocabulario() {
+        VocabularioLevenshtein vocabulario = new VocabularioLevenshtein();
+        for (String palavra : new String[]{"livro", "libro", "lirio", "mesa", "livros", "li"}) {
+            vocabulario.adicionar(palavra);
+        }
+        vocabulario.consolidar();
+        vocabulario.adicionar("litro");
+
+        Map<String, Integer> encontrados = new HashMap<>();
+        vocabulario.pesquisar("livro", 1, encontrados::put);
+
+        assertEquals(4, encontrados.size());
+        assertEquals(0, encontrados.get("livro"));
+        assertEquals(1, encontrados.get("libro"));
+        assertEquals(1, encontrados.get("litro"));
+        assertEquals(1, encontrados.get("livros"));
+        assertEquals(7, vocabulario.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a comparação de todas as palavras do vocabulário")
+    void deveCoincidirComComparacaoLinear_NoVocabulario() {
+        Random random = new Random(11);
+        VocabularioLevenshtein vocabulario = new VocabularioLevenshtein();
+        List<String> palavras = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String palavra = palavraAleatoria(random);
+            if (!palavras.contains(palavra)) {
+                palavras.add(palavra);
+                vocabulario.adicionar(palavra);
+            }
+        }
+
+        for (int consulta = 0; consulta < 100; consulta++) {
+            String termo = palavraAleatoria(random);
+            Map<String, Integer> encontrados = new HashMap<>();
+            vocabulario.pesquisar(termo, 2, encontrados::put);
+            for (String palavra : palavras) {
+                int distancia = distancia(termo, palavra);
+                assertEquals(distancia <= 2 ? Integer.valueOf(distancia) : null, encontrados.get(palavra), termo + " / " + palavra);
+            }
+        }
+    }
+
+    private static String palavraAleatoria(Random random) {
+        char[] letras = new char[4 + random.nextInt(4)];
+        for (int i = 0; i < letras.length; i++) {
+            letras[i] = (char) ('a' + random.nextInt(4));
+        }
+        return new String(letras);
+    }
+
+    private static int distancia(String a, String b) {
+        return VocabularioLevenshtein.distancia(a, b, new int[a.length() + 1], new int[a.length() + 1]);
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceTrigramasTest {
+
+    private IndiceTrigramas indice;
+
+    @BeforeEach
+    void setup() {
+        indice = new IndiceTrigramas();
+        indice.indexar(1L, "O Senhor dos Anéis: A Sociedade do Anel\nJ.R.R. Tolkien\nHarperCollins");
+        indice.indexar(2L, "As Crônicas de Nárnia\nC.S. Lewis\nMartins Fontes");
+        indice.indexar(3L, "Clean Code\nRobert C. Martin\nPrentice Hall");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar livros ignorando acentos e maiúsculas")
+    void deveEncontrar_IgnorandoAcentos() {
+        IndiceTrigramas.Resultado resultado = indice.pesquisar("CRONICAS narnia");
+
+        assertEquals(1, resultado.getTotal());
+        assertTrue(resultado.contem(2L));
+        assertFalse(resultado.contem(1L));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar trechos no meio das palavras e exigir todos os termos")
+    void deveExigirTodosOsTermos() {
+        IndiceTrigramas.Resultado resultado = indice.pesquisar("mart");
+        assertEquals(2, resultado.getTotal());
+        assertTrue(resultado.contem(2L));
+        assertTrue(resultado.contem(3L));
+
+        resultado = indice.pesquisar("mart clean");
+        assertEquals(1, resultado.getTotal());
+        assertTrue(resultado.contem(3L));
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no texto os candidatos da interseção de trigramas")
+    void deveDescartarFalsosPositivos() {
+        // "abcy" tem todos os trigramas presentes no documento ("abc" e "bcy"), mas não contíguos
+        indice.indexar(4L, "abcd xbcy");
+
+        assertEquals(0, indice.pesquisar("abcy").getTotal());
+        assertEquals(1, indice.pesquisar("xbcy").getTotal());
+    }
+
+    @Test
+    @DisplayName("Deve pesquisar termos curtos sem trigramas")
+    void devePesquisarTermosCurtos() {
+        IndiceTrigramas.Resultado resultado = indice.pesquisar("c.");
+        assertEquals(2, resultado.getTotal());
+        assertTrue(resultado.contem(2L));
+        assertTrue(resultado.contem(3L));
+    }
+
+    @Test
+    @DisplayName("Deve retornar null para consulta em branco")
+    void deveRetornarNull_QuandoConsultaEmBranco() {
+        assertNull(indice.pesquisar("   "));
+    }
+
+    @Test
+    @DisplayName("Deve refletir alterações e exclusões incrementais")
+    void deveAtualizarIncrementalmente() {
+        indice.indexar(3L, "Código Limpo\nRobert C. Martin\nAlta Books");
+        assertEquals(0, indice.pesquisar("clean").getTotal());
+        assertTrue(indice.pesquisar("codigo limpo").contem(3L));
+
+        assertTrue(indice.remover(2L));
+        assertFalse(indice.remover(2L));
+        assertEquals(0, indice.pesquisar("narnia").getTotal());
+        assertEquals(2, indice.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a busca linear após muitas alterações (com compactação)")
+    void deveCoincidirComBuscaLinear_AposAlteracoesAleatorias() {
+        Random random = new Random(42);
+        String[] palavras = {"java", "código", "limpo", "anel", "narnia", "senhor", "dados", "rede", "teste", "padrões"};
+        Map<Long, String> esperado = new HashMap<>();
+        IndiceTrigramas aleatorio = new IndiceTrigramas();
+
+        for (int passo = 0; passo < 20000; passo++) {
+            long id = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                aleatorio.remover(id);
+                esperado.remove(id);
+            } else {
+                String texto = palavras[random.nextInt(palavras.length)] + " " + palavras[random.nextInt(palavras.length)];
+                aleatorio.indexar(id, texto);
+                esperado.put(id, NormalizadorTexto.dobrar(texto));
+            }
+        }
+
+        for (String consulta : new String[]{"java", "cod", "padroes ana", "ne", "teste rede", "xyz"}) {
+            IndiceTrigramas.Resultado resultado = aleatorio.pesquisar(consulta);
+            int total = 0;
+            for (long id = 0; id < 500; id++) {
+                String texto = esperado.get(id);
+                boolean deveConter = texto != null;
+                for (String termo : NormalizadorTexto.dobrar(consulta).split(" ")) {
+                    deveConter = deveConter && texto.contains(termo);
+                }
+                assertEquals(deveConter, resultado.contem(id), consulta + " / " + id);
+                total += deveConter ? 1 : 0;
+            }
+            assertEquals(total, resultado.getTotal(), consulta);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve intersectar listas ordenadas de tamanhos diferentes")
+    void deveIntersectarListas() {
+        int[] a = {3, 9, 20, 50};
+        int[] b = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 21, 50, 60};
+
+        int restantes = IndiceTrigramas.intersectar(a, a.length, b, b.length);
+
+        assertEquals(3, restantes);
+        assertArrayEquals(new int[]{3, 9, 50}, java.util.Arrays.copyOf(a, restantes));
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrdenacaoIndicesTest {
+
+    @Test
+    @DisplayName("Deve ordenar como a ordenação estável do JDK, em faixas sequenciais e paralelas")
+    void deveOrdenarComoOJdk() {
+        Random random = new Random(41);
+        for (int tamanho : new int[]{0, 1, 2, 23, 100, OrdenacaoIndices.LIMITE_SEQUENCIAL, 200_000}) {
+            int[] valores = new int[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                valores[i] = random.nextInt(1000);
+            }
+            int[] indices = new int[tamanho];
+            Integer[] esperado = new Integer[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                indices[i] = i;
+                esperado[i] = i;
+            }
+
+            OrdenacaoIndices.ordenar(indices, (a, b) -> Integer.compare(valores[a], valores[b]));
+            Arrays.sort(esperado, Comparator.comparingInt(i -> valores[i]));
+
+            for (int i = 0; i < tamanho; i++) {
+                assertEquals(esperado[i].intValue(), indices[i], "posição " + i + " de " + tamanho);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.dev.bibliotecaalpha.busca;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrieSugestoesTest {
+
+    private TrieSugestoes trie;
+
+    @BeforeEach
+    void setup() {
+        trie = new TrieSugestoes();
+        trie.registrar("Addison-Wesley", 5);
+        trie.registrar("Addison Wesley", 2);
+        trie.registrar("Alta Books", 3);
+        trie.registrar("Aleph", 1);
+        trie.registrar("Rocco", 4);
+    }
+
+    @Test
+    @DisplayName("Deve sugerir pelo prefixo, ignorando acentos, maiúsculas e pontuação, da mais à menos frequente")
+    void deveSugerirPorFrequencia() {
+        assertEquals(Arrays.asList("Addison-Wesley", "Alta Books", "Aleph"), trie.sugerir("a", 10));
+        assertEquals(Collections.singletonList("Addison-Wesley"), trie.sugerir("ADDISON WES", 10));
+        assertEquals(Collections.singletonList("Alta Books"), trie.sugerir("álta ", 10));
+        assertTrue(trie.sugerir("altab", 10).isEmpty());
+        assertEquals(Collections.singletonList("Addison-Wesley"), trie.sugerir("a", 1));
+    }
+
+    @Test
+    @DisplayName("Deve unificar grafias do mesmo valor e exibir a mais frequente")
+    void deveUnificarGrafias() {
+        assertEquals(4, trie.tamanho());
+
+        trie.registrar("Addison Wesley", 4);
+
+        assertEquals(Collections.singletonList("Addison Wesley"), trie.sugerir("addison", 10));
+    }
+
+    @Test
+    @DisplayName("Deve descontar valores e deixar de sugerir os que chegam a zero")
+    void deveDescontarValores() {
+        trie.registrar("Addison-Wesley", -5);
+        trie.registrar("Addison Wesley", -2);
+        trie.registrar("Inexistente", -1);
+
+        assertEquals(Arrays.asList("Alta Books", "Aleph"), trie.sugerir("a", 10));
+        assertEquals(3, trie.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a ordenação de todos os valores após muitas alterações")
+    void deveCoincidirComOrdenacaoCompleta() {
+        Random random = new Random(3);
+        String[] silabas = {"ma", "ri", "sa", "to", "lu", "ca"};
+        Map<String, Integer> esperado = new HashMap<>();
+        TrieSugestoes aleatoria = new TrieSugestoes();
+        for (int passo = 0; passo < 5000; passo++) {
+            String valor = silabas[random.nextInt(6)] + silabas[random.nextInt(6)] + (random.nextBoolean() ? silabas[random.nextInt(6)] : "");
+            int quantidade = random.nextInt(4) == 0 ? -1 : 1 + random.nextInt(3);
+            int atual = esperado.getOrDefault(valor, 0);
+            if (atual + quantidade >= 0) {
+                aleatoria.registrar(valor, quantidade);
+                esperado.put(valor, atual + quantidade);
+            }
+        }
+
+        for (String prefixo : new String[]{"m", "ma", "sato", "lu", "x"}) {
+            List<String> candidatos = new ArrayList<>();
+            for (Map.Entry<String, Integer> valor : esperado.entrySet()) {
+                if (valor.getValue() > 0 && valor.getKey().startsWith(prefixo)) {
+                    candidatos.add(valor.getKey());
+                }
+            }
+            List<String> sugeridos = aleatoria.sugerir(prefixo, 5);
+            assertEquals(Math.min(5, candidatos.size()), sugeridos.size(), prefixo);
+            candidatos.sort((a, b) -> esperado.get(b) - esperado.get(a));
+            for (int i = 0; i < sugeridos.size(); i++) {
+                assertEquals(esperado.get(candidatos.get(i)), esperado.get(sugeridos.get(i)), prefixo);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.dev.bibliotecaalpha.gerador;
+
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.service.CapaService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeradorAcervoTest {
+
+    @Test
+    @DisplayName("Deve gerar os mesmos livros para a mesma semente, independentemente da ordem de geração")
+    void deveSerDeterministico() {
+        GeradorAcervo gerador = new GeradorAcervo(7);
+        GeradorAcervo mesmaSemente = new GeradorAcervo(7);
+        GeradorAcervo outraSemente = new GeradorAcervo(8);
+
+        Livro livro = gerador.gerar(1234);
+        mesmaSemente.gerar(99);
+        Livro repetido = mesmaSemente.gerar(1234);
+        Livro outro = outraSemente.gerar(1234);
+
+        assertEquals(livro.getIsbn(), repetido.getIsbn());
+        assertEquals(livro.getTitulo(), repetido.getTitulo());
+        assertEquals(livro.getAutores(), repetido.getAutores());
+        assertEquals(livro.getEditora(), repetido.getEditora());
+        assertEquals(livro.getDataPublicacao(), repetido.getDataPublicacao());
+        assertEquals(livro.getCapaHash(), repetido.getCapaHash());
+        assertNotEquals(livro.getIsbn(), outro.getIsbn());
+    }
+
+    @Test
+    @DisplayName("Deve gerar ISBN-13 válidos e únicos, títulos acentuados e autores distintos")
+    void deveGerarDadosValidos() {
+        GeradorAcervo gerador = new GeradorAcervo(GeradorAcervo.SEMENTE_PADRAO, 50, 50000, 0, 1);
+        Set<String> isbns = new HashSet<>();
+        int titulosAcentuados = 0;
+        for (int i = 0; i < 100_000; i++) {
+            Livro livro = gerador.gerar(i);
+            assertTrue(isbnValido(livro.getIsbn()), livro.getIsbn());
+            assertTrue(isbns.add(livro.getIsbn()), "ISBN repetido: " + livro.getIsbn());
+            assertTrue(livro.getTitulo().length() <= 255 && livro.getAutores().length() <= 255);
+            assertNull(livro.getCapaHash());
+            if (!livro.getTitulo().matches("[\\x00-\\x7F]*")) {
+                titulosAcentuados++;
+            }
+        }
+        assertTrue(titulosAcentuados > 10_000, "Títulos acentuados: " + titulosAcentuados);
+
+        Set<String> autores = new HashSet<>();
+        for (int i = 0; i < gerador.getQuantidadeAutores(); i++) {
+            assertTrue(autores.add(gerador.nomeAutor(i)), "Autor repetido: " + gerador.nomeAutor(i));
+        }
+        Set<String> editoras = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(editoras.add(gerador.editora(i)), "Editora repetida: " + gerador.editora(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve concentrar os livros em poucas editoras e respeitar a proporção de capas")
+    void deveRespeitarDistribuicoes() {
+        GeradorAcervo gerador = new GeradorAcervo(3, 200, 10000, 0.25, 16);
+        Map<String, Integer> porEditora = new HashMap<>();
+        Set<String> capas = new HashSet<>();
+        int comCapa = 0;
+        int total = 40_000;
+        for (int i = 0; i < total; i++) {
+            Livro livro = gerador.gerar(i);
+            porEditora.merge(livro.getEditora(), 1, Integer::sum);
+            if (livro.getCapaHash() != null) {
+                comCapa++;
+                capas.add(livro.getCapaHash());
+            }
+        }
+
+        // Zipf (expoente 1.1, 200 editoras): a mais frequente tem cerca de 20% dos livros
+        int maisFrequente = porEditora.values().stream().max(Integer::compare).orElse(0);
+        assertTrue(maisFrequente > total / 8, "Maior editora: " + maisFrequente);
+        assertTrue(porEditora.size() > 150, "Editoras: " + porEditora.size());
+
+        assertEquals(0.25, comCapa / (double) total, 0.01);
+        assertEquals(16, capas.size());
+        for (String hash : capas) {
+            assertEquals(hash, CapaService.calcularHash(gerador.dadosCapa(hash)));
+        }
+        assertNull(gerador.dadosCapa("inexistente"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar parâmetros fora dos limites")
+    void deveRejeitarParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new GeradorAcervo(1, 0, 10, 0.5, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GeradorAcervo(1, 10, 10, 1.5, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GeradorAcervo(1, 10, Integer.MAX_VALUE, 0.5, 1));
+    }
+
+    private static boolean isbnValido(String isbn) {
+        if (!isbn.matches("978\\d{10}")) {
+            return false;
+        }
+        int soma = 0;
+        for (int i = 0; i < 13; i++) {
+            soma += (isbn.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return soma % 10 == 0;
+    }
+}
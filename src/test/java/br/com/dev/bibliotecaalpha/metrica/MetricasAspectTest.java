@@ -0,0 +1,97 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.facade.ExportacaoFacade;
+import br.com.dev.bibliotecaalpha.facade.LivroFacade;
+import br.com.dev.bibliotecaalpha.service.ExecucaoService;
+import br.com.dev.bibliotecaalpha.service.ExportacaoService;
+import br.com.dev.bibliotecaalpha.service.MetricasService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricasAspectTest {
+
+    private final SimpleMeterRegistry registro = new SimpleMeterRegistry();
+    private final ExportacaoService exportacaoService = mock(ExportacaoService.class);
+    private ExportacaoFacade facade;
+
+    @BeforeEach
+    void configurar() {
+        MetricasAspect aspecto = new MetricasAspect();
+        ReflectionTestUtils.setField(aspecto, "registro", registro);
+
+        ExportacaoFacade alvo = new ExportacaoFacade();
+        ReflectionTestUtils.setField(alvo, "exportacaoService", exportacaoService);
+
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(alvo);
+        fabrica.setProxyTargetClass(true);
+        fabrica.addAspect(aspecto);
+        facade = fabrica.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve medir o tempo das chamadas bem-sucedidas com componente e método")
+    void deveMedirChamadaComSucesso() throws ServiceException {
+        facade.exportarLivros("a.csv");
+        facade.exportarLivros("b.csv");
+
+        assertEquals(2, registro.get(MetricasService.OPERACAO)
+                .tags("componente", "ExportacaoFacade", "metodo", "exportarLivros", "resultado", "sucesso")
+                .timer().count());
+        assertNull(registro.find(MetricasService.OPERACAO_ERROS).counter());
+    }
+
+    @Test
+    @DisplayName("Deve contar o erro e relançar a exceção original")
+    void deveContarErroERelancarExcecao() throws ServiceException {
+        ServiceException falha = new ServiceException("Sem permissão de escrita");
+        doThrow(falha).when(exportacaoService).exportarArquivoCSV("c.csv");
+
+        ServiceException lancada = assertThrows(ServiceException.class, () -> facade.exportarLivros("c.csv"));
+
+        assertSame(falha, lancada);
+        assertEquals(1, registro.get(MetricasService.OPERACAO_ERROS)
+                .tags("metodo", "exportarLivros", "excecao", "ServiceException").counter().count());
+        assertEquals(1, registro.get(MetricasService.OPERACAO).tags("resultado", "erro").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve medir as variantes assíncronas até a conclusão do futuro")
+    @SuppressWarnings("unchecked")
+    void deveMedirAteConclusaoDoFuturo() {
+        CompletableFuture<Object> futuro = new CompletableFuture<>();
+        ExecucaoService execucaoService = mock(ExecucaoService.class);
+        when(execucaoService.executar(any(ExecucaoService.Tarefa.class))).thenReturn(futuro);
+        LivroFacade alvo = new LivroFacade();
+        ReflectionTestUtils.setField(alvo, "execucaoService", execucaoService);
+
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(alvo);
+        fabrica.setProxyTargetClass(true);
+        MetricasAspect aspecto = new MetricasAspect();
+        ReflectionTestUtils.setField(aspecto, "registro", registro);
+        fabrica.addAspect(aspecto);
+        LivroFacade livroFacade = fabrica.getProxy();
+
+        livroFacade.buscarLivroPorIdAsync(1L);
+        assertNull(registro.find(MetricasService.OPERACAO).timer());
+
+        futuro.completeExceptionally(new IllegalStateException("falha"));
+
+        assertEquals(1, registro.get(MetricasService.OPERACAO)
+                .tags("metodo", "buscarLivroPorIdAsync", "resultado", "erro").timer().count());
+        assertEquals(1, registro.get(MetricasService.OPERACAO_ERROS)
+                .tags("excecao", "IllegalStateException").counter().count());
+    }
+}
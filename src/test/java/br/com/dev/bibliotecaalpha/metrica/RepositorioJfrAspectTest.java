@@ -0,0 +1,64 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositorioJfrAspectTest {
+
+    @Test
+    @DisplayName("Deve registrar a chamada ao repositório como evento do JFR com consulta e linhas")
+    @SuppressWarnings("unchecked")
+    void deveRegistrarEventoDoRepositorio(@TempDir Path tempDir) throws IOException {
+        SimpleJpaRepository<Livro, Long> alvo = mock(SimpleJpaRepository.class);
+        when(alvo.findAll()).thenReturn(Arrays.asList(new Livro(), new Livro(), new Livro()));
+
+        AspectJProxyFactory fabrica = new AspectJProxyFactory(alvo);
+        fabrica.addInterface(LivroRepository.class);
+        fabrica.addAspect(new RepositorioJfrAspect());
+        LivroRepository repositorio = fabrica.getProxy();
+
+        Path arquivo = tempDir.resolve("teste.jfr");
+        try (Recording gravacao = new Recording()) {
+            gravacao.enable(EventoRepositorio.class);
+            gravacao.start();
+            repositorio.findAll();
+            gravacao.stop();
+            gravacao.dump(arquivo);
+        }
+
+        List<RecordedEvent> eventos = RecordingFile.readAllEvents(arquivo);
+        assertEquals(1, eventos.size());
+        RecordedEvent evento = eventos.get(0);
+        assertEquals("LivroRepository.findAll", evento.getString("consulta"));
+        assertEquals(3, evento.getLong("linhas"));
+        assertTrue(evento.getBoolean("sucesso"));
+    }
+
+    @Test
+    @DisplayName("Deve contar as linhas de listas, opcionais e entidades")
+    void deveContarLinhas() {
+        assertEquals(2, RepositorioJfrAspect.contarLinhas(Arrays.asList(1, 2)));
+        assertEquals(0, RepositorioJfrAspect.contarLinhas(Optional.empty()));
+        assertEquals(1, RepositorioJfrAspect.contarLinhas(Optional.of(new Livro())));
+        assertEquals(1, RepositorioJfrAspect.contarLinhas(new Livro()));
+        assertEquals(0, RepositorioJfrAspect.contarLinhas(null));
+    }
+}
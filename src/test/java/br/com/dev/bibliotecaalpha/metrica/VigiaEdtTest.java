@@ -0,0 +1,63 @@
+package br.com.dev.bibliotecaalpha.metrica;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.awt.EventQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VigiaEdtTest {
+
+    @Test
+    @DisplayName("Deve registrar o travamento da EDT com a ação em execução")
+    void deveRegistrarTravamentoComAcao() throws Exception {
+        SimpleMeterRegistry registro = new SimpleMeterRegistry();
+        VigiaEdt vigia = new VigiaEdt();
+        ReflectionTestUtils.setField(vigia, "registro", registro);
+        ReflectionTestUtils.setField(vigia, "ativa", true);
+        ReflectionTestUtils.setField(vigia, "limiteMs", 50L);
+        ReflectionTestUtils.setField(vigia, "intervaloMs", 10L);
+
+        EventoAcaoInterface.preparar();
+        vigia.iniciar();
+        try {
+            EventQueue.invokeAndWait(() -> EventoAcaoInterface.medir("TelaTeste", "importar", e -> {
+                try {
+                    Thread.sleep(400);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }).actionPerformed(null));
+
+            Timer travamentos = null;
+            for (int tentativa = 0; tentativa < 100 && travamentos == null; tentativa++) {
+                travamentos = registro.find(VigiaEdt.TRAVAMENTOS).tag("acao", "TelaTeste.importar").timer();
+                Thread.sleep(20);
+            }
+            assertNotNull(travamentos);
+            assertEquals(1, travamentos.count());
+            assertTrue(travamentos.totalTime(TimeUnit.MILLISECONDS) >= 300);
+        } finally {
+            vigia.parar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve identificar a ação pelo primeiro método de tela na pilha")
+    void deveIdentificarAcaoPelaPilha() {
+        StackTraceElement[] pilha = {
+                new StackTraceElement("br.com.dev.bibliotecaalpha.service.LivroService", "excluir", null, 1),
+                new StackTraceElement("br.com.dev.bibliotecaalpha.view.TelaExclusao", "confirmarExclusao", null, 2),
+                new StackTraceElement("br.com.dev.bibliotecaalpha.view.TelaExclusao$1", "actionPerformed", null, 3),
+                new StackTraceElement("java.awt.EventDispatchThread", "run", null, 4)
+        };
+
+        assertEquals("TelaExclusao.actionPerformed", VigiaEdt.acaoDaPilha(pilha));
+        assertEquals("desconhecida", VigiaEdt.acaoDaPilha(new StackTraceElement[0]));
+    }
+}
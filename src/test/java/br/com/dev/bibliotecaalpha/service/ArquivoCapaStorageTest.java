@@ -0,0 +1,112 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ArquivoCapaStorageTest {
+
+    @Test
+    @DisplayName("Deve gravar a capa em subdiretórios derivados do hash e lê-la de volta")
+    void deveGravarELerCapa(@TempDir Path tempDir) {
+        ArquivoCapaStorage storage = criarStorage(tempDir);
+        byte[] dados = {1, 2, 3, 4, 5};
+        String hash = CapaService.calcularHash(dados);
+
+        storage.gravar(hash, dados);
+
+        Path esperado = tempDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+        assertTrue(Files.exists(esperado));
+        assertArrayEquals(dados, storage.ler(hash));
+    }
+
+    @Test
+    @DisplayName("Deve ler capas grandes via mapeamento em memória")
+    void deveLerCapaGrande(@TempDir Path tempDir) {
+        ArquivoCapaStorage storage = criarStorage(tempDir);
+        byte[] dados = new byte[1024 * 1024];
+        new Random(42).nextBytes(dados);
+        String hash = CapaService.calcularHash(dados);
+
+        storage.gravar(hash, dados);
+
+        assertArrayEquals(dados, storage.ler(hash));
+    }
+
+    @Test
+    @DisplayName("Deve remover o arquivo da capa e retornar null para capa inexistente")
+    void deveRemoverCapa(@TempDir Path tempDir) {
+        ArquivoCapaStorage storage = criarStorage(tempDir);
+        byte[] dados = {9, 8, 7};
+        String hash = CapaService.calcularHash(dados);
+
+        storage.gravar(hash, dados);
+        storage.remover(hash);
+
+        assertNull(storage.ler(hash));
+    }
+
+    @Test
+    @DisplayName("Não deve remover o arquivo gravado novamente por uma transação ainda em andamento")
+    void naoDeveRemoverCapa_GravadaPorTransacaoEmAndamento(@TempDir Path tempDir) {
+        ArquivoCapaStorage storage = criarStorage(tempDir);
+        byte[] dados = {4, 5, 6};
+        String hash = CapaService.calcularHash(dados);
+
+        List<TransactionSynchronization> sincronizacoes;
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storage.gravar(hash, dados);
+            sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Remoção confirmada por outra transação antes do término da que gravou
+        storage.remover(hash);
+        assertArrayEquals(dados, storage.ler(hash));
+
+        sincronizacoes.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        storage.remover(hash);
+        assertNull(storage.ler(hash));
+    }
+
+    @Test
+    @DisplayName("Não deve remover o arquivo de uma capa que voltou a existir no banco")
+    void naoDeveRemoverCapa_AindaCadastrada(@TempDir Path tempDir) {
+        CapaRepository repository = mock(CapaRepository.class);
+        ArquivoCapaStorage storage = new ArquivoCapaStorage(tempDir.toString(), repository, mock(PlatformTransactionManager.class));
+        byte[] dados = {6, 6, 6};
+        String hash = CapaService.calcularHash(dados);
+        when(repository.existsById(hash)).thenReturn(true);
+
+        storage.gravar(hash, dados);
+        storage.remover(hash);
+
+        assertArrayEquals(dados, storage.ler(hash));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar hash inválido para evitar acesso fora do diretório")
+    void deveRejeitarHashInvalido(@TempDir Path tempDir) {
+        ArquivoCapaStorage storage = criarStorage(tempDir);
+
+        assertThrows(IllegalArgumentException.class, () -> storage.ler("../../etc/passwd"));
+    }
+
+    private static ArquivoCapaStorage criarStorage(Path diretorio) {
+        return new ArquivoCapaStorage(diretorio.toString(), mock(CapaRepository.class), mock(PlatformTransactionManager.class));
+    }
+}
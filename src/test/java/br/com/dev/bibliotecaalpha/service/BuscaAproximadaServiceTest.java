@@ -0,0 +1,130 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.busca.IndiceAproximado;
+import br.com.dev.bibliotecaalpha.event.AcervoImportadoEvento;
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuscaAproximadaServiceTest {
+
+    @InjectMocks
+    private BuscaAproximadaService service;
+
+    @Mock
+    private LivroRepository repository;
+
+    @Mock
+    private BarramentoEventos barramentoEventos;
+
+    @Mock
+    private NotificacaoLivroService notificacaoLivroService;
+
+    @BeforeEach
+    void setup() {
+        List<Object[]> linhas = new ArrayList<>();
+        linhas.add(new Object[]{1L, "O Hobbit", "J.R.R. Tolkien"});
+        linhas.add(new Object[]{2L, "Harry Potter e a Pedra Filosofal", "J.K. Rowling"});
+        lenient().when(repository.listarTitulosEAutores()).thenReturn(linhas);
+    }
+
+    @Test
+    @DisplayName("Deve construir o índice uma única vez, na primeira pesquisa")
+    void deveConstruirIndice_NaPrimeiraPesquisa() {
+        assertEquals(1L, service.pesquisar("Tolkein", 10).get(0).getId());
+        assertEquals(2L, service.pesquisar("Rowlling", 10).get(0).getId());
+
+        verify(repository, times(1)).listarTitulosEAutores();
+    }
+
+    @Test
+    @DisplayName("Deve manter o índice em dia com os eventos do acervo")
+    void deveAplicarEventos() {
+        service.pesquisar("tolkien", 10);
+
+        service.aplicar(new LivroCriadoEvento(resumo(3L, "O Silmarillion", "J.R.R. Tolkien")));
+        service.aplicar(new LivroAtualizadoEvento(null, resumo(2L, "Harry Potter e a Câmara Secreta", "J.K. Rowling")));
+        service.aplicar(new LivroExcluidoEvento(1L, null));
+
+        List<IndiceAproximado.Ocorrencia> tolkien = service.pesquisar("Tolkein", 10);
+        assertEquals(1, tolkien.size());
+        assertEquals(3L, tolkien.get(0).getId());
+        assertTrue(service.pesquisar("filosofal", 10).isEmpty());
+        assertEquals(2L, service.pesquisar("camara", 10).get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Deve reler do banco as alterações de outras estações e reconstruir após ressincronização")
+    void deveAplicarNotificacoes() {
+        service.pesquisar("tolkien", 10);
+
+        Livro alterado = new Livro();
+        alterado.setId(1L);
+        alterado.setTitulo("O Hobbit");
+        alterado.setAutores("Tolkien, J.R.R.; Lee, Alan");
+        when(repository.findById(1L)).thenReturn(Optional.of(alterado));
+        service.aplicar(new NotificacaoLivroService.Notificacao(1L, NotificacaoLivroService.Operacao.ALTERACAO, 2, "outra"));
+        assertEquals(1L, service.pesquisar("alan", 10).get(0).getId());
+
+        service.aplicar(new NotificacaoLivroService.Notificacao(0, NotificacaoLivroService.Operacao.RESSINCRONIZACAO, 0, ""));
+        service.pesquisar("tolkien", 10);
+        verify(repository, times(2)).listarTitulosEAutores();
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o índice após uma importação em lote")
+    void deveReconstruirIndice_AposImportacao() {
+        service.inscrever();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<AcervoImportadoEvento>> ouvinte = ArgumentCaptor.forClass(Consumer.class);
+        verify(barramentoEventos).inscrever(eq(AcervoImportadoEvento.class), ouvinte.capture());
+        service.pesquisar("tolkien", 10);
+
+        ouvinte.getValue().accept(new AcervoImportadoEvento(1, 0));
+        service.pesquisar("tolkien", 10);
+
+        verify(repository, times(2)).listarTitulosEAutores();
+    }
+
+    @Test
+    @DisplayName("Deve liberar as travas quando a construção do índice falhar, permitindo nova tentativa")
+    void deveLiberarTravas_QuandoConstrucaoFalhar() {
+        List<Object[]> linhas = new ArrayList<>();
+        linhas.add(new Object[]{1L, "O Hobbit", "J.R.R. Tolkien"});
+        when(repository.listarTitulosEAutores())
+                .thenThrow(new DataAccessResourceFailureException("sem conexão"))
+                .thenReturn(linhas);
+
+        assertThrows(DataAccessResourceFailureException.class, () -> service.pesquisar("tolkien", 10));
+        assertEquals(1L, service.pesquisar("Tolkein", 10).get(0).getId());
+
+        service.aplicar(new LivroExcluidoEvento(1L, null));
+        assertTrue(service.pesquisar("Tolkein", 10).isEmpty());
+    }
+
+    private static LivroResumo resumo(long id, String titulo, String autores) {
+        return new LivroResumo(id, "978000000000" + id, titulo, "2000", autores, "Editora", null, 0);
+    }
+}
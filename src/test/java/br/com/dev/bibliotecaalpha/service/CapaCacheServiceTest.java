@@ -0,0 +1,100 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapaCacheServiceTest {
+
+    @Test
+    @DisplayName("Deve redimensionar mantendo a proporção e registrar acerto na segunda consulta")
+    void deveRetornarDoCache_NaSegundaConsulta() throws IOException {
+        CapaCacheService cache = new CapaCacheService(10_000_000L);
+        byte[] capa = gerarPng(200, 300);
+
+        BufferedImage primeira = cache.obter(1L, null, capa, 120, 180);
+        BufferedImage segunda = cache.obter(1L, null, capa, 120, 180);
+
+        assertNotNull(primeira);
+        assertEquals(120, primeira.getWidth());
+        assertEquals(180, primeira.getHeight());
+        assertSame(primeira, segunda);
+        assertEquals(1, cache.getEstatisticas().getAcertos());
+        assertEquals(1, cache.getEstatisticas().getFalhas());
+    }
+
+    @Test
+    @DisplayName("Deve remover a entrada menos recente quando o limite de bytes for excedido")
+    void deveRemoverEntradaMenosRecente_QuandoLimiteExcedido() throws IOException {
+        long bytesPorCapa = 100L * 100 * 4;
+        CapaCacheService cache = new CapaCacheService(bytesPorCapa * 2);
+
+        byte[] capa1 = gerarPng(100, 100);
+        byte[] capa2 = gerarPng(100, 101);
+        byte[] capa3 = gerarPng(100, 102);
+
+        cache.obter(1L, null, capa1, 100, 100);
+        cache.obter(2L, null, capa2, 100, 100);
+        cache.obter(1L, null, capa1, 100, 100);
+        cache.obter(3L, null, capa3, 100, 100);
+
+        CapaCacheService.Estatisticas stats = cache.getEstatisticas();
+        assertEquals(2, stats.getEntradas());
+        assertEquals(1, stats.getRemocoes());
+        assertTrue(stats.getBytesOcupados() <= stats.getLimiteBytes());
+
+        cache.obter(1L, null, capa1, 100, 100);
+        assertEquals(2, cache.getEstatisticas().getAcertos());
+    }
+
+    @Test
+    @DisplayName("Deve descartar as capas do livro ao invalidar")
+    void deveDescartarCapas_AoInvalidar() throws IOException {
+        CapaCacheService cache = new CapaCacheService(10_000_000L);
+        byte[] capa = gerarPng(50, 50);
+
+        cache.obter(7L, null, capa, 50, 50);
+        cache.obter(7L, null, capa, 25, 25);
+        cache.invalidar(7L);
+
+        assertEquals(0, cache.getEstatisticas().getEntradas());
+        assertEquals(0, cache.getEstatisticas().getBytesOcupados());
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar uma única falha ao consultar e depois armazenar a capa")
+    void deveContabilizarFalha_AoConsultar() throws IOException {
+        CapaCacheService cache = new CapaCacheService(10_000_000L);
+        byte[] capa = gerarPng(60, 60);
+        String hash = CapaService.calcularHash(capa);
+
+        assertNull(cache.consultar(3L, hash, 60, 60));
+        BufferedImage armazenada = cache.armazenar(3L, hash, capa, 60, 60);
+
+        assertSame(armazenada, cache.consultar(3L, hash, 60, 60));
+        assertEquals(1, cache.getEstatisticas().getFalhas());
+        assertEquals(1, cache.getEstatisticas().getAcertos());
+    }
+
+    @Test
+    @DisplayName("Deve retornar null para capa ausente ou inválida")
+    void deveRetornarNull_QuandoCapaInvalida() {
+        CapaCacheService cache = new CapaCacheService(10_000_000L);
+
+        assertNull(cache.obter(1L, null, null, 100, 100));
+        assertNull(cache.obter(1L, null, new byte[150], 100, 100));
+    }
+
+    private byte[] gerarPng(int largura, int altura) throws IOException {
+        BufferedImage imagem = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(imagem, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapaMigracaoServiceTest {
+
+    @InjectMocks
+    private CapaMigracaoService service;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CapaService capaService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Deve interromper a migração sem propagar o erro quando um lote falhar")
+    void deveInterromperMigracao_QuandoLoteFalhar() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(1);
+        doThrow(new DataAccessResourceFailureException("sem conexão")).when(transactionTemplate).executeWithoutResult(any());
+
+        assertEquals(0, service.deduplicarCapasExistentes());
+
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verifyNoInteractions(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Não deve impedir a inicialização quando o banco estiver indisponível")
+    void naoDeveFalhar_QuandoBancoIndisponivel() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class)))
+                .thenThrow(new DataAccessResourceFailureException("sem conexão"));
+
+        assertEquals(0, service.deduplicarCapasExistentes());
+
+        verifyNoInteractions(transactionTemplate);
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CapaNormalizacaoServiceTest {
+
+    private final CapaNormalizacaoService service = new CapaNormalizacaoService(600, 900, 0.85f);
+
+    @Test
+    @DisplayName("Deve reduzir imagens acima da resolução máxima e converter para JPEG")
+    void deveReduzirEConverterParaJpeg() throws IOException {
+        byte[] png = gerarImagem(2000, 3000, "png");
+
+        byte[] normalizada = service.normalizar(png);
+
+        assertEquals(0xFF, normalizada[0] & 0xFF);
+        assertEquals(0xD8, normalizada[1] & 0xFF);
+        BufferedImage resultado = ImageIO.read(new ByteArrayInputStream(normalizada));
+        assertEquals(600, resultado.getWidth());
+        assertEquals(900, resultado.getHeight());
+    }
+
+    @Test
+    @DisplayName("Não deve ampliar imagens menores que a resolução máxima")
+    void naoDeveAmpliarImagemPequena() throws IOException {
+        byte[] png = gerarImagem(120, 180, "png");
+
+        BufferedImage resultado = ImageIO.read(new ByteArrayInputStream(service.normalizar(png)));
+
+        assertEquals(120, resultado.getWidth());
+        assertEquals(180, resultado.getHeight());
+    }
+
+    @Test
+    @DisplayName("Deve ser idempotente para capas já normalizadas")
+    void deveSerIdempotente() throws IOException {
+        byte[] normalizada = service.normalizar(gerarImagem(800, 1200, "png"));
+
+        assertTrue(service.jaNormalizada(normalizada));
+        assertSame(normalizada, service.normalizar(normalizada));
+    }
+
+    @Test
+    @DisplayName("Deve recodificar JPEG que contenha segmento de comentário (metadado)")
+    void deveRemoverMetadados() throws IOException {
+        byte[] jpeg = service.normalizar(gerarImagem(100, 100, "png"));
+        byte[] comentario = {(byte) 0xFF, (byte) 0xFE, 0x00, 0x06, 'e', 'x', 'i', 'f'};
+
+        byte[] comMetadado = new byte[jpeg.length + comentario.length];
+        System.arraycopy(jpeg, 0, comMetadado, 0, 2);
+        System.arraycopy(comentario, 0, comMetadado, 2, comentario.length);
+        System.arraycopy(jpeg, 2, comMetadado, 2 + comentario.length, jpeg.length - 2);
+
+        assertFalse(service.jaNormalizada(comMetadado));
+        assertTrue(service.jaNormalizada(service.normalizar(comMetadado)));
+    }
+
+    @Test
+    @DisplayName("Deve manter os bytes originais quando o formato não for reconhecido")
+    void deveManterBytes_QuandoFormatoDesconhecido() {
+        byte[] invalido = new byte[200];
+
+        assertSame(invalido, service.normalizar(invalido));
+        assertNull(service.normalizar(null));
+    }
+
+    @Test
+    @DisplayName("Deve decodificar por amostragem imagens muito maiores que a resolução máxima")
+    void deveDecodificarPorAmostragem_QuandoImagemMuitoGrande() throws IOException {
+        byte[] png = gerarImagem(2400, 10, "png");
+
+        BufferedImage resultado = ImageIO.read(new ByteArrayInputStream(service.normalizar(png)));
+
+        assertEquals(600, resultado.getWidth());
+    }
+
+    @Test
+    @DisplayName("Não deve alocar a imagem inteira quando o arquivo declara dimensões enormes")
+    void naoDeveAlocarImagemInteira_QuandoDimensoesEnormes() throws IOException {
+        // 20000x20000 RGBA ocuparia 1,6 GB se decodificada inteira
+        byte[] png = gerarPngDeclarado(20000, 20000);
+
+        assertDoesNotThrow(() -> service.normalizar(png));
+    }
+
+    /**
+     * Monta um PNG cujo cabeçalho declara as dimensões informadas, mas com poucos dados de pixels.
+     */
+    private byte[] gerarPngDeclarado(int largura, int altura) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream png = new DataOutputStream(out);
+        png.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        escreverChunk(png, "IHDR", ByteBuffer.allocate(13).putInt(largura).putInt(altura)
+                .put((byte) 8).put((byte) 6).put((byte) 0).put((byte) 0).put((byte) 0).array());
+        ByteArrayOutputStream pixels = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(pixels)) {
+            deflater.write(new byte[4096]);
+        }
+        escreverChunk(png, "IDAT", pixels.toByteArray());
+        escreverChunk(png, "IEND", new byte[0]);
+        return out.toByteArray();
+    }
+
+    private void escreverChunk(DataOutputStream png, String tipo, byte[] dados) throws IOException {
+        byte[] bytesTipo = tipo.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(bytesTipo);
+        crc.update(dados);
+        png.writeInt(dados.length);
+        png.write(bytesTipo);
+        png.write(dados);
+        png.writeInt((int) crc.getValue());
+    }
+
+    private byte[] gerarImagem(int largura, int altura, String formato) throws IOException {
+        BufferedImage imagem = new BufferedImage(largura, altura, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(imagem, formato, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapaServiceTest {
+
+    @InjectMocks
+    private CapaService service;
+
+    @Mock
+    private CapaRepository repository;
+
+    @Mock
+    private CapaStorage storage;
+
+    @Mock
+    private LivroRepository livroRepository;
+
+    @Test
+    @DisplayName("Deve gerar o mesmo hash SHA-256 para imagens idênticas")
+    void deveGerarMesmoHash_ParaConteudoIgual() {
+        String hash1 = CapaService.calcularHash(new byte[]{1, 2, 3});
+        String hash2 = CapaService.calcularHash(new byte[]{1, 2, 3});
+        String hash3 = CapaService.calcularHash(new byte[]{3, 2, 1});
+
+        assertEquals(64, hash1.length());
+        assertEquals(hash1, hash2);
+        assertNotEquals(hash1, hash3);
+    }
+
+    @Test
+    @DisplayName("Deve inserir a capa quando ela ainda não existir")
+    void deveInserirCapa_QuandoNova() {
+        byte[] dados = {1, 2, 3};
+        when(repository.incrementarReferencias(anyString())).thenReturn(0);
+
+        String hash = service.armazenar(dados);
+
+        verify(repository).inserirOuIncrementar(hash, 3);
+        verify(storage).gravar(hash, dados);
+    }
+
+    @Test
+    @DisplayName("Deve apenas incrementar referências quando a capa já existir")
+    void deveReaproveitarCapa_QuandoExistente() {
+        when(repository.incrementarReferencias(anyString())).thenReturn(1);
+
+        service.armazenar(new byte[]{1, 2, 3});
+
+        verify(repository, never()).inserirOuIncrementar(anyString(), anyInt());
+        verify(storage, never()).gravar(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve decrementar referências e remover capa órfã ao liberar")
+    void deveDecrementarReferencias_AoLiberar() {
+        when(repository.removerSemReferencias("abc")).thenReturn(1);
+
+        service.liberar("abc");
+
+        verify(repository).decrementarReferencias("abc");
+        verify(storage).remover("abc");
+    }
+
+    @Test
+    @DisplayName("Deve subtrair várias referências de uma vez ao liberar em lote")
+    void deveSubtrairReferencias_AoLiberarEmLote() {
+        service.liberar("abc", 3);
+
+        verify(repository).subtrairReferencias("abc", 3);
+        verify(repository).removerSemReferencias("abc");
+        verify(storage, never()).remover("abc");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar liberação de hash nulo")
+    void deveIgnorarLiberacao_QuandoHashNulo() {
+        service.liberar(null);
+
+        verifyNoInteractions(repository, storage);
+    }
+
+    @Test
+    @DisplayName("Deve carregar os bytes da capa pelo hash a partir do armazenamento")
+    void deveCarregarCapa_PeloHash() {
+        when(storage.ler("abc")).thenReturn(new byte[]{9});
+
+        assertArrayEquals(new byte[]{9}, service.carregar("abc"));
+        assertNull(service.carregar(null));
+    }
+
+    @Test
+    @DisplayName("Deve transferir as referências dos livros ao substituir uma capa")
+    void deveTransferirReferencias_AoSubstituir() {
+        byte[] novosDados = {7, 7, 7};
+        String hashNovo = CapaService.calcularHash(novosDados);
+        when(livroRepository.substituirCapaHash("antigo", hashNovo)).thenReturn(3);
+        when(repository.removerSemReferencias("antigo")).thenReturn(1);
+
+        String resultado = service.substituir("antigo", novosDados);
+
+        assertEquals(hashNovo, resultado);
+        verify(repository).inserirOuSomar(hashNovo, 3, 3);
+        verify(storage).gravar(hashNovo, novosDados);
+        verify(repository).subtrairReferencias("antigo", 3);
+        verify(storage).remover("antigo");
+        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Deve manter a capa antiga ao substituir se ela ganhou outra referência no meio tempo")
+    void deveManterCapaAntiga_QuandoAindaReferenciada() {
+        byte[] novosDados = {7, 7, 7};
+        String hashNovo = CapaService.calcularHash(novosDados);
+        when(livroRepository.substituirCapaHash("antigo", hashNovo)).thenReturn(2);
+        when(repository.removerSemReferencias("antigo")).thenReturn(0);
+
+        service.substituir("antigo", novosDados);
+
+        verify(repository).subtrairReferencias("antigo", 2);
+        verify(storage, never()).remover("antigo");
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.repository.CapaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CapaStorageMigracaoServiceTest {
+
+    @InjectMocks
+    private CapaStorageMigracaoService service;
+
+    @Mock
+    private CapaRepository repository;
+
+    @Mock
+    private ArquivoCapaStorage arquivoCapaStorage;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Deve migrar cada lote de capas em uma única transação")
+    void deveMigrarLoteEmUmaTransacao() {
+        List<String> hashes = Arrays.asList("aaaa", "bbbb");
+        when(repository.findHashesComDadosNoBanco(any())).thenReturn(hashes);
+        when(repository.carregarDadosPorHashes(hashes)).thenReturn(Arrays.asList(
+                new Object[]{"aaaa", new byte[]{1}}, new Object[]{"bbbb", new byte[]{2}}));
+
+        assertEquals(2, service.migrarParaArquivos());
+
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(arquivoCapaStorage).gravar("aaaa", new byte[]{1});
+        verify(arquivoCapaStorage).gravar("bbbb", new byte[]{2});
+        verify(repository).limparDados("aaaa");
+        verify(repository).limparDados("bbbb");
+    }
+
+    @Test
+    @DisplayName("Deve interromper a migração sem propagar o erro quando a gravação de um lote falhar")
+    void deveInterromperMigracao_QuandoGravacaoFalhar() {
+        List<String> hashes = Collections.singletonList("aaaa");
+        when(repository.findHashesComDadosNoBanco(any())).thenReturn(hashes);
+        when(repository.carregarDadosPorHashes(hashes)).thenReturn(Collections.singletonList(new Object[]{"aaaa", new byte[]{1}}));
+        doThrow(new UncheckedIOException(new IOException("disco cheio"))).when(arquivoCapaStorage).gravar(anyString(), any());
+
+        assertEquals(0, service.migrarParaArquivos());
+
+        verify(repository, never()).limparDados(anyString());
+    }
+}
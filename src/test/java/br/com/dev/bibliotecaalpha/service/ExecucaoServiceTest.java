@@ -0,0 +1,137 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecucaoServiceTest {
+
+    private final SimpleMeterRegistry registro = new SimpleMeterRegistry();
+    private final ExecucaoService service = new ExecucaoService();
+
+    @BeforeEach
+    void configurar() {
+        ReflectionTestUtils.setField(service, "registro", registro);
+        ReflectionTestUtils.setField(service, "threads", 2);
+        ReflectionTestUtils.setField(service, "fila", 1);
+        ReflectionTestUtils.setField(service, "modoIoConfigurado", "auto");
+        ReflectionTestUtils.setField(service, "limiteIo", 2);
+        service.iniciar();
+    }
+
+    @AfterEach
+    void encerrar() {
+        service.encerrar();
+    }
+
+    @Test
+    @DisplayName("Deve executar a tarefa em thread nomeada do pool e medir o executor")
+    void deveExecutarEmThreadDoPool() throws Exception {
+        String thread = service.executar(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(thread.startsWith("biblioteca-async-"), thread);
+        assertNotNull(registro.find("executor.completed").tag("name", ExecucaoService.NOME).functionCounter());
+    }
+
+    @Test
+    @DisplayName("Deve concluir o futuro com a exceção original da tarefa")
+    void deveRepassarExcecaoDaTarefa() {
+        CompletableFuture<Object> futuro = service.executar(() -> {
+            throw new ServiceException("ISBN inválido");
+        });
+
+        ExecutionException erro = assertThrows(ExecutionException.class, () -> futuro.get(5, TimeUnit.SECONDS));
+        assertTrue(erro.getCause() instanceof ServiceException);
+        assertEquals("ISBN inválido", erro.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve recusar tarefas com o pool e a fila cheios, sem criar threads")
+    void deveRecusarComPoolSaturado() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupadas = new CountDownLatch(2);
+        ExecucaoService.Tarefa<Void> bloqueante = () -> {
+            ocupadas.countDown();
+            liberar.await();
+            return null;
+        };
+        CompletableFuture<Void> primeira = service.executar(bloqueante);
+        CompletableFuture<Void> segunda = service.executar(bloqueante);
+        assertTrue(ocupadas.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> naFila = service.executar(() -> null);
+
+        CompletableFuture<Void> recusada = service.executar(() -> null);
+
+        ExecutionException erro = assertThrows(ExecutionException.class, () -> recusada.get(1, TimeUnit.SECONDS));
+        assertTrue(erro.getCause() instanceof ServiceException);
+
+        liberar.countDown();
+        CompletableFuture.allOf(primeira, segunda, naFila).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve usar threads virtuais apenas quando o runtime oferece")
+    void deveDetectarThreadsVirtuais() throws Exception {
+        boolean disponivel;
+        try {
+            Thread.class.getMethod("ofVirtual");
+            disponivel = true;
+        } catch (NoSuchMethodException e) {
+            disponivel = false;
+        }
+
+        String thread = service.executarIo(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(thread.startsWith("biblioteca-io-"), thread);
+        assertEquals(disponivel ? ExecucaoService.ModoIo.VIRTUAL : ExecucaoService.ModoIo.PLATAFORMA, service.getModoIo());
+        assertNotNull(registro.find("executor").tag("name", ExecucaoService.NOME_IO).timer());
+    }
+
+    @Test
+    @DisplayName("Deve usar threads de plataforma quando configurado, mesmo com threads virtuais disponíveis")
+    void deveForcarThreadsDePlataforma() throws Exception {
+        service.encerrar();
+        ReflectionTestUtils.setField(service, "modoIoConfigurado", "plataforma");
+        service.iniciar();
+
+        Boolean daemon = service.executarIo(() -> Thread.currentThread().isDaemon()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(ExecucaoService.ModoIo.PLATAFORMA, service.getModoIo());
+        assertTrue(daemon);
+    }
+
+    @Test
+    @DisplayName("Deve limitar as tarefas de I/O simultâneas sem recusar as excedentes")
+    void deveLimitarTarefasDeIo() throws Exception {
+        AtomicInteger emExecucao = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        List<CompletableFuture<Void>> futuros = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futuros.add(service.executarIo(() -> {
+                maximo.accumulateAndGet(emExecucao.incrementAndGet(), Math::max);
+                Thread.sleep(10);
+                emExecucao.decrementAndGet();
+                return null;
+            }));
+        }
+
+        CompletableFuture.allOf(futuros.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, maximo.get());
+        assertEquals(0.0, registro.get("biblioteca.io.em.uso").gauge().value());
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.exception.ServiceException;
+import br.com.dev.bibliotecaalpha.gerador.GeradorAcervo;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.json.JSONObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeracaoAcervoServiceTest {
+
+    private final GeracaoAcervoService service = new GeracaoAcervoService();
+
+    @Test
+    @DisplayName("Deve gerar CSV no layout da importação, com as capas gravadas ao lado")
+    void deveGerarCsv(@TempDir Path tempDir) throws ServiceException, IOException {
+        GeradorAcervo gerador = new GeradorAcervo(5, 20, 100, 0.5, 4);
+        Path arquivo = tempDir.resolve("acervo.csv");
+
+        service.gravarArquivo(gerador, 0, 1000, arquivo, GeracaoAcervoService.Formato.CSV);
+
+        try (Reader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+             CSVParser csvParser = CSVFormat.DEFAULT.withHeader().withSkipHeaderRecord().parse(reader)) {
+            assertTrue(csvParser.getHeaderMap().keySet().containsAll(
+                    Arrays.asList("ISBN", "Titulo", "Autores", "Editora", "Data", "Capa")));
+            List<CSVRecord> registros = csvParser.getRecords();
+            assertEquals(1000, registros.size());
+            assertEquals(gerador.gerar(0).getIsbn(), registros.get(0).get("ISBN"));
+            assertEquals(gerador.gerar(999).getTitulo(), registros.get(999).get("Titulo"));
+            for (CSVRecord registro : registros) {
+                if (!registro.get("Capa").isEmpty()) {
+                    assertTrue(Files.exists(tempDir.resolve(registro.get("Capa"))), registro.get("Capa"));
+                }
+            }
+        }
+        assertEquals(4, Files.list(tempDir.resolve(GeracaoAcervoService.DIRETORIO_CAPAS)).count());
+    }
+
+    @Test
+    @DisplayName("Deve gerar JSON Lines com um livro por linha")
+    void deveGerarJsonl(@TempDir Path tempDir) throws ServiceException, IOException {
+        GeradorAcervo gerador = new GeradorAcervo(5, 20, 100, 0, 1);
+        Path arquivo = tempDir.resolve("acervo.jsonl");
+
+        service.gravarArquivo(gerador, 100, 200, arquivo, GeracaoAcervoService.Formato.JSONL);
+
+        List<String> linhas = Files.readAllLines(arquivo, StandardCharsets.UTF_8);
+        assertEquals(200, linhas.size());
+        JSONObject primeiro = new JSONObject(linhas.get(0));
+        assertEquals(gerador.gerar(100).getAutores(), primeiro.getString("autores"));
+        assertEquals(gerador.gerar(100).getEditora(), primeiro.getString("editora"));
+        assertFalse(primeiro.has("capa"));
+        assertFalse(Files.exists(tempDir.resolve(GeracaoAcervoService.DIRETORIO_CAPAS)));
+    }
+}
@@ -1,14 +1,20 @@
 package br.com.dev.bibliotecaalpha.service;
 
+import br.com.dev.bibliotecaalpha.event.AcervoImportadoEvento;
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
 import br.com.dev.bibliotecaalpha.model.Livro;
 import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
@@ -16,7 +22,9 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -30,6 +38,12 @@ class ImportacaoServiceTest {
     @Mock
     private LivroRepository repository;
 
+    @Spy
+    private MeterRegistry registro = new SimpleMeterRegistry();
+
+    @Mock
+    private BarramentoEventos barramentoEventos;
+
     @Test
     @DisplayName("Deve importar novo livro com sucesso a partir de CSV")
     void deveImportarNovoLivro(@TempDir Path tempDir) throws IOException, ServiceException {
@@ -44,6 +58,8 @@ class ImportacaoServiceTest {
         service.importarArquivoCSV(arquivoCsv.getAbsolutePath());
 
         verify(repository, times(1)).save(any(Livro.class));
+        assertEquals(1, registro.counter(MetricasService.LIVROS_IMPORTADOS, "tipo", "novo").count());
+        assertEquals(1, registro.find(MetricasService.TAXA_IMPORTACAO).summary().count());
     }
 
     @Test
@@ -66,6 +82,29 @@ class ImportacaoServiceTest {
         verify(repository, times(1)).save(livroExistente);
     }
 
+    @Test
+    @DisplayName("Deve publicar um único evento de importação após o commit")
+    void devePublicarEventoImportacao(@TempDir Path tempDir) throws IOException, ServiceException {
+        File arquivoCsv = tempDir.resolve("livros_evento.csv").toFile();
+        try (FileWriter writer = new FileWriter(arquivoCsv)) {
+            writer.write("ISBN,Titulo,Autores,Editora,Data\n");
+            writer.write("978-111,Livro Um,Autor,Editora,2020\n");
+            writer.write("978-222,Livro Dois,Autor,Editora,2021");
+        }
+
+        when(repository.findByIsbn("978-111")).thenReturn(Optional.empty());
+        when(repository.findByIsbn("978-222")).thenReturn(Optional.of(new Livro("Antigo", "978-222")));
+
+        service.importarArquivoCSV(arquivoCsv.getAbsolutePath());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<?>> fabrica = ArgumentCaptor.forClass(Supplier.class);
+        verify(barramentoEventos, times(1)).publicarAposCommit(fabrica.capture());
+        AcervoImportadoEvento evento = (AcervoImportadoEvento) fabrica.getValue().get();
+        assertEquals(1, evento.getNovos());
+        assertEquals(1, evento.getAtualizados());
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando arquivo não existe")
     void deveFalharArquivoInexistente() {
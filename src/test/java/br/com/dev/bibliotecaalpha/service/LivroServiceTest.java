@@ -1,17 +1,38 @@
 package br.com.dev.bibliotecaalpha.service;
 
+import br.com.dev.bibliotecaalpha.busca.IndiceAproximado;
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
 import br.com.dev.bibliotecaalpha.exception.ServiceException;
 import br.com.dev.bibliotecaalpha.model.Livro;
+import br.com.dev.bibliotecaalpha.repository.LivroExclusaoRepository;
 import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import javax.persistence.EntityManagerFactory;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,9 +46,35 @@ class LivroServiceTest {
     @Mock
     private LivroRepository repository;
 
+    @Mock
+    private LivroExclusaoRepository exclusaoRepository;
+
     @Mock
     private OpenLibraryService openLibraryService;
 
+    @Mock
+    private CapaCacheService capaCacheService;
+
+    @Mock
+    private CapaService capaService;
+
+    @Mock
+    private CapaNormalizacaoService capaNormalizacaoService;
+
+    @Mock
+    private BarramentoEventos barramentoEventos;
+
+    @Mock
+    private BuscaAproximadaService buscaAproximadaService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(capaNormalizacaoService.normalizar(any())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
     @Test
     @DisplayName("Deve salvar livro com sucesso quando dados são válidos")
     void deveSalvarLivro_ComSucesso() throws ServiceException {
@@ -158,6 +205,370 @@ class LivroServiceTest {
         assertEquals("Livro não encontrado na base de dados externa.", ex.getMessage());
     }
 
+    @Test
+    @DisplayName("Deve trocar a referência de capa e invalidar o cache quando a capa mudar")
+    void deveTrocarReferenciaCapa_QuandoCapaAlterada() throws ServiceException {
+        Livro existente = criarLivroValido();
+        existente.setId(5L);
+
+        Livro editado = criarLivroValido();
+        editado.setId(5L);
+        editado.setCapaImagem(new byte[]{4, 5, 6});
+        String hashNovo = CapaService.calcularHash(editado.getCapaImagem());
+
+        when(repository.findByIsbn(editado.getIsbn())).thenReturn(Optional.of(existente));
+        when(repository.findCapaHashById(5L)).thenReturn("hash-antigo");
+        when(capaService.armazenar(editado.getCapaImagem())).thenReturn(hashNovo);
+        when(repository.save(editado)).thenReturn(editado);
+
+        service.salvar(editado);
+
+        assertEquals(hashNovo, editado.getCapaHash());
+        verify(capaService).liberar("hash-antigo");
+        verify(capaCacheService).invalidar(5L);
+    }
+
+    @Test
+    @DisplayName("Não deve regravar a capa quando a imagem não mudar")
+    void naoDeveRegravarCapa_QuandoImagemIgual() throws ServiceException {
+        Livro editado = criarLivroValido();
+        editado.setId(5L);
+        editado.setCapaImagem(new byte[]{1, 2, 3});
+        String hash = CapaService.calcularHash(editado.getCapaImagem());
+
+        when(repository.findByIsbn(editado.getIsbn())).thenReturn(Optional.empty());
+        when(repository.findCapaHashById(5L)).thenReturn(hash);
+        when(repository.save(editado)).thenReturn(editado);
+
+        service.salvar(editado);
+
+        verify(capaService, never()).armazenar(any());
+        verify(capaService, never()).liberar(any());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a referência da capa ao excluir um livro")
+    void deveLiberarCapa_AoExcluir() {
+        Livro livro = new Livro("Livro", "978-3");
+        livro.setId(3L);
+        livro.setCapaHash("hash-capa");
+        when(repository.findById(3L)).thenReturn(Optional.of(livro));
+
+        service.excluir(3L);
+
+        verify(repository).deleteById(3L);
+        verify(capaService).liberar("hash-capa");
+        verify(repository, never()).findCapaHashById(any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a exclusão do livro para a atualização incremental")
+    void deveRegistrarExclusao_AoExcluir() {
+        service.excluir(4L);
+
+        verify(exclusaoRepository).registrar(4L);
+    }
+
+    @Test
+    @DisplayName("Deve excluir em lote com um comando por bloco de IDs e liberar as capas por hash")
+    void deveExcluirEmLote_PorBlocos() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        when(repository.excluirPorIds(anyList())).thenAnswer(inv -> {
+            List<LivroResumo> excluidos = new ArrayList<>();
+            for (Long id : inv.<List<Long>>getArgument(0)) {
+                excluidos.add(new LivroResumo(id, "isbn-" + id, "Título", "2008", "Autor", "Editora",
+                        id <= 3 ? "hash-comum" : null, 0L));
+            }
+            return excluidos;
+        });
+
+        int excluidos = service.excluirEmLote(ids);
+
+        assertEquals(2500, excluidos);
+        ArgumentCaptor<List<Long>> blocos = ArgumentCaptor.forClass((Class) List.class);
+        verify(repository, times(3)).excluirPorIds(blocos.capture());
+        assertEquals(Arrays.asList(1000, 1000, 500), Arrays.asList(blocos.getAllValues().get(0).size(),
+                blocos.getAllValues().get(1).size(), blocos.getAllValues().get(2).size()));
+        verify(capaService).liberar("hash-comum", 3);
+        verify(repository, never()).deleteById(any());
+        verify(barramentoEventos, times(2500)).publicarAposCommit(any());
+    }
+
+    @Test
+    @DisplayName("Deve alterar em lote apenas os campos informados e publicar os dois estados do livro")
+    void deveAtualizarEmLote_ApenasCamposInformados() throws ServiceException {
+        LivroResumo antes = new LivroResumo(5L, "isbn", "Título", "2008", "Autor", "Editora Antiga", null, 1L);
+        LivroResumo depois = new LivroResumo(5L, "isbn", "Título", "2008", "Autor", "Rocco", null, 2L);
+        when(repository.atualizarPorIds(anyList(), anyMap())).thenReturn(
+                Collections.singletonList(new LivroResumo[]{antes, depois}));
+
+        int alterados = service.atualizarEmLote(Arrays.asList(5L, 5L), " Rocco ", null, null);
+
+        assertEquals(1, alterados);
+        verify(repository).atualizarPorIds(Collections.singletonList(5L),
+                Collections.singletonMap(LivroRepository.COLUNA_EDITORA, "Rocco"));
+        Object evento = capturarEventoPublicado();
+        assertSame(antes, ((LivroAtualizadoEvento) evento).getAnterior());
+        assertSame(depois, ((LivroAtualizadoEvento) evento).getLivro());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar alteração em lote sem campos ou com campo obrigatório vazio")
+    void deveRejeitarAtualizacaoEmLote_Invalida() {
+        assertThrows(ServiceException.class, () -> service.atualizarEmLote(Arrays.asList(1L, 2L), null, null, null));
+        assertThrows(ServiceException.class, () -> service.atualizarEmLote(Arrays.asList(1L, 2L), null, " ", null));
+        verify(repository, never()).atualizarPorIds(anyList(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas as colunas alteradas, com a versão aberta, sem tocar na capa")
+    void deveAtualizarCampos_ApenasColunasAlteradas() throws ServiceException {
+        LivroResumo antes = new LivroResumo(7L, "isbn", "Título Antigo", "2008", "Autor", "Editora", "hash-capa", 3L);
+        LivroResumo depois = new LivroResumo(7L, "isbn", "Título Novo", "2008", "Autor", "Editora", "hash-capa", 4L);
+        when(repository.atualizarCampos(eq(7L), eq(3L), anyMap())).thenReturn(Optional.of(new LivroResumo[]{antes, depois}));
+
+        service.atualizarCampos(7L, 3L, Collections.singletonMap(LivroService.Campo.TITULO, "Título Novo"));
+
+        verify(repository).atualizarCampos(7L, 3L, Collections.singletonMap(LivroRepository.COLUNA_TITULO, "Título Novo"));
+        verify(repository, never()).save(any());
+        verify(repository, never()).findById(any());
+        verifyNoInteractions(capaService, capaNormalizacaoService);
+        Object evento = capturarEventoPublicado();
+        assertSame(antes, ((LivroAtualizadoEvento) evento).getAnterior());
+        assertSame(depois, ((LivroAtualizadoEvento) evento).getLivro());
+    }
+
+    @Test
+    @DisplayName("Deve informar conflito quando o livro foi alterado desde que foi aberto")
+    void deveFalharAtualizacaoParcial_QuandoVersaoDesatualizada() {
+        when(repository.atualizarCampos(eq(7L), eq(3L), anyMap())).thenReturn(Optional.empty());
+        when(repository.existsById(7L)).thenReturn(true);
+
+        ServiceException erro = assertThrows(ServiceException.class, () -> service.atualizarCampos(7L, 3L,
+                Collections.singletonMap(LivroService.Campo.EDITORA, "Rocco")));
+
+        assertTrue(erro.getMessage().contains("alterado em outra tela"));
+        verify(barramentoEventos, never()).publicarAposCommit(any());
+    }
+
+    @Test
+    @DisplayName("Deve validar campo obrigatório vazio e ISBN de outro livro na alteração parcial")
+    void deveValidarAtualizacaoParcial() {
+        Livro outro = criarLivroValido();
+        outro.setId(99L);
+        when(repository.findByIsbn("9780132350884")).thenReturn(Optional.of(outro));
+
+        assertThrows(ServiceException.class, () -> service.atualizarCampos(7L, 3L,
+                Collections.singletonMap(LivroService.Campo.AUTORES, " ")));
+        ServiceException erro = assertThrows(ServiceException.class, () -> service.atualizarCampos(7L, 3L,
+                Collections.singletonMap(LivroService.Campo.ISBN, "9780132350884")));
+
+        assertTrue(erro.getMessage().contains("Já existe um livro"));
+        verify(repository, never()).atualizarCampos(any(), anyLong(), anyMap());
+    }
+
+    @Test
+    @DisplayName("Deve descartar do cache de segundo nível o livro alterado por outra estação")
+    void deveDescartarCache_QuandoOutraEstacaoAltera() {
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        service.descartarDoCache(new NotificacaoLivroService.Notificacao(9L, NotificacaoLivroService.Operacao.ALTERACAO, 2, "outra"));
+        verify(cache).evictEntityData(Livro.class, 9L);
+        verify(cache).evictNaturalIdData(Livro.class);
+
+        service.descartarDoCache(new NotificacaoLivroService.Notificacao(0L, NotificacaoLivroService.Operacao.RESSINCRONIZACAO, 0, ""));
+        verify(cache).evictEntityData(Livro.class);
+        verify(cache, times(2)).evictNaturalIdData(Livro.class);
+
+        service.descartarDoCache(new NotificacaoLivroService.Notificacao(10L, NotificacaoLivroService.Operacao.INSERCAO, 0, "outra"));
+        verifyNoMoreInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Deve retornar o acervo completo na primeira atualização")
+    void deveRetornarCargaCompleta_QuandoSemMarca() {
+        Livro livro = criarLivroValido();
+        when(repository.consultarMarcaTransacoes()).thenReturn(1000L);
+        when(repository.findAll()).thenReturn(Collections.singletonList(livro));
+
+        LivroService.Alteracoes alteracoes = service.buscarAlteracoesDesde(null);
+
+        assertTrue(alteracoes.isCompleta());
+        assertEquals(1, alteracoes.getAlterados().size());
+        assertTrue(alteracoes.getExcluidos().isEmpty());
+        assertEquals(1000L, alteracoes.getMarca());
+        verify(exclusaoRepository, never()).findIdsExcluidosDesde(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas alterados e excluídos desde a marca informada")
+    void deveRetornarApenasAlteracoes_QuandoComMarca() {
+        long desde = 1000L;
+        Livro alterado = criarLivroValido();
+        when(repository.consultarMarcaTransacoes()).thenReturn(1042L);
+        when(repository.findAlteradosDesde(desde)).thenReturn(Collections.singletonList(alterado));
+        when(exclusaoRepository.findIdsExcluidosDesde(desde)).thenReturn(Arrays.asList(7L, 8L));
+
+        LivroService.Alteracoes alteracoes = service.buscarAlteracoesDesde(desde);
+
+        assertFalse(alteracoes.isCompleta());
+        assertSame(alterado, alteracoes.getAlterados().get(0));
+        assertEquals(Arrays.asList(7L, 8L), alteracoes.getExcluidos());
+        assertEquals(1042L, alteracoes.getMarca());
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve informar conflito quando o livro foi alterado em outra tela")
+    void deveLancarErro_QuandoVersaoDesatualizada() {
+        Livro livro = criarLivroValido();
+        livro.setId(5L);
+        livro.setVersao(1L);
+
+        when(repository.findByIsbn(livro.getIsbn())).thenReturn(Optional.empty());
+        when(repository.save(livro)).thenThrow(new ObjectOptimisticLockingFailureException(Livro.class, 5L));
+
+        ServiceException ex = assertThrows(ServiceException.class, () -> service.salvar(livro));
+        assertTrue(ex.getMessage().contains("alterado em outra tela"));
+    }
+
+    @Test
+    @DisplayName("Deve publicar evento de criação ao salvar um livro novo")
+    void devePublicarEventoCriacao_AoSalvarNovo() throws ServiceException {
+        Livro livro = criarLivroValido();
+        when(repository.findByIsbn(livro.getIsbn())).thenReturn(Optional.empty());
+        when(repository.save(livro)).thenAnswer(inv -> {
+            livro.setId(20L);
+            return livro;
+        });
+
+        service.salvar(livro);
+
+        Object evento = capturarEventoPublicado();
+        assertTrue(evento instanceof LivroCriadoEvento);
+        assertEquals(20L, ((LivroCriadoEvento) evento).getLivroId());
+        assertEquals("Clean Code", ((LivroCriadoEvento) evento).getLivro().getTitulo());
+    }
+
+    @Test
+    @DisplayName("Deve publicar evento de alteração com os dados anteriores ao salvar um livro existente")
+    void devePublicarEventoAlteracao_ComDadosAnteriores() throws ServiceException {
+        Livro anterior = criarLivroValido();
+        anterior.setId(21L);
+        anterior.setEditora("Editora Antiga");
+
+        Livro livro = criarLivroValido();
+        livro.setId(21L);
+        when(repository.findByIsbn(livro.getIsbn())).thenReturn(Optional.of(anterior));
+        when(repository.findById(21L)).thenReturn(Optional.of(anterior));
+        when(repository.save(livro)).thenReturn(livro);
+
+        service.salvar(livro);
+
+        Object evento = capturarEventoPublicado();
+        assertTrue(evento instanceof LivroAtualizadoEvento);
+        assertEquals("Editora Antiga", ((LivroAtualizadoEvento) evento).getAnterior().getEditora());
+        assertEquals("Prentice Hall", ((LivroAtualizadoEvento) evento).getLivro().getEditora());
+    }
+
+    @Test
+    @DisplayName("Deve publicar evento de exclusão com os dados do livro excluído")
+    void devePublicarEventoExclusao_AoExcluir() {
+        Livro livro = criarLivroValido();
+        livro.setId(22L);
+        when(repository.findById(22L)).thenReturn(Optional.of(livro));
+
+        service.excluir(22L);
+
+        Object evento = capturarEventoPublicado();
+        assertTrue(evento instanceof LivroExcluidoEvento);
+        assertEquals(22L, ((LivroExcluidoEvento) evento).getLivroId());
+        assertEquals("Prentice Hall", ((LivroExcluidoEvento) evento).getLivro().getEditora());
+    }
+
+    @Test
+    @DisplayName("Deve montar os indicadores do Dashboard a partir das consultas agregadas")
+    void deveCarregarIndicadores_ComConsultasAgregadas() {
+        Livro ultimo = criarLivroValido();
+        ultimo.setId(30L);
+        when(repository.contarLivrosPorEditora()).thenReturn(Arrays.asList(
+                new Object[]{"Prentice Hall", 2L},
+                new Object[]{"Rocco", 1L}));
+        when(repository.findFirstByOrderByIdDesc()).thenReturn(Optional.of(ultimo));
+        when(repository.count()).thenReturn(3L);
+
+        LivroService.Indicadores indicadores = service.carregarIndicadores();
+
+        assertEquals(3L, indicadores.getTotalLivros());
+        assertEquals(30L, indicadores.getUltimoLivro().getId());
+        assertEquals(2, indicadores.getLivrosPorEditora().size());
+        assertEquals(2L, indicadores.getLivrosPorEditora().get("Prentice Hall"));
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve pesquisar por relevância com o termo aparado e a página solicitada")
+    void devePesquisarPorRelevancia_ComPaginacao() throws ServiceException {
+        Livro livro = criarLivroValido();
+        when(repository.pesquisarPorRelevancia("cronicas narnia", PageRequest.of(2, 50)))
+                .thenReturn(Collections.singletonList(livro));
+
+        assertSame(livro, service.pesquisarPorRelevancia("  cronicas narnia ", 2, 50).get(0));
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco quando o termo da pesquisa por relevância estiver vazio")
+    void naoDevePesquisar_QuandoTermoVazio() throws ServiceException {
+        assertTrue(service.pesquisarPorRelevancia("   ", 0, 50).isEmpty());
+        verify(repository, never()).pesquisarPorRelevancia(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve informar quando a busca textual não estiver disponível no banco")
+    void deveLancarErro_QuandoBuscaTextualIndisponivel() {
+        when(repository.pesquisarPorRelevancia(anyString(), any()))
+                .thenThrow(new InvalidDataAccessResourceUsageException("column l.busca does not exist"));
+
+        ServiceException ex = assertThrows(ServiceException.class, () -> service.pesquisarPorRelevancia("java", 0, 50));
+        assertTrue(ex.getMessage().contains("relevância"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object capturarEventoPublicado() {
+        ArgumentCaptor<Supplier<?>> captor = ArgumentCaptor.forClass((Class) Supplier.class);
+        verify(barramentoEventos).publicarAposCommit(captor.capture());
+        return captor.getValue().get();
+    }
+
+    @Test
+    @DisplayName("Deve devolver os livros da pesquisa aproximada na ordem de semelhança")
+    void devePesquisarAproximado_NaOrdemDoIndice() throws ServiceException {
+        Livro hobbit = criarLivroValido();
+        hobbit.setId(1L);
+        Livro silmarillion = criarLivroValido();
+        silmarillion.setId(3L);
+        when(buscaAproximadaService.pesquisar("Tolkein", 10)).thenReturn(Arrays.asList(
+                new IndiceAproximado.Ocorrencia(3L, 1.0), new IndiceAproximado.Ocorrencia(2L, 0.9),
+                new IndiceAproximado.Ocorrencia(1L, 0.8)));
+        // o livro 2 foi excluído depois de indexado
+        when(repository.findAllById(Arrays.asList(3L, 2L, 1L))).thenReturn(Arrays.asList(hobbit, silmarillion));
+
+        List<LivroService.ResultadoAproximado> resultado = service.pesquisarAproximado("Tolkein", 10);
+
+        assertEquals(2, resultado.size());
+        assertSame(silmarillion, resultado.get(0).getLivro());
+        assertSame(hobbit, resultado.get(1).getLivro());
+        assertEquals(0.8, resultado.get(1).getPontuacao());
+        assertTrue(service.pesquisarAproximado(" ", 10).isEmpty());
+    }
+
     private Livro criarLivroValido() {
         Livro l = new Livro();
         l.setTitulo("Clean Code");
@@ -167,4 +578,28 @@ class LivroServiceTest {
         l.setDataPublicacao("2008");
         return l;
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve carregar do armazenamento apenas as miniaturas ausentes do cache")
+    void deveCarregarMiniaturasEmLote_UsandoCache() {
+        BufferedImage emCache = new BufferedImage(10, 15, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage decodificada = new BufferedImage(10, 15, BufferedImage.TYPE_INT_ARGB);
+        byte[] bytes = {1, 2, 3};
+
+        when(repository.findCapaHashesByIds(Arrays.asList(1L, 2L, 3L))).thenReturn(Arrays.asList(
+                new Object[]{1L, "hash-1"},
+                new Object[]{2L, "hash-2"}));
+        when(capaCacheService.consultar(1L, "hash-1", 120, 180)).thenReturn(emCache);
+        when(capaService.carregarVarias(Collections.singleton("hash-2")))
+                .thenReturn(Collections.singletonMap("hash-2", bytes));
+        when(capaCacheService.armazenar(2L, "hash-2", bytes, 120, 180)).thenReturn(decodificada);
+
+        Map<Long, BufferedImage> miniaturas = service.carregarMiniaturas(Arrays.asList(1L, 2L, 3L), 120, 180);
+
+        assertEquals(2, miniaturas.size());
+        assertSame(emCache, miniaturas.get(1L));
+        assertSame(decodificada, miniaturas.get(2L));
+        assertFalse(miniaturas.containsKey(3L));
+        verify(capaService, never()).carregar(anyString());
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasServiceTest {
+
+    @Test
+    @DisplayName("Deve resumir apenas as métricas de interesse, com percentis em milissegundos")
+    void deveResumirMetricasDeInteresse() {
+        SimpleMeterRegistry registro = new SimpleMeterRegistry();
+        MetricasService service = new MetricasService();
+        ReflectionTestUtils.setField(service, "registro", registro);
+
+        Timer timer = Timer.builder(MetricasService.OPERACAO)
+                .tags("componente", "LivroFacade", "metodo", "buscarTodos", "resultado", "sucesso")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registro);
+        for (int i = 1; i <= 100; i++) {
+            timer.record(i, TimeUnit.MILLISECONDS);
+        }
+        registro.counter(MetricasService.LIVROS_IMPORTADOS, "tipo", "novo").increment(42);
+        registro.counter("outra.metrica").increment();
+
+        List<MetricasService.Medida> medidas = service.resumir();
+
+        assertEquals(2, medidas.size());
+        MetricasService.Medida importados = medidas.get(0);
+        assertEquals(MetricasService.LIVROS_IMPORTADOS, importados.getNome());
+        assertEquals("tipo=novo", importados.getTags());
+        assertEquals(42, importados.getValor());
+        assertEquals(-1, importados.getContagem());
+
+        MetricasService.Medida operacao = medidas.get(1);
+        assertEquals("componente=LivroFacade,metodo=buscarTodos,resultado=sucesso", operacao.getTags());
+        assertEquals(100, operacao.getContagem());
+        assertEquals(50.5, operacao.getMedia(), 0.001);
+        assertEquals(100, operacao.getMaximo(), 0.001);
+        assertEquals(95, operacao.getP95(), 5);
+        assertTrue(operacao.toString().startsWith("biblioteca.operacao{componente=LivroFacade"));
+    }
+}
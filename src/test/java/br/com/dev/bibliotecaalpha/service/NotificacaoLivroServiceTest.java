@@ -0,0 +1,40 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NotificacaoLivroServiceTest {
+
+    @Test
+    @DisplayName("Deve interpretar o conteúdo JSON enviado pelo gatilho")
+    void deveInterpretarNotificacao() {
+        NotificacaoLivroService.Notificacao notificacao = NotificacaoLivroService.interpretar(
+                "{\"id\": 42, \"operacao\": \"UPDATE\", \"versao\": 3, \"origem\": \"biblioteca-alpha-x\"}");
+
+        assertNotNull(notificacao);
+        assertEquals(42L, notificacao.getId());
+        assertEquals(NotificacaoLivroService.Operacao.ALTERACAO, notificacao.getOperacao());
+        assertEquals(3L, notificacao.getVersao());
+        assertEquals("biblioteca-alpha-x", notificacao.getOrigem());
+    }
+
+    @Test
+    @DisplayName("Deve mapear inserção, exclusão e ressincronização")
+    void deveMapearOperacoes() {
+        assertEquals(NotificacaoLivroService.Operacao.INSERCAO,
+                NotificacaoLivroService.interpretar("{\"id\": 1, \"operacao\": \"INSERT\", \"versao\": 0, \"origem\": \"a\"}").getOperacao());
+        assertEquals(NotificacaoLivroService.Operacao.EXCLUSAO,
+                NotificacaoLivroService.interpretar("{\"id\": 1, \"operacao\": \"DELETE\", \"versao\": 2, \"origem\": \"a\"}").getOperacao());
+        assertEquals(NotificacaoLivroService.Operacao.RESSINCRONIZACAO,
+                NotificacaoLivroService.interpretar("{\"id\": 0, \"operacao\": \"RESSINCRONIZACAO\", \"origem\": \"a\"}").getOperacao());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar conteúdo inválido ou operação desconhecida")
+    void deveIgnorarNotificacaoInvalida() {
+        assertNull(NotificacaoLivroService.interpretar("texto qualquer"));
+        assertNull(NotificacaoLivroService.interpretar("{\"id\": 1, \"operacao\": \"TRUNCATE\"}"));
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.dev.bibliotecaalpha.service;
+
+import br.com.dev.bibliotecaalpha.event.BarramentoEventos;
+import br.com.dev.bibliotecaalpha.event.LivroAtualizadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroCriadoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroExcluidoEvento;
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import br.com.dev.bibliotecaalpha.repository.LivroRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SugestaoServiceTest {
+
+    @InjectMocks
+    private SugestaoService service;
+
+    @Mock
+    private LivroRepository repository;
+
+    @Mock
+    private BarramentoEventos barramentoEventos;
+
+    @Mock
+    private NotificacaoLivroService notificacaoLivroService;
+
+    @Mock
+    private ExecucaoService execucaoService;
+
+    private final List<Object[]> acervo = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        acervo.add(new Object[]{1L, "Robert C. Martin", "Addison-Wesley"});
+        acervo.add(new Object[]{2L, "Robert C. Martin", "Addison-Wesley"});
+        acervo.add(new Object[]{3L, "Kent Beck", "Alta Books"});
+        acervo.add(new Object[]{4L, "Robert C. Martin", "Alta Books"});
+        acervo.add(new Object[]{5L, "Martin Fowler; Kent Beck", "Addison-Wesley"});
+        acervo.add(new Object[]{6L, "Martin Fowler; Kent Beck", "Addison-Wesley"});
+        lenient().when(repository.listarAutoresEEditoras()).thenReturn(acervo);
+        lenient().when(execucaoService.executar(any())).thenReturn(new CompletableFuture<>());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir autores individualmente, somando as ocorrências de cada um")
+    void deveSugerirAutoresIndividualmente() {
+        assertTrue(service.preparar());
+
+        assertEquals(Collections.singletonList("Kent Beck"), service.sugerir(SugestaoService.Campo.AUTORES, "ke", 5));
+        assertEquals(Arrays.asList("Martin Fowler"), service.sugerir(SugestaoService.Campo.AUTORES, "mar", 5));
+        assertEquals(Arrays.asList("Addison-Wesley", "Alta Books"), service.sugerir(SugestaoService.Campo.EDITORA, "a", 5));
+
+        verify(repository, times(1)).listarAutoresEEditoras();
+        verify(execucaoService, never()).executar(any());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco ao sugerir antes da carga, e sim agendá-la em segundo plano")
+    void deveAgendarCarga_QuandoNaoCarregado() {
+        assertTrue(service.sugerir(SugestaoService.Campo.AUTORES, "ke", 5).isEmpty());
+        assertTrue(service.sugerir(SugestaoService.Campo.AUTORES, "ken", 5).isEmpty());
+
+        verify(repository, never()).listarAutoresEEditoras();
+        verify(execucaoService, times(1)).executar(any());
+    }
+
+    @Test
+    @DisplayName("Deve manter as sugestões em dia com os eventos do acervo")
+    void deveAplicarEventos() {
+        service.preparar();
+
+        service.aplicar(new LivroCriadoEvento(resumo(20L, "Eric Evans", "Addison Wesley")));
+        service.aplicar(new LivroAtualizadoEvento(resumo(3L, "Kent Beck", "Alta Books"), resumo(3L, "Kent Beck", "Novatec")));
+        service.aplicar(new LivroExcluidoEvento(4L, resumo(4L, "Robert C. Martin", "Alta Books")));
+
+        assertEquals(Collections.singletonList("Eric Evans"), service.sugerir(SugestaoService.Campo.AUTORES, "eric", 5));
+        assertEquals(Collections.singletonList("Novatec"), service.sugerir(SugestaoService.Campo.EDITORA, "nov", 5));
+        assertTrue(service.sugerir(SugestaoService.Campo.EDITORA, "alta", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar alterações de outras estações relendo apenas a linha alterada")
+    void deveAplicarNotificacoes() {
+        service.preparar();
+        when(repository.buscarAutoresEEditora(3L)).thenReturn(Collections.singletonList(new Object[]{"Kent Beck", "Novatec"}));
+
+        service.aplicar(new NotificacaoLivroService.Notificacao(3L, NotificacaoLivroService.Operacao.ALTERACAO, 2, "outra"));
+        service.aplicar(new NotificacaoLivroService.Notificacao(1L, NotificacaoLivroService.Operacao.EXCLUSAO, 0, "outra"));
+
+        assertEquals(Collections.singletonList("Novatec"), service.sugerir(SugestaoService.Campo.EDITORA, "nov", 5));
+        assertEquals(Collections.singletonList("Alta Books"), service.sugerir(SugestaoService.Campo.EDITORA, "alta", 5));
+        verify(repository, times(1)).listarAutoresEEditoras();
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar ao resultado da carga as alterações recebidas durante ela, sem contar duas vezes")
+    void deveReaplicarAlteracoes_RecebidasDuranteCarga() {
+        when(repository.listarAutoresEEditoras()).thenAnswer(inv -> {
+            // A carga leu o estado anterior à alteração
+            service.aplicar(new LivroAtualizadoEvento(resumo(3L, "Kent Beck", "Alta Books"), resumo(3L, "Kent Beck", "Novatec")));
+            return acervo;
+        });
+
+        service.preparar();
+        service.aplicar(new LivroAtualizadoEvento(resumo(3L, "Kent Beck", "Novatec"), resumo(3L, "Kent Beck", "Novatec")));
+        assertEquals(Collections.singletonList("Novatec"), service.sugerir(SugestaoService.Campo.EDITORA, "nov", 5));
+
+        service.aplicar(new LivroExcluidoEvento(4L, null));
+        service.aplicar(new LivroExcluidoEvento(3L, null));
+        assertTrue(service.sugerir(SugestaoService.Campo.EDITORA, "alta", 5).isEmpty());
+        assertTrue(service.sugerir(SugestaoService.Campo.EDITORA, "nov", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve sugerir nada quando o banco estiver indisponível")
+    void naoDeveSugerir_QuandoBancoIndisponivel() {
+        when(repository.listarAutoresEEditoras()).thenThrow(new DataAccessResourceFailureException("sem conexão"));
+
+        assertFalse(service.preparar());
+        assertTrue(service.sugerir(SugestaoService.Campo.AUTORES, "ke", 5).isEmpty());
+    }
+
+    private static LivroResumo resumo(long id, String autores, String editora) {
+        return new LivroResumo(id, "9780000000000", "Livro", "2000", autores, editora, null, 0);
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.dev.bibliotecaalpha.view;
+
+import br.com.dev.bibliotecaalpha.event.LivroResumo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrdenadorColacaoTest {
+
+    private LivroTableModel modelo;
+
+    @BeforeEach
+    void setup() {
+        modelo = new LivroTableModel();
+        modelo.definirLivros(Arrays.asList(livro(1, "Azul"), livro(2, "arte"), livro(3, "Árvore"),
+                livro(4, "Éramos Seis"), livro(5, "Ensaio")));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar os títulos pela colação do português, ignorando acentos e maiúsculas")
+    void deveOrdenarPelaColacao() {
+        OrdenadorColacao<LivroTableModel> ordenador = new OrdenadorColacao<>(modelo);
+
+        ordenador.toggleSortOrder(2);
+        assertEquals(Arrays.asList("arte", "Árvore", "Azul", "Ensaio", "Éramos Seis"), titulos(ordenador));
+
+        ordenador.toggleSortOrder(2);
+        assertEquals(SortOrder.DESCENDING, ordenador.getSortKeys().get(0).getSortOrder());
+        assertEquals(Arrays.asList("Éramos Seis", "Ensaio", "Azul", "Árvore", "arte"), titulos(ordenador));
+    }
+
+    @Test
+    @DisplayName("Deve posicionar linhas inseridas, alteradas e removidas sem perder a ordem nem o filtro")
+    void deveManterOrdemEFiltroNasAlteracoes() {
+        OrdenadorColacao<LivroTableModel> ordenador = new OrdenadorColacao<>(modelo);
+        modelo.addTableModelListener(e -> {
+            if (e.getFirstRow() == 0 && e.getLastRow() == Integer.MAX_VALUE) {
+                ordenador.allRowsChanged();
+            } else if (e.getType() == javax.swing.event.TableModelEvent.INSERT) {
+                ordenador.rowsInserted(e.getFirstRow(), e.getLastRow());
+            } else if (e.getType() == javax.swing.event.TableModelEvent.DELETE) {
+                ordenador.rowsDeleted(e.getFirstRow(), e.getLastRow());
+            } else {
+                ordenador.rowsUpdated(e.getFirstRow(), e.getLastRow());
+            }
+        });
+        ordenador.setSortKeys(Collections.singletonList(new RowSorter.SortKey(2, SortOrder.ASCENDING)));
+        ordenador.setRowFilter(new RowFilter<LivroTableModel, Integer>() {
+            @Override
+            public boolean include(Entry<? extends LivroTableModel, ? extends Integer> entrada) {
+                return !entrada.getStringValue(2).startsWith("E");
+            }
+        });
+        assertEquals(Arrays.asList("arte", "Árvore", "Azul", "Éramos Seis"), titulos(ordenador));
+
+        modelo.inserirOuAtualizar(livro(6, "Ábaco"));
+        modelo.inserirOuAtualizar(livro(1, "Capitães da Areia"));
+        modelo.remover(2);
+
+        assertEquals(Arrays.asList("Ábaco", "Árvore", "Capitães da Areia", "Éramos Seis"), titulos(ordenador));
+        for (int v = 0; v < ordenador.getViewRowCount(); v++) {
+            assertEquals(v, ordenador.convertRowIndexToView(ordenador.convertRowIndexToModel(v)));
+        }
+        assertEquals(-1, ordenador.convertRowIndexToView(modelo.linhaDe(5)));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar em segundo plano e trocar a ordem exibida de uma só vez")
+    void deveOrdenarEmSegundoPlano() throws Exception {
+        List<LivroResumo> livros = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            livros.add(livro(i, (i % 2 == 0 ? "Á" : "A") + String.format("%04d", 4999 - i)));
+        }
+        modelo.definirLivros(livros);
+        AtomicReference<OrdenadorColacao<LivroTableModel>> ordenador = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            ordenador.set(new OrdenadorColacao<>(modelo, 0));
+            ordenador.get().toggleSortOrder(2);
+            assertEquals(0L, modelo.getValueAt(ordenador.get().convertRowIndexToModel(0), 0));
+        });
+
+        long limite = System.currentTimeMillis() + 10_000;
+        AtomicReference<Object> primeiro = new AtomicReference<>();
+        while (System.currentTimeMillis() < limite) {
+            SwingUtilities.invokeAndWait(() -> primeiro.set(modelo.getValueAt(ordenador.get().convertRowIndexToModel(0), 2)));
+            if ("A0000".equals(primeiro.get())) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        assertEquals("A0000", primeiro.get());
+        SwingUtilities.invokeAndWait(() -> assertEquals(5000, titulos(ordenador.get()).size()));
+    }
+
+    private List<String> titulos(OrdenadorColacao<LivroTableModel> ordenador) {
+        List<String> titulos = new ArrayList<>();
+        for (int v = 0; v < ordenador.getViewRowCount(); v++) {
+            titulos.add((String) modelo.getValueAt(ordenador.convertRowIndexToModel(v), 2));
+        }
+        return titulos;
+    }
+
+    private static LivroResumo livro(long id, String titulo) {
+        return new LivroResumo(id, "978" + id, titulo, "2000", "Autor", "Editora", null, 1L);
+    }
+}